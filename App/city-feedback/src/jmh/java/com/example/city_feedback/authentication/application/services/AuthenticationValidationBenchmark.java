@@ -0,0 +1,52 @@
+package com.example.city_feedback.authentication.application.services;
+
+import com.example.city_feedback.authentication.exceptions.InvalidInputException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the format rules of {@link AuthenticationService#validateInput} used during registration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthenticationValidationBenchmark {
+
+    @Benchmark
+    public void validEmail() throws InvalidInputException {
+        AuthenticationService.validateInput("erika.mustermann@example.com", List.of(AuthenticationService.EMAIL_FORMAT_RULE));
+    }
+
+    @Benchmark
+    public void validPhone() throws InvalidInputException {
+        AuthenticationService.validateInput("+49 30/123-4567", List.of(AuthenticationService.PHONE_FORMAT_RULE));
+    }
+
+    @Benchmark
+    public InvalidInputException invalidLongPhone() {
+        try {
+            AuthenticationService.validateInput("1".repeat(30) + "x", List.of(AuthenticationService.PHONE_FORMAT_RULE));
+            return null;
+        } catch (InvalidInputException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public void validPassword() throws InvalidInputException {
+        AuthenticationService.validateInput("sicheres1Passwort", List.of(AuthenticationService.PASSWORD_FORMAT_RULE));
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.city_feedback.complaintManagement.application.services;
+
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how the detail view builds its {@link ComplaintDto} from the columns of the projection query
+ * used by {@link ComplaintService#findComplaintById(Long)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComplaintMappingBenchmark {
+
+    private final LocalDateTime createdAt = LocalDateTime.of(2024, 11, 5, 10, 30);
+
+    @Benchmark
+    public ComplaintDto mapToDto() {
+        return new ComplaintDto(42L, "Schlagloch vor der Schule",
+                "Ein tiefes Schlagloch direkt vor dem Eingang der Grundschule.",
+                "Hauptstraße", "12a", "10115", "Berlin", createdAt, 1, "Straßenschäden");
+    }
+}
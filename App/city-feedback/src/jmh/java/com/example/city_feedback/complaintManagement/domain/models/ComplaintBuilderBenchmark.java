@@ -0,0 +1,56 @@
+package com.example.city_feedback.complaintManagement.domain.models;
+
+import com.example.city_feedback.authentication.domain.models.User;
+import com.example.city_feedback.complaintManagement.domain.valueObjects.Location;
+import com.example.city_feedback.progressManagement.domain.models.ComplaintProgress;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Complaint.ComplaintBuilder#build()} including its validation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ComplaintBuilderBenchmark {
+
+    private Location location;
+    private Category category;
+    private User user;
+    private ComplaintProgress progress;
+
+    @Setup
+    public void setUp() {
+        location = new Location("Hauptstraße", "12a", "10115", "Berlin");
+        category = new Category(1, "Straßenschäden", "Schlaglöcher und Risse");
+        user = new User("Erika", "Mustermann", "erika@example.com", null, "secret", List.of());
+        user.setId(1L);
+        progress = new ComplaintProgress("OFFEN", "#808080");
+    }
+
+    @Benchmark
+    public Complaint build() {
+        return Complaint.builder()
+                .withTitle("Schlagloch vor der Schule")
+                .withDescription("Ein tiefes Schlagloch direkt vor dem Eingang der Grundschule.")
+                .withLocation(location)
+                .withCategory(category)
+                .withUser(user)
+                .withProgress(progress)
+                .build();
+    }
+}
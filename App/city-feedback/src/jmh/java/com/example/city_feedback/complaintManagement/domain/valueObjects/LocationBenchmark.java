@@ -0,0 +1,43 @@
+package com.example.city_feedback.complaintManagement.domain.valueObjects;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Location} construction with its four pattern validations, and {@link Location#isValid()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocationBenchmark {
+
+    private Location location;
+
+    @Setup
+    public void setUp() {
+        location = new Location("Hauptstraße", "12a", "10115", "Berlin");
+    }
+
+    @Benchmark
+    public Location construct() {
+        return new Location(" Karl Marx Allee ", "12a", "10115", "Berlin");
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return location.isValid();
+    }
+}
@@ -1,15 +1,23 @@
 package com.example.city_feedback.authentication.application.config;
 
+import com.example.city_feedback.authentication.application.services.ApiUserDetailsService;
 import com.example.city_feedback.authentication.application.services.UserService;
+import com.example.city_feedback.authentication.infrastructure.repositories.UserRepository;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.csrf.CsrfTokenRepository;
+import org.springframework.security.web.csrf.HttpSessionCsrfTokenRepository;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
 @Configuration
@@ -18,13 +26,40 @@ public class SecurityConfig {
 
 
     private final UserService userService;
+    private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
 
-    public SecurityConfig(UserService userService, PasswordEncoder passwordEncoder) {
+    public SecurityConfig(UserService userService, UserRepository userRepository, PasswordEncoder passwordEncoder) {
         this.userService = userService;
+        this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
     }
 
+    /**
+     * Configures Spring Security for the JSON API under {@code /api/**}.
+     * API clients authenticate every request with HTTP Basic and get a 401 instead of the sign-in page.
+     * No session is created, so there is no cookie a forged cross-site request could ride on and CSRF tokens are not needed.
+     * Users are loaded by the {@link ApiUserDetailsService} rather than the session-based UserService of the sign-in form,
+     * and the chain has its own AuthenticationManager, so a failed login does not fall back to the UserService either.
+     *
+     * @param http The HttpSecurity object to configure security settings.
+     * @return A configured SecurityFilterChain.
+     * @throws Exception If an error occurs during security configuration.
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain apiSecurityFilterChain(HttpSecurity http) throws Exception {
+        http
+            .securityMatcher("/api/**")
+            .authenticationManager(new ProviderManager(apiAuthenticationProvider()))
+            .authorizeHttpRequests(requests -> requests.anyRequest().authenticated())
+            .httpBasic(basic -> { })
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .csrf(AbstractHttpConfigurer::disable);
+
+        return http.build();
+    }
+
     /**
      * Configures Spring Security for the application.
      * Redirect the user to the sign-in page if they are not authenticated.
@@ -44,8 +79,11 @@ public class SecurityConfig {
                     "/js/**",
                     "/css/**",
                     "/img/**",
+                    "/assets/**",
+                    "/styles*.css",
                     "/sign-in"
                 ).permitAll()
+                .requestMatchers("/progress/**", "/complaints/*/nearby", "/complaints/statistics", "/complaints/analytics/**", "/complaints/import").hasAuthority("Mitarbeiter")
                 .anyRequest().authenticated()
             )
             .formLogin(form -> form
@@ -59,11 +97,23 @@ public class SecurityConfig {
                     .clearAuthentication(true)
                     .logoutSuccessUrl("/sign-in?logout")
                     .permitAll()
-            );
+            )
+            .csrf(csrf -> csrf.csrfTokenRepository(csrfTokenRepository()));
 
         return http.build();
     }
 
+    /**
+     * Bean definition for the CsrfTokenRepository.
+     * Tokens are kept in the session, as by default; the bean lets controllers read the stored token,
+     * e.g. to key cached pages that embed it.
+     *
+     * @return the repository used by the CSRF filter
+     */
+    @Bean
+    public CsrfTokenRepository csrfTokenRepository() {
+        return new HttpSessionCsrfTokenRepository();
+    }
 
     /**
      * Bean definition for DaoAuthenticationProvider.
@@ -80,6 +130,17 @@ public class SecurityConfig {
         return auth;
     }
 
+    /**
+     * Authenticates API clients by email and password with the {@link ApiUserDetailsService}.
+     * Deliberately not a bean, so the global AuthenticationManager keeps using the UserService.
+     */
+    private DaoAuthenticationProvider apiAuthenticationProvider() {
+        DaoAuthenticationProvider auth = new DaoAuthenticationProvider();
+        auth.setUserDetailsService(new ApiUserDetailsService(userRepository));
+        auth.setPasswordEncoder(passwordEncoder);
+        return auth;
+    }
+
     /**
      * Bean definition for AuthenticationManager.
      * This method defines an AuthenticationManager bean that uses the AuthenticationConfiguration.
@@ -0,0 +1,47 @@
+package com.example.city_feedback.authentication.application.services;
+
+import com.example.city_feedback.authentication.domain.models.Role;
+import com.example.city_feedback.authentication.domain.models.User;
+import com.example.city_feedback.authentication.infrastructure.repositories.UserRepository;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.stream.Collectors;
+
+/**
+ * Loads the users of the JSON API by their email address.
+ * Unlike the {@link AuthenticationService} behind the sign-in form, it neither reads the role chosen at sign-in
+ * from the session nor writes it back: API requests are stateless and get the authorities of all roles of the user.
+ */
+public class ApiUserDetailsService implements UserDetailsService {
+
+    private final UserRepository userRepository;
+
+    public ApiUserDetailsService(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Loads a user by their email address.
+     *
+     * @param email the email address of the user
+     * @return the user's email, password and role authorities
+     * @throws UsernameNotFoundException if no user has the email address
+     */
+    @Override
+    public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
+        User user = userRepository.findByEmail(email);
+        if (user == null) {
+            throw new UsernameNotFoundException("User not found");
+        }
+        return new org.springframework.security.core.userdetails.User(
+                user.getEmail(),
+                user.getPassword(),
+                user.getRoles().stream()
+                        .map(Role::getName)
+                        .map(SimpleGrantedAuthority::new)
+                        .collect(Collectors.toList()));
+    }
+}
@@ -6,6 +6,7 @@ import com.example.city_feedback.authentication.exceptions.InvalidInputException
 import com.example.city_feedback.authentication.domain.models.User;
 import com.example.city_feedback.authentication.infrastructure.repositories.RoleRepository;
 import com.example.city_feedback.authentication.infrastructure.repositories.UserRepository;
+import com.example.city_feedback.shared.infrastructure.metrics.Monitored;
 import jakarta.servlet.http.HttpSession;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -17,12 +18,31 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 
 @Service
+@Monitored
 public class AuthenticationService implements UserService {
 
+    // Compiled once; String.matches would compile the expression on every call
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[\\w.-]+@[\\w.-]+\\.[a-zA-Z]{2,}$");
+    // At least seven digits, separators allowed; the lookahead counts digits without nested quantifiers,
+    // so non-matching input fails in linear time instead of backtracking exponentially
+    private static final Pattern PHONE_PATTERN = Pattern.compile("^(?:\\+\\d{1,3}[- ]?)?(?=(?:[, /-]*\\d){7})[\\d, /-]*\\d$|^$");
+    private static final Pattern PASSWORD_PATTERN = Pattern.compile("^(?=.*[A-Za-z])(?=.*\\d)[A-Za-z\\d]{8,20}$");
+
+    static final Function<String, Optional<String>> EMAIL_FORMAT_RULE = e -> EMAIL_PATTERN.matcher(e).matches()
+            ? Optional.empty()
+            : Optional.of("Ungültige E-Mail Adresse");
+    static final Function<String, Optional<String>> PHONE_FORMAT_RULE = e -> PHONE_PATTERN.matcher(e).matches()
+            ? Optional.empty()
+            : Optional.of("Ungültige Telefonnummer");
+    static final Function<String, Optional<String>> PASSWORD_FORMAT_RULE = e -> PASSWORD_PATTERN.matcher(e).matches()
+            ? Optional.empty()
+            : Optional.of("Ungültiges Passwort");
+
     private final UserRepository userRepository;
     private final PasswordEncoder  passwordEncoder;
     private final RoleRepository roleRepository;
@@ -46,24 +66,14 @@ public class AuthenticationService implements UserService {
      */
     @Override
     public User save(UserRegistrationDto signUpDto) throws InvalidInputException {
-        this.validateInput(signUpDto.getEmail(), List.of(
-            e -> e.matches("^[\\w.-]+@[\\w.-]+\\.[a-zA-Z]{2,}$")
-                    ? Optional.empty()
-                    : Optional.of("Ungültige E-Mail Adresse"),
+        validateInput(signUpDto.getEmail(), List.of(
+            EMAIL_FORMAT_RULE,
             e -> userRepository.findByEmail(e) == null
                     ? Optional.empty()
                     : Optional.of("E-Mail bereits in Gebrauch")
         ));
-        this.validateInput(signUpDto.getPhone(), List.of(
-            e -> e.matches("^(?:\\+\\d{1,3}[- ]?)?([\\d, /-]*\\d){7,15}$|^$")
-                    ? Optional.empty()
-                    : Optional.of("Ungültige Telefonnummer")
-        ));
-        this.validateInput(signUpDto.getPassword(), List.of(
-            e -> e.matches("^(?=.*[A-Za-z])(?=.*\\d)[A-Za-z\\d]{8,20}$")
-                    ? Optional.empty()
-                    : Optional.of("Ungültiges Passwort")
-        ));
+        validateInput(signUpDto.getPhone(), List.of(PHONE_FORMAT_RULE));
+        validateInput(signUpDto.getPassword(), List.of(PASSWORD_FORMAT_RULE));
 
         // Retrieve the existing role from the database
         Role role = roleRepository.findByName("Bürger")
@@ -89,7 +99,7 @@ public class AuthenticationService implements UserService {
      * @param rules A list of functions representing the validation rules. Each function returns an Optional<String> with an error message if the rule fails.
      * @throws InvalidInputException if any rule fails, with the first error message found.
      */
-    private void validateInput(String input, List<Function<String, Optional<String>>> rules) throws InvalidInputException {
+    static void validateInput(String input, List<Function<String, Optional<String>>> rules) throws InvalidInputException {
         Optional<String> errorMessage = rules.stream()
                 .map(rule -> rule.apply(input))
                 .filter(Optional::isPresent)
@@ -0,0 +1,78 @@
+package com.example.city_feedback.authentication.application.services;
+
+import com.example.city_feedback.authentication.domain.models.User;
+import com.example.city_feedback.authentication.infrastructure.repositories.UserRepository;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Optional;
+
+/**
+ * Provides the {@link User} behind the current authentication.
+ * The user is loaded at most once per request and kept as a request attribute, so the controller advice,
+ * controllers and services share one lookup. Outside of a request, every call loads the user.
+ */
+@Component
+public class CurrentUserProvider {
+
+    static final String REQUEST_ATTRIBUTE = CurrentUserProvider.class.getName() + ".user";
+
+    private final UserRepository userRepository;
+
+    public CurrentUserProvider(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Returns the authenticated user.
+     *
+     * @return the user, or empty if the request is anonymous or the user does not exist
+     */
+    public Optional<User> getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return Optional.empty();
+        }
+        String email = authentication.getName();
+
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return Optional.ofNullable(userRepository.findByEmail(email));
+        }
+
+        Object cached = requestAttributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cached instanceof ResolvedUser resolved && resolved.email.equals(email)) {
+            return Optional.ofNullable(resolved.user);
+        }
+        User user = userRepository.findByEmail(email);
+        requestAttributes.setAttribute(REQUEST_ATTRIBUTE, new ResolvedUser(email, user), RequestAttributes.SCOPE_REQUEST);
+        return Optional.ofNullable(user);
+    }
+
+    /**
+     * Returns the ID of the authenticated user.
+     *
+     * @return the user ID, or empty if the request is anonymous or the user does not exist
+     */
+    public Optional<Long> getCurrentUserId() {
+        return getCurrentUser().map(User::getId);
+    }
+
+    /**
+     * Lookup result for one principal; a missing user is remembered as well.
+     */
+    private static final class ResolvedUser {
+        private final String email;
+        private final User user;
+
+        private ResolvedUser(String email, User user) {
+            this.email = email;
+            this.user = user;
+        }
+    }
+}
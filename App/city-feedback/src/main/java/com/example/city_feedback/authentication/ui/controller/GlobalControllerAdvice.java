@@ -1,10 +1,8 @@
 package com.example.city_feedback.authentication.ui.controller;
 
+import com.example.city_feedback.authentication.application.services.CurrentUserProvider;
 import com.example.city_feedback.authentication.domain.models.User;
-import com.example.city_feedback.authentication.infrastructure.repositories.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ModelAttribute;
 
@@ -15,26 +13,25 @@ import org.springframework.web.bind.annotation.ModelAttribute;
 @ControllerAdvice
 public class GlobalControllerAdvice {
 
-    private final UserRepository userRepository;
+    private final CurrentUserProvider currentUserProvider;
 
     @Autowired
-    public GlobalControllerAdvice(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    public GlobalControllerAdvice(CurrentUserProvider currentUserProvider) {
+        this.currentUserProvider = currentUserProvider;
     }
 
 
     /**
      * Adds the current user to the model as an attribute named "currentUser".
      * This allows the current user to be accessed in all Thymeleaf templates.
+     * The user is resolved once per request and shared with controllers and services.
      *
      * @return the current authenticated user, or null if no user is authenticated
      */
     @ModelAttribute("currentUser")
     public User currentUser() {
         try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-
-            return userRepository.findByEmail(authentication.getName());
+            return currentUserProvider.getCurrentUser().orElse(null);
         } catch (Exception e) {
             return null;
         }
@@ -3,6 +3,7 @@ package com.example.city_feedback.authentication.ui.controller;
 import com.example.city_feedback.authentication.application.dto.UserRegistrationDto;
 import com.example.city_feedback.authentication.exceptions.InvalidInputException;
 import com.example.city_feedback.authentication.application.services.UserService;
+import com.example.city_feedback.shared.infrastructure.metrics.Monitored;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 
 @Controller
+@Monitored
 @RequestMapping("/sign-up")
 public class UserRegistrationController {
     private final UserService userService;
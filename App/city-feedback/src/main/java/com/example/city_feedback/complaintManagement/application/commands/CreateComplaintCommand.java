@@ -14,6 +14,11 @@ public class CreateComplaintCommand {
     private String city;
     private Integer categoryId;
 
+    /**
+     * Set when the user submits again after being shown possible duplicates of the complaint.
+     */
+    private boolean duplicateConfirmed;
+
 
     /**
      * Constructs a new {@code CreateComplaintCommand}.
@@ -106,4 +111,11 @@ public class CreateComplaintCommand {
         this.id = id;
     }
 
+    public boolean isDuplicateConfirmed() {
+        return duplicateConfirmed;
+    }
+
+    public void setDuplicateConfirmed(boolean duplicateConfirmed) {
+        this.duplicateConfirmed = duplicateConfirmed;
+    }
 }
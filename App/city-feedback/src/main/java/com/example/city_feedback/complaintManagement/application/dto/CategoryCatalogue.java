@@ -0,0 +1,81 @@
+package com.example.city_feedback.complaintManagement.application.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Immutable snapshot of all categories, as held in memory by the CategoryService.
+ * Offers the categories in their database order and indexed by ID and by name.
+ * The version is derived from the content, so equal catalogues have equal versions.
+ */
+public class CategoryCatalogue {
+
+    private final List<CategoryDto> categories;
+    private final Map<Integer, CategoryDto> categoriesById;
+    private final Map<String, CategoryDto> categoriesByName;
+    private final long version;
+
+    /**
+     * Constructs a new CategoryCatalogue.
+     *
+     * @param categories the categories of the catalogue
+     */
+    public CategoryCatalogue(List<CategoryDto> categories) {
+        this.categories = Collections.unmodifiableList(new ArrayList<>(categories));
+        Map<Integer, CategoryDto> byId = new HashMap<>();
+        Map<String, CategoryDto> byName = new HashMap<>();
+        long hash = 1;
+        for (CategoryDto category : this.categories) {
+            byId.put(category.getId(), category);
+            if (category.getName() != null) {
+                byName.putIfAbsent(normalizeName(category.getName()), category);
+            }
+            hash = 31 * hash + Objects.hash(category.getId(), category.getName(), category.getDescription());
+        }
+        this.categoriesById = Collections.unmodifiableMap(byId);
+        this.categoriesByName = Collections.unmodifiableMap(byName);
+        this.version = hash;
+    }
+
+    public List<CategoryDto> getCategories() {
+        return categories;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean isEmpty() {
+        return categories.isEmpty();
+    }
+
+    /**
+     * Looks up a category by its ID.
+     *
+     * @param id the ID of the category
+     * @return the category, or empty if there is none with this ID
+     */
+    public Optional<CategoryDto> findById(Integer id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(categoriesById.get(id));
+    }
+
+    /**
+     * Looks up a category by its name, ignoring case and surrounding whitespace.
+     *
+     * @param name the name of the category
+     * @return the category, or empty if there is none with this name
+     */
+    public Optional<CategoryDto> findByName(String name) {
+        return name == null ? Optional.empty() : Optional.ofNullable(categoriesByName.get(normalizeName(name)));
+    }
+
+    private static String normalizeName(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+}
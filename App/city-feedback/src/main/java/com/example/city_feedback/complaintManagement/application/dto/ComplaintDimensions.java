@@ -0,0 +1,75 @@
+package com.example.city_feedback.complaintManagement.application.dto;
+
+import com.example.city_feedback.complaintManagement.domain.models.Complaint;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * The attributes complaints are counted by in the statistics: category, postal code and day of creation.
+ */
+public class ComplaintDimensions {
+
+    private final Long complaintId;
+    private final Integer categoryId;
+    private final String postalCode;
+    private final LocalDate createdOn;
+
+    /**
+     * Constructs a new ComplaintDimensions, as projected by the complaint repository.
+     *
+     * @param complaintId the ID of the complaint
+     * @param categoryId  the ID of the category, or {@code null}
+     * @param postalCode  the postal code of the location, or {@code null}
+     * @param createdAt   the creation time, or {@code null}
+     */
+    public ComplaintDimensions(Long complaintId, Integer categoryId, String postalCode, LocalDateTime createdAt) {
+        this.complaintId = complaintId;
+        this.categoryId = categoryId;
+        this.postalCode = postalCode;
+        this.createdOn = createdAt != null ? createdAt.toLocalDate() : null;
+    }
+
+    /**
+     * Reads the dimensions of a complaint entity.
+     *
+     * @param complaint the complaint
+     * @return its dimensions
+     */
+    public static ComplaintDimensions of(Complaint complaint) {
+        return new ComplaintDimensions(
+                complaint.getId(),
+                complaint.getCategory() != null ? complaint.getCategory().getId() : null,
+                complaint.getLocation() != null ? complaint.getLocation().getPostalCode() : null,
+                complaint.getCreatedAt());
+    }
+
+    public Long getComplaintId() {
+        return complaintId;
+    }
+
+    public Integer getCategoryId() {
+        return categoryId;
+    }
+
+    public String getPostalCode() {
+        return postalCode;
+    }
+
+    public LocalDate getCreatedOn() {
+        return createdOn;
+    }
+
+    /**
+     * Checks whether two complaints are counted in the same rows; the complaint ID is ignored.
+     *
+     * @param other the dimensions to compare with
+     * @return true if category, postal code and day are equal
+     */
+    public boolean sameCountsAs(ComplaintDimensions other) {
+        return Objects.equals(categoryId, other.categoryId)
+                && Objects.equals(postalCode, other.postalCode)
+                && Objects.equals(createdOn, other.createdOn);
+    }
+}
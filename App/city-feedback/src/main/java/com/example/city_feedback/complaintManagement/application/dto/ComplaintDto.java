@@ -1,18 +1,31 @@
 package com.example.city_feedback.complaintManagement.application.dto;
 
+import com.example.city_feedback.complaintManagement.domain.valueObjects.Location;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
 /**
  * Data Transfer Object for Complaints.
  * Encapsulates complaint details to be shared between layers.
  */
 public class ComplaintDto {
 
+    public static final DateTimeFormatter CREATED_AT_FORMATTER = DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm");
+
     private Long id;
     private String title;
     private String description;
     private String location;
+    private String street;
+    private String houseNumber;
+    private String postalCode;
+    private String city;
     private String createdAt;
     private Integer categoryId;
     private String categoryName;
+    private LocalDateTime createdAtTimestamp;
+    private Long version;
 
     /**
      * Constructs a new ComplaintDto.
@@ -35,6 +48,64 @@ public class ComplaintDto {
         this.categoryName = categoryName;
     }
 
+    /**
+     * Constructs a ComplaintDto from the flat columns of a JPQL constructor expression.
+     * Lets list queries build DTOs in a single joined SELECT instead of hydrating
+     * Complaint entities and lazily loading their location and category.
+     *
+     * @param id           the ID of the complaint
+     * @param title        the title of the complaint
+     * @param description  the description of the complaint
+     * @param street       the street of the complaint location, or {@code null} if there is none
+     * @param houseNumber  the house number of the complaint location
+     * @param postalCode   the postal code of the complaint location
+     * @param city         the city of the complaint location
+     * @param createdAt    the creation timestamp of the complaint
+     * @param categoryId   the ID of the associated category, or {@code null} if there is none
+     * @param categoryName the name of the associated category
+     */
+    public ComplaintDto(Long id, String title, String description,
+                        String street, String houseNumber, String postalCode, String city,
+                        LocalDateTime createdAt, Integer categoryId, String categoryName) {
+        this(id, title, description, street, houseNumber, postalCode, city, createdAt, categoryId, categoryName, null);
+    }
+
+    /**
+     * Constructs a ComplaintDto from the flat columns of a JPQL constructor expression, including the version
+     * staff send back when changing the status (see ComplaintProgressService#changeStatus).
+     *
+     * @param id           the ID of the complaint
+     * @param title        the title of the complaint
+     * @param description  the description of the complaint
+     * @param street       the street of the complaint location, or {@code null} if there is none
+     * @param houseNumber  the house number of the complaint location
+     * @param postalCode   the postal code of the complaint location
+     * @param city         the city of the complaint location
+     * @param createdAt    the creation timestamp of the complaint
+     * @param categoryId   the ID of the associated category, or {@code null} if there is none
+     * @param categoryName the name of the associated category
+     * @param version      the optimistic lock version of the complaint
+     */
+    public ComplaintDto(Long id, String title, String description,
+                        String street, String houseNumber, String postalCode, String city,
+                        LocalDateTime createdAt, Integer categoryId, String categoryName, Long version) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.location = street != null
+                ? Location.format(street, houseNumber, postalCode, city)
+                : "Unbekannter Standort";
+        this.street = street;
+        this.houseNumber = houseNumber;
+        this.postalCode = postalCode;
+        this.city = city;
+        this.createdAt = createdAt != null ? CREATED_AT_FORMATTER.format(createdAt) : "Unbekanntes Datum";
+        this.createdAtTimestamp = createdAt;
+        this.categoryId = categoryId != null ? categoryId : 0;
+        this.categoryName = categoryId != null ? categoryName : "Keine Kategorie";
+        this.version = version;
+    }
+
     // Default constructor for serialization frameworks
     public ComplaintDto() {
     }
@@ -73,6 +144,44 @@ public class ComplaintDto {
         this.location = location;
     }
 
+    /**
+     * Returns the street of the location; together with house number, postal code and city it lets forms
+     * prefill the address without parsing the formatted location.
+     *
+     * @return the street, or {@code null} if the complaint has no location or the DTO was built from a formatted location
+     */
+    public String getStreet() {
+        return street;
+    }
+
+    public void setStreet(String street) {
+        this.street = street;
+    }
+
+    public String getHouseNumber() {
+        return houseNumber;
+    }
+
+    public void setHouseNumber(String houseNumber) {
+        this.houseNumber = houseNumber;
+    }
+
+    public String getPostalCode() {
+        return postalCode;
+    }
+
+    public void setPostalCode(String postalCode) {
+        this.postalCode = postalCode;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+
     public String getCreatedAt() {
         return createdAt;
     }
@@ -97,4 +206,30 @@ public class ComplaintDto {
         this.categoryName = categoryName;
     }
 
+    /**
+     * Returns the unformatted creation timestamp, used to build keyset cursors.
+     *
+     * @return the creation timestamp, or {@code null} if the DTO was built from preformatted values
+     */
+    public LocalDateTime getCreatedAtTimestamp() {
+        return createdAtTimestamp;
+    }
+
+    public void setCreatedAtTimestamp(LocalDateTime createdAtTimestamp) {
+        this.createdAtTimestamp = createdAtTimestamp;
+    }
+
+    /**
+     * Returns the version of the complaint, to be sent back with a status change.
+     *
+     * @return the version, or {@code null} if the DTO was built without it
+     */
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
 }
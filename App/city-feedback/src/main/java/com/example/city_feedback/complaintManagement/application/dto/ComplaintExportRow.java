@@ -0,0 +1,84 @@
+package com.example.city_feedback.complaintManagement.application.dto;
+
+import com.example.city_feedback.progressManagement.domain.valueObjects.ComplaintStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * One complaint as written by the export, projected straight from the database.
+ * The address and category columns match the import, so an export can be imported again.
+ */
+public class ComplaintExportRow {
+
+    private final Long id;
+    private final String title;
+    private final String description;
+    private final String street;
+    private final String houseNumber;
+    private final String postalCode;
+    private final String city;
+    private final Integer categoryId;
+    private final String category;
+    private final String status;
+    private final LocalDateTime createdAt;
+
+    public ComplaintExportRow(Long id, String title, String description,
+                              String street, String houseNumber, String postalCode, String city,
+                              Integer categoryId, String category, ComplaintStatus status, LocalDateTime createdAt) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.street = street;
+        this.houseNumber = houseNumber;
+        this.postalCode = postalCode;
+        this.city = city;
+        this.categoryId = categoryId;
+        this.category = category;
+        this.status = status != null ? status.getCode() : null;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getStreet() {
+        return street;
+    }
+
+    public String getHouseNumber() {
+        return houseNumber;
+    }
+
+    public String getPostalCode() {
+        return postalCode;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public Integer getCategoryId() {
+        return categoryId;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
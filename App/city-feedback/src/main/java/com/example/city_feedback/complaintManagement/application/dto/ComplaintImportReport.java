@@ -0,0 +1,64 @@
+package com.example.city_feedback.complaintManagement.application.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import: the number of imported and rejected rows and the reasons for the rejections.
+ * At most {@code MAX_REPORTED_ERRORS} rejections are listed, so the report stays small for any file size.
+ */
+public class ComplaintImportReport {
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final int imported;
+    private final int failed;
+    private final List<RowError> errors;
+
+    public ComplaintImportReport(int imported, int failed, List<RowError> errors) {
+        this.imported = imported;
+        this.failed = failed;
+        this.errors = List.copyOf(errors);
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public List<RowError> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Whether more rows failed than are listed in {@link #getErrors()}.
+     */
+    public boolean isErrorsTruncated() {
+        return failed > errors.size();
+    }
+
+    /**
+     * A rejected row of the import file.
+     */
+    public static class RowError {
+        private final long line;
+        private final String message;
+
+        public RowError(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        /**
+         * Line of the file the row starts on, counting from 1.
+         */
+        public long getLine() {
+            return line;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
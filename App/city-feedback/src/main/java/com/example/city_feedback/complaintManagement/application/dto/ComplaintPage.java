@@ -0,0 +1,45 @@
+package com.example.city_feedback.complaintManagement.application.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated complaint listing.
+ * Carries the complaints of the page and the cursor pointing at the next page, if any.
+ */
+public class ComplaintPage {
+
+    private final List<ComplaintDto> complaints;
+    private final ComplaintCursor nextCursor;
+
+    /**
+     * Constructs a new ComplaintPage.
+     *
+     * @param complaints the complaints of this page
+     * @param nextCursor the cursor of the next page, or {@code null} if this is the last page
+     */
+    public ComplaintPage(List<ComplaintDto> complaints, ComplaintCursor nextCursor) {
+        this.complaints = List.copyOf(complaints);
+        this.nextCursor = nextCursor;
+    }
+
+    public List<ComplaintDto> getComplaints() {
+        return complaints;
+    }
+
+    public ComplaintCursor getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Returns the encoded cursor of the next page for use in links.
+     *
+     * @return the encoded next cursor, or {@code null} if this is the last page
+     */
+    public String getNextCursorToken() {
+        return nextCursor != null ? nextCursor.encode() : null;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.city_feedback.complaintManagement.application.dto;
+
+/**
+ * The searchable fields of a complaint, as read when the in-memory search index is built.
+ */
+public class ComplaintSearchDocument {
+
+    private final Long id;
+    private final Long creatorId;
+    private final String title;
+    private final String description;
+
+    /**
+     * Constructs a ComplaintSearchDocument from the columns of a JPQL constructor expression.
+     *
+     * @param id          the ID of the complaint
+     * @param creatorId   the ID of the user who created the complaint
+     * @param title       the title of the complaint
+     * @param description the description of the complaint
+     */
+    public ComplaintSearchDocument(Long id, Long creatorId, String title, String description) {
+        this.id = id;
+        this.creatorId = creatorId;
+        this.title = title;
+        this.description = description;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getCreatorId() {
+        return creatorId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
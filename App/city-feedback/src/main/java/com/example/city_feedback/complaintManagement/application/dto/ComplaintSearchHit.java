@@ -0,0 +1,29 @@
+package com.example.city_feedback.complaintManagement.application.dto;
+
+/**
+ * A complaint matching a search query, together with its relevance.
+ */
+public class ComplaintSearchHit {
+
+    private final long complaintId;
+    private final double rank;
+
+    /**
+     * Constructs a new ComplaintSearchHit.
+     *
+     * @param complaintId the ID of the matching complaint
+     * @param rank        the relevance of the complaint; higher is better
+     */
+    public ComplaintSearchHit(long complaintId, double rank) {
+        this.complaintId = complaintId;
+        this.rank = rank;
+    }
+
+    public long getComplaintId() {
+        return complaintId;
+    }
+
+    public double getRank() {
+        return rank;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.city_feedback.complaintManagement.application.dto;
+
+import java.util.List;
+
+/**
+ * One page of search results, ordered by relevance.
+ */
+public class ComplaintSearchPage {
+
+    private final String query;
+    private final List<ComplaintDto> complaints;
+    private final int page;
+    private final int pageSize;
+    private final boolean hasNext;
+
+    /**
+     * Constructs a new ComplaintSearchPage.
+     *
+     * @param query      the search query
+     * @param complaints the matching complaints of this page, best match first
+     * @param page       the zero-based number of this page
+     * @param pageSize   the size of the page
+     * @param hasNext    whether more results follow
+     */
+    public ComplaintSearchPage(String query, List<ComplaintDto> complaints, int page, int pageSize, boolean hasNext) {
+        this.query = query;
+        this.complaints = List.copyOf(complaints);
+        this.page = page;
+        this.pageSize = pageSize;
+        this.hasNext = hasNext;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public List<ComplaintDto> getComplaints() {
+        return complaints;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    public boolean hasPrevious() {
+        return page > 0;
+    }
+}
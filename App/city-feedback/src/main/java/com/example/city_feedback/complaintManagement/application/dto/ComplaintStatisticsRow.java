@@ -0,0 +1,42 @@
+package com.example.city_feedback.complaintManagement.application.dto;
+
+import java.util.Map;
+
+/**
+ * The number of complaints per status for one value of a statistics dimension, e.g. one category.
+ */
+public class ComplaintStatisticsRow {
+
+    private final String value;
+    private final String label;
+    private final Map<String, Long> counts;
+
+    /**
+     * Constructs a new ComplaintStatisticsRow.
+     *
+     * @param value  the value of the dimension, e.g. the category ID or the postal code
+     * @param label  a readable name of the value
+     * @param counts the number of complaints by status code, in the order of the statuses
+     */
+    public ComplaintStatisticsRow(String value, String label, Map<String, Long> counts) {
+        this.value = value;
+        this.label = label;
+        this.counts = counts;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public Map<String, Long> getCounts() {
+        return counts;
+    }
+
+    public long getTotal() {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.city_feedback.complaintManagement.application.dto;
+
+/**
+ * The text and postal code of a complaint, as read when missing duplicate detection signatures are computed.
+ */
+public class ComplaintText {
+
+    private final Long id;
+    private final String postalCode;
+    private final String title;
+    private final String description;
+
+    /**
+     * Constructs a ComplaintText from the columns of a JPQL constructor expression.
+     *
+     * @param id          the ID of the complaint
+     * @param postalCode  the postal code of the complaint location
+     * @param title       the title of the complaint
+     * @param description the description of the complaint
+     */
+    public ComplaintText(Long id, String postalCode, String title, String description) {
+        this.id = id;
+        this.postalCode = postalCode;
+        this.title = title;
+        this.description = description;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getPostalCode() {
+        return postalCode;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
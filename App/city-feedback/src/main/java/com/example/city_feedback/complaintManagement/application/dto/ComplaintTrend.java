@@ -0,0 +1,39 @@
+package com.example.city_feedback.complaintManagement.application.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * The number of complaints created per period, e.g. per week, as one or more series.
+ */
+public class ComplaintTrend {
+
+    private final String interval;
+    private final List<LocalDateTime> periods;
+    private final List<ComplaintTrendSeries> series;
+
+    /**
+     * Constructs a new ComplaintTrend.
+     *
+     * @param interval the period length
+     * @param periods  the start of each period, in ascending order
+     * @param series   the series, each with one count per period
+     */
+    public ComplaintTrend(String interval, List<LocalDateTime> periods, List<ComplaintTrendSeries> series) {
+        this.interval = interval;
+        this.periods = periods;
+        this.series = series;
+    }
+
+    public String getInterval() {
+        return interval;
+    }
+
+    public List<LocalDateTime> getPeriods() {
+        return periods;
+    }
+
+    public List<ComplaintTrendSeries> getSeries() {
+        return series;
+    }
+}
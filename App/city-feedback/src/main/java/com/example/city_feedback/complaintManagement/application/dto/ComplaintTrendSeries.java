@@ -0,0 +1,38 @@
+package com.example.city_feedback.complaintManagement.application.dto;
+
+import java.util.List;
+
+/**
+ * One line of a complaint trend: the number of complaints per period for one category, postal code or all complaints.
+ */
+public class ComplaintTrendSeries {
+
+    private final String key;
+    private final String label;
+    private final List<Long> counts;
+
+    /**
+     * Constructs a new ComplaintTrendSeries.
+     *
+     * @param key    the category ID or postal code, or {@code null} for all complaints
+     * @param label  a readable name of the series
+     * @param counts the number of complaints per period, in the order of the trend's periods
+     */
+    public ComplaintTrendSeries(String key, String label, List<Long> counts) {
+        this.key = key;
+        this.label = label;
+        this.counts = counts;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public List<Long> getCounts() {
+        return counts;
+    }
+}
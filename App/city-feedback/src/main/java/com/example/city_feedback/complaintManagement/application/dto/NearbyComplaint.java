@@ -0,0 +1,74 @@
+package com.example.city_feedback.complaintManagement.application.dto;
+
+import com.example.city_feedback.complaintManagement.domain.valueObjects.Location;
+import com.example.city_feedback.progressManagement.domain.valueObjects.ComplaintStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * A complaint reported near a given position, with its distance.
+ */
+public class NearbyComplaint {
+
+    private final Long id;
+    private final String title;
+    private final String status;
+    private final String categoryName;
+    private final String location;
+    private final String createdAt;
+    private final long distanceMeters;
+
+    /**
+     * Constructs a NearbyComplaint from the columns of a JPQL constructor expression.
+     *
+     * @param id             the ID of the complaint
+     * @param title          the title of the complaint
+     * @param status         the current status of the complaint
+     * @param categoryName   the name of the category, or {@code null} if there is none
+     * @param street         the street of the complaint location
+     * @param houseNumber    the house number of the complaint location
+     * @param postalCode     the postal code of the complaint location
+     * @param city           the city of the complaint location
+     * @param createdAt      the creation timestamp of the complaint
+     * @param distanceMeters the distance from the searched position in meters
+     */
+    public NearbyComplaint(Long id, String title, ComplaintStatus status, String categoryName,
+                           String street, String houseNumber, String postalCode, String city,
+                           LocalDateTime createdAt, Double distanceMeters) {
+        this.id = id;
+        this.title = title;
+        this.status = status != null ? status.getCode() : null;
+        this.categoryName = categoryName != null ? categoryName : "Keine Kategorie";
+        this.location = Location.format(street, houseNumber, postalCode, city);
+        this.createdAt = createdAt != null ? ComplaintDto.CREATED_AT_FORMATTER.format(createdAt) : "Unbekanntes Datum";
+        this.distanceMeters = distanceMeters != null ? Math.round(distanceMeters) : 0;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getCategoryName() {
+        return categoryName;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public String getCreatedAt() {
+        return createdAt;
+    }
+
+    public long getDistanceMeters() {
+        return distanceMeters;
+    }
+}
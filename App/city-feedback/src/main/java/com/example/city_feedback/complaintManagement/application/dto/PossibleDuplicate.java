@@ -0,0 +1,51 @@
+package com.example.city_feedback.complaintManagement.application.dto;
+
+/**
+ * An existing complaint that may describe the same problem as a complaint being submitted,
+ * because it was reported close by, with a similar text, or both.
+ */
+public class PossibleDuplicate {
+
+    private final Long id;
+    private final String title;
+    private final String location;
+    private final Long distanceMeters;
+    private final Integer similarityPercent;
+
+    /**
+     * Constructs a new PossibleDuplicate.
+     *
+     * @param id                the ID of the existing complaint
+     * @param title             the title of the existing complaint
+     * @param location          the formatted location of the existing complaint
+     * @param distanceMeters    the distance to the new complaint, or {@code null} if unknown
+     * @param similarityPercent the estimated text similarity, or {@code null} if the texts are not similar
+     */
+    public PossibleDuplicate(Long id, String title, String location, Long distanceMeters, Integer similarityPercent) {
+        this.id = id;
+        this.title = title;
+        this.location = location;
+        this.distanceMeters = distanceMeters;
+        this.similarityPercent = similarityPercent;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public Long getDistanceMeters() {
+        return distanceMeters;
+    }
+
+    public Integer getSimilarityPercent() {
+        return similarityPercent;
+    }
+}
@@ -1,36 +1,56 @@
 package com.example.city_feedback.complaintManagement.application.services;
 
+import com.example.city_feedback.complaintManagement.application.dto.CategoryCatalogue;
 import com.example.city_feedback.complaintManagement.application.dto.CategoryDto;
+import com.example.city_feedback.complaintManagement.domain.events.CategoryChangedEvent;
 import com.example.city_feedback.complaintManagement.infrastructure.repositories.CategoryRepository;
+import com.example.city_feedback.shared.infrastructure.metrics.MetricsRegistry;
+import com.example.city_feedback.shared.infrastructure.metrics.Monitored;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 /**
  * Service for handling category-related operations.
+ * Categories change rarely, so they are served from an in-memory {@link CategoryCatalogue}.
+ * The catalogue is dropped after every committed change to a category and, as a safety net
+ * for changes made outside the application, reloaded once it is older than {@link #CATALOGUE_MAX_AGE}.
  */
 @Service
+@Monitored
 public class CategoryService {
+    static final Duration CATALOGUE_MAX_AGE = Duration.ofMinutes(10);
+
     private final CategoryRepository categoryRepository;
+    private final LongAdder catalogueHits;
+    private final LongAdder catalogueMisses;
+
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile CategoryCatalogue catalogue;
+    private volatile long catalogueLoadedAt;
 
-    public CategoryService(CategoryRepository categoryRepository) {
+    public CategoryService(CategoryRepository categoryRepository, MetricsRegistry metricsRegistry) {
         this.categoryRepository = categoryRepository;
+        this.catalogueHits = metricsRegistry.counter("categories.catalogue.hit");
+        this.catalogueMisses = metricsRegistry.counter("categories.catalogue.miss");
     }
 
     /**
-     * Retrieves all categories and converts them to DTOs.
+     * Retrieves all categories as DTOs.
      * Validates that categories exist before returning the list.
      *
-     * @return a list of CategoryDto objects
+     * @return an unmodifiable list of CategoryDto objects
      */
     public List<CategoryDto> getAllCategories() {
-        List<CategoryDto> categories = categoryRepository.findAll().stream()
-                .map(category -> new CategoryDto(
-                        category.getId(),
-                        category.getName(),
-                        category.getDescription()))
-                .collect(Collectors.toList());
+        List<CategoryDto> categories = getCatalogue().getCategories();
 
         if (categories.isEmpty()) {
             throw new IllegalStateException("Keine Kategorien verfügbar");
@@ -38,4 +58,84 @@ public class CategoryService {
 
         return categories;
     }
+
+    /**
+     * Looks up a category by its ID without a database round trip.
+     *
+     * @param id the ID of the category
+     * @return the category, or empty if there is none with this ID
+     */
+    public Optional<CategoryDto> findCategory(Integer id) {
+        return getCatalogue().findById(id);
+    }
+
+    /**
+     * Returns the version of the current catalogue, which changes whenever a category changes.
+     *
+     * @return the catalogue version
+     */
+    public long getCatalogueVersion() {
+        return getCatalogue().getVersion();
+    }
+
+    /**
+     * Returns the current category catalogue, loading it if it is missing or expired.
+     * Concurrent misses are serialized, so the categories are loaded only once.
+     *
+     * @return the current catalogue
+     */
+    public CategoryCatalogue getCatalogue() {
+        CategoryCatalogue current = catalogue;
+        if (isFresh(current)) {
+            catalogueHits.increment();
+            return current;
+        }
+
+        loadLock.lock();
+        try {
+            current = catalogue;
+            if (isFresh(current)) {
+                catalogueHits.increment();
+                return current;
+            }
+            catalogueMisses.increment();
+            long loadGeneration = generation.get();
+            CategoryCatalogue loaded = new CategoryCatalogue(categoryRepository.findAll().stream()
+                    .map(category -> new CategoryDto(
+                            category.getId(),
+                            category.getName(),
+                            category.getDescription()))
+                    .collect(Collectors.toList()));
+            // Keep the result only if no change was committed while loading
+            if (generation.get() == loadGeneration) {
+                catalogueLoadedAt = System.nanoTime();
+                catalogue = loaded;
+            }
+            return loaded;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    /**
+     * Drops the cached catalogue, so the next lookup reloads it.
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        catalogue = null;
+    }
+
+    /**
+     * Invalidates the catalogue once a change to a category has been committed.
+     *
+     * @param event the change event published by the CategoryChangeListener
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        invalidate();
+    }
+
+    private boolean isFresh(CategoryCatalogue current) {
+        return current != null && System.nanoTime() - catalogueLoadedAt < CATALOGUE_MAX_AGE.toNanos();
+    }
 }
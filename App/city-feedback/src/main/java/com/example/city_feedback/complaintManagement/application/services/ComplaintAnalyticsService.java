@@ -0,0 +1,226 @@
+package com.example.city_feedback.complaintManagement.application.services;
+
+import com.example.city_feedback.complaintManagement.application.dto.CategoryDto;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintTrend;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintTrendSeries;
+import com.example.city_feedback.complaintManagement.infrastructure.analytics.ComplaintRollup;
+import com.example.city_feedback.complaintManagement.infrastructure.analytics.RollupGranularity;
+import com.example.city_feedback.complaintManagement.infrastructure.analytics.TrendGrouping;
+import com.example.city_feedback.complaintManagement.infrastructure.analytics.TrendInterval;
+import com.example.city_feedback.complaintManagement.infrastructure.repositories.ComplaintRollupRepository;
+import com.example.city_feedback.shared.infrastructure.config.AnalyticsProperties;
+import com.example.city_feedback.shared.infrastructure.metrics.Monitored;
+import com.example.city_feedback.shared.infrastructure.transactions.TransactionPolicy;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Complaint trends over long periods, e.g. complaints per week and category over several years.
+ *
+ * Complaints are counted per hour, category and postal code, and the hourly counts are added to daily and monthly
+ * buckets in {@code complaint_rollups}. A scheduled refresh processes the hours that ended since its watermark,
+ * so every complaint is read once. Trends read the coarsest buckets that fit their interval (months for monthly
+ * and yearly trends, days for daily and weekly ones) and count only the complaints after the watermark from the
+ * complaints table. The rollups record complaints as they were filed: later deletions and edits do not change them.
+ */
+@Service
+@Monitored
+public class ComplaintAnalyticsService {
+
+    static final String WATERMARK = "complaint_rollups";
+    static final String ALL_COMPLAINTS = "Alle Beschwerden";
+
+    private final ComplaintRollupRepository rollupRepository;
+    private final CategoryService categoryService;
+    private final AnalyticsProperties properties;
+    private final TransactionTemplate windowTransaction;
+
+    public ComplaintAnalyticsService(ComplaintRollupRepository rollupRepository,
+                                     CategoryService categoryService,
+                                     AnalyticsProperties properties,
+                                     PlatformTransactionManager transactionManager) {
+        this.rollupRepository = rollupRepository;
+        this.categoryService = categoryService;
+        this.properties = properties;
+        this.windowTransaction = new TransactionTemplate(transactionManager);
+        this.windowTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Rolls up all complete hours since the watermark.
+     */
+    @Scheduled(fixedDelayString = "#{@analyticsProperties.refreshInterval.toMillis()}")
+    @TransactionPolicy(propagation = TransactionDefinition.PROPAGATION_NOT_SUPPORTED)
+    public void refresh() {
+        refreshUntil(LocalDateTime.now());
+    }
+
+    /**
+     * Rolls up the hours that ended at least {@code app.analytics.lag} before the given time. Each window of at most
+     * {@code app.analytics.max-window} is committed together with the advanced watermark, so an interrupted refresh
+     * continues where it stopped and no hour is counted twice.
+     *
+     * @param now the current time
+     */
+    void refreshUntil(LocalDateTime now) {
+        LocalDateTime upTo = RollupGranularity.HOUR.truncate(now.minus(properties.getLag()));
+        LocalDateTime watermark = rollupRepository.findWatermark(WATERMARK)
+                .or(() -> rollupRepository.findEarliestCreatedAt().map(RollupGranularity.HOUR::truncate))
+                .orElse(null);
+        if (watermark == null) {
+            return;
+        }
+        while (watermark.isBefore(upTo)) {
+            LocalDateTime from = watermark;
+            LocalDateTime windowEnd = from.plus(properties.getMaxWindow());
+            LocalDateTime to = windowEnd.isBefore(upTo) ? windowEnd : upTo;
+            windowTransaction.executeWithoutResult(status -> rollUp(from, to));
+            watermark = to;
+        }
+    }
+
+    /**
+     * Loads the number of complaints created per period between two days.
+     * The range is widened to whole periods, e.g. to Monday for weekly trends.
+     *
+     * @param from       the first day
+     * @param to         the last day
+     * @param interval   the period length
+     * @param grouping   how complaints are split into series
+     * @param categoryId only count this category, or {@code null} for all
+     * @param postalCode only count this postal code, or {@code null} for all
+     * @return the trend
+     * @throws IllegalArgumentException if the range is empty or has more than {@code app.analytics.max-points} periods
+     */
+    @TransactionPolicy(readOnly = true, isolation = TransactionDefinition.ISOLATION_REPEATABLE_READ)
+    public ComplaintTrend getTrend(LocalDate from, LocalDate to, TrendInterval interval, TrendGrouping grouping,
+                                   Integer categoryId, String postalCode) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Das Enddatum liegt vor dem Startdatum.");
+        }
+        LocalDateTime start = interval.truncate(from.atStartOfDay());
+        LocalDateTime endOfRange = to.plusDays(1).atStartOfDay();
+        List<LocalDateTime> periods = new ArrayList<>();
+        Map<LocalDateTime, Integer> periodIndex = new HashMap<>();
+        LocalDateTime end = start;
+        while (end.isBefore(endOfRange)) {
+            if (periods.size() == properties.getMaxPoints()) {
+                throw new IllegalArgumentException("Der Zeitraum umfasst mehr als " + properties.getMaxPoints()
+                        + " Werte; bitte ein größeres Intervall wählen.");
+            }
+            periodIndex.put(end, periods.size());
+            periods.add(end);
+            end = interval.next(end);
+        }
+
+        // Buckets up to the watermark come from the rollups; a bucket containing the watermark is complete up to it
+        LocalDateTime watermark = rollupRepository.findWatermark(WATERMARK).orElse(start);
+        LocalDateTime rolledUntil = watermark.isBefore(start) ? start : watermark.isAfter(end) ? end : watermark;
+        List<ComplaintRollup> rows = new ArrayList<>();
+        if (rolledUntil.isAfter(start)) {
+            rows.addAll(rollupRepository.findRollups(interval.getCoarsestSource(), start, rolledUntil, categoryId, postalCode));
+        }
+        if (rolledUntil.isBefore(end)) {
+            rows.addAll(rollupRepository.countHourly(rolledUntil, end, categoryId, postalCode));
+        }
+
+        Map<String, long[]> counts = new TreeMap<>();
+        if (grouping == TrendGrouping.NONE) {
+            counts.put("", new long[periods.size()]);
+        }
+        for (ComplaintRollup row : rows) {
+            Integer index = periodIndex.get(interval.truncate(row.getBucketStart()));
+            if (index != null) {
+                counts.computeIfAbsent(seriesKey(grouping, row), key -> new long[periods.size()])[index] += row.getComplaintCount();
+            }
+        }
+
+        List<ComplaintTrendSeries> series = new ArrayList<>(counts.size());
+        counts.forEach((key, values) -> series.add(new ComplaintTrendSeries(
+                grouping == TrendGrouping.NONE ? null : key, label(grouping, key), Arrays.stream(values).boxed().toList())));
+        return new ComplaintTrend(interval.name(), periods, series);
+    }
+
+    /**
+     * Counts the complaints of one window per hour and adds the counts to the hourly, daily and monthly buckets.
+     */
+    private void rollUp(LocalDateTime from, LocalDateTime to) {
+        Map<BucketKey, Long> daily = new HashMap<>();
+        Map<BucketKey, Long> monthly = new HashMap<>();
+        for (ComplaintRollup hour : rollupRepository.countHourly(from, to, null, null)) {
+            rollupRepository.addToCount(RollupGranularity.HOUR, hour.getBucketStart(), hour.getCategoryId(),
+                    hour.getPostalCode(), hour.getComplaintCount());
+            daily.merge(new BucketKey(RollupGranularity.DAY.truncate(hour.getBucketStart()), hour), hour.getComplaintCount(), Long::sum);
+            monthly.merge(new BucketKey(RollupGranularity.MONTH.truncate(hour.getBucketStart()), hour), hour.getComplaintCount(), Long::sum);
+        }
+        daily.forEach((key, count) ->
+                rollupRepository.addToCount(RollupGranularity.DAY, key.bucketStart, key.categoryId, key.postalCode, count));
+        monthly.forEach((key, count) ->
+                rollupRepository.addToCount(RollupGranularity.MONTH, key.bucketStart, key.categoryId, key.postalCode, count));
+        rollupRepository.saveWatermark(WATERMARK, to);
+    }
+
+    private static String seriesKey(TrendGrouping grouping, ComplaintRollup row) {
+        return switch (grouping) {
+            case NONE -> "";
+            case CATEGORY -> row.getCategoryId().toString();
+            case POSTAL_CODE -> row.getPostalCode();
+        };
+    }
+
+    private String label(TrendGrouping grouping, String key) {
+        return switch (grouping) {
+            case NONE -> ALL_COMPLAINTS;
+            case CATEGORY -> categoryService.findCategory(Integer.valueOf(key))
+                    .map(CategoryDto::getName)
+                    .orElse("Kategorie " + key);
+            case POSTAL_CODE -> key;
+        };
+    }
+
+    /**
+     * Identifies a bucket of a granularity by its start, category and postal code.
+     */
+    private static final class BucketKey {
+        private final LocalDateTime bucketStart;
+        private final Integer categoryId;
+        private final String postalCode;
+
+        private BucketKey(LocalDateTime bucketStart, ComplaintRollup hour) {
+            this.bucketStart = bucketStart;
+            this.categoryId = hour.getCategoryId();
+            this.postalCode = hour.getPostalCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof BucketKey other)) {
+                return false;
+            }
+            return bucketStart.equals(other.bucketStart)
+                    && Objects.equals(categoryId, other.categoryId)
+                    && Objects.equals(postalCode, other.postalCode);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(bucketStart, categoryId, postalCode);
+        }
+    }
+}
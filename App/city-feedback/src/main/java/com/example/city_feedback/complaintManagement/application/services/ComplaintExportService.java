@@ -0,0 +1,73 @@
+package com.example.city_feedback.complaintManagement.application.services;
+
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintExportRow;
+import com.example.city_feedback.complaintManagement.infrastructure.exporting.ComplaintExportWriter;
+import com.example.city_feedback.complaintManagement.infrastructure.exporting.ExportFormat;
+import com.example.city_feedback.complaintManagement.infrastructure.repositories.ComplaintRepository;
+import com.example.city_feedback.shared.infrastructure.metrics.MetricsRegistry;
+import com.example.city_feedback.shared.infrastructure.metrics.Monitored;
+import com.example.city_feedback.shared.infrastructure.transactions.TransactionPolicy;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Exports complaints as CSV or NDJSON.
+ * Rows are streamed from a database cursor straight into the output, so the export needs constant memory
+ * however many complaints there are, and the first bytes are sent before the query has been read to the end.
+ */
+@Service
+@Monitored
+public class ComplaintExportService {
+
+    /**
+     * Number of rows after which the buffered output is pushed to the client.
+     */
+    static final int FLUSH_INTERVAL = 1000;
+
+    private final ComplaintRepository complaintRepository;
+    private final ObjectMapper objectMapper;
+    private final LongAdder exportedRows;
+
+    public ComplaintExportService(ComplaintRepository complaintRepository, ObjectMapper objectMapper, MetricsRegistry metricsRegistry) {
+        this.complaintRepository = complaintRepository;
+        this.objectMapper = objectMapper;
+        this.exportedRows = metricsRegistry.counter("complaints.export.rows");
+    }
+
+    /**
+     * Writes the complaints to the given stream. Runs in one read-only transaction, which keeps the cursor open.
+     *
+     * @param format    the format to write
+     * @param creatorId the user whose complaints are exported, or {@code null} for all complaints
+     * @param output    the target stream; it is closed when the export ends
+     * @return the number of exported complaints
+     * @throws IOException if writing fails, e.g. because the client went away
+     */
+    @TransactionPolicy(readOnly = true)
+    public long exportComplaints(ExportFormat format, Long creatorId, OutputStream output) throws IOException {
+        long count = 0;
+        try (Stream<ComplaintExportRow> rows = creatorId == null
+                ? complaintRepository.streamAllForExport()
+                : complaintRepository.streamForExportByCreatorId(creatorId);
+             ComplaintExportWriter writer = ComplaintExportWriter.create(format, output, objectMapper)) {
+            // The first rows are flushed right away, so the client sees the download start immediately
+            Iterator<ComplaintExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                count++;
+                if (count == 1 || count % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        } finally {
+            exportedRows.add(count);
+        }
+        return count;
+    }
+}
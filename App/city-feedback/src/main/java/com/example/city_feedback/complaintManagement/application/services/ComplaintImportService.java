@@ -0,0 +1,283 @@
+package com.example.city_feedback.complaintManagement.application.services;
+
+import com.example.city_feedback.authentication.application.services.CurrentUserProvider;
+import com.example.city_feedback.authentication.domain.models.User;
+import com.example.city_feedback.complaintManagement.application.dto.CategoryCatalogue;
+import com.example.city_feedback.complaintManagement.application.dto.CategoryDto;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintDimensions;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintImportReport;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintImportRow;
+import com.example.city_feedback.complaintManagement.domain.events.ComplaintCreatedEvent;
+import com.example.city_feedback.complaintManagement.domain.models.Complaint;
+import com.example.city_feedback.complaintManagement.domain.valueObjects.Location;
+import com.example.city_feedback.complaintManagement.infrastructure.importing.ComplaintImportReader;
+import com.example.city_feedback.complaintManagement.infrastructure.importing.ComplaintImportReaderFactory;
+import com.example.city_feedback.complaintManagement.infrastructure.importing.ImportFormat;
+import com.example.city_feedback.complaintManagement.infrastructure.persistence.LocationResolver;
+import com.example.city_feedback.complaintManagement.infrastructure.repositories.CategoryRepository;
+import com.example.city_feedback.complaintManagement.infrastructure.repositories.ComplaintRepository;
+import com.example.city_feedback.progressManagement.application.services.StatusDefinitionService;
+import com.example.city_feedback.progressManagement.domain.models.ComplaintProgress;
+import com.example.city_feedback.progressManagement.domain.valueObjects.ComplaintStatus;
+import com.example.city_feedback.progressManagement.infrastructure.repositories.ProgressRepository;
+import com.example.city_feedback.shared.infrastructure.messaging.OutboxEventPublisher;
+import com.example.city_feedback.shared.infrastructure.metrics.Monitored;
+import com.example.city_feedback.shared.infrastructure.transactions.TransactionPolicy;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Imports complaints in bulk from a CSV or NDJSON file.
+ *
+ * The file is read row by row and every row is validated with the same rules as the complaint form:
+ * categories come from the in-memory catalogue and locations from the {@link LocationResolver} cache.
+ * Valid rows are stored in chunks of {@link #CHUNK_SIZE}, each in its own transaction with batched inserts,
+ * and the persistence context is cleared after every chunk, so memory use does not depend on the file size.
+ * Invalid rows are reported per line and do not stop the import. If a chunk cannot be stored, its rows are
+ * stored again one by one, so only the rows that fail on their own are reported.
+ */
+@Service
+@Monitored
+public class ComplaintImportService {
+    static final int CHUNK_SIZE = 500;
+
+    private static final Logger logger = LoggerFactory.getLogger(ComplaintImportService.class);
+
+    private final ComplaintImportReaderFactory readerFactory;
+    private final ComplaintRepository complaintRepository;
+    private final CategoryRepository categoryRepository;
+    private final CategoryService categoryService;
+    private final LocationResolver locationResolver;
+    private final CurrentUserProvider currentUserProvider;
+    private final StatusDefinitionService statusDefinitionService;
+    private final ProgressRepository progressRepository;
+    private final OutboxEventPublisher eventPublisher;
+    private final DuplicateDetectionService duplicateDetectionService;
+    private final ComplaintStatisticsService statisticsService;
+    private final EntityManager entityManager;
+    private final TransactionTemplate chunkTransaction;
+
+    public ComplaintImportService(ComplaintImportReaderFactory readerFactory,
+                                  ComplaintRepository complaintRepository,
+                                  CategoryRepository categoryRepository,
+                                  CategoryService categoryService,
+                                  LocationResolver locationResolver,
+                                  CurrentUserProvider currentUserProvider,
+                                  StatusDefinitionService statusDefinitionService,
+                                  ProgressRepository progressRepository,
+                                  OutboxEventPublisher eventPublisher,
+                                  DuplicateDetectionService duplicateDetectionService,
+                                  ComplaintStatisticsService statisticsService,
+                                  EntityManager entityManager,
+                                  PlatformTransactionManager transactionManager) {
+        this.readerFactory = readerFactory;
+        this.complaintRepository = complaintRepository;
+        this.categoryRepository = categoryRepository;
+        this.categoryService = categoryService;
+        this.locationResolver = locationResolver;
+        this.currentUserProvider = currentUserProvider;
+        this.statusDefinitionService = statusDefinitionService;
+        this.progressRepository = progressRepository;
+        this.eventPublisher = eventPublisher;
+        this.duplicateDetectionService = duplicateDetectionService;
+        this.statisticsService = statisticsService;
+        this.entityManager = entityManager;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Imports all complaints of the given file on behalf of the authenticated user.
+     *
+     * @param input  the file content, closed when the import ends
+     * @param format the format of the file
+     * @return the number of imported and rejected rows with the reasons for the rejections
+     * @throws IllegalArgumentException if the file cannot be imported at all, e.g. the CSV header is incomplete
+     * @throws IOException              if the file cannot be read
+     */
+    @TransactionPolicy(propagation = TransactionDefinition.PROPAGATION_NOT_SUPPORTED)
+    public ComplaintImportReport importComplaints(InputStream input, ImportFormat format) throws IOException {
+        User user = currentUserProvider.getCurrentUser()
+                .orElseThrow(() -> new IllegalArgumentException("Benutzer nicht gefunden."));
+        CategoryCatalogue catalogue = categoryService.getCatalogue();
+        ReportBuilder report = new ReportBuilder();
+
+        try (ComplaintImportReader reader = readerFactory.open(format, input)) {
+            List<PendingComplaint> chunk = new ArrayList<>(CHUNK_SIZE);
+            while (true) {
+                ComplaintImportRow row;
+                try {
+                    row = reader.next();
+                } catch (IllegalArgumentException e) {
+                    report.fail(reader.getLineNumber(), e.getMessage());
+                    continue;
+                }
+                if (row == null) {
+                    break;
+                }
+                try {
+                    chunk.add(toPendingComplaint(reader.getLineNumber(), row, catalogue, user));
+                } catch (IllegalArgumentException e) {
+                    report.fail(reader.getLineNumber(), e.getMessage());
+                    continue;
+                }
+                if (chunk.size() == CHUNK_SIZE) {
+                    persist(chunk, user, report);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                persist(chunk, user, report);
+            }
+        }
+        return report.build();
+    }
+
+    /**
+     * Validates a row and builds the complaint. The location is resolved only for valid rows.
+     */
+    private PendingComplaint toPendingComplaint(long line, ComplaintImportRow row, CategoryCatalogue catalogue, User user) {
+        CategoryDto category = (row.getCategoryId() != null
+                ? catalogue.findById(row.getCategoryId())
+                : catalogue.findByName(row.getCategory()))
+                .orElseThrow(() -> new IllegalArgumentException("Ungültige Kategorie"));
+
+        Location address = new Location(row.getStreet(), row.getHouseNumber(), row.getPostalCode(), row.getCity());
+        // Validates the row with the rules of the complaint form before the location is resolved
+        Complaint.builder()
+                .withTitle(row.getTitle())
+                .withDescription(row.getDescription())
+                .withLocation(address)
+                .withUser(user)
+                .build();
+        return new PendingComplaint(line, row.getTitle(), row.getDescription(), locationResolver.resolve(address),
+                category.getId());
+    }
+
+    /**
+     * Stores a chunk in one transaction. If the chunk fails, its rows are stored again one by one,
+     * so a single bad row is reported on its own and does not reject the rest of the chunk.
+     */
+    private void persist(List<PendingComplaint> chunk, User user, ReportBuilder report) {
+        try {
+            store(chunk, user);
+            report.imported += chunk.size();
+            return;
+        } catch (RuntimeException e) {
+            logger.warn("Import chunk of {} rows failed, storing its rows one by one: {}", chunk.size(), e.getMessage());
+        } finally {
+            // With open-in-view the request keeps one persistence context; drop the stored chunk from it
+            entityManager.clear();
+        }
+        for (PendingComplaint pending : chunk) {
+            try {
+                store(List.of(pending), user);
+                report.imported++;
+            } catch (RuntimeException e) {
+                logger.warn("Import of line {} failed", pending.line, e);
+                report.fail(pending.line, failureMessage(e));
+            } finally {
+                entityManager.clear();
+            }
+        }
+    }
+
+    private void store(List<PendingComplaint> pendingComplaints, User user) {
+        chunkTransaction.executeWithoutResult(status -> {
+            ComplaintProgress open = statusDefinitionService.getDefinitionReference(ComplaintStatus.OFFEN);
+            List<Complaint> complaints = new ArrayList<>(pendingComplaints.size());
+            for (PendingComplaint pending : pendingComplaints) {
+                Complaint complaint = pending.toComplaint(user);
+                complaint.setCategory(categoryRepository.getReferenceById(pending.categoryId));
+                complaint.setStatus(ComplaintStatus.OFFEN);
+                complaint.setProgress(open);
+                complaints.add(complaint);
+            }
+            complaintRepository.saveAll(complaints);
+            complaintRepository.flush();
+
+            progressRepository.appendInitialHistory(complaints.stream().map(Complaint::getId).toList(), user.getId());
+            for (Complaint complaint : complaints) {
+                eventPublisher.publish(new ComplaintCreatedEvent(complaint.getId(), complaint.getTitle(), user.getEmail()));
+                duplicateDetectionService.register(complaint.getId(), complaint.getLocation().getPostalCode(),
+                        complaint.getTitle(), complaint.getDescription());
+                statisticsService.recordCreated(ComplaintDimensions.of(complaint), ComplaintStatus.OFFEN);
+            }
+        });
+    }
+
+    /**
+     * Describes a failed row for the report without exposing database details.
+     */
+    private static String failureMessage(RuntimeException e) {
+        if (e instanceof IllegalArgumentException) {
+            return e.getMessage();
+        }
+        if (e instanceof DataIntegrityViolationException) {
+            return "Speichern fehlgeschlagen: Die Zeile widerspricht vorhandenen Daten";
+        }
+        return "Speichern fehlgeschlagen";
+    }
+
+    /**
+     * A validated complaint waiting for its chunk to be stored.
+     */
+    private static final class PendingComplaint {
+        private final long line;
+        private final String title;
+        private final String description;
+        private final Location location;
+        private final Integer categoryId;
+
+        private PendingComplaint(long line, String title, String description, Location location, Integer categoryId) {
+            this.line = line;
+            this.title = title;
+            this.description = description;
+            this.location = location;
+            this.categoryId = categoryId;
+        }
+
+        /**
+         * Builds a new entity for every attempt; one from a rolled back transaction keeps its assigned ID.
+         */
+        private Complaint toComplaint(User user) {
+            return Complaint.builder()
+                    .withTitle(title)
+                    .withDescription(description)
+                    .withLocation(location)
+                    .withUser(user)
+                    .build();
+        }
+    }
+
+    /**
+     * Counts the outcome and keeps the first {@link ComplaintImportReport#MAX_REPORTED_ERRORS} errors.
+     */
+    private static final class ReportBuilder {
+        private int imported;
+        private int failed;
+        private final List<ComplaintImportReport.RowError> errors = new ArrayList<>();
+
+        private void fail(long line, String message) {
+            failed++;
+            if (errors.size() < ComplaintImportReport.MAX_REPORTED_ERRORS) {
+                errors.add(new ComplaintImportReport.RowError(line, message));
+            }
+        }
+
+        private ComplaintImportReport build() {
+            return new ComplaintImportReport(imported, failed, errors);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.city_feedback.complaintManagement.application.services;
+
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintDto;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintSearchHit;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintSearchPage;
+import com.example.city_feedback.complaintManagement.infrastructure.repositories.ComplaintRepository;
+import com.example.city_feedback.complaintManagement.infrastructure.search.ComplaintSearchIndex;
+import com.example.city_feedback.shared.infrastructure.config.SearchProperties;
+import com.example.city_feedback.shared.infrastructure.metrics.Monitored;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Full-text search over the title and description of complaints.
+ *
+ * The {@link ComplaintSearchIndex} returns the IDs of one page of matches in order of relevance;
+ * the complaints of the page are then loaded with a single projection query.
+ * Results are paged by offset, which is bounded by the configured result window.
+ */
+@Service
+@Monitored
+public class ComplaintSearchService {
+    static final int MAX_QUERY_LENGTH = 200;
+
+    private final ComplaintSearchIndex searchIndex;
+    private final ComplaintRepository complaintRepository;
+    private final SearchProperties searchProperties;
+
+    public ComplaintSearchService(ComplaintSearchIndex searchIndex,
+                                  ComplaintRepository complaintRepository,
+                                  SearchProperties searchProperties) {
+        this.searchIndex = searchIndex;
+        this.complaintRepository = complaintRepository;
+        this.searchProperties = searchProperties;
+    }
+
+    /**
+     * Searches complaints, best match first.
+     *
+     * @param query     the search query
+     * @param creatorId the user whose complaints are searched, or {@code null} to search all complaints
+     * @param page      the zero-based page number
+     * @param pageSize  the requested page size, clamped to {@code 1..ComplaintService.MAX_PAGE_SIZE}
+     * @return the requested page of results
+     * @throws IllegalArgumentException if the query is empty or too long, or the page lies beyond the result window
+     */
+    public ComplaintSearchPage searchComplaints(String query, Long creatorId, int page, int pageSize) {
+        String trimmed = query != null ? query.strip() : "";
+        if (trimmed.isEmpty()) {
+            throw new IllegalArgumentException("Bitte einen Suchbegriff eingeben.");
+        }
+        if (trimmed.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Der Suchbegriff darf höchstens " + MAX_QUERY_LENGTH + " Zeichen lang sein.");
+        }
+        int size = Math.max(1, Math.min(pageSize, ComplaintService.MAX_PAGE_SIZE));
+        int pageNumber = Math.max(0, page);
+        int window = searchProperties.getMaxResultWindow();
+        long offset = (long) pageNumber * size;
+        if (offset >= window) {
+            throw new IllegalArgumentException("Es können nur die ersten " + window + " Treffer angezeigt werden.");
+        }
+
+        // One hit more than the page size tells whether a next page exists
+        List<ComplaintSearchHit> hits = searchIndex.search(trimmed, creatorId, (int) offset, size + 1);
+        boolean hasNext = hits.size() > size && offset + size < window;
+        if (hits.size() > size) {
+            hits = hits.subList(0, size);
+        }
+        return new ComplaintSearchPage(trimmed, loadInRankOrder(hits), pageNumber, size, hasNext);
+    }
+
+    /**
+     * Loads the complaints of the hits and returns them in the order of the hits.
+     * Complaints deleted since the index was queried are left out.
+     */
+    private List<ComplaintDto> loadInRankOrder(List<ComplaintSearchHit> hits) {
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = new ArrayList<>(hits.size());
+        for (ComplaintSearchHit hit : hits) {
+            ids.add(hit.getComplaintId());
+        }
+        Map<Long, ComplaintDto> complaintsById = new HashMap<>();
+        for (ComplaintDto complaint : complaintRepository.findDtosByIds(ids)) {
+            complaintsById.put(complaint.getId(), complaint);
+        }
+
+        List<ComplaintDto> complaints = new ArrayList<>(hits.size());
+        for (Long id : ids) {
+            ComplaintDto complaint = complaintsById.get(id);
+            if (complaint != null) {
+                complaints.add(complaint);
+            }
+        }
+        return complaints;
+    }
+}
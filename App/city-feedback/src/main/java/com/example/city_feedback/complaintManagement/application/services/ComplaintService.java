@@ -1,53 +1,87 @@
 package com.example.city_feedback.complaintManagement.application.services;
 
+import com.example.city_feedback.authentication.application.services.CurrentUserProvider;
 import com.example.city_feedback.authentication.domain.models.User;
-import com.example.city_feedback.authentication.infrastructure.repositories.UserRepository;
 import com.example.city_feedback.complaintManagement.application.commands.CreateComplaintCommand;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintCursor;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintDimensions;
 import com.example.city_feedback.complaintManagement.application.dto.ComplaintDto;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintPage;
+import com.example.city_feedback.complaintManagement.domain.events.ComplaintCreatedEvent;
 import com.example.city_feedback.complaintManagement.domain.models.Category;
 import com.example.city_feedback.complaintManagement.domain.models.Complaint;
 import com.example.city_feedback.complaintManagement.domain.valueObjects.Location;
 import com.example.city_feedback.complaintManagement.infrastructure.repositories.CategoryRepository;
+import com.example.city_feedback.complaintManagement.infrastructure.persistence.LocationResolver;
 import com.example.city_feedback.complaintManagement.infrastructure.repositories.ComplaintRepository;
-import com.example.city_feedback.complaintManagement.infrastructure.repositories.LocationRepository;
-import com.example.city_feedback.progressManagement.domain.models.ComplaintProgress;
-import org.springframework.security.core.context.SecurityContextHolder;
+import com.example.city_feedback.progressManagement.application.services.StatusDefinitionService;
+import com.example.city_feedback.progressManagement.domain.valueObjects.ComplaintStatus;
+import com.example.city_feedback.progressManagement.infrastructure.repositories.ProgressRepository;
+import com.example.city_feedback.shared.infrastructure.messaging.OutboxEventPublisher;
+import com.example.city_feedback.shared.infrastructure.metrics.Monitored;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
-import java.time.format.DateTimeFormatter;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * Service layer for managing complaints.
  * Provides methods for creating complaints and retrieving complaint data.
  *
  * The application ensures valid categories are selected via a dropdown menu
- * populated directly from the database.
+ * populated from the category catalogue of the {@link CategoryService}.
  */
 @Service
+@Monitored
 public class ComplaintService {
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final ComplaintRepository complaintRepository;
     private final CategoryRepository categoryRepository;
-    private final LocationRepository locationRepository;
-    private final UserRepository userRepository;
+    private final LocationResolver locationResolver;
+    private final CurrentUserProvider currentUserProvider;
+    private final CategoryService categoryService;
+    private final OutboxEventPublisher eventPublisher;
+    private final StatusDefinitionService statusDefinitionService;
+    private final ProgressRepository progressRepository;
+    private final DuplicateDetectionService duplicateDetectionService;
+    private final ComplaintStatisticsService statisticsService;
 
     public ComplaintService(ComplaintRepository complaintRepository,
                             CategoryRepository categoryRepository,
-                            LocationRepository locationRepository,
-                            UserRepository userRepository) {
+                            LocationResolver locationResolver,
+                            CurrentUserProvider currentUserProvider,
+                            CategoryService categoryService,
+                            OutboxEventPublisher eventPublisher,
+                            StatusDefinitionService statusDefinitionService,
+                            ProgressRepository progressRepository,
+                            DuplicateDetectionService duplicateDetectionService,
+                            ComplaintStatisticsService statisticsService) {
         this.complaintRepository = complaintRepository;
         this.categoryRepository = categoryRepository;
-        this.locationRepository = locationRepository;
-        this.userRepository = userRepository;
+        this.locationResolver = locationResolver;
+        this.currentUserProvider = currentUserProvider;
+        this.categoryService = categoryService;
+        this.eventPublisher = eventPublisher;
+        this.statusDefinitionService = statusDefinitionService;
+        this.progressRepository = progressRepository;
+        this.duplicateDetectionService = duplicateDetectionService;
+        this.statisticsService = statisticsService;
     }
 
+    /**
+     * Creates a complaint for the authenticated user.
+     * The {@link ComplaintCreatedEvent} is written to the outbox in the same transaction as the complaint,
+     * so it is published exactly when the complaint is committed.
+     */
     public Complaint createComplaint(CreateComplaintCommand command) {
         Category category = findCategoryById(command.getCategoryId());
         User user = getAuthenticatedUser();
         Location location = resolveOrCreateLocation(command);
-        ComplaintProgress defaultProgress = createDefaultProgress();
 
         Complaint complaint = Complaint.builder()
                 .withTitle(command.getTitle())
@@ -57,98 +91,148 @@ public class ComplaintService {
                 .withUser(user)
                 .build();
         complaint.setCreatorId(user.getId());
-        complaint.setProgress(defaultProgress);
+        complaint.setStatus(ComplaintStatus.OFFEN);
+        complaint.setProgress(statusDefinitionService.getDefinitionReference(ComplaintStatus.OFFEN));
+
+        Complaint saved = complaintRepository.save(complaint);
+        progressRepository.appendHistory(saved.getId(), null, ComplaintStatus.OFFEN, user.getId());
+        duplicateDetectionService.register(saved.getId(), location.getPostalCode(), saved.getTitle(), saved.getDescription());
+        statisticsService.recordCreated(ComplaintDimensions.of(saved), ComplaintStatus.OFFEN);
+        eventPublisher.publish(new ComplaintCreatedEvent(saved.getId(), saved.getTitle(), user.getEmail()));
+        return saved;
+    }
 
-        return complaintRepository.save(complaint);
+    /**
+     * Loads one page of all complaints, newest first, using keyset pagination.
+     *
+     * @param cursor   the cursor of the requested page, or {@code null} for the first page
+     * @param pageSize the requested page size, clamped to {@code 1..MAX_PAGE_SIZE}
+     * @return the requested page together with the cursor of the following page
+     */
+    public ComplaintPage findAllComplaints(ComplaintCursor cursor, int pageSize) {
+        int size = clampPageSize(pageSize);
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<ComplaintDto> rows = cursor == null
+                ? complaintRepository.findFirstPage(limit)
+                : complaintRepository.findPageAfter(cursor.getCreatedAt(), cursor.getId(), limit);
+        return toPage(rows, size);
     }
 
-    public List<ComplaintDto> findAllComplaints() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm");
 
-        return complaintRepository.findAll().stream()
-                .map(complaint -> mapToDto(complaint, formatter))
-                .collect(Collectors.toList());
+    /**
+     * Looks up when a complaint was last modified, e.g. to answer conditional requests without loading it.
+     *
+     * @param id the ID of the complaint
+     * @return the modification time, or empty if the complaint does not exist
+     */
+    public Optional<LocalDateTime> findLastModified(Long id) {
+        return complaintRepository.findUpdatedAtById(id);
     }
 
+    /**
+     * Looks up who created a complaint, e.g. to check access without loading it.
+     *
+     * @param id the ID of the complaint
+     * @return the ID of the creator, or empty if the complaint does not exist
+     */
+    public Optional<Long> findCreatorId(Long id) {
+        return complaintRepository.findCreatorIdById(id);
+    }
 
+    /**
+     * Loads a complaint with its address fields and category in one query.
+     *
+     * @param id the ID of the complaint
+     * @return the complaint
+     * @throws IllegalArgumentException if the complaint does not exist
+     */
     public ComplaintDto findComplaintById(Long id) {
-        Complaint complaint = complaintRepository.findById(id)
+        return complaintRepository.findDtoById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Beschwerde mit ID " + id + " nicht gefunden."));
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm");
-        return mapToDto(complaint, formatter);
     }
 
     public Complaint updateComplaint(Long id, CreateComplaintCommand command) {
         Complaint existingComplaint = complaintRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Beschwerde nicht gefunden"));
+        ComplaintDimensions before = ComplaintDimensions.of(existingComplaint);
 
         existingComplaint.setTitle(command.getTitle());
         existingComplaint.setDescription(command.getDescription());
         existingComplaint.setCategory(findCategoryById(command.getCategoryId()));
-        existingComplaint.setLocation(resolveOrCreateLocation(command));
+        Location location = resolveOrCreateLocation(command);
+        existingComplaint.setLocation(location);
 
-        return complaintRepository.save(existingComplaint);
+        Complaint saved = complaintRepository.save(existingComplaint);
+        duplicateDetectionService.register(id, location.getPostalCode(), saved.getTitle(), saved.getDescription());
+        statisticsService.recordMoved(before, ComplaintDimensions.of(saved), saved.getStatus());
+        return saved;
     }
 
-    public List<ComplaintDto> getComplaintsByCreatorEmail(String email) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm");
-
-        return complaintRepository.findByUser_Email(email).stream()
-                .map(complaint -> mapToDto(complaint, formatter))
-                .collect(Collectors.toList());
+    /**
+     * Loads one page of the complaints created by the given user, newest first, using keyset pagination.
+     *
+     * @param creatorId the ID of the user
+     * @param cursor    the cursor of the requested page, or {@code null} for the first page
+     * @param pageSize  the requested page size, clamped to {@code 1..MAX_PAGE_SIZE}
+     * @return the requested page together with the cursor of the following page
+     */
+    public ComplaintPage getComplaintsByCreatorId(long creatorId, ComplaintCursor cursor, int pageSize) {
+        int size = clampPageSize(pageSize);
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<ComplaintDto> rows = cursor == null
+                ? complaintRepository.findFirstPageByCreatorId(creatorId, limit)
+                : complaintRepository.findPageByCreatorIdAfter(creatorId, cursor.getCreatedAt(), cursor.getId(), limit);
+        return toPage(rows, size);
     }
 
     public void deleteComplaint(Long id) {
-        if (!complaintRepository.existsById(id)) {
-            throw new IllegalArgumentException("Beschwerde mit ID " + id + " nicht gefunden.");
-        }
-        complaintRepository.deleteById(id);
+        Complaint complaint = complaintRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Beschwerde mit ID " + id + " nicht gefunden."));
+        duplicateDetectionService.unregister(id);
+        statisticsService.recordDeleted(ComplaintDimensions.of(complaint), complaint.getStatus());
+        complaintRepository.delete(complaint);
     }
 
+    /**
+     * Validates the category ID against the cached catalogue and returns a reference to the category,
+     * so no SELECT is issued for it.
+     */
     private Category findCategoryById(Integer categoryId) {
-        return categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new IllegalArgumentException("Ungültige Kategorie ID"));
+        if (categoryService.findCategory(categoryId).isEmpty()) {
+            throw new IllegalArgumentException("Ungültige Kategorie ID");
+        }
+        return categoryRepository.getReferenceById(categoryId);
     }
 
     private User getAuthenticatedUser() {
-        String email = SecurityContextHolder.getContext().getAuthentication().getName();
-        return Optional.ofNullable(userRepository.findByEmail(email))
-                .orElseThrow(() -> new IllegalArgumentException("Benutzer nicht gefunden: " + email));
+        return currentUserProvider.getCurrentUser()
+                .orElseThrow(() -> new IllegalArgumentException("Benutzer nicht gefunden."));
     }
 
     private Location resolveOrCreateLocation(CreateComplaintCommand command) {
-        return locationRepository.findByStreetAndHouseNumberAndPostalCodeAndCity(
-                command.getStreet(),
-                command.getHouseNumber(),
-                command.getPostalCode(),
-                command.getCity()
-        ).orElseGet(() -> locationRepository.save(
-                new Location(command.getStreet(), command.getHouseNumber(), command.getPostalCode(), command.getCity())
-        ));
+        Location address = new Location(command.getStreet(), command.getHouseNumber(), command.getPostalCode(), command.getCity());
+        return locationResolver.resolve(address);
     }
 
-    private ComplaintProgress createDefaultProgress() {
-        ComplaintProgress progress = new ComplaintProgress();
-        progress.setId(1); // Default ID for "Open"
-        progress.setStatus("OFFEN");
-        progress.setColor("#808080");
-        progress.setDescription("Beschwerde wurde erstellt, ist aber noch nicht in Bearbeitung.");
-        return progress;
+    private int clampPageSize(int pageSize) {
+        return Math.max(1, Math.min(pageSize, MAX_PAGE_SIZE));
     }
 
-    private ComplaintDto mapToDto(Complaint complaint, DateTimeFormatter formatter) {
-        String formattedCreatedAt = complaint.getCreatedAt() != null
-                ? formatter.format(complaint.getCreatedAt())
-                : "Unbekanntes Datum";
-
-        return new ComplaintDto(
-                complaint.getId(),
-                complaint.getTitle(),
-                complaint.getDescription(),
-                complaint.getLocation() != null ? complaint.getLocation().toString() : "Unbekannter Standort",
-                formattedCreatedAt,
-                complaint.getCategory() != null ? complaint.getCategory().getId() : 0,
-                complaint.getCategory() != null ? complaint.getCategory().getName() : "Keine Kategorie"
-        );
+    /**
+     * Converts the rows of a page query into a {@link ComplaintPage}.
+     * The query fetches one row more than the page size; its presence tells whether a next page exists.
+     */
+    private ComplaintPage toPage(List<ComplaintDto> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<ComplaintDto> complaints = hasNext ? rows.subList(0, size) : rows;
+
+        ComplaintCursor nextCursor = null;
+        if (hasNext) {
+            ComplaintDto last = complaints.get(complaints.size() - 1);
+            nextCursor = new ComplaintCursor(last.getCreatedAtTimestamp(), last.getId());
+        }
+        return new ComplaintPage(complaints, nextCursor);
     }
 }
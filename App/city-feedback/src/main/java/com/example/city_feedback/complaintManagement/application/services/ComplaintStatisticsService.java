@@ -0,0 +1,311 @@
+package com.example.city_feedback.complaintManagement.application.services;
+
+import com.example.city_feedback.complaintManagement.application.dto.CategoryDto;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintDimensions;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintStatisticsRow;
+import com.example.city_feedback.complaintManagement.infrastructure.repositories.ComplaintStatisticsRepository;
+import com.example.city_feedback.complaintManagement.infrastructure.statistics.ComplaintStatistic;
+import com.example.city_feedback.complaintManagement.infrastructure.statistics.StatisticsDimension;
+import com.example.city_feedback.progressManagement.domain.valueObjects.ComplaintStatus;
+import com.example.city_feedback.shared.infrastructure.config.StatisticsProperties;
+import com.example.city_feedback.shared.infrastructure.metrics.MetricsRegistry;
+import com.example.city_feedback.shared.infrastructure.metrics.Monitored;
+import com.example.city_feedback.shared.infrastructure.transactions.TransactionPolicy;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Keeps the number of complaints per status by category, postal code and day of creation, so dashboards
+ * read one row per value instead of counting complaints.
+ *
+ * Every change to a complaint is recorded as a delta once its transaction has committed. Deltas are summed
+ * in memory, in one {@link LongAdder} per counter, so concurrent requests do not contend on a shared row;
+ * a scheduled flush adds them to {@code complaint_statistics}. Reads combine the table with the deltas that
+ * have not been flushed yet. A failed flush keeps its deltas for the next attempt.
+ */
+@Service
+@Monitored
+public class ComplaintStatisticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ComplaintStatisticsService.class);
+
+    private final ComplaintStatisticsRepository statisticsRepository;
+    private final CategoryService categoryService;
+    private final StatisticsProperties properties;
+    private final TransactionTemplate flushTransaction;
+    private final ConcurrentHashMap<CounterKey, LongAdder> pending = new ConcurrentHashMap<>();
+    private final LongAdder flushedCounter;
+    private final LongAdder failedCounter;
+
+    public ComplaintStatisticsService(ComplaintStatisticsRepository statisticsRepository,
+                                      CategoryService categoryService,
+                                      StatisticsProperties properties,
+                                      MetricsRegistry metricsRegistry,
+                                      PlatformTransactionManager transactionManager) {
+        this.statisticsRepository = statisticsRepository;
+        this.categoryService = categoryService;
+        this.properties = properties;
+        this.flushTransaction = new TransactionTemplate(transactionManager);
+        this.flushTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.flushedCounter = metricsRegistry.counter("statistics.flushed");
+        this.failedCounter = metricsRegistry.counter("statistics.flushFailed");
+    }
+
+    /**
+     * Counts a new complaint.
+     *
+     * @param complaint the dimensions of the complaint
+     * @param status    its initial status
+     */
+    public void recordCreated(ComplaintDimensions complaint, ComplaintStatus status) {
+        record(complaint, status, 1);
+    }
+
+    /**
+     * Removes a deleted complaint from the counts.
+     *
+     * @param complaint the dimensions of the complaint
+     * @param status    its last status
+     */
+    public void recordDeleted(ComplaintDimensions complaint, ComplaintStatus status) {
+        record(complaint, status, -1);
+    }
+
+    /**
+     * Moves an edited complaint to the counts of its new category or postal code.
+     *
+     * @param before the dimensions before the change
+     * @param after  the dimensions after the change
+     * @param status the status of the complaint
+     */
+    public void recordMoved(ComplaintDimensions before, ComplaintDimensions after, ComplaintStatus status) {
+        if (!before.sameCountsAs(after)) {
+            record(before, status, -1);
+            record(after, status, 1);
+        }
+    }
+
+    /**
+     * Moves a complaint from the counts of its previous status to those of its new status.
+     *
+     * @param complaint      the dimensions of the complaint
+     * @param previousStatus the status before the change
+     * @param newStatus      the status after the change
+     */
+    public void recordStatusChanged(ComplaintDimensions complaint, ComplaintStatus previousStatus, ComplaintStatus newStatus) {
+        if (previousStatus != newStatus) {
+            record(complaint, previousStatus, -1);
+            record(complaint, newStatus, 1);
+        }
+    }
+
+    /**
+     * Loads the counts of all values of a dimension, ordered by value.
+     *
+     * @param dimension the dimension
+     * @return one row per value that has complaints
+     */
+    public List<ComplaintStatisticsRow> getCounts(StatisticsDimension dimension) {
+        return toRows(dimension, statisticsRepository.findByDimension(dimension), null, null);
+    }
+
+    /**
+     * Loads the counts of the days of a period, ordered by day.
+     *
+     * @param from the first day
+     * @param to   the last day
+     * @return one row per day that has complaints
+     * @throws IllegalArgumentException if the period is empty or longer than {@code app.statistics.max-days}
+     */
+    public List<ComplaintStatisticsRow> getDailyCounts(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Das Enddatum liegt vor dem Startdatum.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= properties.getMaxDays()) {
+            throw new IllegalArgumentException("Der Zeitraum darf höchstens " + properties.getMaxDays() + " Tage umfassen.");
+        }
+        String fromValue = from.toString();
+        String toValue = to.toString();
+        return toRows(StatisticsDimension.DAY,
+                statisticsRepository.findByDimensionBetween(StatisticsDimension.DAY, fromValue, toValue), fromValue, toValue);
+    }
+
+    /**
+     * Writes the recorded deltas to the summary table in one transaction.
+     * Each delta is taken out of its adder before it is written and put back if the write fails,
+     * so increments arriving meanwhile are neither lost nor written twice.
+     */
+    @Scheduled(fixedDelayString = "#{@statisticsProperties.flushInterval.toMillis()}")
+    @TransactionPolicy(propagation = TransactionDefinition.PROPAGATION_NOT_SUPPORTED)
+    public void flush() {
+        Map<CounterKey, Long> deltas = new HashMap<>();
+        pending.forEach((key, adder) -> {
+            long delta = adder.sum();
+            if (delta != 0) {
+                adder.add(-delta);
+                deltas.put(key, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            flushTransaction.executeWithoutResult(status -> deltas.forEach((key, delta) ->
+                    statisticsRepository.addToCount(key.dimension, key.value, key.status, delta)));
+            flushedCounter.add(deltas.size());
+        } catch (RuntimeException e) {
+            deltas.forEach((key, delta) -> adder(key).add(delta));
+            failedCounter.increment();
+            logger.warn("Flushing {} statistics counters failed, retrying with the next flush", deltas.size(), e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    /**
+     * Number of counters with deltas that have not been flushed yet.
+     *
+     * @return the number of pending counters
+     */
+    public int getPendingCount() {
+        return (int) pending.values().stream().filter(adder -> adder.sum() != 0).count();
+    }
+
+    /**
+     * Applies a delta once the current transaction has committed, so rolled back changes are never counted.
+     */
+    private void record(ComplaintDimensions complaint, ComplaintStatus status, long delta) {
+        if (status == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(complaint, status, delta);
+                }
+            });
+        } else {
+            apply(complaint, status, delta);
+        }
+    }
+
+    private void apply(ComplaintDimensions complaint, ComplaintStatus status, long delta) {
+        if (complaint.getCategoryId() != null) {
+            adder(new CounterKey(StatisticsDimension.CATEGORY, complaint.getCategoryId().toString(), status)).add(delta);
+        }
+        if (complaint.getPostalCode() != null) {
+            adder(new CounterKey(StatisticsDimension.POSTAL_CODE, complaint.getPostalCode(), status)).add(delta);
+        }
+        if (complaint.getCreatedOn() != null) {
+            adder(new CounterKey(StatisticsDimension.DAY, complaint.getCreatedOn().toString(), status)).add(delta);
+        }
+    }
+
+    private LongAdder adder(CounterKey key) {
+        return pending.computeIfAbsent(key, k -> new LongAdder());
+    }
+
+    /**
+     * Merges the stored counts with the pending deltas of a dimension, optionally restricted to a value range.
+     */
+    private List<ComplaintStatisticsRow> toRows(StatisticsDimension dimension, List<ComplaintStatistic> stored,
+                                                String fromValue, String toValue) {
+        Map<String, EnumMap<ComplaintStatus, Long>> counts = new TreeMap<>();
+        for (ComplaintStatistic statistic : stored) {
+            counts.computeIfAbsent(statistic.getDimensionValue(), value -> new EnumMap<>(ComplaintStatus.class))
+                    .merge(statistic.getStatus(), statistic.getComplaintCount(), Long::sum);
+        }
+        pending.forEach((key, adder) -> {
+            if (key.dimension != dimension
+                    || fromValue != null && key.value.compareTo(fromValue) < 0
+                    || toValue != null && key.value.compareTo(toValue) > 0) {
+                return;
+            }
+            long delta = adder.sum();
+            if (delta != 0) {
+                counts.computeIfAbsent(key.value, value -> new EnumMap<>(ComplaintStatus.class))
+                        .merge(key.status, delta, Long::sum);
+            }
+        });
+
+        List<ComplaintStatisticsRow> rows = new ArrayList<>(counts.size());
+        counts.forEach((value, byStatus) -> {
+            Map<String, Long> row = new LinkedHashMap<>();
+            long total = 0;
+            for (ComplaintStatus status : ComplaintStatus.values()) {
+                long count = byStatus.getOrDefault(status, 0L);
+                row.put(status.getCode(), count);
+                total += count;
+            }
+            if (total != 0) {
+                rows.add(new ComplaintStatisticsRow(value, label(dimension, value), row));
+            }
+        });
+        return rows;
+    }
+
+    private String label(StatisticsDimension dimension, String value) {
+        if (dimension != StatisticsDimension.CATEGORY) {
+            return value;
+        }
+        return categoryService.findCategory(Integer.valueOf(value))
+                .map(CategoryDto::getName)
+                .orElse("Kategorie " + value);
+    }
+
+    /**
+     * Identifies one counter: a value of a dimension in one status.
+     */
+    private static final class CounterKey {
+        private final StatisticsDimension dimension;
+        private final String value;
+        private final ComplaintStatus status;
+
+        private CounterKey(StatisticsDimension dimension, String value, ComplaintStatus status) {
+            this.dimension = dimension;
+            this.value = value;
+            this.status = status;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CounterKey other)) {
+                return false;
+            }
+            return dimension == other.dimension && status == other.status && value.equals(other.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(dimension, value, status);
+        }
+    }
+}
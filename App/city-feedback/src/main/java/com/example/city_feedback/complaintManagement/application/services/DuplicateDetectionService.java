@@ -0,0 +1,188 @@
+package com.example.city_feedback.complaintManagement.application.services;
+
+import com.example.city_feedback.complaintManagement.application.commands.CreateComplaintCommand;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintDto;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintText;
+import com.example.city_feedback.complaintManagement.application.dto.NearbyComplaint;
+import com.example.city_feedback.complaintManagement.application.dto.PossibleDuplicate;
+import com.example.city_feedback.complaintManagement.domain.valueObjects.Coordinates;
+import com.example.city_feedback.complaintManagement.domain.valueObjects.Location;
+import com.example.city_feedback.complaintManagement.infrastructure.deduplication.MinHasher;
+import com.example.city_feedback.complaintManagement.infrastructure.persistence.LocationResolver;
+import com.example.city_feedback.complaintManagement.infrastructure.repositories.ComplaintRepository;
+import com.example.city_feedback.complaintManagement.infrastructure.repositories.ComplaintSignatureRepository;
+import com.example.city_feedback.shared.infrastructure.metrics.Monitored;
+import com.example.city_feedback.shared.infrastructure.transactions.TransactionPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Detects complaints that are probably already known when a new one is submitted.
+ *
+ * Two signals are combined: unresolved complaints of the same category close by (see {@link NearbyComplaintService}),
+ * and complaints with a similar text in the same postal code area. Texts are compared by MinHash signatures;
+ * candidates come from the LSH buckets the new text falls into, so no pairwise comparison with all complaints
+ * is needed. Every stored complaint is registered with its signature and buckets; complaints stored before
+ * signatures existed are registered once the application is ready.
+ */
+@Service
+@Monitored
+public class DuplicateDetectionService {
+    private static final Logger logger = LoggerFactory.getLogger(DuplicateDetectionService.class);
+
+    static final double SIMILARITY_THRESHOLD = 0.5;
+    static final int MAX_CANDIDATES = 200;
+    static final int MAX_DUPLICATES = 5;
+    static final int BACKFILL_CHUNK_SIZE = 500;
+
+    private static final Comparator<PossibleDuplicate> MOST_LIKELY_FIRST = Comparator
+            .comparing(PossibleDuplicate::getSimilarityPercent, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(PossibleDuplicate::getDistanceMeters, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final ComplaintSignatureRepository signatureRepository;
+    private final ComplaintRepository complaintRepository;
+    private final NearbyComplaintService nearbyComplaintService;
+    private final LocationResolver locationResolver;
+    private final TransactionTemplate chunkTransaction;
+
+    public DuplicateDetectionService(ComplaintSignatureRepository signatureRepository,
+                                     ComplaintRepository complaintRepository,
+                                     NearbyComplaintService nearbyComplaintService,
+                                     LocationResolver locationResolver,
+                                     PlatformTransactionManager transactionManager) {
+        this.signatureRepository = signatureRepository;
+        this.complaintRepository = complaintRepository;
+        this.nearbyComplaintService = nearbyComplaintService;
+        this.locationResolver = locationResolver;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Finds possible duplicates of a complaint about to be created, most likely first.
+     *
+     * @param command the complaint about to be created
+     * @return up to {@value #MAX_DUPLICATES} possible duplicates
+     * @throws IllegalArgumentException if the address is invalid
+     */
+    public List<PossibleDuplicate> findPossibleDuplicates(CreateComplaintCommand command) {
+        Location address = new Location(command.getStreet(), command.getHouseNumber(), command.getPostalCode(), command.getCity());
+        // Resolving caches the location, so creating the complaint afterwards does not look it up again
+        Location location = locationResolver.resolve(address);
+
+        Map<Long, PossibleDuplicate> duplicates = new LinkedHashMap<>();
+        Coordinates center = location.getCoordinates().orElse(null);
+        if (center != null && command.getCategoryId() != null) {
+            for (NearbyComplaint nearby : nearbyComplaintService.findOpenInCategoryNear(center, command.getCategoryId(), MAX_DUPLICATES)) {
+                duplicates.put(nearby.getId(), new PossibleDuplicate(
+                        nearby.getId(), nearby.getTitle(), nearby.getLocation(), nearby.getDistanceMeters(), null));
+            }
+        }
+
+        Map<Long, Integer> similarities = findSimilarTexts(command.getTitle(), command.getDescription(), location.getPostalCode());
+        if (!similarities.isEmpty()) {
+            for (ComplaintDto similar : complaintRepository.findDtosByIds(similarities.keySet())) {
+                PossibleDuplicate nearby = duplicates.get(similar.getId());
+                duplicates.put(similar.getId(), new PossibleDuplicate(similar.getId(), similar.getTitle(), similar.getLocation(),
+                        nearby != null ? nearby.getDistanceMeters() : null, similarities.get(similar.getId())));
+            }
+        }
+
+        List<PossibleDuplicate> result = new ArrayList<>(duplicates.values());
+        result.sort(MOST_LIKELY_FIRST);
+        return result.size() > MAX_DUPLICATES ? result.subList(0, MAX_DUPLICATES) : result;
+    }
+
+    /**
+     * Stores the signature of a complaint, so later submissions can find it. Replaces a previous registration.
+     *
+     * @param complaintId the ID of the stored complaint
+     * @param postalCode  the postal code of the complaint location
+     * @param title       the title
+     * @param description the description
+     */
+    public void register(long complaintId, String postalCode, String title, String description) {
+        int[] signature = MinHasher.signature(title, description);
+        if (signature == null) {
+            signatureRepository.deleteSignature(complaintId);
+            return;
+        }
+        signatureRepository.saveSignature(complaintId, postalCode, signature, MinHasher.bucketKeys(signature, postalCode));
+    }
+
+    /**
+     * Registers the complaints that have no signature yet, e.g. those stored before signatures were introduced.
+     * Complaints are read in ID order in chunks of {@value #BACKFILL_CHUNK_SIZE}, each committed on its own,
+     * so an interrupted backfill continues with the remaining complaints on the next start.
+     *
+     * @return the number of complaints processed
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @TransactionPolicy(propagation = TransactionDefinition.PROPAGATION_NOT_SUPPORTED)
+    public int backfillSignatures() {
+        int processed = 0;
+        long afterId = 0;
+        List<ComplaintText> chunk;
+        do {
+            long from = afterId;
+            chunk = chunkTransaction.execute(status -> {
+                List<ComplaintText> texts = complaintRepository.findUnsignedAfter(from, PageRequest.of(0, BACKFILL_CHUNK_SIZE));
+                texts.forEach(text -> register(text.getId(), text.getPostalCode(), text.getTitle(), text.getDescription()));
+                return texts;
+            });
+            if (chunk == null || chunk.isEmpty()) {
+                break;
+            }
+            processed += chunk.size();
+            afterId = chunk.get(chunk.size() - 1).getId();
+        } while (chunk.size() == BACKFILL_CHUNK_SIZE);
+        if (processed > 0) {
+            logger.info("Duplicate detection signatures computed for {} existing complaints", processed);
+        }
+        return processed;
+    }
+
+    /**
+     * Removes the signature of a deleted complaint.
+     *
+     * @param complaintId the ID of the deleted complaint
+     */
+    public void unregister(long complaintId) {
+        signatureRepository.deleteSignature(complaintId);
+    }
+
+    /**
+     * Returns the complaints in the same postal code area whose text similarity reaches the threshold,
+     * as similarity percentages by complaint ID.
+     */
+    private Map<Long, Integer> findSimilarTexts(String title, String description, String postalCode) {
+        int[] signature = MinHasher.signature(title, description);
+        if (signature == null) {
+            return Map.of();
+        }
+        Map<Long, int[]> candidates = signatureRepository.findCandidateSignatures(
+                MinHasher.bucketKeys(signature, postalCode), MAX_CANDIDATES);
+
+        Map<Long, Integer> similarities = new LinkedHashMap<>();
+        candidates.forEach((complaintId, candidate) -> {
+            double similarity = MinHasher.similarity(signature, candidate);
+            if (similarity >= SIMILARITY_THRESHOLD) {
+                similarities.put(complaintId, (int) Math.round(similarity * 100));
+            }
+        });
+        return similarities;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.city_feedback.complaintManagement.application.services;
+
+import com.example.city_feedback.complaintManagement.application.dto.NearbyComplaint;
+import com.example.city_feedback.complaintManagement.domain.valueObjects.Coordinates;
+import com.example.city_feedback.complaintManagement.domain.valueObjects.GeoGrid;
+import com.example.city_feedback.complaintManagement.domain.valueObjects.Location;
+import com.example.city_feedback.complaintManagement.infrastructure.repositories.ComplaintRepository;
+import com.example.city_feedback.progressManagement.domain.valueObjects.ComplaintStatus;
+import com.example.city_feedback.shared.infrastructure.metrics.Monitored;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Finds complaints reported near a position, e.g. around a complaint or as possible duplicates of a new one.
+ * Queries go through the {@link GeoGrid} index of the locations; complaints at addresses without coordinates
+ * are never found.
+ */
+@Service
+@Monitored
+public class NearbyComplaintService {
+    public static final double DUPLICATE_RADIUS_METERS = 100;
+    public static final double MAX_RADIUS_METERS = 1000;
+    static final int MAX_RESULTS = 50;
+
+    private final ComplaintRepository complaintRepository;
+
+    public NearbyComplaintService(ComplaintRepository complaintRepository) {
+        this.complaintRepository = complaintRepository;
+    }
+
+    /**
+     * Finds the complaints reported around another complaint, nearest first.
+     *
+     * @param complaintId  the ID of the complaint
+     * @param radiusMeters the radius, clamped to {@code 1..MAX_RADIUS_METERS}
+     * @return up to {@value #MAX_RESULTS} other complaints within the radius
+     * @throws IllegalArgumentException if the complaint does not exist
+     */
+    public List<NearbyComplaint> findNearComplaint(long complaintId, double radiusMeters) {
+        Location location = complaintRepository.findLocationByComplaintId(complaintId)
+                .orElseThrow(() -> new IllegalArgumentException("Beschwerde mit ID " + complaintId + " nicht gefunden."));
+        Coordinates center = location.getCoordinates().orElse(null);
+        if (center == null) {
+            return List.of();
+        }
+        double radius = Math.max(1, Math.min(radiusMeters, MAX_RADIUS_METERS));
+
+        List<NearbyComplaint> nearby = new ArrayList<>(complaintRepository.findNearby(
+                GeoGrid.cellsWithin(center, radius), center.getLatitude(), center.getLongitude(),
+                center.metersPerDegreeLongitude(), radius, PageRequest.of(0, MAX_RESULTS + 1)));
+        nearby.removeIf(complaint -> complaint.getId() == complaintId);
+        return nearby.size() > MAX_RESULTS ? nearby.subList(0, MAX_RESULTS) : nearby;
+    }
+
+    /**
+     * Finds unresolved complaints of a category within {@value #DUPLICATE_RADIUS_METERS} m of a position,
+     * nearest first.
+     *
+     * @param center     the position of the new complaint
+     * @param categoryId the category of the new complaint
+     * @param limit      the maximum number of complaints to return
+     * @return the unresolved complaints of the category close by
+     */
+    public List<NearbyComplaint> findOpenInCategoryNear(Coordinates center, Integer categoryId, int limit) {
+        return complaintRepository.findNearbyInCategory(
+                GeoGrid.cellsWithin(center, DUPLICATE_RADIUS_METERS), center.getLatitude(), center.getLongitude(),
+                center.metersPerDegreeLongitude(), DUPLICATE_RADIUS_METERS, categoryId,
+                ComplaintStatus.ERLEDIGT, PageRequest.of(0, limit));
+    }
+}
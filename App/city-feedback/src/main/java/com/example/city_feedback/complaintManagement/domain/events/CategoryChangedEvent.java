@@ -0,0 +1,23 @@
+package com.example.city_feedback.complaintManagement.domain.events;
+
+/**
+ * Event triggered when a category is created, updated or deleted.
+ * Used to invalidate the cached category catalogue.
+ */
+public class CategoryChangedEvent {
+
+    private final Integer categoryId;
+
+    /**
+     * Constructs a new CategoryChangedEvent.
+     *
+     * @param categoryId the ID of the changed category
+     */
+    public CategoryChangedEvent(Integer categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    public Integer getCategoryId() {
+        return categoryId;
+    }
+}
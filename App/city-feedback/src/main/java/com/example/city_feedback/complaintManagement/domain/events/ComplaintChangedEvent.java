@@ -0,0 +1,51 @@
+package com.example.city_feedback.complaintManagement.domain.events;
+
+/**
+ * Event triggered when a complaint is created, updated or deleted.
+ * Carries the searchable text, so the in-memory search index can be updated without reloading the complaint.
+ */
+public class ComplaintChangedEvent {
+
+    private final Long complaintId;
+    private final Long creatorId;
+    private final String title;
+    private final String description;
+    private final boolean removed;
+
+    /**
+     * Constructs a new ComplaintChangedEvent.
+     *
+     * @param complaintId the ID of the changed complaint
+     * @param creatorId   the ID of the user who created the complaint
+     * @param title       the current title
+     * @param description the current description
+     * @param removed     whether the complaint was deleted
+     */
+    public ComplaintChangedEvent(Long complaintId, Long creatorId, String title, String description, boolean removed) {
+        this.complaintId = complaintId;
+        this.creatorId = creatorId;
+        this.title = title;
+        this.description = description;
+        this.removed = removed;
+    }
+
+    public Long getComplaintId() {
+        return complaintId;
+    }
+
+    public Long getCreatorId() {
+        return creatorId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public boolean isRemoved() {
+        return removed;
+    }
+}
@@ -1,8 +1,12 @@
 package com.example.city_feedback.complaintManagement.domain.events;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 /**
  * Event triggered when a new complaint is created.
  * This can be used for sending notifications or logging actions.
+ * It is delivered through the outbox, so it is serialized to JSON and read back by the subscribers.
  */
 public class ComplaintCreatedEvent {
 
@@ -17,7 +21,10 @@ public class ComplaintCreatedEvent {
      * @param complaintTitle the title of the created complaint
      * @param createdBy      the user who created the complaint
      */
-    public ComplaintCreatedEvent(Long complaintId, String complaintTitle, String createdBy) {
+    @JsonCreator
+    public ComplaintCreatedEvent(@JsonProperty("complaintId") Long complaintId,
+                                 @JsonProperty("complaintTitle") String complaintTitle,
+                                 @JsonProperty("createdBy") String createdBy) {
         this.complaintId = complaintId;
         this.complaintTitle = complaintTitle;
         this.createdBy = createdBy;
@@ -1,5 +1,6 @@
 package com.example.city_feedback.complaintManagement.domain.models;
 
+import com.example.city_feedback.complaintManagement.infrastructure.persistence.CategoryChangeListener;
 import jakarta.persistence.*;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -7,10 +8,12 @@ import java.util.Optional;
 
 @Entity
 @Table(name = "categories")
+@EntityListeners(CategoryChangeListener.class)
 public class Category {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "categories_seq")
+    @SequenceGenerator(name = "categories_seq", sequenceName = "categories_seq", allocationSize = 50)
     private Integer id;
 
     @Column(nullable = false, unique = true)
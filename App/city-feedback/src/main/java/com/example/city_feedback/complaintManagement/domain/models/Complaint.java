@@ -3,18 +3,27 @@ package com.example.city_feedback.complaintManagement.domain.models;
 import java.time.LocalDateTime;
 import com.example.city_feedback.authentication.domain.models.User;
 import com.example.city_feedback.progressManagement.domain.models.ComplaintProgress;
+import com.example.city_feedback.progressManagement.domain.valueObjects.ComplaintStatus;
 import com.example.city_feedback.complaintManagement.domain.valueObjects.Location;
+import com.example.city_feedback.complaintManagement.infrastructure.persistence.ComplaintChangeListener;
 import jakarta.persistence.*;
 
 /**
  * Domain entity representing a complaint in the city feedback system.
  */
 @Entity
-@Table(name = "complaints")
+@Table(name = "complaints", indexes = {
+        @Index(name = "idx_complaints_created_at_id", columnList = "created_at, id"),
+        @Index(name = "idx_complaints_creator_created_at_id", columnList = "creator_id, created_at, id"),
+        @Index(name = "idx_complaints_status_created_at_id", columnList = "status, created_at, id"),
+        @Index(name = "idx_complaints_location_id", columnList = "location_id")
+})
+@EntityListeners(ComplaintChangeListener.class)
 public class Complaint {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "complaints_seq")
+    @SequenceGenerator(name = "complaints_seq", sequenceName = "complaints_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -27,6 +36,14 @@ public class Complaint {
     @JoinColumn(name = "complaint_progress_id", nullable = false)
     private ComplaintProgress progress;
 
+    /**
+     * Current status, denormalized from {@link #progress} so it can be read and filtered without a join.
+     * Both are changed together by the ProgressRepository.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 32)
+    private ComplaintStatus status = ComplaintStatus.OFFEN;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "location_id", nullable = false)
     private Location location;
@@ -35,10 +52,17 @@ public class Complaint {
     @JoinColumn(name = "category_id", nullable = false)
     private Category category;
 
+    /**
+     * Optimistic lock: concurrent edits are detected on commit instead of holding row locks.
+     */
+    @Version
+    @Column(name = "version")
+    private Long version;
+
     @Column(name = "creator_id", nullable = false, updatable = false)
     private Long creatorId;
 
-    @Column(nullable = false, updatable = false)
+    @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     @Column(nullable = false)
@@ -117,6 +141,18 @@ public class Complaint {
         return progress;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public ComplaintStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ComplaintStatus status) {
+        this.status = status;
+    }
+
     public LocalDateTime getUpdatedAt() {
         return updatedAt;
     }
@@ -0,0 +1,81 @@
+package com.example.city_feedback.complaintManagement.domain.valueObjects;
+
+/**
+ * A position in WGS84 degrees.
+ */
+public final class Coordinates {
+
+    /**
+     * Length of one degree of latitude; one degree of longitude is shorter by the cosine of the latitude.
+     */
+    public static final double METERS_PER_DEGREE_LATITUDE = 111_320.0;
+
+    private final double latitude;
+    private final double longitude;
+
+    /**
+     * Constructs new Coordinates.
+     *
+     * @param latitude  the latitude in degrees, {@code -90..90}
+     * @param longitude the longitude in degrees, {@code -180..180}
+     * @throws IllegalArgumentException if a value is out of range
+     */
+    public Coordinates(double latitude, double longitude) {
+        if (!(latitude >= -90 && latitude <= 90) || !(longitude >= -180 && longitude <= 180)) {
+            throw new IllegalArgumentException("Ungültige Koordinaten.");
+        }
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    /**
+     * Returns the length of one degree of longitude at this latitude.
+     *
+     * @return the meters per degree of longitude, at least one meter
+     */
+    public double metersPerDegreeLongitude() {
+        return Math.max(1.0, METERS_PER_DEGREE_LATITUDE * Math.cos(Math.toRadians(latitude)));
+    }
+
+    /**
+     * Approximates the distance to other coordinates on an equirectangular projection.
+     * Within a city the error is far below one percent.
+     *
+     * @param other the other coordinates
+     * @return the distance in meters
+     */
+    public double distanceTo(Coordinates other) {
+        double north = (other.latitude - latitude) * METERS_PER_DEGREE_LATITUDE;
+        double east = (other.longitude - longitude) * metersPerDegreeLongitude();
+        return Math.sqrt(north * north + east * east);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Coordinates other)) {
+            return false;
+        }
+        return Double.compare(latitude, other.latitude) == 0 && Double.compare(longitude, other.longitude) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(latitude) + Double.hashCode(longitude);
+    }
+
+    @Override
+    public String toString() {
+        return latitude + "," + longitude;
+    }
+}
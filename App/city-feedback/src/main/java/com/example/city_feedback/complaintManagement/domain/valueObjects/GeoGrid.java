@@ -0,0 +1,66 @@
+package com.example.city_feedback.complaintManagement.domain.valueObjects;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed grid over the globe used as a spatial index for locations.
+ *
+ * Every location stores the number of the cell containing it in an indexed column, so a radius query
+ * reads only the few cells overlapping the circle instead of scanning all locations. Cells are
+ * {@value #CELL_SIZE_DEGREES} degrees wide, about 280 m north-south and 170 m east-west in Germany;
+ * a query with a radius of 100 m touches at most six cells.
+ */
+public final class GeoGrid {
+
+    public static final double CELL_SIZE_DEGREES = 0.0025;
+
+    // One column more than 360 degrees need, so longitude 180 gets its own column
+    private static final long COLUMNS = Math.round(360 / CELL_SIZE_DEGREES) + 1;
+
+    private GeoGrid() {
+    }
+
+    /**
+     * Returns the cell containing the coordinates.
+     *
+     * @param coordinates the coordinates
+     * @return the cell number
+     */
+    public static long cellOf(Coordinates coordinates) {
+        return row(coordinates.getLatitude()) * COLUMNS + column(coordinates.getLongitude());
+    }
+
+    /**
+     * Returns all cells overlapping the square around the center that encloses the given radius.
+     *
+     * @param center       the center of the search
+     * @param radiusMeters the radius in meters
+     * @return the cell numbers
+     */
+    public static List<Long> cellsWithin(Coordinates center, double radiusMeters) {
+        double latitudeDelta = radiusMeters / Coordinates.METERS_PER_DEGREE_LATITUDE;
+        double longitudeDelta = radiusMeters / center.metersPerDegreeLongitude();
+
+        long firstRow = row(Math.max(-90, center.getLatitude() - latitudeDelta));
+        long lastRow = row(Math.min(90, center.getLatitude() + latitudeDelta));
+        long firstColumn = column(Math.max(-180, center.getLongitude() - longitudeDelta));
+        long lastColumn = column(Math.min(180, center.getLongitude() + longitudeDelta));
+
+        List<Long> cells = new ArrayList<>((int) ((lastRow - firstRow + 1) * (lastColumn - firstColumn + 1)));
+        for (long row = firstRow; row <= lastRow; row++) {
+            for (long column = firstColumn; column <= lastColumn; column++) {
+                cells.add(row * COLUMNS + column);
+            }
+        }
+        return cells;
+    }
+
+    private static long row(double latitude) {
+        return (long) Math.floor((latitude + 90) / CELL_SIZE_DEGREES);
+    }
+
+    private static long column(double longitude) {
+        return (long) Math.floor((longitude + 180) / CELL_SIZE_DEGREES);
+    }
+}
@@ -3,24 +3,48 @@ import com.example.city_feedback.complaintManagement.domain.models.Complaint;
 import jakarta.persistence.*;
 
 import java.util.Collection;
+import java.util.Optional;
 import java.util.regex.Pattern;
 
 @Entity
-@Table(name = "locations")
+@Table(name = "locations", uniqueConstraints = @UniqueConstraint(
+        name = "uk_locations_address",
+        columnNames = {"street", "house_number", "postal_code", "city"}),
+        indexes = @Index(name = "idx_locations_grid_cell", columnList = "grid_cell"))
 public class Location {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "locations_seq")
+    @SequenceGenerator(name = "locations_seq", sequenceName = "locations_seq", allocationSize = 50)
     private Long id;
 
+    @Column(name = "street")
     private String street;
 
+    @Column(name = "house_number")
     private String houseNumber;
 
+    @Column(name = "postal_code")
     private String postalCode;
 
+    @Column(name = "city")
     private String city;
 
+    /**
+     * Coordinates from the offline geocoding table; {@code null} if the address could not be geocoded.
+     */
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
+    /**
+     * {@link GeoGrid} cell of the coordinates, indexed for nearby queries.
+     */
+    @Column(name = "grid_cell")
+    private Long gridCell;
+
     @OneToMany(mappedBy = "location", cascade = CascadeType.ALL, orphanRemoval = true)
     private Collection<Complaint> complaints;
 
@@ -30,6 +54,7 @@ public class Location {
     private static final Pattern HOUSE_NUMBER_PATTERN = Pattern.compile("^[0-9]+[a-zA-Z-]*$");
     private static final Pattern POSTAL_CODE_PATTERN = Pattern.compile("^[0-9]{5}$");
     private static final Pattern CITY_PATTERN = Pattern.compile("^[A-Za-zäöüÄÖÜß\\s]+$");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
 
     public Location() {
 
@@ -44,6 +69,7 @@ public class Location {
 
     /**
      * Validates the given value against the specified pattern and trims it.
+     * Inner runs of whitespace are collapsed to a single space, so equal addresses are stored identically.
      * If the value does not match the pattern, an IllegalArgumentException is thrown with the provided error message.
      *
      * @param value the value to be validated and trimmed
@@ -56,7 +82,7 @@ public class Location {
         if (value == null || !pattern.matcher(value.trim()).matches()) {
             throw new IllegalArgumentException(errorMessage);
         }
-        return value.trim();
+        return WHITESPACE.matcher(value.trim()).replaceAll(" ");
     }
 
     /**
@@ -118,6 +144,29 @@ public class Location {
         return city;
     }
 
+    /**
+     * Gets the coordinates of the location.
+     *
+     * @return the coordinates, or empty if the address has not been geocoded
+     */
+    public Optional<Coordinates> getCoordinates() {
+        return latitude != null && longitude != null
+                ? Optional.of(new Coordinates(latitude, longitude))
+                : Optional.empty();
+    }
+
+    /**
+     * Sets the coordinates of the location and its grid cell.
+     * Called before the location is first stored; stored locations are not changed.
+     *
+     * @param coordinates the coordinates of the address
+     */
+    public void setCoordinates(Coordinates coordinates) {
+        this.latitude = coordinates.getLatitude();
+        this.longitude = coordinates.getLongitude();
+        this.gridCell = GeoGrid.cellOf(coordinates);
+    }
+
     /**
      * Returns a string representation of the location in the format:
      * "street houseNumber, postalCode city".
@@ -126,6 +175,20 @@ public class Location {
      */
     @Override
     public String toString() {
+        return format(street, houseNumber, postalCode, city);
+    }
+
+    /**
+     * Formats address parts the same way as {@link #toString()}, without requiring a Location instance.
+     * Used by read models that load the address columns directly.
+     *
+     * @param street      the street name
+     * @param houseNumber the house number
+     * @param postalCode  the postal code
+     * @param city        the city name
+     * @return the formatted address "street houseNumber, postalCode city"
+     */
+    public static String format(String street, String houseNumber, String postalCode, String city) {
         return street + " " + houseNumber + ", " + postalCode + " " + city;
     }
 }
@@ -0,0 +1,74 @@
+package com.example.city_feedback.complaintManagement.infrastructure.analytics;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * The number of complaints created in one bucket of time with one category and postal code.
+ */
+@Entity
+@Table(name = "complaint_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_complaint_rollups_bucket",
+                columnNames = {"granularity", "bucket_start", "category_id", "postal_code"})
+})
+public class ComplaintRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "complaint_rollups_seq")
+    @SequenceGenerator(name = "complaint_rollups_seq", sequenceName = "complaint_rollups_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", nullable = false, length = 10)
+    private RollupGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "category_id", nullable = false)
+    private Integer categoryId;
+
+    @Column(name = "postal_code", nullable = false, length = 5)
+    private String postalCode;
+
+    @Column(name = "complaint_count", nullable = false)
+    private long complaintCount;
+
+    public ComplaintRollup() {
+        // Default constructor for JPA
+    }
+
+    public ComplaintRollup(RollupGranularity granularity, LocalDateTime bucketStart, Integer categoryId,
+                           String postalCode, long complaintCount) {
+        this.granularity = granularity;
+        this.bucketStart = bucketStart;
+        this.categoryId = categoryId;
+        this.postalCode = postalCode;
+        this.complaintCount = complaintCount;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public RollupGranularity getGranularity() {
+        return granularity;
+    }
+
+    public LocalDateTime getBucketStart() {
+        return bucketStart;
+    }
+
+    public Integer getCategoryId() {
+        return categoryId;
+    }
+
+    public String getPostalCode() {
+        return postalCode;
+    }
+
+    public long getComplaintCount() {
+        return complaintCount;
+    }
+}
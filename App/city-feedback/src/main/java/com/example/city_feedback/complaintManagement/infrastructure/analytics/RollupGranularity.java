@@ -0,0 +1,42 @@
+package com.example.city_feedback.complaintManagement.infrastructure.analytics;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * The bucket sizes complaint counts are rolled up into, from finest to coarsest.
+ * Each bucket of a coarser granularity is the sum of the finer buckets it contains.
+ */
+public enum RollupGranularity {
+    HOUR,
+    DAY,
+    MONTH;
+
+    /**
+     * Returns the start of the bucket containing a time.
+     *
+     * @param time the time
+     * @return the start of its bucket
+     */
+    public LocalDateTime truncate(LocalDateTime time) {
+        return switch (this) {
+            case HOUR -> time.truncatedTo(ChronoUnit.HOURS);
+            case DAY -> time.truncatedTo(ChronoUnit.DAYS);
+            case MONTH -> time.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1);
+        };
+    }
+
+    /**
+     * Returns the start of the bucket following the one starting at the given time.
+     *
+     * @param bucketStart the start of a bucket
+     * @return the start of the next bucket
+     */
+    public LocalDateTime next(LocalDateTime bucketStart) {
+        return switch (this) {
+            case HOUR -> bucketStart.plusHours(1);
+            case DAY -> bucketStart.plusDays(1);
+            case MONTH -> bucketStart.plusMonths(1);
+        };
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.city_feedback.complaintManagement.infrastructure.analytics;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * How far a rollup has processed the complaints: all complaints created before the watermark are counted.
+ */
+@Entity
+@Table(name = "rollup_watermarks")
+public class RollupWatermark {
+
+    @Id
+    @Column(name = "name", length = 50)
+    private String name;
+
+    @Column(name = "processed_until", nullable = false)
+    private LocalDateTime processedUntil;
+
+    public RollupWatermark() {
+        // Default constructor for JPA
+    }
+
+    public RollupWatermark(String name, LocalDateTime processedUntil) {
+        this.name = name;
+        this.processedUntil = processedUntil;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LocalDateTime getProcessedUntil() {
+        return processedUntil;
+    }
+
+    public void setProcessedUntil(LocalDateTime processedUntil) {
+        this.processedUntil = processedUntil;
+    }
+}
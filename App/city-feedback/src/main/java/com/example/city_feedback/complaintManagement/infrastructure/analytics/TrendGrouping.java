@@ -0,0 +1,19 @@
+package com.example.city_feedback.complaintManagement.infrastructure.analytics;
+
+/**
+ * How the complaints of a trend are split into series.
+ */
+public enum TrendGrouping {
+    /**
+     * One series with all complaints.
+     */
+    NONE,
+    /**
+     * One series per category.
+     */
+    CATEGORY,
+    /**
+     * One series per postal code.
+     */
+    POSTAL_CODE
+}
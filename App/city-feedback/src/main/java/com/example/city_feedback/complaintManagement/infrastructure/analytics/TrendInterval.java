@@ -0,0 +1,63 @@
+package com.example.city_feedback.complaintManagement.infrastructure.analytics;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * The period length of one point of a complaint trend.
+ */
+public enum TrendInterval {
+    HOUR(RollupGranularity.HOUR),
+    DAY(RollupGranularity.DAY),
+    WEEK(RollupGranularity.DAY),
+    MONTH(RollupGranularity.MONTH),
+    YEAR(RollupGranularity.MONTH);
+
+    private final RollupGranularity coarsestSource;
+
+    TrendInterval(RollupGranularity coarsestSource) {
+        this.coarsestSource = coarsestSource;
+    }
+
+    /**
+     * The coarsest rollup whose buckets never span two periods of this interval.
+     * Weeks cross month boundaries, so they are summed from days.
+     */
+    public RollupGranularity getCoarsestSource() {
+        return coarsestSource;
+    }
+
+    /**
+     * Returns the start of the period containing a time; weeks start on Monday.
+     *
+     * @param time the time
+     * @return the start of its period
+     */
+    public LocalDateTime truncate(LocalDateTime time) {
+        return switch (this) {
+            case HOUR -> time.truncatedTo(ChronoUnit.HOURS);
+            case DAY -> time.truncatedTo(ChronoUnit.DAYS);
+            case WEEK -> time.truncatedTo(ChronoUnit.DAYS).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> time.truncatedTo(ChronoUnit.DAYS).withDayOfMonth(1);
+            case YEAR -> time.truncatedTo(ChronoUnit.DAYS).withDayOfYear(1);
+        };
+    }
+
+    /**
+     * Returns the start of the period following the one starting at the given time.
+     *
+     * @param periodStart the start of a period
+     * @return the start of the next period
+     */
+    public LocalDateTime next(LocalDateTime periodStart) {
+        return switch (this) {
+            case HOUR -> periodStart.plusHours(1);
+            case DAY -> periodStart.plusDays(1);
+            case WEEK -> periodStart.plusWeeks(1);
+            case MONTH -> periodStart.plusMonths(1);
+            case YEAR -> periodStart.plusYears(1);
+        };
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.city_feedback.complaintManagement.infrastructure.deduplication;
+
+import jakarta.persistence.*;
+
+/**
+ * Membership of a complaint in one LSH bucket. Complaints sharing a bucket key are candidate duplicates.
+ */
+@Entity
+@Table(name = "complaint_lsh_buckets", indexes = {
+        @Index(name = "idx_complaint_lsh_buckets_bucket_key", columnList = "bucket_key"),
+        @Index(name = "idx_complaint_lsh_buckets_complaint_id", columnList = "complaint_id")
+})
+public class ComplaintLshBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "complaint_lsh_buckets_seq")
+    @SequenceGenerator(name = "complaint_lsh_buckets_seq", sequenceName = "complaint_lsh_buckets_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "bucket_key", nullable = false)
+    private long bucketKey;
+
+    @Column(name = "complaint_id", nullable = false)
+    private long complaintId;
+
+    public ComplaintLshBucket() {
+        // Default constructor for JPA
+    }
+
+    public ComplaintLshBucket(long bucketKey, long complaintId) {
+        this.bucketKey = bucketKey;
+        this.complaintId = complaintId;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public long getBucketKey() {
+        return bucketKey;
+    }
+
+    public long getComplaintId() {
+        return complaintId;
+    }
+}
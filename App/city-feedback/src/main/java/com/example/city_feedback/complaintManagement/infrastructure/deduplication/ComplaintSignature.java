@@ -0,0 +1,48 @@
+package com.example.city_feedback.complaintManagement.infrastructure.deduplication;
+
+import jakarta.persistence.*;
+
+/**
+ * The MinHash signature of a complaint's title and description, used to confirm LSH candidates.
+ */
+@Entity
+@Table(name = "complaint_signatures")
+public class ComplaintSignature {
+
+    @Id
+    @Column(name = "complaint_id")
+    private Long complaintId;
+
+    @Column(name = "postal_code", nullable = false, length = 5)
+    private String postalCode;
+
+    @Column(name = "signature", nullable = false, length = MinHasher.SIGNATURE_LENGTH * Integer.BYTES)
+    private byte[] signature;
+
+    public ComplaintSignature() {
+        // Default constructor for JPA
+    }
+
+    public ComplaintSignature(Long complaintId, String postalCode, byte[] signature) {
+        this.complaintId = complaintId;
+        this.postalCode = postalCode;
+        this.signature = signature;
+    }
+
+    public Long getComplaintId() {
+        return complaintId;
+    }
+
+    public String getPostalCode() {
+        return postalCode;
+    }
+
+    public byte[] getSignature() {
+        return signature;
+    }
+
+    public void update(String postalCode, byte[] signature) {
+        this.postalCode = postalCode;
+        this.signature = signature;
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.city_feedback.complaintManagement.infrastructure.deduplication;
+
+import com.example.city_feedback.complaintManagement.infrastructure.search.GermanTextAnalyzer;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * MinHash signatures and locality-sensitive hashing (LSH) for complaint texts.
+ *
+ * A text is reduced to its set of shingles: the stemmed terms and pairs of adjacent terms.
+ * The signature holds, for each of {@value #SIGNATURE_LENGTH} hash functions, the smallest hash of any shingle;
+ * the share of equal positions in two signatures estimates the Jaccard similarity of the shingle sets.
+ * The signature is cut into {@value #BANDS} bands of {@value #ROWS_PER_BAND} values, and each band is hashed
+ * together with the postal code into a bucket key. Two texts share a bucket with a probability of
+ * {@code 1 - (1 - s^3)^20} for similarity {@code s}: about 93 % at 0.5 and more than 99.9 % at 0.8.
+ */
+public final class MinHasher {
+
+    public static final int BANDS = 20;
+    public static final int ROWS_PER_BAND = 3;
+    public static final int SIGNATURE_LENGTH = BANDS * ROWS_PER_BAND;
+
+    private static final long PRIME = (1L << 31) - 1;
+    // Stored signatures and bucket keys depend on the coefficients: the seed must never change
+    private static final long SEED = 0x5EED_C0DE_2024L;
+    private static final long[] A = new long[SIGNATURE_LENGTH];
+    private static final long[] B = new long[SIGNATURE_LENGTH];
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            A[i] = 1 + random.nextLong(PRIME - 1);
+            B[i] = random.nextLong(PRIME);
+        }
+    }
+
+    private MinHasher() {
+    }
+
+    /**
+     * Computes the signature of a complaint text.
+     *
+     * @param title       the title
+     * @param description the description
+     * @return the signature, or {@code null} if the text has no terms
+     */
+    public static int[] signature(String title, String description) {
+        Set<Integer> shingles = shingles(title, description);
+        if (shingles.isEmpty()) {
+            return null;
+        }
+        int[] signature = new int[SIGNATURE_LENGTH];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (int shingle : shingles) {
+            long x = Integer.toUnsignedLong(shingle) % PRIME;
+            for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+                int hash = (int) ((A[i] * x + B[i]) % PRIME);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Computes the LSH bucket keys of a signature within a postal code area.
+     *
+     * @param signature  the signature
+     * @param postalCode the postal code of the complaint
+     * @return one key per band
+     */
+    public static long[] bucketKeys(int[] signature, String postalCode) {
+        long[] keys = new long[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            long hash = 31L * postalCode.hashCode() + band;
+            for (int row = 0; row < ROWS_PER_BAND; row++) {
+                hash = 31 * hash + signature[band * ROWS_PER_BAND + row];
+            }
+            keys[band] = mix(hash);
+        }
+        return keys;
+    }
+
+    /**
+     * Estimates the Jaccard similarity of the texts behind two signatures.
+     *
+     * @param first  the first signature
+     * @param second the second signature
+     * @return the share of equal positions, {@code 0..1}
+     */
+    public static double similarity(int[] first, int[] second) {
+        int equal = 0;
+        for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+            if (first[i] == second[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / SIGNATURE_LENGTH;
+    }
+
+    public static byte[] encode(int[] signature) {
+        ByteBuffer buffer = ByteBuffer.allocate(SIGNATURE_LENGTH * Integer.BYTES);
+        buffer.asIntBuffer().put(signature);
+        return buffer.array();
+    }
+
+    public static int[] decode(byte[] bytes) {
+        int[] signature = new int[SIGNATURE_LENGTH];
+        ByteBuffer.wrap(bytes).asIntBuffer().get(signature);
+        return signature;
+    }
+
+    private static Set<Integer> shingles(String title, String description) {
+        List<String> terms = GermanTextAnalyzer.analyze(title);
+        terms.addAll(GermanTextAnalyzer.analyze(description));
+        Set<Integer> shingles = new HashSet<>();
+        for (int i = 0; i < terms.size(); i++) {
+            shingles.add(terms.get(i).hashCode());
+            if (i > 0) {
+                shingles.add((terms.get(i - 1) + ' ' + terms.get(i)).hashCode());
+            }
+        }
+        return shingles;
+    }
+
+    /**
+     * Finalizer of MurmurHash3, spreading the bits of the band hash over the whole key.
+     */
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.city_feedback.complaintManagement.infrastructure.exporting;
+
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintExportRow;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes export rows one at a time to an output stream, as CSV with a header row or as NDJSON.
+ * Output is buffered; {@link #flush()} pushes the buffered rows to the client.
+ */
+public abstract class ComplaintExportWriter implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    static final String[] COLUMNS = {
+            "id", "title", "description", "street", "houseNumber", "postalCode", "city", "categoryId", "category", "status", "createdAt"
+    };
+
+    /**
+     * Creates a writer for the given format.
+     *
+     * @param format       the format to write
+     * @param output       the target stream, closed together with the writer
+     * @param objectMapper the mapper used for NDJSON
+     * @return the writer
+     * @throws IOException if the header cannot be written
+     */
+    public static ComplaintExportWriter create(ExportFormat format, OutputStream output, ObjectMapper objectMapper) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), BUFFER_SIZE);
+        return switch (format) {
+            case CSV -> new Csv(writer);
+            case NDJSON -> new Ndjson(writer, objectMapper);
+        };
+    }
+
+    /**
+     * Writes one row.
+     *
+     * @param row the row
+     * @throws IOException if writing fails, e.g. because the client went away
+     */
+    public abstract void write(ComplaintExportRow row) throws IOException;
+
+    public abstract void flush() throws IOException;
+
+    private static final class Csv extends ComplaintExportWriter {
+        private final Writer writer;
+
+        private Csv(Writer writer) throws IOException {
+            this.writer = writer;
+            writer.write(String.join(",", COLUMNS));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(ComplaintExportRow row) throws IOException {
+            field(row.getId());
+            field(row.getTitle());
+            field(row.getDescription());
+            field(row.getStreet());
+            field(row.getHouseNumber());
+            field(row.getPostalCode());
+            field(row.getCity());
+            field(row.getCategoryId());
+            field(row.getCategory());
+            field(row.getStatus());
+            writer.write(row.getCreatedAt() != null ? row.getCreatedAt().toString() : "");
+            writer.write("\r\n");
+        }
+
+        private void field(Object value) throws IOException {
+            if (value != null) {
+                writer.write(quote(value.toString()));
+            }
+            writer.write(',');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.close();
+        }
+    }
+
+    /**
+     * Quotes a CSV value if it contains a delimiter, quote or line break (RFC 4180).
+     */
+    static String quote(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r' || c == ';') {
+                return '"' + value.replace("\"", "\"\"") + '"';
+            }
+        }
+        return value;
+    }
+
+    private static final class Ndjson extends ComplaintExportWriter {
+        private final Writer writer;
+        private final JsonGenerator generator;
+
+        private Ndjson(Writer writer, ObjectMapper objectMapper) throws IOException {
+            this.writer = writer;
+            this.generator = objectMapper.getFactory().createGenerator(writer);
+            // Rows are separated by the line breaks written below, not by Jackson's default space
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(ComplaintExportRow row) throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("id", row.getId());
+            generator.writeStringField("title", row.getTitle());
+            generator.writeStringField("description", row.getDescription());
+            generator.writeStringField("street", row.getStreet());
+            generator.writeStringField("houseNumber", row.getHouseNumber());
+            generator.writeStringField("postalCode", row.getPostalCode());
+            generator.writeStringField("city", row.getCity());
+            if (row.getCategoryId() != null) {
+                generator.writeNumberField("categoryId", row.getCategoryId());
+            } else {
+                generator.writeNullField("categoryId");
+            }
+            generator.writeStringField("category", row.getCategory());
+            generator.writeStringField("status", row.getStatus());
+            generator.writeStringField("createdAt", row.getCreatedAt() != null ? row.getCreatedAt().toString() : null);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+            writer.close();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.city_feedback.complaintManagement.infrastructure.exporting;
+
+import java.util.Locale;
+
+/**
+ * File formats written by the complaint export.
+ */
+public enum ExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Parses a format name, ignoring case.
+     *
+     * @param format the name, e.g. {@code csv}
+     * @return the format
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    public static ExportFormat parse(String format) {
+        try {
+            return valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("Unbekanntes Exportformat: " + format);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.city_feedback.complaintManagement.infrastructure.geocoding;
+
+import jakarta.persistence.*;
+
+/**
+ * Row of the offline geocoding table.
+ * A row with a house number locates one building, a row without one the middle of a street,
+ * and a row without street the centroid of a postal code area.
+ */
+@Entity
+@Table(name = "geocoded_addresses", indexes = {
+        @Index(name = "idx_geocoded_addresses_postal_code_street", columnList = "postal_code, street_key")
+})
+public class GeocodedAddress {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "postal_code", nullable = false, length = 5)
+    private String postalCode;
+
+    /**
+     * Street name normalized by {@link OfflineGeocoder#streetKey(String)}; {@code null} for postal code centroids.
+     */
+    @Column(name = "street_key")
+    private String streetKey;
+
+    /**
+     * House number in lower case; {@code null} for streets and postal code centroids.
+     */
+    @Column(name = "house_number")
+    private String houseNumber;
+
+    @Column(name = "latitude", nullable = false)
+    private double latitude;
+
+    @Column(name = "longitude", nullable = false)
+    private double longitude;
+
+    public GeocodedAddress() {
+        // Default constructor for JPA
+    }
+
+    public GeocodedAddress(String postalCode, String streetKey, String houseNumber, double latitude, double longitude) {
+        this.postalCode = postalCode;
+        this.streetKey = streetKey;
+        this.houseNumber = houseNumber;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getPostalCode() {
+        return postalCode;
+    }
+
+    public String getStreetKey() {
+        return streetKey;
+    }
+
+    public String getHouseNumber() {
+        return houseNumber;
+    }
+
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+}
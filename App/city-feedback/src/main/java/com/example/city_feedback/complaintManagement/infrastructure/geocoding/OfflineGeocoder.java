@@ -0,0 +1,74 @@
+package com.example.city_feedback.complaintManagement.infrastructure.geocoding;
+
+import com.example.city_feedback.complaintManagement.domain.valueObjects.Coordinates;
+import com.example.city_feedback.complaintManagement.domain.valueObjects.Location;
+import com.example.city_feedback.complaintManagement.infrastructure.repositories.GeocodedAddressRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Looks up the coordinates of an address in the local {@code geocoded_addresses} table, without any external service.
+ * The most precise entry wins: the building, then the street, then the postal code area.
+ */
+@Component
+public class OfflineGeocoder {
+
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]");
+
+    private final GeocodedAddressRepository geocodedAddressRepository;
+
+    public OfflineGeocoder(GeocodedAddressRepository geocodedAddressRepository) {
+        this.geocodedAddressRepository = geocodedAddressRepository;
+    }
+
+    /**
+     * Geocodes a validated address.
+     *
+     * @param address the address
+     * @return the coordinates, or empty if neither street nor postal code are known
+     */
+    public Optional<Coordinates> geocode(Location address) {
+        String streetKey = streetKey(address.getStreet());
+        String houseNumber = address.getHouseNumber().toLowerCase(Locale.GERMAN);
+        List<GeocodedAddress> candidates = geocodedAddressRepository.findCandidates(address.getPostalCode(), streetKey);
+
+        GeocodedAddress best = null;
+        int bestPrecision = -1;
+        for (GeocodedAddress candidate : candidates) {
+            int precision = precision(candidate, houseNumber);
+            if (precision > bestPrecision) {
+                best = candidate;
+                bestPrecision = precision;
+            }
+        }
+        return best != null
+                ? Optional.of(new Coordinates(best.getLatitude(), best.getLongitude()))
+                : Optional.empty();
+    }
+
+    private static int precision(GeocodedAddress candidate, String houseNumber) {
+        if (candidate.getStreetKey() == null) {
+            return 0;
+        }
+        if (candidate.getHouseNumber() == null) {
+            return 1;
+        }
+        return candidate.getHouseNumber().equals(houseNumber) ? 2 : -1;
+    }
+
+    /**
+     * Normalizes a street name, so spelling variants share a key: "Hauptstraße", "Haupt-Straße" and
+     * "Hauptstr." all become "hauptstrasse". The geocoding table must store its street names in this form.
+     *
+     * @param street the street name
+     * @return the normalized key
+     */
+    public static String streetKey(String street) {
+        String key = NON_ALPHANUMERIC.matcher(street.toLowerCase(Locale.GERMAN).replace("ß", "ss")).replaceAll("");
+        return key.endsWith("str") ? key + "asse" : key;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.city_feedback.complaintManagement.infrastructure.importing;
+
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintImportRow;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads complaints from an import file one row at a time, so files of any size are read in constant memory.
+ */
+public interface ComplaintImportReader extends Closeable {
+
+    /**
+     * Reads the next row.
+     *
+     * @return the row, or {@code null} at the end of the file
+     * @throws IllegalArgumentException if the row is malformed; the row is skipped and reading can continue
+     * @throws IOException              if the file cannot be read
+     */
+    ComplaintImportRow next() throws IOException;
+
+    /**
+     * Line of the file the row returned (or rejected) last starts on, counting from 1.
+     */
+    long getLineNumber();
+}
@@ -0,0 +1,44 @@
+package com.example.city_feedback.complaintManagement.infrastructure.importing;
+
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintImportRow;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Opens a {@link ComplaintImportReader} for an uploaded file. Input is expected in UTF-8.
+ */
+@Component
+public class ComplaintImportReaderFactory {
+
+    private final ObjectReader rowReader;
+
+    public ComplaintImportReaderFactory(ObjectMapper objectMapper) {
+        this.rowReader = objectMapper.readerFor(ComplaintImportRow.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    /**
+     * Opens a reader for the given input.
+     *
+     * @param format the format of the input
+     * @param input  the input, closed together with the reader
+     * @return the reader
+     * @throws IllegalArgumentException if the CSV header is missing or incomplete
+     * @throws IOException              if the input cannot be read
+     */
+    public ComplaintImportReader open(ImportFormat format, InputStream input) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        return switch (format) {
+            case CSV -> new CsvComplaintImportReader(reader);
+            case NDJSON -> new NdjsonComplaintImportReader(reader, rowReader);
+        };
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.city_feedback.complaintManagement.infrastructure.importing;
+
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintImportRow;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Streams complaints from CSV with a header row (RFC 4180 quoting, fields may span lines).
+ * Columns are matched by name, ignoring case, underscores and hyphens; the delimiter is a comma,
+ * or a semicolon if the header contains semicolons but no commas.
+ */
+class CsvComplaintImportReader implements ComplaintImportReader {
+
+    /**
+     * Longest accepted field; longer fields reject the row instead of growing the buffer without bound.
+     */
+    static final int MAX_FIELD_LENGTH = 10_000;
+    private static final int MAX_HEADER_LENGTH = 64 * 1024;
+
+    private static final Map<String, BiConsumer<ComplaintImportRow, String>> COLUMNS = Map.of(
+            "title", ComplaintImportRow::setTitle,
+            "description", ComplaintImportRow::setDescription,
+            "street", ComplaintImportRow::setStreet,
+            "housenumber", ComplaintImportRow::setHouseNumber,
+            "postalcode", ComplaintImportRow::setPostalCode,
+            "city", ComplaintImportRow::setCity,
+            "categoryid", (row, value) -> row.setCategoryId(parseCategoryId(value)),
+            "category", ComplaintImportRow::setCategory);
+
+    private final BufferedReader reader;
+    private final List<BiConsumer<ComplaintImportRow, String>> setters = new ArrayList<>();
+    private char delimiter = ',';
+    private long currentLine = 1;
+    private long recordLine;
+
+    CsvComplaintImportReader(BufferedReader reader) throws IOException {
+        this.reader = reader;
+        readHeader();
+    }
+
+    @Override
+    public ComplaintImportRow next() throws IOException {
+        List<String> fields;
+        do {
+            fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isBlank());
+
+        if (fields.size() != setters.size()) {
+            throw new IllegalArgumentException("Erwartet " + setters.size() + " Spalten, gefunden " + fields.size() + ".");
+        }
+        ComplaintImportRow row = new ComplaintImportRow();
+        for (int i = 0; i < fields.size(); i++) {
+            BiConsumer<ComplaintImportRow, String> setter = setters.get(i);
+            if (setter != null && !fields.get(i).isEmpty()) {
+                setter.accept(row, fields.get(i));
+            }
+        }
+        return row;
+    }
+
+    @Override
+    public long getLineNumber() {
+        return recordLine;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readHeader() throws IOException {
+        reader.mark(MAX_HEADER_LENGTH);
+        String firstLine = reader.readLine();
+        if (firstLine == null) {
+            throw new IllegalArgumentException("Die Datei ist leer.");
+        }
+        if (firstLine.indexOf(';') >= 0 && firstLine.indexOf(',') < 0) {
+            delimiter = ';';
+        }
+        reader.reset();
+
+        List<String> header = readRecord();
+        Map<String, Integer> seen = new HashMap<>();
+        for (String column : header) {
+            // A byte order mark written by spreadsheet tools is not part of the first column name
+            String key = column.trim().toLowerCase(Locale.ROOT).replace("_", "").replace("-", "").replace(" ", "");
+            if (key.startsWith("\uFEFF")) {
+                key = key.substring(1);
+            }
+            setters.add(COLUMNS.get(key));
+            seen.put(key, setters.size() - 1);
+        }
+        for (String required : List.of("title", "description", "street", "housenumber", "postalcode", "city")) {
+            if (!seen.containsKey(required)) {
+                throw new IllegalArgumentException("Spalte " + required + " fehlt in der Kopfzeile.");
+            }
+        }
+        if (!seen.containsKey("categoryid") && !seen.containsKey("category")) {
+            throw new IllegalArgumentException("Spalte categoryId oder category fehlt in der Kopfzeile.");
+        }
+    }
+
+    /**
+     * Reads one record, or returns {@code null} at the end of the input.
+     */
+    private List<String> readRecord() throws IOException {
+        recordLine = currentLine;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean inQuotes = false;
+        boolean tooLong = false;
+        boolean any = false;
+        int c;
+        while ((c = reader.read()) != -1) {
+            any = true;
+            if (inQuotes) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        c = '"';
+                    } else {
+                        inQuotes = false;
+                        if (next != -1) {
+                            reader.reset();
+                        }
+                        continue;
+                    }
+                } else if (c == '\n') {
+                    currentLine++;
+                }
+            } else if (c == '"' && field.length() == 0) {
+                inQuotes = true;
+                continue;
+            } else if (c == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+                continue;
+            } else if (c == '\r') {
+                continue;
+            } else if (c == '\n') {
+                currentLine++;
+                break;
+            }
+            if (field.length() < MAX_FIELD_LENGTH) {
+                field.append((char) c);
+            } else {
+                tooLong = true;
+            }
+        }
+        if (!any) {
+            return null;
+        }
+        if (inQuotes) {
+            throw new IllegalArgumentException("Anführungszeichen wird nicht geschlossen.");
+        }
+        if (tooLong) {
+            throw new IllegalArgumentException("Feld ist länger als " + MAX_FIELD_LENGTH + " Zeichen.");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static Integer parseCategoryId(String value) {
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Ungültige Kategorie ID: " + value);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.city_feedback.complaintManagement.infrastructure.importing;
+
+import java.util.Locale;
+
+/**
+ * File formats accepted by the complaint import.
+ */
+public enum ImportFormat {
+    /**
+     * Comma or semicolon separated values with a header row.
+     */
+    CSV,
+    /**
+     * One JSON object per line.
+     */
+    NDJSON;
+
+    /**
+     * Determines the format from an explicit parameter, or else from the file name and content type.
+     *
+     * @param format      the requested format, may be {@code null}
+     * @param fileName    the name of the uploaded file, may be {@code null}
+     * @param contentType the content type of the upload, may be {@code null}
+     * @return the format
+     * @throws IllegalArgumentException if the format cannot be determined
+     */
+    public static ImportFormat detect(String format, String fileName, String contentType) {
+        if (format != null && !format.isBlank()) {
+            try {
+                return valueOf(format.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unbekanntes Importformat: " + format);
+            }
+        }
+        String name = fileName != null ? fileName.toLowerCase(Locale.ROOT) : "";
+        String type = contentType != null ? contentType.toLowerCase(Locale.ROOT) : "";
+        if (name.endsWith(".csv") || type.startsWith("text/csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl") || type.contains("ndjson")) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("Importformat nicht erkannt, bitte CSV oder NDJSON angeben.");
+    }
+}
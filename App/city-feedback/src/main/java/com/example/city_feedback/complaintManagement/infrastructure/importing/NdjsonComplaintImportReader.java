@@ -0,0 +1,52 @@
+package com.example.city_feedback.complaintManagement.infrastructure.importing;
+
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintImportRow;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * Streams complaints from newline-delimited JSON, one object per line.
+ * Each line is parsed on its own, so a malformed line rejects only that row.
+ */
+class NdjsonComplaintImportReader implements ComplaintImportReader {
+
+    private final BufferedReader reader;
+    private final ObjectReader rowReader;
+    private long lineNumber;
+
+    NdjsonComplaintImportReader(BufferedReader reader, ObjectReader rowReader) {
+        this.reader = reader;
+        this.rowReader = rowReader;
+    }
+
+    @Override
+    public ComplaintImportRow next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (line.isBlank());
+
+        try {
+            return rowReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Ungültiges JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
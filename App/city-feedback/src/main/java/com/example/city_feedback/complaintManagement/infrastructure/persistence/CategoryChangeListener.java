@@ -0,0 +1,28 @@
+package com.example.city_feedback.complaintManagement.infrastructure.persistence;
+
+import com.example.city_feedback.complaintManagement.domain.events.CategoryChangedEvent;
+import com.example.city_feedback.complaintManagement.domain.models.Category;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * JPA entity listener that publishes a {@link CategoryChangedEvent} whenever a category is written.
+ * Hibernate obtains the listener from the Spring bean factory, so the publisher is injected.
+ */
+public class CategoryChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CategoryChangeListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onCategoryChanged(Category category) {
+        eventPublisher.publishEvent(new CategoryChangedEvent(category.getId()));
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.city_feedback.complaintManagement.infrastructure.persistence;
+
+import com.example.city_feedback.complaintManagement.domain.events.ComplaintChangedEvent;
+import com.example.city_feedback.complaintManagement.domain.models.Complaint;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * JPA entity listener that publishes a {@link ComplaintChangedEvent} whenever a complaint is written.
+ * Status changes issued as bulk HQL updates bypass it; they do not touch the searchable text.
+ */
+public class ComplaintChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ComplaintChangeListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onComplaintSaved(Complaint complaint) {
+        eventPublisher.publishEvent(new ComplaintChangedEvent(
+                complaint.getId(), complaint.getCreatorId(), complaint.getTitle(), complaint.getDescription(), false));
+    }
+
+    @PostRemove
+    public void onComplaintRemoved(Complaint complaint) {
+        eventPublisher.publishEvent(new ComplaintChangedEvent(
+                complaint.getId(), complaint.getCreatorId(), null, null, true));
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.city_feedback.complaintManagement.infrastructure.persistence;
+
+import com.example.city_feedback.complaintManagement.domain.valueObjects.Location;
+import com.example.city_feedback.complaintManagement.infrastructure.geocoding.OfflineGeocoder;
+import com.example.city_feedback.complaintManagement.infrastructure.repositories.LocationRepository;
+import com.example.city_feedback.shared.infrastructure.metrics.MetricsRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Resolves addresses to persisted {@link Location} rows, creating them on first use.
+ * Resolved locations are kept in a bounded LRU cache keyed by the normalized address,
+ * so repeated submissions for the same address do not query the database.
+ *
+ * New locations are geocoded with the {@link OfflineGeocoder} before they are stored.
+ * Locations are never changed or deleted by the application, so cached instances stay valid;
+ * they are detached and only used as the target of a complaint's location reference.
+ */
+@Component
+public class LocationResolver {
+    static final int DEFAULT_CAPACITY = 10_000;
+
+    private final LocationRepository locationRepository;
+    private final OfflineGeocoder geocoder;
+    private final TransactionTemplate insertTransaction;
+    private final LongAdder cacheHits;
+    private final LongAdder cacheMisses;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<List<String>, Location> cache;
+
+    @Autowired
+    public LocationResolver(LocationRepository locationRepository,
+                            OfflineGeocoder geocoder,
+                            PlatformTransactionManager transactionManager,
+                            MetricsRegistry metricsRegistry) {
+        this(locationRepository, geocoder, transactionManager, metricsRegistry, DEFAULT_CAPACITY);
+    }
+
+    LocationResolver(LocationRepository locationRepository,
+                     OfflineGeocoder geocoder,
+                     PlatformTransactionManager transactionManager,
+                     MetricsRegistry metricsRegistry,
+                     int capacity) {
+        this.locationRepository = locationRepository;
+        this.geocoder = geocoder;
+        this.insertTransaction = new TransactionTemplate(transactionManager);
+        this.insertTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.cacheHits = metricsRegistry.counter("locations.cache.hit");
+        this.cacheMisses = metricsRegistry.counter("locations.cache.miss");
+        this.cache = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<List<String>, Location> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the persisted location with the same address as the given (validated, not yet persisted) one.
+     * If there is none, it is inserted in a separate transaction. When a concurrent request inserts the
+     * same address first, the unique constraint rejects the second insert and the winner's row is used,
+     * so the caller's transaction is never affected by the conflict.
+     *
+     * @param address the validated address
+     * @return the persisted location for this address
+     */
+    public Location resolve(Location address) {
+        List<String> key = List.of(address.getStreet(), address.getHouseNumber(), address.getPostalCode(), address.getCity());
+
+        Location cached = get(key);
+        if (cached != null) {
+            cacheHits.increment();
+            return cached;
+        }
+        cacheMisses.increment();
+
+        Location location = find(address).orElseGet(() -> insert(address));
+        put(key, location);
+        return location;
+    }
+
+    private Location insert(Location address) {
+        Location location = new Location(address.getStreet(), address.getHouseNumber(), address.getPostalCode(), address.getCity());
+        geocoder.geocode(address).ifPresent(location::setCoordinates);
+        try {
+            return insertTransaction.execute(status -> locationRepository.saveAndFlush(location));
+        } catch (DataIntegrityViolationException e) {
+            // Inserted concurrently by another request; its row is committed by now
+            return find(address).orElseThrow(() -> e);
+        }
+    }
+
+    private Optional<Location> find(Location address) {
+        return locationRepository.findByStreetAndHouseNumberAndPostalCodeAndCity(
+                address.getStreet(), address.getHouseNumber(), address.getPostalCode(), address.getCity());
+    }
+
+    private Location get(List<String> key) {
+        lock.lock();
+        try {
+            return cache.get(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void put(List<String> key, Location location) {
+        lock.lock();
+        try {
+            cache.put(key, location);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -1,10 +1,28 @@
 package com.example.city_feedback.complaintManagement.infrastructure.repositories;
 
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintDimensions;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintDto;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintExportRow;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintSearchDocument;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintText;
+import com.example.city_feedback.complaintManagement.application.dto.NearbyComplaint;
 import com.example.city_feedback.complaintManagement.domain.models.Complaint;
+import com.example.city_feedback.complaintManagement.domain.valueObjects.Coordinates;
+import com.example.city_feedback.complaintManagement.domain.valueObjects.Location;
+import com.example.city_feedback.progressManagement.domain.valueObjects.ComplaintStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing Complaint entities.
@@ -32,4 +50,227 @@ public interface ComplaintRepository extends JpaRepository<Complaint, Long> {
     List<Complaint> findByUser_Id(long l);
 
     List<Complaint> findByCreatorId(long attr0);
+
+    /**
+     * JPQL select clause projecting a complaint with its location and category straight into a {@link ComplaintDto}.
+     * Location and category are joined in the same statement, so no entity is hydrated and no lazy load is triggered.
+     */
+    String DTO_PROJECTION = "SELECT new com.example.city_feedback.complaintManagement.application.dto.ComplaintDto(" +
+            "c.id, c.title, c.description, l.street, l.houseNumber, l.postalCode, l.city, c.createdAt, cat.id, cat.name, " +
+            // Rows from before the version column was introduced count as version 0
+            "COALESCE(c.version, 0L)) " +
+            "FROM Complaint c LEFT JOIN c.location l LEFT JOIN c.category cat ";
+
+    /**
+     * Keyset condition selecting the rows after the (createdAt, id) position of the previous page.
+     */
+    String AFTER_CURSOR = "(c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) ";
+
+    String NEWEST_FIRST = "ORDER BY c.createdAt DESC, c.id DESC";
+
+    /**
+     * Loads the first page of all complaints, newest first.
+     *
+     * @param limit the page request limiting the number of rows
+     * @return the newest complaints
+     */
+    @Query(DTO_PROJECTION + NEWEST_FIRST)
+    List<ComplaintDto> findFirstPage(Pageable limit);
+
+    /**
+     * Loads the page of all complaints following the given keyset position, newest first.
+     *
+     * @param createdAt the creation timestamp of the last complaint on the previous page
+     * @param id        the ID of the last complaint on the previous page
+     * @param limit     the page request limiting the number of rows
+     * @return the complaints older than the given position
+     */
+    @Query(DTO_PROJECTION + "WHERE " + AFTER_CURSOR + NEWEST_FIRST)
+    List<ComplaintDto> findPageAfter(LocalDateTime createdAt, Long id, Pageable limit);
+
+    /**
+     * Loads the first page of the complaints created by the given user, newest first.
+     * Filters on the creator column, so the users table is not joined.
+     *
+     * @param creatorId the ID of the user
+     * @param limit     the page request limiting the number of rows
+     * @return the newest complaints of the user
+     */
+    @Query(DTO_PROJECTION + "WHERE c.creatorId = :creatorId " + NEWEST_FIRST)
+    List<ComplaintDto> findFirstPageByCreatorId(Long creatorId, Pageable limit);
+
+    /**
+     * Loads the page of the user's complaints following the given keyset position, newest first.
+     *
+     * @param creatorId the ID of the user
+     * @param createdAt the creation timestamp of the last complaint on the previous page
+     * @param id        the ID of the last complaint on the previous page
+     * @param limit     the page request limiting the number of rows
+     * @return the user's complaints older than the given position
+     */
+    @Query(DTO_PROJECTION + "WHERE c.creatorId = :creatorId AND " + AFTER_CURSOR + NEWEST_FIRST)
+    List<ComplaintDto> findPageByCreatorIdAfter(Long creatorId, LocalDateTime createdAt, Long id, Pageable limit);
+
+    /**
+     * JPQL select clause projecting a complaint into a flat {@link ComplaintExportRow}.
+     */
+    String EXPORT_PROJECTION = "SELECT new com.example.city_feedback.complaintManagement.application.dto.ComplaintExportRow(" +
+            "c.id, c.title, c.description, l.street, l.houseNumber, l.postalCode, l.city, cat.id, cat.name, c.status, c.createdAt) " +
+            "FROM Complaint c LEFT JOIN c.location l LEFT JOIN c.category cat ";
+
+    /**
+     * Rows fetched per round trip while streaming an export. On PostgreSQL a fetch size inside a
+     * transaction makes the driver use a server-side cursor instead of loading the whole result.
+     */
+    String EXPORT_FETCH_SIZE = "500";
+
+    /**
+     * Streams all complaints in ID order for an export. Must be consumed inside a transaction and closed.
+     *
+     * @return the complaints as export rows
+     */
+    @Query(EXPORT_PROJECTION + "ORDER BY c.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    Stream<ComplaintExportRow> streamAllForExport();
+
+    /**
+     * Streams the complaints of one user in ID order for an export. Must be consumed inside a transaction and closed.
+     *
+     * @param creatorId the ID of the user
+     * @return the user's complaints as export rows
+     */
+    @Query(EXPORT_PROJECTION + "WHERE c.creatorId = :creatorId ORDER BY c.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    Stream<ComplaintExportRow> streamForExportByCreatorId(Long creatorId);
+
+    /**
+     * Loads the given complaints as DTOs, in no particular order.
+     *
+     * @param ids the IDs of the complaints
+     * @return the complaints that still exist
+     */
+    @Query(DTO_PROJECTION + "WHERE c.id IN :ids")
+    List<ComplaintDto> findDtosByIds(Collection<Long> ids);
+
+    /**
+     * Loads a complaint as DTO, with its location and category joined in the same statement.
+     *
+     * @param id the ID of the complaint
+     * @return the complaint, or empty if it does not exist
+     */
+    @Query(DTO_PROJECTION + "WHERE c.id = :id")
+    Optional<ComplaintDto> findDtoById(Long id);
+
+    /**
+     * Loads when a complaint was last modified, without loading the complaint.
+     *
+     * @param id the ID of the complaint
+     * @return the modification time, or empty if the complaint does not exist
+     */
+    @Query("SELECT c.updatedAt FROM Complaint c WHERE c.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(Long id);
+
+    /**
+     * Loads the ID of the user who created a complaint, without loading the complaint.
+     *
+     * @param id the ID of the complaint
+     * @return the ID of the creator, or empty if the complaint does not exist
+     */
+    @Query("SELECT c.creatorId FROM Complaint c WHERE c.id = :id")
+    Optional<Long> findCreatorIdById(Long id);
+
+    /**
+     * Loads the attributes the statistics count the given complaints by, in no particular order.
+     *
+     * @param ids the IDs of the complaints
+     * @return the dimensions of the complaints that still exist
+     */
+    @Query("SELECT new com.example.city_feedback.complaintManagement.application.dto.ComplaintDimensions(" +
+            "c.id, cat.id, l.postalCode, c.createdAt) " +
+            "FROM Complaint c LEFT JOIN c.location l LEFT JOIN c.category cat WHERE c.id IN :ids")
+    List<ComplaintDimensions> findDimensionsByIds(Collection<Long> ids);
+
+    /**
+     * Streams the searchable fields of all complaints for building the in-memory search index.
+     * Must be consumed inside a transaction and closed.
+     *
+     * @return the search documents of all complaints
+     */
+    @Query("SELECT new com.example.city_feedback.complaintManagement.application.dto.ComplaintSearchDocument(" +
+            "c.id, c.creatorId, c.title, c.description) FROM Complaint c ORDER BY c.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+    Stream<ComplaintSearchDocument> streamSearchDocuments();
+
+    /**
+     * Loads the next complaints without a duplicate detection signature, in ID order.
+     *
+     * @param afterId the ID after which to continue, {@code 0} for the first page
+     * @param limit   the page request limiting the number of complaints
+     * @return the text and postal code of the complaints
+     */
+    @Query("SELECT new com.example.city_feedback.complaintManagement.application.dto.ComplaintText(" +
+            "c.id, l.postalCode, c.title, c.description) FROM Complaint c JOIN c.location l " +
+            "WHERE c.id > :afterId AND NOT EXISTS " +
+            "(SELECT s.complaintId FROM ComplaintSignature s WHERE s.complaintId = c.id) ORDER BY c.id")
+    List<ComplaintText> findUnsignedAfter(long afterId, Pageable limit);
+
+    /**
+     * Distance in meters between a complaint location and the parameters {@code :latitude}/{@code :longitude},
+     * on an equirectangular projection; {@code :metersPerDegreeLongitude} depends on the latitude.
+     */
+    String DISTANCE = "sqrt(power((l.latitude - :latitude) * " + Coordinates.METERS_PER_DEGREE_LATITUDE + ", 2) " +
+            "+ power((l.longitude - :longitude) * :metersPerDegreeLongitude, 2))";
+
+    /**
+     * JPQL select clause for nearby queries. Locations are narrowed down by the indexed grid cell first,
+     * so the distance is only computed for the few complaints in the cells around the position.
+     */
+    String NEARBY_PROJECTION = "SELECT new com.example.city_feedback.complaintManagement.application.dto.NearbyComplaint(" +
+            "c.id, c.title, c.status, cat.name, l.street, l.houseNumber, l.postalCode, l.city, c.createdAt, " + DISTANCE + ") " +
+            "FROM Complaint c JOIN c.location l LEFT JOIN c.category cat " +
+            "WHERE l.gridCell IN :cells AND " + DISTANCE + " <= :radiusMeters ";
+
+    String NEAREST_FIRST = "ORDER BY " + DISTANCE + ", c.id DESC";
+
+    /**
+     * Loads the location of a complaint.
+     *
+     * @param complaintId the ID of the complaint
+     * @return the location, or empty if the complaint does not exist
+     */
+    @Query("SELECT l FROM Complaint c JOIN c.location l WHERE c.id = :complaintId")
+    Optional<Location> findLocationByComplaintId(Long complaintId);
+
+    /**
+     * Loads the complaints within a radius, nearest first.
+     *
+     * @param cells                    the grid cells covering the radius
+     * @param latitude                 the latitude of the center
+     * @param longitude                the longitude of the center
+     * @param metersPerDegreeLongitude the length of one degree of longitude at the center
+     * @param radiusMeters             the radius in meters
+     * @param limit                    the page request limiting the number of rows
+     * @return the complaints within the radius
+     */
+    @Query(NEARBY_PROJECTION + NEAREST_FIRST)
+    List<NearbyComplaint> findNearby(Collection<Long> cells, double latitude, double longitude,
+                                     double metersPerDegreeLongitude, double radiusMeters, Pageable limit);
+
+    /**
+     * Loads the complaints of one category within a radius that are not in the given status, nearest first.
+     *
+     * @param cells                    the grid cells covering the radius
+     * @param latitude                 the latitude of the center
+     * @param longitude                the longitude of the center
+     * @param metersPerDegreeLongitude the length of one degree of longitude at the center
+     * @param radiusMeters             the radius in meters
+     * @param categoryId               the ID of the category
+     * @param excludedStatus           the status of complaints to leave out
+     * @param limit                    the page request limiting the number of rows
+     * @return the matching complaints within the radius
+     */
+    @Query(NEARBY_PROJECTION + "AND cat.id = :categoryId AND c.status <> :excludedStatus " + NEAREST_FIRST)
+    List<NearbyComplaint> findNearbyInCategory(Collection<Long> cells, double latitude, double longitude,
+                                               double metersPerDegreeLongitude, double radiusMeters,
+                                               Integer categoryId, ComplaintStatus excludedStatus, Pageable limit);
 }
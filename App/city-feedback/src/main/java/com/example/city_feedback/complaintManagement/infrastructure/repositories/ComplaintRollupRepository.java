@@ -0,0 +1,161 @@
+package com.example.city_feedback.complaintManagement.infrastructure.repositories;
+
+import com.example.city_feedback.complaintManagement.infrastructure.analytics.ComplaintRollup;
+import com.example.city_feedback.complaintManagement.infrastructure.analytics.RollupGranularity;
+import com.example.city_feedback.complaintManagement.infrastructure.analytics.RollupWatermark;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Persistence of the complaint rollups in {@code complaint_rollups} and of their watermarks.
+ */
+@Repository
+public class ComplaintRollupRepository {
+
+    private final EntityManager entityManager;
+
+    public ComplaintRollupRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Reads how far a rollup has processed the complaints.
+     *
+     * @param name the name of the rollup
+     * @return the watermark, or empty if the rollup has never run
+     */
+    public Optional<LocalDateTime> findWatermark(String name) {
+        RollupWatermark watermark = entityManager.find(RollupWatermark.class, name);
+        return Optional.ofNullable(watermark).map(RollupWatermark::getProcessedUntil);
+    }
+
+    /**
+     * Stores how far a rollup has processed the complaints.
+     *
+     * @param name           the name of the rollup
+     * @param processedUntil the new watermark
+     */
+    public void saveWatermark(String name, LocalDateTime processedUntil) {
+        RollupWatermark watermark = entityManager.find(RollupWatermark.class, name);
+        if (watermark != null) {
+            watermark.setProcessedUntil(processedUntil);
+        } else {
+            entityManager.persist(new RollupWatermark(name, processedUntil));
+        }
+    }
+
+    /**
+     * Finds the creation time of the oldest complaint.
+     *
+     * @return the creation time, or empty if there are no complaints
+     */
+    public Optional<LocalDateTime> findEarliestCreatedAt() {
+        return Optional.ofNullable(entityManager.createQuery("SELECT min(c.createdAt) FROM Complaint c", LocalDateTime.class)
+                .getSingleResult());
+    }
+
+    /**
+     * Counts the complaints created in a period per hour, category and postal code, straight from the complaints table.
+     * The result rows are not managed.
+     *
+     * @param from       the start of the period, inclusive
+     * @param to         the end of the period, exclusive
+     * @param categoryId only count this category, or {@code null} for all
+     * @param postalCode only count this postal code, or {@code null} for all
+     * @return one hourly rollup row per hour, category and postal code with complaints
+     */
+    public List<ComplaintRollup> countHourly(LocalDateTime from, LocalDateTime to, Integer categoryId, String postalCode) {
+        StringBuilder jpql = new StringBuilder(
+                "SELECT year(c.createdAt), month(c.createdAt), day(c.createdAt), hour(c.createdAt), cat.id, l.postalCode, count(c) " +
+                "FROM Complaint c JOIN c.category cat JOIN c.location l " +
+                "WHERE c.createdAt >= :from AND c.createdAt < :to ");
+        if (categoryId != null) {
+            jpql.append("AND cat.id = :categoryId ");
+        }
+        if (postalCode != null) {
+            jpql.append("AND l.postalCode = :postalCode ");
+        }
+        jpql.append("GROUP BY year(c.createdAt), month(c.createdAt), day(c.createdAt), hour(c.createdAt), cat.id, l.postalCode");
+
+        TypedQuery<Object[]> query = entityManager.createQuery(jpql.toString(), Object[].class)
+                .setParameter("from", from)
+                .setParameter("to", to);
+        bindFilters(query, categoryId, postalCode);
+        return query.getResultList().stream()
+                .map(row -> new ComplaintRollup(RollupGranularity.HOUR,
+                        LocalDateTime.of(((Number) row[0]).intValue(), ((Number) row[1]).intValue(),
+                                ((Number) row[2]).intValue(), ((Number) row[3]).intValue(), 0),
+                        (Integer) row[4], (String) row[5], ((Number) row[6]).longValue()))
+                .toList();
+    }
+
+    /**
+     * Loads the rollup rows of the buckets starting within a period.
+     *
+     * @param granularity the granularity of the buckets
+     * @param from        the earliest bucket start, inclusive
+     * @param to          the latest bucket start, exclusive
+     * @param categoryId  only load this category, or {@code null} for all
+     * @param postalCode  only load this postal code, or {@code null} for all
+     * @return the rollup rows
+     */
+    public List<ComplaintRollup> findRollups(RollupGranularity granularity, LocalDateTime from, LocalDateTime to,
+                                             Integer categoryId, String postalCode) {
+        StringBuilder jpql = new StringBuilder(
+                "SELECT r FROM ComplaintRollup r WHERE r.granularity = :granularity " +
+                "AND r.bucketStart >= :from AND r.bucketStart < :to ");
+        if (categoryId != null) {
+            jpql.append("AND r.categoryId = :categoryId ");
+        }
+        if (postalCode != null) {
+            jpql.append("AND r.postalCode = :postalCode ");
+        }
+
+        TypedQuery<ComplaintRollup> query = entityManager.createQuery(jpql.toString(), ComplaintRollup.class)
+                .setParameter("granularity", granularity)
+                .setParameter("from", from)
+                .setParameter("to", to);
+        bindFilters(query, categoryId, postalCode);
+        return query.getResultList();
+    }
+
+    /**
+     * Adds a number of complaints to a bucket in place, creating the bucket if it does not exist yet.
+     *
+     * @param granularity the granularity of the bucket
+     * @param bucketStart the start of the bucket
+     * @param categoryId  the category
+     * @param postalCode  the postal code
+     * @param delta       the number of complaints to add
+     */
+    public void addToCount(RollupGranularity granularity, LocalDateTime bucketStart, Integer categoryId,
+                           String postalCode, long delta) {
+        int updated = entityManager.createQuery(
+                        "UPDATE ComplaintRollup r SET r.complaintCount = r.complaintCount + :delta " +
+                        "WHERE r.granularity = :granularity AND r.bucketStart = :bucketStart " +
+                        "AND r.categoryId = :categoryId AND r.postalCode = :postalCode")
+                .setParameter("delta", delta)
+                .setParameter("granularity", granularity)
+                .setParameter("bucketStart", bucketStart)
+                .setParameter("categoryId", categoryId)
+                .setParameter("postalCode", postalCode)
+                .executeUpdate();
+        if (updated == 0) {
+            entityManager.persist(new ComplaintRollup(granularity, bucketStart, categoryId, postalCode, delta));
+        }
+    }
+
+    private static void bindFilters(TypedQuery<?> query, Integer categoryId, String postalCode) {
+        if (categoryId != null) {
+            query.setParameter("categoryId", categoryId);
+        }
+        if (postalCode != null) {
+            query.setParameter("postalCode", postalCode);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.city_feedback.complaintManagement.infrastructure.repositories;
+
+import com.example.city_feedback.complaintManagement.infrastructure.deduplication.ComplaintLshBucket;
+import com.example.city_feedback.complaintManagement.infrastructure.deduplication.ComplaintSignature;
+import com.example.city_feedback.complaintManagement.infrastructure.deduplication.MinHasher;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Persistence of the MinHash signatures and LSH buckets of complaints.
+ */
+@Repository
+public class ComplaintSignatureRepository {
+
+    private final EntityManager entityManager;
+
+    public ComplaintSignatureRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Stores the signature of a complaint and its bucket memberships, replacing previous ones.
+     *
+     * @param complaintId the ID of the complaint
+     * @param postalCode  the postal code of the complaint
+     * @param signature   the MinHash signature
+     * @param bucketKeys  the LSH bucket keys of the signature
+     */
+    public void saveSignature(long complaintId, String postalCode, int[] signature, long[] bucketKeys) {
+        byte[] encoded = MinHasher.encode(signature);
+        ComplaintSignature existing = entityManager.find(ComplaintSignature.class, complaintId);
+        if (existing != null) {
+            existing.update(postalCode, encoded);
+            deleteBuckets(complaintId);
+        } else {
+            entityManager.persist(new ComplaintSignature(complaintId, postalCode, encoded));
+        }
+        for (long bucketKey : bucketKeys) {
+            entityManager.persist(new ComplaintLshBucket(bucketKey, complaintId));
+        }
+    }
+
+    /**
+     * Removes the signature and bucket memberships of a complaint.
+     *
+     * @param complaintId the ID of the complaint
+     */
+    public void deleteSignature(long complaintId) {
+        deleteBuckets(complaintId);
+        entityManager.createQuery("DELETE FROM ComplaintSignature s WHERE s.complaintId = :complaintId")
+                .setParameter("complaintId", complaintId)
+                .executeUpdate();
+    }
+
+    /**
+     * Loads the signatures of the complaints sharing at least one bucket with the given keys.
+     * Each key is an index lookup, so the cost depends on the bucket sizes, not on the number of complaints.
+     * If there are more candidates than {@code maxCandidates}, those sharing the most buckets are kept,
+     * as they are the most likely duplicates; ties go to the newer complaint.
+     *
+     * @param bucketKeys    the bucket keys of the new complaint
+     * @param maxCandidates the maximum number of candidates to load
+     * @return the signatures by complaint ID, the candidates sharing the most buckets first
+     */
+    public Map<Long, int[]> findCandidateSignatures(long[] bucketKeys, int maxCandidates) {
+        List<Long> keys = new ArrayList<>(bucketKeys.length);
+        for (long bucketKey : bucketKeys) {
+            keys.add(bucketKey);
+        }
+        List<Long> candidateIds = entityManager.createQuery(
+                        "SELECT b.complaintId FROM ComplaintLshBucket b WHERE b.bucketKey IN :bucketKeys " +
+                                "GROUP BY b.complaintId ORDER BY COUNT(b) DESC, b.complaintId DESC",
+                        Long.class)
+                .setParameter("bucketKeys", keys)
+                .setMaxResults(maxCandidates)
+                .getResultList();
+        if (candidateIds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, int[]> signatures = new LinkedHashMap<>();
+        for (Long candidateId : candidateIds) {
+            signatures.put(candidateId, null);
+        }
+        List<Object[]> rows = entityManager.createQuery(
+                        "SELECT s.complaintId, s.signature FROM ComplaintSignature s WHERE s.complaintId IN :ids",
+                        Object[].class)
+                .setParameter("ids", candidateIds)
+                .getResultList();
+        for (Object[] row : rows) {
+            signatures.put((Long) row[0], MinHasher.decode((byte[]) row[1]));
+        }
+        // Buckets are written with their signature, but skip any candidate whose signature is gone
+        signatures.values().removeIf(Objects::isNull);
+        return signatures;
+    }
+
+    private void deleteBuckets(long complaintId) {
+        entityManager.createQuery("DELETE FROM ComplaintLshBucket b WHERE b.complaintId = :complaintId")
+                .setParameter("complaintId", complaintId)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.city_feedback.complaintManagement.infrastructure.repositories;
+
+import com.example.city_feedback.complaintManagement.infrastructure.statistics.ComplaintStatistic;
+import com.example.city_feedback.complaintManagement.infrastructure.statistics.StatisticsDimension;
+import com.example.city_feedback.progressManagement.domain.valueObjects.ComplaintStatus;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Persistence of the precomputed complaint counts in {@code complaint_statistics}.
+ */
+@Repository
+public class ComplaintStatisticsRepository {
+
+    private final EntityManager entityManager;
+
+    public ComplaintStatisticsRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Loads the counts of all values of a dimension.
+     *
+     * @param dimension the dimension
+     * @return one row per value and status
+     */
+    public List<ComplaintStatistic> findByDimension(StatisticsDimension dimension) {
+        return entityManager.createQuery(
+                        "SELECT s FROM ComplaintStatistic s WHERE s.dimension = :dimension", ComplaintStatistic.class)
+                .setParameter("dimension", dimension)
+                .getResultList();
+    }
+
+    /**
+     * Loads the counts of the values of a dimension within a range, e.g. of the days of a period.
+     *
+     * @param dimension the dimension
+     * @param fromValue the smallest value, inclusive
+     * @param toValue   the largest value, inclusive
+     * @return one row per value and status
+     */
+    public List<ComplaintStatistic> findByDimensionBetween(StatisticsDimension dimension, String fromValue, String toValue) {
+        return entityManager.createQuery(
+                        "SELECT s FROM ComplaintStatistic s WHERE s.dimension = :dimension " +
+                        "AND s.dimensionValue BETWEEN :fromValue AND :toValue", ComplaintStatistic.class)
+                .setParameter("dimension", dimension)
+                .setParameter("fromValue", fromValue)
+                .setParameter("toValue", toValue)
+                .getResultList();
+    }
+
+    /**
+     * Adds a delta to a count in place, creating the row if it does not exist yet.
+     *
+     * @param dimension the dimension
+     * @param value     the value of the dimension
+     * @param status    the status
+     * @param delta     the change of the count, may be negative
+     */
+    public void addToCount(StatisticsDimension dimension, String value, ComplaintStatus status, long delta) {
+        int updated = entityManager.createQuery(
+                        "UPDATE ComplaintStatistic s SET s.complaintCount = s.complaintCount + :delta " +
+                        "WHERE s.dimension = :dimension AND s.dimensionValue = :value AND s.status = :status")
+                .setParameter("delta", delta)
+                .setParameter("dimension", dimension)
+                .setParameter("value", value)
+                .setParameter("status", status)
+                .executeUpdate();
+        if (updated == 0) {
+            entityManager.persist(new ComplaintStatistic(dimension, value, status, delta));
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.city_feedback.complaintManagement.infrastructure.repositories;
+
+import com.example.city_feedback.complaintManagement.infrastructure.geocoding.GeocodedAddress;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository for the offline geocoding table.
+ */
+@Repository
+public interface GeocodedAddressRepository extends JpaRepository<GeocodedAddress, Long> {
+
+    /**
+     * Loads the entries that can locate an address in the given street: its buildings, the street itself
+     * and the centroid of the postal code area.
+     *
+     * @param postalCode the postal code
+     * @param streetKey  the normalized street name
+     * @return the candidate entries
+     */
+    @Query("SELECT g FROM GeocodedAddress g WHERE g.postalCode = :postalCode " +
+            "AND (g.streetKey = :streetKey OR g.streetKey IS NULL)")
+    List<GeocodedAddress> findCandidates(String postalCode, String streetKey);
+}
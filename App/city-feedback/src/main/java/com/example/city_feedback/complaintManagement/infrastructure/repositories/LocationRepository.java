@@ -11,7 +11,7 @@ import java.util.Optional;
  * Provides methods for accessing and managing Location data.
  */
 @Repository
-public interface LocationRepository extends JpaRepository<Location, Integer> {
+public interface LocationRepository extends JpaRepository<Location, Long> {
 
     /**
      * Finds a location by its street, house number, postal code, and city.
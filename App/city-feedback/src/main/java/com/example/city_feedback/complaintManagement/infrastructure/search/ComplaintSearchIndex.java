@@ -0,0 +1,23 @@
+package com.example.city_feedback.complaintManagement.infrastructure.search;
+
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintSearchHit;
+
+import java.util.List;
+
+/**
+ * Full-text index over the title and description of complaints.
+ * All terms of a query must match; results are ordered by relevance, then by ID descending.
+ */
+public interface ComplaintSearchIndex {
+
+    /**
+     * Finds the complaints matching the query.
+     *
+     * @param query     the search query as entered by the user
+     * @param creatorId the user whose complaints are searched, or {@code null} to search all complaints
+     * @param offset    the number of best matches to skip
+     * @param limit     the maximum number of matches to return
+     * @return the matches, best first
+     */
+    List<ComplaintSearchHit> search(String query, Long creatorId, int offset, int limit);
+}
@@ -0,0 +1,94 @@
+package com.example.city_feedback.complaintManagement.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Splits German text into terms for the in-memory search index and the duplicate detection.
+ * Approximates PostgreSQL's {@code german} configuration: lower-casing, stop words, umlaut folding
+ * and a light suffix-stripping stemmer, so that e.g. "Schlaglöcher" and "Schlagloch" share a term.
+ */
+public final class GermanTextAnalyzer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "aber", "als", "am", "an", "auch", "auf", "aus", "bei", "bin", "bis", "da", "das", "dass", "dem", "den",
+            "der", "des", "die", "doch", "du", "ein", "eine", "einem", "einen", "einer", "eines", "er", "es", "für",
+            "hat", "ich", "im", "in", "ist", "ja", "mit", "nach", "nicht", "noch", "oder", "schon", "sehr", "sich",
+            "sie", "sind", "so", "um", "und", "von", "vor", "war", "wie", "wir", "wird", "wurde", "zu", "zum", "zur");
+
+    // Longest suffix first; a suffix is only removed if at least MIN_STEM_LENGTH characters remain
+    private static final String[] INFLECTION_SUFFIXES = {"ern", "em", "er", "en", "es", "e", "s"};
+    private static final String[] DERIVATION_SUFFIXES = {"est", "en", "er"};
+    private static final int MIN_STEM_LENGTH = 3;
+
+    private GermanTextAnalyzer() {
+    }
+
+    /**
+     * Returns the terms of the text in order of appearance, including duplicates.
+     *
+     * @param text the text, may be {@code null}
+     * @return the terms
+     */
+    public static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        String lowerCase = text.toLowerCase(Locale.GERMAN);
+        int start = -1;
+        for (int i = 0; i <= lowerCase.length(); i++) {
+            boolean wordChar = i < lowerCase.length() && Character.isLetterOrDigit(lowerCase.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addTerm(terms, lowerCase.substring(start, i));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    private static void addTerm(List<String> terms, String word) {
+        if (STOP_WORDS.contains(word)) {
+            return;
+        }
+        terms.add(stem(fold(word)));
+    }
+
+    static String fold(String word) {
+        StringBuilder folded = new StringBuilder(word.length());
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            switch (c) {
+                case 'ä' -> folded.append('a');
+                case 'ö' -> folded.append('o');
+                case 'ü' -> folded.append('u');
+                case 'ß' -> folded.append("ss");
+                default -> folded.append(c);
+            }
+        }
+        return folded.toString();
+    }
+
+    static String stem(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (Character.isDigit(word.charAt(i))) {
+                // House numbers, postal codes and the like are kept as they are
+                return word;
+            }
+        }
+        return stripSuffix(stripSuffix(word, INFLECTION_SUFFIXES), DERIVATION_SUFFIXES);
+    }
+
+    private static String stripSuffix(String word, String[] suffixes) {
+        for (String suffix : suffixes) {
+            if (word.endsWith(suffix) && word.length() - suffix.length() >= MIN_STEM_LENGTH) {
+                return word.substring(0, word.length() - suffix.length());
+            }
+        }
+        return word;
+    }
+}
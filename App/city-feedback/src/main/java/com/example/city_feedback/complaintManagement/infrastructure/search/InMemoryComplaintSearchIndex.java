@@ -0,0 +1,224 @@
+package com.example.city_feedback.complaintManagement.infrastructure.search;
+
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintSearchDocument;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintSearchHit;
+import com.example.city_feedback.complaintManagement.domain.events.ComplaintChangedEvent;
+import com.example.city_feedback.complaintManagement.infrastructure.repositories.ComplaintRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Inverted index over complaint titles and descriptions, kept in memory.
+ * Used where PostgreSQL full-text search is not available, e.g. with H2.
+ *
+ * The index is built from the database once the application is ready and then follows every committed
+ * {@link ComplaintChangedEvent}. Each term maps to the complaints containing it with a weighted term frequency;
+ * as in PostgreSQL's default ranking, title terms weigh 1.0 and description terms 0.4. A query intersects the
+ * posting lists starting from the shortest one, scores the matches by weight times inverse document frequency,
+ * and keeps only the best {@code offset + limit} of them in a bounded heap.
+ */
+@Component
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "memory")
+public class InMemoryComplaintSearchIndex implements ComplaintSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryComplaintSearchIndex.class);
+
+    static final float TITLE_WEIGHT = 1.0f;
+    static final float DESCRIPTION_WEIGHT = 0.4f;
+
+    private static final Comparator<ComplaintSearchHit> BEST_FIRST = Comparator
+            .comparingDouble(ComplaintSearchHit::getRank)
+            .thenComparingLong(ComplaintSearchHit::getComplaintId)
+            .reversed();
+
+    private final ComplaintRepository complaintRepository;
+    private final TransactionTemplate readTransaction;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Long, Float>> postings = new HashMap<>();
+    private final Map<Long, IndexedComplaint> complaints = new HashMap<>();
+
+    public InMemoryComplaintSearchIndex(ComplaintRepository complaintRepository, PlatformTransactionManager transactionManager) {
+        this.complaintRepository = complaintRepository;
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Indexes all stored complaints, streaming them from the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        readTransaction.executeWithoutResult(status -> {
+            try (Stream<ComplaintSearchDocument> documents = complaintRepository.streamSearchDocuments()) {
+                documents.forEach(document -> index(
+                        document.getId(), document.getCreatorId(), document.getTitle(), document.getDescription()));
+            }
+        });
+        logger.info("Search index built with {} complaints", getIndexedCount());
+    }
+
+    /**
+     * Applies a complaint change once it has been committed.
+     *
+     * @param event the change event published by the ComplaintChangeListener
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onComplaintChanged(ComplaintChangedEvent event) {
+        if (event.isRemoved()) {
+            remove(event.getComplaintId());
+        } else {
+            index(event.getComplaintId(), event.getCreatorId(), event.getTitle(), event.getDescription());
+        }
+    }
+
+    /**
+     * Adds a complaint to the index or replaces its previous entry.
+     */
+    void index(long complaintId, Long creatorId, String title, String description) {
+        Map<String, Float> weights = new HashMap<>();
+        for (String term : GermanTextAnalyzer.analyze(title)) {
+            weights.merge(term, TITLE_WEIGHT, Float::sum);
+        }
+        for (String term : GermanTextAnalyzer.analyze(description)) {
+            weights.merge(term, DESCRIPTION_WEIGHT, Float::sum);
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(complaintId);
+            weights.forEach((term, weight) -> postings.computeIfAbsent(term, key -> new HashMap<>()).put(complaintId, weight));
+            complaints.put(complaintId, new IndexedComplaint(creatorId, weights.keySet().toArray(String[]::new)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long complaintId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(complaintId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(long complaintId) {
+        IndexedComplaint previous = complaints.remove(complaintId);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.terms) {
+            Map<Long, Float> postingList = postings.get(term);
+            if (postingList != null) {
+                postingList.remove(complaintId);
+                if (postingList.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    @Override
+    public List<ComplaintSearchHit> search(String query, Long creatorId, int offset, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(GermanTextAnalyzer.analyze(query)));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        int window = offset + limit;
+        PriorityQueue<ComplaintSearchHit> best = new PriorityQueue<>(BEST_FIRST.reversed());
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Float>> postingLists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<Long, Float> postingList = postings.get(term);
+                if (postingList == null) {
+                    return List.of();
+                }
+                postingLists.add(postingList);
+            }
+            postingLists.sort(Comparator.comparingInt(Map::size));
+
+            double[] inverseFrequencies = new double[postingLists.size()];
+            for (int i = 0; i < inverseFrequencies.length; i++) {
+                inverseFrequencies[i] = Math.log(1.0 + (double) complaints.size() / postingLists.get(i).size());
+            }
+
+            candidates:
+            for (Map.Entry<Long, Float> candidate : postingLists.get(0).entrySet()) {
+                Long complaintId = candidate.getKey();
+                if (creatorId != null && !creatorId.equals(complaints.get(complaintId).creatorId)) {
+                    continue;
+                }
+                double rank = candidate.getValue() * inverseFrequencies[0];
+                for (int i = 1; i < postingLists.size(); i++) {
+                    Float weight = postingLists.get(i).get(complaintId);
+                    if (weight == null) {
+                        continue candidates;
+                    }
+                    rank += weight * inverseFrequencies[i];
+                }
+
+                ComplaintSearchHit hit = new ComplaintSearchHit(complaintId, rank);
+                if (best.size() < window) {
+                    best.add(hit);
+                } else if (BEST_FIRST.compare(hit, best.peek()) < 0) {
+                    best.poll();
+                    best.add(hit);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<ComplaintSearchHit> hits = new ArrayList<>(best);
+        hits.sort(BEST_FIRST);
+        return offset >= hits.size() ? List.of() : List.copyOf(hits.subList(offset, hits.size()));
+    }
+
+    /**
+     * Returns the number of indexed complaints.
+     *
+     * @return the number of complaints in the index
+     */
+    public int getIndexedCount() {
+        lock.readLock().lock();
+        try {
+            return complaints.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Index entry of one complaint; the terms are kept to remove its postings again.
+     */
+    private static final class IndexedComplaint {
+        private final Long creatorId;
+        private final String[] terms;
+
+        private IndexedComplaint(Long creatorId, String[] terms) {
+            this.creatorId = creatorId;
+            this.terms = terms;
+        }
+    }
+}
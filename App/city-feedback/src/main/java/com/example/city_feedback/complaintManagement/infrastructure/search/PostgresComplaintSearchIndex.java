@@ -0,0 +1,86 @@
+package com.example.city_feedback.complaintManagement.infrastructure.search;
+
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintSearchHit;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Search backed by PostgreSQL full-text search.
+ *
+ * {@code complaints.search_vector} is a stored generated column holding the title (weight A) and the description
+ * (weight B) as a {@code tsvector} with German stemming, and is covered by a GIN index
+ * (see {@code db/complaint_search.sql}). Queries are parsed with {@code websearch_to_tsquery}, so quotes,
+ * {@code or} and {@code -} work as users expect from web search engines, and ranked with {@code ts_rank_cd}.
+ * The script is not applied by {@code ddl-auto}, so the column is checked on startup.
+ */
+@Repository
+@ConditionalOnProperty(name = "app.search.engine", havingValue = "postgres", matchIfMissing = true)
+public class PostgresComplaintSearchIndex implements ComplaintSearchIndex {
+
+    private static final String MATCHES = "SELECT c.id, ts_rank_cd(c.search_vector, q) AS rank " +
+            "FROM complaints c, websearch_to_tsquery('german', :query) q " +
+            "WHERE c.search_vector @@ q ";
+
+    private static final String BEST_FIRST = "ORDER BY rank DESC, c.id DESC LIMIT :limit OFFSET :offset";
+
+    private static final Logger logger = LoggerFactory.getLogger(PostgresComplaintSearchIndex.class);
+
+    private final EntityManager entityManager;
+
+    public PostgresComplaintSearchIndex(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Stops the startup if {@code db/complaint_search.sql} has not been run, instead of failing every search.
+     *
+     * @throws IllegalStateException if {@code complaints.search_vector} does not exist
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifySchema() {
+        if (count("SELECT COUNT(*) FROM information_schema.columns " +
+                "WHERE table_schema = current_schema() AND table_name = 'complaints' AND column_name = 'search_vector'") == 0) {
+            throw new IllegalStateException("Spalte complaints.search_vector fehlt: db/complaint_search.sql ausführen " +
+                    "oder app.search.engine=memory setzen");
+        }
+        if (count("SELECT COUNT(*) FROM pg_indexes " +
+                "WHERE schemaname = current_schema() AND indexname = 'idx_complaints_search_vector'") == 0) {
+            logger.warn("GIN index idx_complaints_search_vector is missing, searches scan all complaints; " +
+                    "see db/complaint_search.sql");
+        }
+    }
+
+    private long count(String sql) {
+        return ((Number) entityManager.createNativeQuery(sql).getSingleResult()).longValue();
+    }
+
+    @Override
+    public List<ComplaintSearchHit> search(String query, Long creatorId, int offset, int limit) {
+        // Separate statements instead of "(:creatorId IS NULL OR ...)", which PostgreSQL cannot plan well
+        Query statement = creatorId == null
+                ? entityManager.createNativeQuery(MATCHES + BEST_FIRST)
+                : entityManager.createNativeQuery(MATCHES + "AND c.creator_id = :creatorId " + BEST_FIRST)
+                        .setParameter("creatorId", creatorId);
+        List<?> rows = statement
+                .setParameter("query", query)
+                .setParameter("limit", limit)
+                .setParameter("offset", offset)
+                .getResultList();
+
+        List<ComplaintSearchHit> hits = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            Object[] columns = (Object[]) row;
+            hits.add(new ComplaintSearchHit(((Number) columns[0]).longValue(), ((Number) columns[1]).doubleValue()));
+        }
+        return hits;
+    }
+}
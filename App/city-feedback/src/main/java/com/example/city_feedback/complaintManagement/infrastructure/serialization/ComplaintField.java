@@ -0,0 +1,114 @@
+package com.example.city_feedback.complaintManagement.infrastructure.serialization;
+
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The fields of a complaint in the JSON API. Clients select the fields they need with {@code fields=title,createdAt};
+ * the ID is always included.
+ */
+public enum ComplaintField {
+    ID("id") {
+        @Override
+        void write(JsonGenerator generator, ComplaintDto complaint) throws IOException {
+            generator.writeNumberField(name, complaint.getId());
+        }
+    },
+    TITLE("title") {
+        @Override
+        void write(JsonGenerator generator, ComplaintDto complaint) throws IOException {
+            generator.writeStringField(name, complaint.getTitle());
+        }
+    },
+    DESCRIPTION("description") {
+        @Override
+        void write(JsonGenerator generator, ComplaintDto complaint) throws IOException {
+            generator.writeStringField(name, complaint.getDescription());
+        }
+    },
+    LOCATION("location") {
+        @Override
+        void write(JsonGenerator generator, ComplaintDto complaint) throws IOException {
+            generator.writeStringField(name, complaint.getLocation());
+        }
+    },
+    CATEGORY_ID("categoryId") {
+        @Override
+        void write(JsonGenerator generator, ComplaintDto complaint) throws IOException {
+            if (complaint.getCategoryId() != null) {
+                generator.writeNumberField(name, complaint.getCategoryId());
+            } else {
+                generator.writeNullField(name);
+            }
+        }
+    },
+    CATEGORY_NAME("categoryName") {
+        @Override
+        void write(JsonGenerator generator, ComplaintDto complaint) throws IOException {
+            generator.writeStringField(name, complaint.getCategoryName());
+        }
+    },
+    CREATED_AT("createdAt") {
+        @Override
+        void write(JsonGenerator generator, ComplaintDto complaint) throws IOException {
+            // ISO-8601 for machines; the formatted value of the UI only if the timestamp was not loaded
+            generator.writeStringField(name, complaint.getCreatedAtTimestamp() != null
+                    ? complaint.getCreatedAtTimestamp().toString()
+                    : complaint.getCreatedAt());
+        }
+    },
+    VERSION("version") {
+        @Override
+        void write(JsonGenerator generator, ComplaintDto complaint) throws IOException {
+            // Sent back by staff when changing the status, see /progress/complaints/{id}/status
+            if (complaint.getVersion() != null) {
+                generator.writeNumberField(name, complaint.getVersion());
+            } else {
+                generator.writeNullField(name);
+            }
+        }
+    };
+
+    final String name;
+
+    ComplaintField(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    abstract void write(JsonGenerator generator, ComplaintDto complaint) throws IOException;
+
+    /**
+     * Parses a comma-separated list of field names.
+     *
+     * @param fields the field names, or {@code null} or blank for all fields
+     * @return the selected fields, always including {@link #ID}
+     * @throws IllegalArgumentException if a field name is unknown
+     */
+    public static Set<ComplaintField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return EnumSet.allOf(ComplaintField.class);
+        }
+        EnumSet<ComplaintField> selected = EnumSet.of(ID);
+        for (String field : fields.split(",")) {
+            selected.add(byName(field.trim()));
+        }
+        return selected;
+    }
+
+    private static ComplaintField byName(String name) {
+        for (ComplaintField field : values()) {
+            if (field.name.equals(name)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unbekanntes Feld: " + name);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.city_feedback.complaintManagement.infrastructure.serialization;
+
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintDto;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintPage;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Set;
+
+/**
+ * Writes complaints of the JSON API straight to the response stream with a {@link JsonGenerator}.
+ * Only the selected fields are written, and no intermediate tree or string of the whole page is built.
+ */
+@Component
+public class ComplaintJsonWriter {
+
+    private final ObjectMapper objectMapper;
+
+    public ComplaintJsonWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Writes a page as {@code {"items": [...], "nextCursor": ..., "next": ...}}.
+     *
+     * @param page     the page
+     * @param fields   the fields to write per complaint
+     * @param nextLink the URL of the next page, or {@code null} if this is the last page
+     * @param output   the target stream; it is not closed
+     * @throws IOException if writing fails, e.g. because the client went away
+     */
+    public void writePage(ComplaintPage page, Set<ComplaintField> fields, String nextLink, OutputStream output) throws IOException {
+        try (JsonGenerator generator = createGenerator(output)) {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("items");
+            for (ComplaintDto complaint : page.getComplaints()) {
+                writeFields(generator, complaint, fields);
+            }
+            generator.writeEndArray();
+            generator.writeStringField("nextCursor", page.getNextCursorToken());
+            generator.writeStringField("next", nextLink);
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes a single complaint.
+     *
+     * @param complaint the complaint
+     * @param fields    the fields to write
+     * @param output    the target stream; it is not closed
+     * @throws IOException if writing fails
+     */
+    public void writeComplaint(ComplaintDto complaint, Set<ComplaintField> fields, OutputStream output) throws IOException {
+        try (JsonGenerator generator = createGenerator(output)) {
+            writeFields(generator, complaint, fields);
+        }
+    }
+
+    private JsonGenerator createGenerator(OutputStream output) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(output, JsonEncoding.UTF8);
+        // The servlet container owns the response stream
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        return generator;
+    }
+
+    private static void writeFields(JsonGenerator generator, ComplaintDto complaint, Set<ComplaintField> fields) throws IOException {
+        generator.writeStartObject();
+        for (ComplaintField field : fields) {
+            field.write(generator, complaint);
+        }
+        generator.writeEndObject();
+    }
+}
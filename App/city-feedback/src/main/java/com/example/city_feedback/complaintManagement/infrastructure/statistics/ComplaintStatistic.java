@@ -0,0 +1,65 @@
+package com.example.city_feedback.complaintManagement.infrastructure.statistics;
+
+import com.example.city_feedback.progressManagement.domain.valueObjects.ComplaintStatus;
+import jakarta.persistence.*;
+
+/**
+ * The number of complaints with one value of a dimension in one status, e.g. the open complaints of a category.
+ * Rows are never counted from the complaints table; they are adjusted by the changes recorded since the last flush.
+ */
+@Entity
+@Table(name = "complaint_statistics", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_complaint_statistics_key", columnNames = {"dimension", "dimension_value", "status"})
+})
+public class ComplaintStatistic {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "complaint_statistics_seq")
+    @SequenceGenerator(name = "complaint_statistics_seq", sequenceName = "complaint_statistics_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "dimension", nullable = false, length = 20)
+    private StatisticsDimension dimension;
+
+    @Column(name = "dimension_value", nullable = false, length = 50)
+    private String dimensionValue;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 32)
+    private ComplaintStatus status;
+
+    @Column(name = "complaint_count", nullable = false)
+    private long complaintCount;
+
+    public ComplaintStatistic() {
+        // Default constructor for JPA
+    }
+
+    public ComplaintStatistic(StatisticsDimension dimension, String dimensionValue, ComplaintStatus status, long complaintCount) {
+        this.dimension = dimension;
+        this.dimensionValue = dimensionValue;
+        this.status = status;
+        this.complaintCount = complaintCount;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public StatisticsDimension getDimension() {
+        return dimension;
+    }
+
+    public String getDimensionValue() {
+        return dimensionValue;
+    }
+
+    public ComplaintStatus getStatus() {
+        return status;
+    }
+
+    public long getComplaintCount() {
+        return complaintCount;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.city_feedback.complaintManagement.infrastructure.statistics;
+
+/**
+ * The attributes complaint counts are kept for. Each complaint is counted once per dimension.
+ */
+public enum StatisticsDimension {
+    /**
+     * By category; the value is the category ID.
+     */
+    CATEGORY,
+    /**
+     * By postal code of the location.
+     */
+    POSTAL_CODE,
+    /**
+     * By day of creation; the value is the ISO date, so values sort chronologically.
+     */
+    DAY
+}
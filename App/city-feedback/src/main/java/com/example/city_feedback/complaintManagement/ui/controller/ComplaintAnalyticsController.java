@@ -0,0 +1,76 @@
+package com.example.city_feedback.complaintManagement.ui.controller;
+
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintTrend;
+import com.example.city_feedback.complaintManagement.application.services.ComplaintAnalyticsService;
+import com.example.city_feedback.complaintManagement.infrastructure.analytics.TrendGrouping;
+import com.example.city_feedback.complaintManagement.infrastructure.analytics.TrendInterval;
+import com.example.city_feedback.shared.infrastructure.metrics.Monitored;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * Complaint trends over long periods for staff dashboards, read from the complaint rollups. Restricted to staff.
+ */
+@Controller
+@Monitored
+@RequestMapping("/complaints/analytics")
+public class ComplaintAnalyticsController {
+
+    private final ComplaintAnalyticsService analyticsService;
+
+    public ComplaintAnalyticsController(ComplaintAnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+
+    /**
+     * Returns the number of complaints created per period.
+     *
+     * @param interval   {@code hour}, {@code day}, {@code week}, {@code month} or {@code year}
+     * @param groupBy    {@code none}, {@code category} or {@code postal-code}
+     * @param from       the first day; defaults to one year before {@code to}
+     * @param to         the last day; defaults to today
+     * @param categoryId only count this category
+     * @param postalCode only count this postal code
+     * @return the periods and one series of counts per group
+     */
+    @GetMapping("/trend")
+    @ResponseBody
+    public ComplaintTrend getTrend(@RequestParam(defaultValue = "week") String interval,
+                                   @RequestParam(defaultValue = "none") String groupBy,
+                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                   @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                   @RequestParam(required = false) Integer categoryId,
+                                   @RequestParam(required = false) String postalCode) {
+        LocalDate lastDay = to != null ? to : LocalDate.now();
+        LocalDate firstDay = from != null ? from : lastDay.minusYears(1).plusDays(1);
+        return analyticsService.getTrend(firstDay, lastDay, parseInterval(interval), parseGrouping(groupBy),
+                categoryId, postalCode == null || postalCode.isBlank() ? null : postalCode.trim());
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleInvalidRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    private static TrendInterval parseInterval(String interval) {
+        try {
+            return TrendInterval.valueOf(interval.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unbekanntes Intervall: " + interval);
+        }
+    }
+
+    private static TrendGrouping parseGrouping(String groupBy) {
+        return switch (groupBy) {
+            case "none" -> TrendGrouping.NONE;
+            case "category" -> TrendGrouping.CATEGORY;
+            case "postal-code" -> TrendGrouping.POSTAL_CODE;
+            default -> throw new IllegalArgumentException("Unbekannte Gruppierung: " + groupBy);
+        };
+    }
+}
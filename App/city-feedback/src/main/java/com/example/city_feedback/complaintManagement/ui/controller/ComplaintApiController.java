@@ -0,0 +1,205 @@
+package com.example.city_feedback.complaintManagement.ui.controller;
+
+import com.example.city_feedback.authentication.application.services.CurrentUserProvider;
+import com.example.city_feedback.complaintManagement.application.commands.CreateComplaintCommand;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintCursor;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintDto;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintPage;
+import com.example.city_feedback.complaintManagement.application.services.ComplaintService;
+import com.example.city_feedback.complaintManagement.domain.models.Complaint;
+import com.example.city_feedback.complaintManagement.infrastructure.serialization.ComplaintField;
+import com.example.city_feedback.complaintManagement.infrastructure.serialization.ComplaintJsonWriter;
+import com.example.city_feedback.shared.infrastructure.metrics.Monitored;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Versioned JSON API for complaints, for the mobile app and integrations. Staff see all complaints, citizens their own;
+ * other complaints are answered with {@code 404 Not Found}, as if they did not exist.
+ *
+ * Lists are paginated with the same keyset cursors as the UI. With {@code fields} clients select the fields they need,
+ * e.g. to skip the description. Responses are written field by field to the response stream and compressed by the
+ * servlet container (see {@code server.compression.*}).
+ */
+@Controller
+@Monitored
+@RequestMapping(ComplaintApiController.BASE_PATH)
+public class ComplaintApiController {
+
+    static final String BASE_PATH = "/api/v1/complaints";
+    private static final String STAFF_AUTHORITY = "Mitarbeiter";
+
+    private final ComplaintService complaintService;
+    private final CurrentUserProvider currentUserProvider;
+    private final ComplaintJsonWriter jsonWriter;
+
+    public ComplaintApiController(ComplaintService complaintService,
+                                  CurrentUserProvider currentUserProvider,
+                                  ComplaintJsonWriter jsonWriter) {
+        this.complaintService = complaintService;
+        this.currentUserProvider = currentUserProvider;
+        this.jsonWriter = jsonWriter;
+    }
+
+    /**
+     * Lists complaints page by page, newest first.
+     *
+     * @param cursor         the cursor of the requested page as returned in {@code nextCursor}, or {@code null} for the first page
+     * @param size           the page size, clamped by the service
+     * @param fields         comma-separated field names, or {@code null} for all fields
+     * @param authentication the authenticated user
+     * @return the page with the cursor and link of the next page
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> listComplaints(@RequestParam(required = false) String cursor,
+                                                                @RequestParam(defaultValue = "" + ComplaintService.DEFAULT_PAGE_SIZE) int size,
+                                                                @RequestParam(required = false) String fields,
+                                                                Authentication authentication) {
+        Set<ComplaintField> selectedFields = ComplaintField.parse(fields);
+        ComplaintCursor pageCursor = cursor == null || cursor.isBlank() ? null : ComplaintCursor.decode(cursor);
+        ComplaintPage page = isStaff(authentication)
+                ? complaintService.findAllComplaints(pageCursor, size)
+                : complaintService.getComplaintsByCreatorId(getCurrentUserId(), pageCursor, size);
+
+        String nextLink = page.hasNext()
+                ? UriComponentsBuilder.fromPath(BASE_PATH)
+                        .queryParam("cursor", page.getNextCursorToken())
+                        .queryParam("size", size)
+                        .queryParamIfPresent("fields", Optional.ofNullable(fields))
+                        .encode()
+                        .toUriString()
+                : null;
+        StreamingResponseBody body = output -> jsonWriter.writePage(page, selectedFields, nextLink, output);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * Returns one complaint. The modification time is sent as ETag, so unchanged complaints are revalidated
+     * with {@code 304 Not Modified} without loading them.
+     *
+     * @param id         the ID of the complaint
+     * @param fields     comma-separated field names, or {@code null} for all fields
+     * @param webRequest     the current request, used to evaluate conditional request headers
+     * @param authentication the authenticated user
+     * @return the complaint, {@code 304} or {@code 404}
+     */
+    @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getComplaint(@PathVariable Long id,
+                                                              @RequestParam(required = false) String fields,
+                                                              ServletWebRequest webRequest,
+                                                              Authentication authentication) {
+        Set<ComplaintField> selectedFields = ComplaintField.parse(fields);
+        if (!canAccess(id, authentication)) {
+            return ResponseEntity.notFound().build();
+        }
+        Optional<LocalDateTime> updatedAt = complaintService.findLastModified(id);
+        if (updatedAt.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        long lastModified = updatedAt.get().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        // The ETag depends on the selected fields, since the body does
+        String eTag = "\"a" + id + "-" + Long.toHexString(lastModified) + "-" + Integer.toHexString(selectedFields.hashCode()) + "\"";
+        if (webRequest.checkNotModified(eTag, lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CacheControl.noCache().cachePrivate()).build();
+        }
+
+        ComplaintDto complaint = complaintService.findComplaintById(id);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(output -> jsonWriter.writeComplaint(complaint, selectedFields, output));
+    }
+
+    /**
+     * Creates a complaint for the authenticated user. Unlike the form, no duplicate check is done first.
+     *
+     * @param command the complaint
+     * @return {@code 201 Created} with the location and the new complaint
+     */
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> createComplaint(@RequestBody CreateComplaintCommand command) {
+        Complaint created = complaintService.createComplaint(command);
+        ComplaintDto complaint = complaintService.findComplaintById(created.getId());
+        return ResponseEntity.created(URI.create(BASE_PATH + "/" + created.getId()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(output -> jsonWriter.writeComplaint(complaint, ComplaintField.parse(null), output));
+    }
+
+    /**
+     * Replaces title, description, category and address of a complaint.
+     *
+     * @param id             the ID of the complaint
+     * @param command        the new values
+     * @param authentication the authenticated user
+     * @return the updated complaint, or {@code 404}
+     */
+    @PutMapping(value = "/{id}", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> updateComplaint(@PathVariable Long id, @RequestBody CreateComplaintCommand command,
+                                                                 Authentication authentication) {
+        if (!canAccess(id, authentication)) {
+            return ResponseEntity.notFound().build();
+        }
+        complaintService.updateComplaint(id, command);
+        ComplaintDto complaint = complaintService.findComplaintById(id);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(output -> jsonWriter.writeComplaint(complaint, ComplaintField.parse(null), output));
+    }
+
+    /**
+     * Deletes a complaint.
+     *
+     * @param id             the ID of the complaint
+     * @param authentication the authenticated user
+     * @return {@code 204 No Content}, or {@code 404}
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteComplaint(@PathVariable Long id, Authentication authentication) {
+        if (!canAccess(id, authentication)) {
+            return ResponseEntity.notFound().build();
+        }
+        complaintService.deleteComplaint(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON).body(Map.of("error", e.getMessage()));
+    }
+
+    /**
+     * Checks whether the user may see and change a complaint: staff may access all complaints, citizens their own.
+     */
+    private boolean canAccess(Long id, Authentication authentication) {
+        if (isStaff(authentication)) {
+            return true;
+        }
+        Long userId = getCurrentUserId();
+        return complaintService.findCreatorId(id).filter(userId::equals).isPresent();
+    }
+
+    private static boolean isStaff(Authentication authentication) {
+        return authentication.getAuthorities().stream()
+                .anyMatch(authority -> STAFF_AUTHORITY.equals(authority.getAuthority()));
+    }
+
+    private Long getCurrentUserId() {
+        return currentUserProvider.getCurrentUserId()
+                .orElseThrow(() -> new IllegalArgumentException("Benutzer nicht gefunden."));
+    }
+}
@@ -1,73 +1,141 @@
 package com.example.city_feedback.complaintManagement.ui.controller;
 
+import com.example.city_feedback.authentication.application.services.CurrentUserProvider;
 import com.example.city_feedback.complaintManagement.application.dto.CategoryDto;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintCursor;
 import com.example.city_feedback.complaintManagement.application.dto.ComplaintDto;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintPage;
+import com.example.city_feedback.complaintManagement.application.dto.NearbyComplaint;
+import com.example.city_feedback.complaintManagement.application.dto.PossibleDuplicate;
 import com.example.city_feedback.complaintManagement.application.commands.CreateComplaintCommand;
 import com.example.city_feedback.complaintManagement.application.services.ComplaintService;
 import com.example.city_feedback.complaintManagement.application.services.CategoryService;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
+import com.example.city_feedback.complaintManagement.application.services.DuplicateDetectionService;
+import com.example.city_feedback.complaintManagement.application.services.NearbyComplaintService;
+import com.example.city_feedback.shared.infrastructure.metrics.Monitored;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.security.web.csrf.CsrfTokenRepository;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Handles web requests related to complaints in the City Feedback system.
  * This controller provides endpoints for viewing, creating, and managing complaints.
  */
 @Controller
+@Monitored
 @RequestMapping("/complaints")
 public class ComplaintController {
 
     private final ComplaintService complaintService;
     private final CategoryService categoryService;
+    private final CurrentUserProvider currentUserProvider;
+    private final NearbyComplaintService nearbyComplaintService;
+    private final DuplicateDetectionService duplicateDetectionService;
+    private final CsrfTokenRepository csrfTokenRepository;
 
-    public ComplaintController(ComplaintService complaintService, CategoryService categoryService) {
+    public ComplaintController(ComplaintService complaintService,
+                               CategoryService categoryService,
+                               CurrentUserProvider currentUserProvider,
+                               NearbyComplaintService nearbyComplaintService,
+                               DuplicateDetectionService duplicateDetectionService,
+                               CsrfTokenRepository csrfTokenRepository) {
         this.complaintService = complaintService;
         this.categoryService = categoryService;
+        this.currentUserProvider = currentUserProvider;
+        this.nearbyComplaintService = nearbyComplaintService;
+        this.duplicateDetectionService = duplicateDetectionService;
+        this.csrfTokenRepository = csrfTokenRepository;
     }
 
+    /**
+     * Lists the complaints of the authenticated user page by page.
+     * Pages are addressed by an opaque keyset cursor, so loading a page costs the same no matter how deep it is.
+     *
+     * The authenticated user is resolved once per request by the {@link CurrentUserProvider}.
+     *
+     * @param cursor the cursor of the requested page, or {@code null} for the first page
+     * @param size   the requested page size, clamped by the service
+     * @param model  the model for the view
+     * @return the complaint list view
+     */
     @GetMapping
-    public String listComplaints(Authentication authentication, Model model) {
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-        String userEmail = userDetails.getUsername();
-        List<ComplaintDto> complaints = complaintService.getComplaintsByCreatorEmail(userEmail);
-        model.addAttribute("complaints", complaints);
+    public String listComplaints(@RequestParam(required = false) String cursor,
+                                 @RequestParam(defaultValue = "" + ComplaintService.DEFAULT_PAGE_SIZE) int size,
+                                 Model model) {
+        Long userId = currentUserProvider.getCurrentUserId()
+                .orElseThrow(() -> new IllegalArgumentException("Benutzer nicht gefunden."));
+        ComplaintPage page = complaintService.getComplaintsByCreatorId(userId, decodeCursor(cursor), size);
+        model.addAttribute("complaints", page.getComplaints());
+        model.addAttribute("nextCursor", page.getNextCursorToken());
+        model.addAttribute("pageSize", size);
         return "complaintManagement/complaints-list";
     }
 
+    /**
+     * Returns all categories. The response carries the catalogue version as ETag,
+     * so clients revalidate with {@code If-None-Match} and get a {@code 304 Not Modified} while nothing changed.
+     *
+     * @return the categories
+     */
     @GetMapping("/categories")
     @ResponseBody
-    public List<CategoryDto> getAllCategories() {
-        return categoryService.getAllCategories();
+    public ResponseEntity<List<CategoryDto>> getAllCategories() {
+        // The version is read first: should a change slip in between, the ETag is outdated and the next request reloads
+        String eTag = "\"c" + Long.toHexString(categoryService.getCatalogueVersion()) + "\"";
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(categoryService.getAllCategories());
     }
 
+    /**
+     * Shows the form for a new complaint or for editing an existing one.
+     *
+     * The edit form is revalidated on every request: its ETag combines the modification time of the complaint,
+     * the category catalogue version and the CSRF token stored in the session, so an unchanged form is answered with
+     * {@code 304 Not Modified} without loading the complaint or rendering the template.
+     *
+     * @param id         the ID of the complaint to edit, or {@code null} for a new complaint
+     * @param model      the model for the view
+     * @param webRequest the current request, used to evaluate conditional request headers
+     * @return the form view, or {@code null} if the client's copy is still current
+     */
     @GetMapping({"/create-complaint", "/{id}/edit"})
-    public String showEditComplaintForm(@PathVariable(required = false) Long id, Model model) {
+    public String showEditComplaintForm(@PathVariable(required = false) Long id, Model model, ServletWebRequest webRequest) {
         CreateComplaintCommand command = new CreateComplaintCommand();
 
         if (id != null) {
+            Optional<LocalDateTime> updatedAt = complaintService.findLastModified(id);
+            if (updatedAt.isPresent()) {
+                long lastModified = updatedAt.get().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+                // Without a Cache-Control header Spring Security would forbid storing the page at all
+                webRequest.getResponse().setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+                if (webRequest.checkNotModified(editFormETag(id, lastModified, webRequest), lastModified)) {
+                    return null;
+                }
+            }
+
             // Editing mode
             ComplaintDto complaint = complaintService.findComplaintById(id);
 
             command.setTitle(complaint.getTitle());
             command.setDescription(complaint.getDescription());
             command.setCategoryId(complaint.getCategoryId());
-
-            // Handle Location as a String for command
-            if (complaint.getLocation() != null) {
-                String[] locationParts = complaint.getLocation().split(", ");
-                if (locationParts.length == 2) {
-                    String[] streetAndHouse = locationParts[0].split(" ", 2);
-                    command.setStreet(streetAndHouse[0]);
-                    command.setHouseNumber(streetAndHouse.length > 1 ? streetAndHouse[1] : "");
-                    String[] postalAndCity = locationParts[1].split(" ", 2);
-                    command.setPostalCode(postalAndCity[0]);
-                    command.setCity(postalAndCity.length > 1 ? postalAndCity[1] : "");
-                }
-            }
+            command.setStreet(complaint.getStreet());
+            command.setHouseNumber(complaint.getHouseNumber());
+            command.setPostalCode(complaint.getPostalCode());
+            command.setCity(complaint.getCity());
 
             model.addAttribute("isEditMode", true);
             model.addAttribute("complaintId", id);
@@ -90,6 +158,16 @@ public class ComplaintController {
                 complaintService.updateComplaint(id, command);
                 return "redirect:/complaints?editSuccess=true";
             } else {
+                if (!command.isDuplicateConfirmed()) {
+                    // Similar reports are shown first; submitting again creates the complaint anyway
+                    List<PossibleDuplicate> duplicates = duplicateDetectionService.findPossibleDuplicates(command);
+                    if (!duplicates.isEmpty()) {
+                        model.addAttribute("duplicates", duplicates);
+                        model.addAttribute("categories", categoryService.getAllCategories());
+                        model.addAttribute("isEditMode", false);
+                        return "complaintManagement/create-complaint";
+                    }
+                }
                 complaintService.createComplaint(command);
                 return "redirect:/complaints?success=true";
             }
@@ -101,9 +179,54 @@ public class ComplaintController {
         }
     }
 
+    /**
+     * Lists the complaints reported around a complaint, nearest first. Restricted to staff.
+     *
+     * @param id     the ID of the complaint
+     * @param radius the radius in meters, clamped by the service
+     * @return the nearby complaints
+     */
+    @GetMapping("/{id}/nearby")
+    @ResponseBody
+    public List<NearbyComplaint> getNearbyComplaints(@PathVariable Long id,
+                                                     @RequestParam(defaultValue = "" + NearbyComplaintService.DUPLICATE_RADIUS_METERS) double radius) {
+        return nearbyComplaintService.findNearComplaint(id, radius);
+    }
+
     @GetMapping("/{id}/delete")
     public String deleteComplaint(@PathVariable Long id) {
         complaintService.deleteComplaint(id);
         return "redirect:/complaints?success=true";
     }
+
+    /**
+     * Builds the ETag of an edit form. The CSRF token stored in the session is part of it, so a copy cached
+     * with another token is never reused. The stored token is read rather than the one of the request attribute,
+     * which is masked differently on every request; any masked form of the stored token is accepted.
+     */
+    private String editFormETag(Long id, long lastModified, ServletWebRequest webRequest) {
+        CsrfToken requestToken = (CsrfToken) webRequest.getRequest().getAttribute(CsrfToken.class.getName());
+        if (requestToken != null) {
+            // Saves a newly generated token in the session, as rendering the form would
+            requestToken.getToken();
+        }
+        CsrfToken csrfToken = csrfTokenRepository.loadToken(webRequest.getRequest());
+        int session = csrfToken != null ? csrfToken.getToken().hashCode() : 0;
+        return "\"e" + id + "-" + Long.toHexString(lastModified)
+                + "-" + Long.toHexString(categoryService.getCatalogueVersion()) + "-" + Integer.toHexString(session) + "\"";
+    }
+
+    /**
+     * Decodes the cursor request parameter. Missing or malformed cursors start from the first page.
+     */
+    private ComplaintCursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return ComplaintCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
 }
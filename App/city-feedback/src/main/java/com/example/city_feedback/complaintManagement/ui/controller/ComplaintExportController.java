@@ -0,0 +1,73 @@
+package com.example.city_feedback.complaintManagement.ui.controller;
+
+import com.example.city_feedback.authentication.application.services.CurrentUserProvider;
+import com.example.city_feedback.complaintManagement.application.services.ComplaintExportService;
+import com.example.city_feedback.complaintManagement.infrastructure.exporting.ExportFormat;
+import com.example.city_feedback.shared.infrastructure.metrics.Monitored;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Download of complaints as CSV or NDJSON. Staff export all complaints, citizens their own.
+ */
+@Controller
+@Monitored
+@RequestMapping("/complaints/export")
+public class ComplaintExportController {
+
+    private static final String STAFF_AUTHORITY = "Mitarbeiter";
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final ComplaintExportService complaintExportService;
+    private final CurrentUserProvider currentUserProvider;
+
+    public ComplaintExportController(ComplaintExportService complaintExportService, CurrentUserProvider currentUserProvider) {
+        this.complaintExportService = complaintExportService;
+        this.currentUserProvider = currentUserProvider;
+    }
+
+    /**
+     * Streams the export. The body is written after the handler returns, on Spring MVC's async executor,
+     * so the response starts before all rows have been read. The download is bound by
+     * {@code spring.mvc.async.request-timeout} (30 minutes) rather than the container's 30 second default.
+     *
+     * @param format         {@code csv} or {@code ndjson}
+     * @param gzip           whether to send a gzip-compressed file
+     * @param authentication the authenticated user
+     * @return the streaming download
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportComplaints(@RequestParam(defaultValue = "csv") String format,
+                                                                  @RequestParam(defaultValue = "false") boolean gzip,
+                                                                  Authentication authentication) {
+        ExportFormat exportFormat = ExportFormat.parse(format);
+        boolean staff = authentication.getAuthorities().stream()
+                .anyMatch(authority -> STAFF_AUTHORITY.equals(authority.getAuthority()));
+        Long creatorId = staff ? null : currentUserProvider.getCurrentUserId()
+                .orElseThrow(() -> new IllegalArgumentException("Benutzer nicht gefunden."));
+
+        StreamingResponseBody body = output -> complaintExportService.exportComplaints(
+                exportFormat, creatorId, gzip ? new GZIPOutputStream(output, GZIP_BUFFER_SIZE, true) : output);
+
+        String fileName = "complaints." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .contentType(gzip ? MediaType.parseMediaType("application/gzip") : MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .body(body);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleInvalidRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.city_feedback.complaintManagement.ui.controller;
+
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintImportReport;
+import com.example.city_feedback.complaintManagement.application.services.ComplaintImportService;
+import com.example.city_feedback.complaintManagement.infrastructure.importing.ImportFormat;
+import com.example.city_feedback.shared.infrastructure.metrics.Monitored;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+
+/**
+ * Bulk import of complaints from CSV or NDJSON files, e.g. legacy data handed over by municipal partners.
+ * Restricted to staff in the SecurityConfig.
+ */
+@Controller
+@Monitored
+@RequestMapping("/complaints/import")
+public class ComplaintImportController {
+
+    private final ComplaintImportService complaintImportService;
+
+    public ComplaintImportController(ComplaintImportService complaintImportService) {
+        this.complaintImportService = complaintImportService;
+    }
+
+    /**
+     * Imports the complaints of an uploaded file. The file is streamed, never loaded into memory as a whole.
+     *
+     * @param file   the uploaded file
+     * @param format {@code csv} or {@code ndjson}; derived from the file name or content type if missing
+     * @return the import report
+     * @throws IOException if the upload cannot be read
+     */
+    @PostMapping
+    public ResponseEntity<ComplaintImportReport> importComplaints(@RequestParam("file") MultipartFile file,
+                                                                  @RequestParam(required = false) String format) throws IOException {
+        ImportFormat importFormat = ImportFormat.detect(format, file.getOriginalFilename(), file.getContentType());
+        return ResponseEntity.ok(complaintImportService.importComplaints(file.getInputStream(), importFormat));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleInvalidFile(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.city_feedback.complaintManagement.ui.controller;
+
+import com.example.city_feedback.authentication.application.services.CurrentUserProvider;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintSearchPage;
+import com.example.city_feedback.complaintManagement.application.services.ComplaintSearchService;
+import com.example.city_feedback.complaintManagement.application.services.ComplaintService;
+import com.example.city_feedback.shared.infrastructure.metrics.Monitored;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+/**
+ * Full-text search over complaints. Staff search all complaints, citizens their own.
+ */
+@Controller
+@Monitored
+@RequestMapping("/complaints/search")
+public class ComplaintSearchController {
+
+    private static final String STAFF_AUTHORITY = "Mitarbeiter";
+
+    private final ComplaintSearchService complaintSearchService;
+    private final CurrentUserProvider currentUserProvider;
+
+    public ComplaintSearchController(ComplaintSearchService complaintSearchService, CurrentUserProvider currentUserProvider) {
+        this.complaintSearchService = complaintSearchService;
+        this.currentUserProvider = currentUserProvider;
+    }
+
+    /**
+     * Shows one page of search results, best match first.
+     *
+     * @param q              the search query
+     * @param page           the zero-based page number
+     * @param size           the requested page size, clamped by the service
+     * @param authentication the authenticated user
+     * @param model          the model for the view
+     * @return the search result view
+     */
+    @GetMapping
+    public String searchComplaints(@RequestParam(defaultValue = "") String q,
+                                   @RequestParam(defaultValue = "0") int page,
+                                   @RequestParam(defaultValue = "" + ComplaintService.DEFAULT_PAGE_SIZE) int size,
+                                   Authentication authentication,
+                                   Model model) {
+        boolean staff = authentication.getAuthorities().stream()
+                .anyMatch(authority -> STAFF_AUTHORITY.equals(authority.getAuthority()));
+        Long creatorId = staff ? null : currentUserProvider.getCurrentUserId()
+                .orElseThrow(() -> new IllegalArgumentException("Benutzer nicht gefunden."));
+
+        model.addAttribute("query", q);
+        try {
+            ComplaintSearchPage result = complaintSearchService.searchComplaints(q, creatorId, page, size);
+            model.addAttribute("result", result);
+        } catch (IllegalArgumentException e) {
+            model.addAttribute("error", e.getMessage());
+        }
+        return "complaintManagement/complaints-search";
+    }
+}
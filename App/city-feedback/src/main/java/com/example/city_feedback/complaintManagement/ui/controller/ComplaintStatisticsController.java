@@ -0,0 +1,59 @@
+package com.example.city_feedback.complaintManagement.ui.controller;
+
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintStatisticsRow;
+import com.example.city_feedback.complaintManagement.application.services.ComplaintStatisticsService;
+import com.example.city_feedback.complaintManagement.infrastructure.statistics.StatisticsDimension;
+import com.example.city_feedback.shared.infrastructure.metrics.Monitored;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Complaint counts for staff dashboards, read from the precomputed statistics. Restricted to staff.
+ */
+@Controller
+@Monitored
+@RequestMapping("/complaints/statistics")
+public class ComplaintStatisticsController {
+
+    static final int DEFAULT_DAYS = 30;
+
+    private final ComplaintStatisticsService statisticsService;
+
+    public ComplaintStatisticsController(ComplaintStatisticsService statisticsService) {
+        this.statisticsService = statisticsService;
+    }
+
+    /**
+     * Returns the number of complaints per status by category, postal code or day.
+     *
+     * @param by   {@code category}, {@code postal-code} or {@code day}
+     * @param from the first day, only for {@code day}; defaults to {@value #DEFAULT_DAYS} days before {@code to}
+     * @param to   the last day, only for {@code day}; defaults to today
+     * @return one row per value of the dimension
+     */
+    @GetMapping
+    @ResponseBody
+    public List<ComplaintStatisticsRow> getStatistics(@RequestParam(defaultValue = "category") String by,
+                                                      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                      @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return switch (by) {
+            case "category" -> statisticsService.getCounts(StatisticsDimension.CATEGORY);
+            case "postal-code" -> statisticsService.getCounts(StatisticsDimension.POSTAL_CODE);
+            case "day" -> {
+                LocalDate lastDay = to != null ? to : LocalDate.now();
+                yield statisticsService.getDailyCounts(from != null ? from : lastDay.minusDays(DEFAULT_DAYS - 1), lastDay);
+            }
+            default -> throw new IllegalArgumentException("Unbekannte Auswertung: " + by);
+        };
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleInvalidRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
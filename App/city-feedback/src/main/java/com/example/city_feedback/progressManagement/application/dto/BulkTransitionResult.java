@@ -0,0 +1,50 @@
+package com.example.city_feedback.progressManagement.application.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk status change.
+ */
+public class BulkTransitionResult {
+
+    private final int transitioned;
+    private final List<Long> rejectedIds;
+    private final List<Long> conflictedIds;
+    private final List<Long> notFoundIds;
+
+    public BulkTransitionResult(int transitioned, List<Long> rejectedIds, List<Long> conflictedIds, List<Long> notFoundIds) {
+        this.transitioned = transitioned;
+        this.rejectedIds = List.copyOf(rejectedIds);
+        this.conflictedIds = List.copyOf(conflictedIds);
+        this.notFoundIds = List.copyOf(notFoundIds);
+    }
+
+    /**
+     * Number of complaints moved to the new status.
+     */
+    public int getTransitioned() {
+        return transitioned;
+    }
+
+    /**
+     * Complaints whose current status does not allow the transition.
+     */
+    public List<Long> getRejectedIds() {
+        return rejectedIds;
+    }
+
+    /**
+     * Complaints changed by someone else between reading and updating their status,
+     * or locked by another status change at that time.
+     */
+    public List<Long> getConflictedIds() {
+        return conflictedIds;
+    }
+
+    /**
+     * IDs without a complaint.
+     */
+    public List<Long> getNotFoundIds() {
+        return notFoundIds;
+    }
+}
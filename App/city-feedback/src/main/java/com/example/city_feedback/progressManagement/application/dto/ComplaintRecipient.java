@@ -0,0 +1,29 @@
+package com.example.city_feedback.progressManagement.application.dto;
+
+/**
+ * A complaint together with the email address of the citizen who created it.
+ */
+public class ComplaintRecipient {
+
+    private final Long complaintId;
+    private final String title;
+    private final String email;
+
+    public ComplaintRecipient(Long complaintId, String title, String email) {
+        this.complaintId = complaintId;
+        this.title = title;
+        this.email = email;
+    }
+
+    public Long getComplaintId() {
+        return complaintId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.city_feedback.progressManagement.application.dto;
+
+/**
+ * A message to a citizen about one of their complaints, ready to be delivered by a NotificationSink.
+ */
+public class Notification {
+
+    private final String recipient;
+    private final Long complaintId;
+    private final String subject;
+    private final String body;
+
+    public Notification(String recipient, Long complaintId, String subject, String body) {
+        this.recipient = recipient;
+        this.complaintId = complaintId;
+        this.subject = subject;
+        this.body = body;
+    }
+
+    public String getRecipient() {
+        return recipient;
+    }
+
+    public Long getComplaintId() {
+        return complaintId;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getBody() {
+        return body;
+    }
+}
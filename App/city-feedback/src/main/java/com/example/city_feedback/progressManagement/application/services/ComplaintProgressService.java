@@ -1,4 +1,189 @@
 package com.example.city_feedback.progressManagement.application.services;
 
+import com.example.city_feedback.authentication.application.services.CurrentUserProvider;
+import com.example.city_feedback.authentication.domain.models.User;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintDimensions;
+import com.example.city_feedback.complaintManagement.application.services.ComplaintStatisticsService;
+import com.example.city_feedback.complaintManagement.domain.models.Complaint;
+import com.example.city_feedback.complaintManagement.infrastructure.repositories.ComplaintRepository;
+import com.example.city_feedback.progressManagement.application.dto.BulkTransitionResult;
+import com.example.city_feedback.progressManagement.application.dto.ComplaintRecipient;
+import com.example.city_feedback.progressManagement.domain.events.ComplaintStatusChangedEvent;
+import com.example.city_feedback.progressManagement.domain.valueObjects.ComplaintStatus;
+import com.example.city_feedback.progressManagement.infrastructure.repositories.ProgressRepository;
+import com.example.city_feedback.shared.infrastructure.messaging.OutboxEventPublisher;
+import com.example.city_feedback.shared.infrastructure.metrics.Monitored;
+import com.example.city_feedback.shared.infrastructure.transactions.TransactionPolicy;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Moves complaints through their processing states on behalf of staff.
+ * Every change is validated against {@link ComplaintStatus#canTransitionTo}, recorded in the status history
+ * and published as a {@link ComplaintStatusChangedEvent} in the same transaction.
+ */
+@Service
+@Monitored
 public class ComplaintProgressService {
+
+    /**
+     * Number of complaints changed per transaction by {@link #transitionAll}.
+     */
+    static final int BULK_CHUNK_SIZE = 500;
+
+    private final ComplaintRepository complaintRepository;
+    private final ProgressRepository progressRepository;
+    private final StatusDefinitionService statusDefinitionService;
+    private final CurrentUserProvider currentUserProvider;
+    private final OutboxEventPublisher eventPublisher;
+    private final ComplaintStatisticsService statisticsService;
+    private final TransactionTemplate chunkTransaction;
+
+    public ComplaintProgressService(ComplaintRepository complaintRepository,
+                                    ProgressRepository progressRepository,
+                                    StatusDefinitionService statusDefinitionService,
+                                    CurrentUserProvider currentUserProvider,
+                                    OutboxEventPublisher eventPublisher,
+                                    ComplaintStatisticsService statisticsService,
+                                    PlatformTransactionManager transactionManager) {
+        this.complaintRepository = complaintRepository;
+        this.progressRepository = progressRepository;
+        this.statusDefinitionService = statusDefinitionService;
+        this.currentUserProvider = currentUserProvider;
+        this.eventPublisher = eventPublisher;
+        this.statisticsService = statisticsService;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Changes the status of a single complaint.
+     * The version the caller has seen is checked against the complaint, and the update itself is guarded by
+     * the complaint's version, so concurrent edits fail with an optimistic locking error instead of waiting on row locks.
+     *
+     * @param complaintId     the ID of the complaint
+     * @param target          the new status
+     * @param expectedVersion the version of the complaint the caller has seen
+     * @throws IllegalArgumentException                 if the complaint does not exist or the transition is not allowed
+     * @throws ObjectOptimisticLockingFailureException if the complaint has been changed in the meantime
+     */
+    public void changeStatus(long complaintId, ComplaintStatus target, long expectedVersion) {
+        Complaint complaint = complaintRepository.findById(complaintId)
+                .orElseThrow(() -> new IllegalArgumentException("Beschwerde mit ID " + complaintId + " nicht gefunden."));
+        // Rows from before the version column was introduced count as version 0
+        long currentVersion = complaint.getVersion() != null ? complaint.getVersion() : 0L;
+        if (currentVersion != expectedVersion) {
+            throw new ObjectOptimisticLockingFailureException(Complaint.class, complaintId);
+        }
+
+        ComplaintStatus current = complaint.getStatus();
+        if (current == null || !current.canTransitionTo(target)) {
+            throw new IllegalArgumentException("Statuswechsel von " + describe(current) + " nach " + target.getCode() + " ist nicht erlaubt.");
+        }
+
+        complaint.setStatus(target);
+        complaint.setProgress(statusDefinitionService.getDefinitionReference(target));
+        complaintRepository.save(complaint);
+
+        progressRepository.appendHistory(complaintId, current, target, currentUserId());
+        statisticsService.recordStatusChanged(ComplaintDimensions.of(complaint), current, target);
+        // As in the bulk change, a complaint without creator is published without recipient
+        User creator = complaint.getCreator();
+        eventPublisher.publish(new ComplaintStatusChangedEvent(complaintId, complaint.getTitle(),
+                current.getCode(), target.getCode(), creator != null ? creator.getEmail() : null));
+    }
+
+    /**
+     * Changes the status of many complaints.
+     * The IDs are processed in chunks of {@link #BULK_CHUNK_SIZE}, each committed in its own transaction with a
+     * handful of set-based statements, so locks are held briefly and a failing chunk does not undo the others.
+     * Complaints whose status does not allow the transition, or that were changed concurrently or are locked by
+     * another change, are skipped without waiting and reported in the result.
+     *
+     * @param complaintIds the IDs of the complaints
+     * @param target       the new status
+     * @return the outcome per complaint
+     */
+    @TransactionPolicy(propagation = TransactionDefinition.PROPAGATION_NOT_SUPPORTED)
+    public BulkTransitionResult transitionAll(Collection<Long> complaintIds, ComplaintStatus target) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(complaintIds));
+        int definitionId = statusDefinitionService.getDefinitionId(target);
+        Long changedBy = currentUserId();
+
+        BulkAccumulator result = new BulkAccumulator();
+        for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + BULK_CHUNK_SIZE));
+            chunkTransaction.executeWithoutResult(status -> transitionChunk(chunk, target, definitionId, changedBy, result));
+        }
+        return new BulkTransitionResult(result.transitioned, result.rejected, result.conflicted, result.notFound);
+    }
+
+    private void transitionChunk(List<Long> chunk, ComplaintStatus target, int definitionId, Long changedBy, BulkAccumulator result) {
+        Map<Long, ComplaintStatus> currentStatuses = progressRepository.findCurrentStatuses(chunk);
+
+        Map<ComplaintStatus, List<Long>> idsByStatus = new EnumMap<>(ComplaintStatus.class);
+        for (Long id : chunk) {
+            ComplaintStatus current = currentStatuses.get(id);
+            if (!currentStatuses.containsKey(id)) {
+                result.notFound.add(id);
+            } else if (current == null || !current.canTransitionTo(target)) {
+                result.rejected.add(id);
+            } else {
+                idsByStatus.computeIfAbsent(current, key -> new ArrayList<>()).add(id);
+            }
+        }
+        if (idsByStatus.isEmpty()) {
+            return;
+        }
+
+        List<Long> candidates = new ArrayList<>();
+        Set<Long> changedIds = new LinkedHashSet<>();
+        idsByStatus.forEach((current, ids) -> {
+            changedIds.addAll(progressRepository.updateStatuses(ids, current, target, definitionId, changedBy));
+            candidates.addAll(ids);
+        });
+        candidates.stream().filter(id -> !changedIds.contains(id)).forEach(result.conflicted::add);
+        result.transitioned += changedIds.size();
+        if (changedIds.isEmpty()) {
+            return;
+        }
+
+        for (ComplaintRecipient recipient : progressRepository.findRecipients(changedIds)) {
+            ComplaintStatus previous = currentStatuses.get(recipient.getComplaintId());
+            eventPublisher.publish(new ComplaintStatusChangedEvent(recipient.getComplaintId(), recipient.getTitle(),
+                    previous.getCode(), target.getCode(), recipient.getEmail()));
+        }
+        for (ComplaintDimensions dimensions : complaintRepository.findDimensionsByIds(changedIds)) {
+            statisticsService.recordStatusChanged(dimensions, currentStatuses.get(dimensions.getComplaintId()), target);
+        }
+    }
+
+    private Long currentUserId() {
+        return currentUserProvider.getCurrentUserId().orElse(null);
+    }
+
+    private static String describe(ComplaintStatus status) {
+        return status != null ? status.getCode() : "unbekannt";
+    }
+
+    /**
+     * Collects the outcome of the chunks of one bulk change.
+     */
+    private static final class BulkAccumulator {
+        private int transitioned;
+        private final List<Long> rejected = new ArrayList<>();
+        private final List<Long> conflicted = new ArrayList<>();
+        private final List<Long> notFound = new ArrayList<>();
+    }
 }
@@ -1,4 +1,251 @@
 package com.example.city_feedback.progressManagement.application.services;
 
+import com.example.city_feedback.progressManagement.application.dto.Notification;
+import com.example.city_feedback.shared.infrastructure.config.NotificationProperties;
+import com.example.city_feedback.shared.infrastructure.metrics.MetricsRegistry;
+import com.example.city_feedback.shared.infrastructure.metrics.Monitored;
+import com.example.city_feedback.shared.infrastructure.transactions.TransactionPolicy;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Queues notifications to citizens about their complaints and sends them in batches.
+ *
+ * Changes are not sent right away: each complaint has at most one pending notification, and changes
+ * arriving within {@code app.notifications.coalesce-window} are merged into it. A scheduled flush hands
+ * the notifications whose window has passed to the {@link NotificationSink} on a bounded worker pool;
+ * when the pool is saturated, the flush delivers the batch itself and thereby slows down, while the
+ * callers never wait. Queueing only touches memory, so it is safe to call from hot paths.
+ */
+@Service
+@Monitored
+@TransactionPolicy(propagation = TransactionDefinition.PROPAGATION_SUPPORTS)
 public class NotificationService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationService.class);
+
+    private final NotificationSink sink;
+    private final NotificationProperties properties;
+    private final ConcurrentHashMap<Long, PendingNotification> pending = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor;
+    private final LongAdder queuedCounter;
+    private final LongAdder coalescedCounter;
+    private final LongAdder droppedCounter;
+    private final LongAdder sentCounter;
+    private final LongAdder failedCounter;
+
+    public NotificationService(NotificationSink sink, NotificationProperties properties, MetricsRegistry metricsRegistry) {
+        this.sink = sink;
+        this.properties = properties;
+        this.executor = newExecutor(properties);
+        this.queuedCounter = metricsRegistry.counter("notifications.queued");
+        this.coalescedCounter = metricsRegistry.counter("notifications.coalesced");
+        this.droppedCounter = metricsRegistry.counter("notifications.dropped");
+        this.sentCounter = metricsRegistry.counter("notifications.sent");
+        this.failedCounter = metricsRegistry.counter("notifications.failed");
+    }
+
+    /**
+     * Queues the notification that a complaint has been received.
+     *
+     * @param complaintId    the ID of the complaint
+     * @param complaintTitle the title of the complaint
+     * @param recipient      the email address of the citizen
+     */
+    public void notifyComplaintCreated(Long complaintId, String complaintTitle, String recipient) {
+        enqueue(new PendingNotification(recipient, complaintId, complaintTitle, true, null, null, System.nanoTime()));
+    }
+
+    /**
+     * Queues the notification that the status of a complaint has changed.
+     *
+     * @param complaintId    the ID of the complaint
+     * @param complaintTitle the title of the complaint
+     * @param previousStatus the status before the change
+     * @param newStatus      the status after the change
+     * @param recipient      the email address of the citizen
+     */
+    public void notifyStatusChanged(Long complaintId, String complaintTitle, String previousStatus, String newStatus, String recipient) {
+        enqueue(new PendingNotification(recipient, complaintId, complaintTitle, false, previousStatus, newStatus, System.nanoTime()));
+    }
+
+    /**
+     * Number of complaints with a pending notification.
+     *
+     * @return the number of pending notifications
+     */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    private void enqueue(PendingNotification notification) {
+        if (notification.recipient == null || notification.complaintId == null) {
+            droppedCounter.increment();
+            return;
+        }
+        if (pending.size() >= properties.getMaxPending() && !pending.containsKey(notification.complaintId)) {
+            droppedCounter.increment();
+            logger.warn("Notification for complaint {} dropped, {} notifications pending", notification.complaintId, pending.size());
+            return;
+        }
+        queuedCounter.increment();
+        pending.merge(notification.complaintId, notification, (queued, next) -> {
+            coalescedCounter.increment();
+            return queued.merge(next);
+        });
+    }
+
+    /**
+     * Sends all notifications whose coalescing window has passed.
+     */
+    @Scheduled(fixedDelayString = "#{@notificationProperties.flushInterval.toMillis()}")
+    public void flushDue() {
+        flush(System.nanoTime() - properties.getCoalesceWindow().toNanos());
+    }
+
+    /**
+     * Removes the notifications queued at or before the given time and hands them to the sink in batches.
+     *
+     * @param queuedBeforeNanos the {@link System#nanoTime()} up to which notifications are due
+     */
+    void flush(long queuedBeforeNanos) {
+        List<Notification> batch = new ArrayList<>(properties.getBatchSize());
+        for (Long complaintId : pending.keySet()) {
+            PendingNotification[] removed = new PendingNotification[1];
+            pending.computeIfPresent(complaintId, (key, queued) -> {
+                if (queued.firstQueuedNanos - queuedBeforeNanos > 0) {
+                    return queued;
+                }
+                removed[0] = queued;
+                return null;
+            });
+            if (removed[0] == null) {
+                continue;
+            }
+            Notification notification = removed[0].toNotification();
+            if (notification == null) {
+                continue;
+            }
+            batch.add(notification);
+            if (batch.size() == properties.getBatchSize()) {
+                submit(batch);
+                batch = new ArrayList<>(properties.getBatchSize());
+            }
+        }
+        if (!batch.isEmpty()) {
+            submit(batch);
+        }
+    }
+
+    private void submit(List<Notification> batch) {
+        executor.execute(() -> {
+            try {
+                sink.deliver(batch);
+                sentCounter.add(batch.size());
+            } catch (RuntimeException e) {
+                failedCounter.add(batch.size());
+                logger.error("Delivery of {} notifications failed", batch.size(), e);
+            }
+        });
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        flush(Long.MAX_VALUE);
+        executor.shutdown();
+        executor.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private static ThreadPoolExecutor newExecutor(NotificationProperties properties) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                properties.getWorkerThreads(), properties.getWorkerThreads(),
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "notifications-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    /**
+     * The changes to one complaint that have not been sent yet. Immutable, so it can be merged inside
+     * {@link ConcurrentHashMap#merge}.
+     */
+    private static final class PendingNotification {
+        private final String recipient;
+        private final Long complaintId;
+        private final String complaintTitle;
+        private final boolean created;
+        private final String initialStatus;
+        private final String currentStatus;
+        private final long firstQueuedNanos;
+
+        private PendingNotification(String recipient, Long complaintId, String complaintTitle, boolean created,
+                                    String initialStatus, String currentStatus, long firstQueuedNanos) {
+            this.recipient = recipient;
+            this.complaintId = complaintId;
+            this.complaintTitle = complaintTitle;
+            this.created = created;
+            this.initialStatus = initialStatus;
+            this.currentStatus = currentStatus;
+            this.firstQueuedNanos = firstQueuedNanos;
+        }
+
+        /**
+         * Combines this notification with a later one: the earliest status and the latest status are kept.
+         */
+        private PendingNotification merge(PendingNotification next) {
+            return new PendingNotification(
+                    next.recipient,
+                    complaintId,
+                    next.complaintTitle != null ? next.complaintTitle : complaintTitle,
+                    created || next.created,
+                    initialStatus != null ? initialStatus : next.initialStatus,
+                    next.currentStatus != null ? next.currentStatus : currentStatus,
+                    firstQueuedNanos);
+        }
+
+        /**
+         * Renders the message, or returns {@code null} if the changes cancelled each other out.
+         */
+        private Notification toNotification() {
+            boolean statusChanged = currentStatus != null && !Objects.equals(initialStatus, currentStatus);
+            if (!created && !statusChanged) {
+                return null;
+            }
+            String title = complaintTitle != null ? complaintTitle : "#" + complaintId;
+            StringBuilder body = new StringBuilder();
+            if (created) {
+                body.append("Ihre Beschwerde \"").append(title).append("\" ist bei uns eingegangen.");
+            }
+            if (statusChanged) {
+                if (body.length() > 0) {
+                    body.append('\n');
+                }
+                body.append("Status: ");
+                if (initialStatus != null && !created) {
+                    body.append(initialStatus).append(" -> ");
+                }
+                body.append(currentStatus);
+            }
+            return new Notification(recipient, complaintId, "Ihre Beschwerde \"" + title + "\"", body.toString());
+        }
+    }
 }
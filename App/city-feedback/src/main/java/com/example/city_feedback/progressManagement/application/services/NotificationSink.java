@@ -0,0 +1,20 @@
+package com.example.city_feedback.progressManagement.application.services;
+
+import com.example.city_feedback.progressManagement.application.dto.Notification;
+
+import java.util.List;
+
+/**
+ * Delivers notifications to citizens, e.g. by mail.
+ * The {@link NotificationService} calls it from its worker threads with batches of notifications,
+ * so implementations must be thread-safe.
+ */
+public interface NotificationSink {
+
+    /**
+     * Delivers a batch of notifications.
+     *
+     * @param notifications the notifications, never empty
+     */
+    void deliver(List<Notification> notifications);
+}
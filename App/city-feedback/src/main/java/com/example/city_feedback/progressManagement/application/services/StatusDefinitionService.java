@@ -0,0 +1,86 @@
+package com.example.city_feedback.progressManagement.application.services;
+
+import com.example.city_feedback.progressManagement.domain.models.ComplaintProgress;
+import com.example.city_feedback.progressManagement.domain.valueObjects.ComplaintStatus;
+import com.example.city_feedback.progressManagement.infrastructure.repositories.ProgressRepository;
+import com.example.city_feedback.shared.infrastructure.metrics.Monitored;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Provides the {@code complaint_progress} rows of the {@link ComplaintStatus} values.
+ * The definitions are static, so they are loaded once and then served from memory;
+ * rows missing in the database are added at startup.
+ */
+@Service
+@Monitored
+public class StatusDefinitionService {
+
+    private final ProgressRepository progressRepository;
+    private volatile Map<ComplaintStatus, Integer> definitionIds;
+
+    public StatusDefinitionService(ProgressRepository progressRepository) {
+        this.progressRepository = progressRepository;
+    }
+
+    /**
+     * Inserts the definitions missing in the database and fills the cache.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedDefinitions() {
+        Map<ComplaintStatus, Integer> ids = indexById(progressRepository.findAllDefinitions());
+        for (ComplaintStatus status : ComplaintStatus.values()) {
+            if (!ids.containsKey(status)) {
+                ComplaintProgress definition = new ComplaintProgress(status.getCode(), status.getColor());
+                definition.setDescription(status.getDescription());
+                ids.put(status, progressRepository.saveDefinition(definition).getId());
+            }
+        }
+        definitionIds = Collections.unmodifiableMap(ids);
+    }
+
+    /**
+     * Returns the ID of the definition of a status.
+     *
+     * @param status the status
+     * @return the ID of its {@code complaint_progress} row
+     * @throws IllegalStateException if the status has no definition
+     */
+    public int getDefinitionId(ComplaintStatus status) {
+        Map<ComplaintStatus, Integer> ids = definitionIds;
+        if (ids == null) {
+            ids = Collections.unmodifiableMap(indexById(progressRepository.findAllDefinitions()));
+            definitionIds = ids;
+        }
+        Integer id = ids.get(status);
+        if (id == null) {
+            throw new IllegalStateException("Status " + status.getCode() + " ist nicht definiert");
+        }
+        return id;
+    }
+
+    /**
+     * Returns a reference to the definition of a status for use in a complaint, without loading it.
+     *
+     * @param status the status
+     * @return the reference to its {@code complaint_progress} row
+     */
+    public ComplaintProgress getDefinitionReference(ComplaintStatus status) {
+        return progressRepository.getDefinitionReference(getDefinitionId(status));
+    }
+
+    private static Map<ComplaintStatus, Integer> indexById(List<ComplaintProgress> definitions) {
+        Map<ComplaintStatus, Integer> ids = new EnumMap<>(ComplaintStatus.class);
+        for (ComplaintProgress definition : definitions) {
+            ComplaintStatus.fromCode(definition.getStatus())
+                    .ifPresent(status -> ids.putIfAbsent(status, definition.getId()));
+        }
+        return ids;
+    }
+}
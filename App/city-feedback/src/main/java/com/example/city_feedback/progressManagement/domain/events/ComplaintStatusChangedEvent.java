@@ -0,0 +1,59 @@
+package com.example.city_feedback.progressManagement.domain.events;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Event triggered when the processing status of a complaint changes.
+ * It is delivered through the outbox, so it is serialized to JSON and read back by the subscribers.
+ */
+public class ComplaintStatusChangedEvent {
+
+    private final Long complaintId;
+    private final String complaintTitle;
+    private final String previousStatus;
+    private final String newStatus;
+    private final String creatorEmail;
+
+    /**
+     * Constructs a new ComplaintStatusChangedEvent.
+     *
+     * @param complaintId    the ID of the complaint
+     * @param complaintTitle the title of the complaint
+     * @param previousStatus the status before the change
+     * @param newStatus      the status after the change
+     * @param creatorEmail   the email address of the citizen who created the complaint
+     */
+    @JsonCreator
+    public ComplaintStatusChangedEvent(@JsonProperty("complaintId") Long complaintId,
+                                       @JsonProperty("complaintTitle") String complaintTitle,
+                                       @JsonProperty("previousStatus") String previousStatus,
+                                       @JsonProperty("newStatus") String newStatus,
+                                       @JsonProperty("creatorEmail") String creatorEmail) {
+        this.complaintId = complaintId;
+        this.complaintTitle = complaintTitle;
+        this.previousStatus = previousStatus;
+        this.newStatus = newStatus;
+        this.creatorEmail = creatorEmail;
+    }
+
+    public Long getComplaintId() {
+        return complaintId;
+    }
+
+    public String getComplaintTitle() {
+        return complaintTitle;
+    }
+
+    public String getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public String getNewStatus() {
+        return newStatus;
+    }
+
+    public String getCreatorEmail() {
+        return creatorEmail;
+    }
+}
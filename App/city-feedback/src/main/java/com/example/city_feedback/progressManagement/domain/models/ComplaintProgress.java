@@ -11,7 +11,8 @@ import java.util.Date;
 public class ComplaintProgress {
 
     @Id
-    @GeneratedValue(strategy = jakarta.persistence.GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "complaint_progress_seq")
+    @SequenceGenerator(name = "complaint_progress_seq", sequenceName = "complaint_progress_seq", allocationSize = 50)
     private int id;
 
     private String status;
@@ -0,0 +1,82 @@
+package com.example.city_feedback.progressManagement.domain.models;
+
+import com.example.city_feedback.progressManagement.domain.valueObjects.ComplaintStatus;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * One status change of a complaint. Rows are only ever appended; the current status is kept
+ * on the complaint itself, so reading it never scans this table.
+ */
+@Entity
+@Immutable
+@Table(name = "complaint_status_history", indexes = {
+        @Index(name = "idx_complaint_status_history_complaint_changed_at", columnList = "complaint_id, changed_at")
+})
+public class ComplaintStatusHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "complaint_id", nullable = false, updatable = false)
+    private Long complaintId;
+
+    /**
+     * Status before the change; {@code null} for the entry written when the complaint was created.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "previous_status", length = 32, updatable = false)
+    private ComplaintStatus previousStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "new_status", nullable = false, length = 32, updatable = false)
+    private ComplaintStatus newStatus;
+
+    /**
+     * ID of the user who made the change, if known.
+     */
+    @Column(name = "changed_by", updatable = false)
+    private Long changedBy;
+
+    @Column(name = "changed_at", nullable = false, updatable = false)
+    private LocalDateTime changedAt;
+
+    public ComplaintStatusHistory() {
+        // Default constructor for JPA
+    }
+
+    public ComplaintStatusHistory(Long complaintId, ComplaintStatus previousStatus, ComplaintStatus newStatus, Long changedBy) {
+        this.complaintId = complaintId;
+        this.previousStatus = previousStatus;
+        this.newStatus = newStatus;
+        this.changedBy = changedBy;
+        this.changedAt = LocalDateTime.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getComplaintId() {
+        return complaintId;
+    }
+
+    public ComplaintStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public ComplaintStatus getNewStatus() {
+        return newStatus;
+    }
+
+    public Long getChangedBy() {
+        return changedBy;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+}
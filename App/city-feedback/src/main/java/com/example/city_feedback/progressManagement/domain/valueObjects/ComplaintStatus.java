@@ -0,0 +1,68 @@
+package com.example.city_feedback.progressManagement.domain.valueObjects;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * The processing states of a complaint and the transitions allowed between them:
+ * OFFEN -> IN_BEARBEITUNG -> ERLEDIGT, with IN_BEARBEITUNG -> OFFEN to hand a complaint back
+ * and ERLEDIGT -> IN_BEARBEITUNG to reopen it.
+ * Each state has a row in {@code complaint_progress} with the same code, color and description;
+ * missing rows are added at startup.
+ */
+public enum ComplaintStatus {
+    OFFEN("OFFEN", "#808080", "Beschwerde wurde erstellt, ist aber noch nicht in Bearbeitung."),
+    IN_BEARBEITUNG("IN BEARBEITUNG", "#FFA500", "Beschwerde wird von der Stadt bearbeitet."),
+    ERLEDIGT("ERLEDIGT", "#008000", "Beschwerde wurde bearbeitet und ist abgeschlossen.");
+
+    private final String code;
+    private final String color;
+    private final String description;
+
+    ComplaintStatus(String code, String color, String description) {
+        this.code = code;
+        this.color = color;
+        this.description = description;
+    }
+
+    /**
+     * The value stored in {@code complaint_progress.status}.
+     */
+    public String getCode() {
+        return code;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Checks whether a complaint in this status may move to the given status.
+     *
+     * @param target the requested status
+     * @return true if the transition is allowed
+     */
+    public boolean canTransitionTo(ComplaintStatus target) {
+        return switch (this) {
+            case OFFEN -> target == IN_BEARBEITUNG;
+            case IN_BEARBEITUNG -> target == ERLEDIGT || target == OFFEN;
+            case ERLEDIGT -> target == IN_BEARBEITUNG;
+        };
+    }
+
+    /**
+     * Finds the status with the given code, ignoring case.
+     *
+     * @param code the code as stored in {@code complaint_progress.status}
+     * @return the status, or empty if the code is unknown
+     */
+    public static Optional<ComplaintStatus> fromCode(String code) {
+        return Arrays.stream(values())
+                .filter(status -> status.code.equalsIgnoreCase(code))
+                .findFirst();
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.city_feedback.progressManagement.infrastructure.messaging;
+
+import com.example.city_feedback.complaintManagement.domain.events.ComplaintCreatedEvent;
+import com.example.city_feedback.progressManagement.application.services.NotificationService;
+import com.example.city_feedback.shared.infrastructure.messaging.DomainEventSubscriber;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Queues a confirmation for every complaint created.
+ */
+@Component
+public class ComplaintCreatedNotificationSubscriber implements DomainEventSubscriber<ComplaintCreatedEvent> {
+
+    private final NotificationService notificationService;
+
+    public ComplaintCreatedNotificationSubscriber(NotificationService notificationService) {
+        this.notificationService = notificationService;
+    }
+
+    @Override
+    public Class<ComplaintCreatedEvent> eventType() {
+        return ComplaintCreatedEvent.class;
+    }
+
+    @Override
+    public void onEvents(List<ComplaintCreatedEvent> events) {
+        for (ComplaintCreatedEvent event : events) {
+            notificationService.notifyComplaintCreated(event.getComplaintId(), event.getComplaintTitle(), event.getCreatedBy());
+        }
+    }
+}
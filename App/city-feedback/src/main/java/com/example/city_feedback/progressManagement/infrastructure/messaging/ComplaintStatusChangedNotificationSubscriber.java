@@ -0,0 +1,34 @@
+package com.example.city_feedback.progressManagement.infrastructure.messaging;
+
+import com.example.city_feedback.progressManagement.application.services.NotificationService;
+import com.example.city_feedback.progressManagement.domain.events.ComplaintStatusChangedEvent;
+import com.example.city_feedback.shared.infrastructure.messaging.DomainEventSubscriber;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Queues a notification for every status change of a complaint.
+ */
+@Component
+public class ComplaintStatusChangedNotificationSubscriber implements DomainEventSubscriber<ComplaintStatusChangedEvent> {
+
+    private final NotificationService notificationService;
+
+    public ComplaintStatusChangedNotificationSubscriber(NotificationService notificationService) {
+        this.notificationService = notificationService;
+    }
+
+    @Override
+    public Class<ComplaintStatusChangedEvent> eventType() {
+        return ComplaintStatusChangedEvent.class;
+    }
+
+    @Override
+    public void onEvents(List<ComplaintStatusChangedEvent> events) {
+        for (ComplaintStatusChangedEvent event : events) {
+            notificationService.notifyStatusChanged(event.getComplaintId(), event.getComplaintTitle(),
+                    event.getPreviousStatus(), event.getNewStatus(), event.getCreatorEmail());
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.city_feedback.progressManagement.infrastructure.messaging;
+
+import com.example.city_feedback.progressManagement.application.dto.Notification;
+import com.example.city_feedback.progressManagement.application.services.NotificationSink;
+import com.example.city_feedback.shared.infrastructure.config.NotificationProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Stand-in for a mail gateway: appends each batch of notifications to a file, one block per notification.
+ * A batch is written with a single open and flush; batches are serialized, so blocks never interleave.
+ */
+@Component
+@ConditionalOnProperty(name = "app.notifications.sink", havingValue = "file")
+public class FileNotificationSink implements NotificationSink {
+
+    private final Path file;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public FileNotificationSink(NotificationProperties properties) {
+        this.file = Path.of(properties.getFile());
+    }
+
+    @Override
+    public void deliver(List<Notification> notifications) {
+        lock.lock();
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (Notification notification : notifications) {
+                writer.write("To: " + notification.getRecipient());
+                writer.newLine();
+                writer.write("Subject: " + notification.getSubject());
+                writer.newLine();
+                writer.write(notification.getBody());
+                writer.newLine();
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Benachrichtigungen konnten nicht geschrieben werden", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
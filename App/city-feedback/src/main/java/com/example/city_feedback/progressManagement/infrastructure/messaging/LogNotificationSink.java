@@ -0,0 +1,27 @@
+package com.example.city_feedback.progressManagement.infrastructure.messaging;
+
+import com.example.city_feedback.progressManagement.application.dto.Notification;
+import com.example.city_feedback.progressManagement.application.services.NotificationSink;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Default sink that writes notifications to the application log instead of sending them.
+ */
+@Component
+@ConditionalOnProperty(name = "app.notifications.sink", havingValue = "log", matchIfMissing = true)
+public class LogNotificationSink implements NotificationSink {
+
+    private static final Logger logger = LoggerFactory.getLogger(LogNotificationSink.class);
+
+    @Override
+    public void deliver(List<Notification> notifications) {
+        for (Notification notification : notifications) {
+            logger.info("Notification to {}: {} - {}", notification.getRecipient(), notification.getSubject(), notification.getBody());
+        }
+    }
+}
@@ -1,13 +1,229 @@
 package com.example.city_feedback.progressManagement.infrastructure.repositories;
 
+import com.example.city_feedback.progressManagement.application.dto.ComplaintRecipient;
+import com.example.city_feedback.progressManagement.domain.models.ComplaintProgress;
+import com.example.city_feedback.progressManagement.domain.models.ComplaintStatusHistory;
+import com.example.city_feedback.progressManagement.domain.valueObjects.ComplaintStatus;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Persistence of complaint statuses: the status definitions in {@code complaint_progress}, the current status
+ * kept on each complaint and the append-only {@code complaint_status_history}.
+ */
+@Repository
 public class ProgressRepository {
 
-    public String findCurrentStatus(int complaintId) {
-        return null;
+    /**
+     * Maximum number of IDs bound to one IN list; larger updates are split into several statements.
+     */
+    static final int MAX_IDS_PER_STATEMENT = 1000;
+
+    private final EntityManager entityManager;
+
+    public ProgressRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Loads all status definitions.
+     *
+     * @return the rows of {@code complaint_progress}
+     */
+    public List<ComplaintProgress> findAllDefinitions() {
+        return entityManager.createQuery("SELECT p FROM ComplaintProgress p ORDER BY p.id", ComplaintProgress.class)
+                .getResultList();
+    }
+
+    /**
+     * Stores a new status definition.
+     *
+     * @param definition the definition to store
+     * @return the stored definition with its generated ID
+     */
+    public ComplaintProgress saveDefinition(ComplaintProgress definition) {
+        entityManager.persist(definition);
+        return definition;
+    }
+
+    /**
+     * Returns a reference to a status definition without loading it.
+     *
+     * @param definitionId the ID of the definition
+     * @return the reference
+     */
+    public ComplaintProgress getDefinitionReference(int definitionId) {
+        return entityManager.getReference(ComplaintProgress.class, definitionId);
+    }
+
+    /**
+     * Reads the current status of a complaint from its denormalized status column.
+     *
+     * @param complaintId the ID of the complaint
+     * @return the status, or empty if the complaint does not exist
+     */
+    public Optional<ComplaintStatus> findCurrentStatus(long complaintId) {
+        return entityManager.createQuery("SELECT c.status FROM Complaint c WHERE c.id = :id", ComplaintStatus.class)
+                .setParameter("id", complaintId)
+                .getResultStream()
+                .findFirst();
+    }
+
+    /**
+     * Reads the current status of several complaints.
+     *
+     * @param complaintIds the IDs of the complaints
+     * @return the status by complaint ID; complaints that do not exist are missing
+     */
+    public Map<Long, ComplaintStatus> findCurrentStatuses(Collection<Long> complaintIds) {
+        Map<Long, ComplaintStatus> statuses = new HashMap<>();
+        for (List<Long> chunk : chunks(complaintIds)) {
+            entityManager.createQuery("SELECT c.id, c.status FROM Complaint c WHERE c.id IN :ids", Object[].class)
+                    .setParameter("ids", chunk)
+                    .getResultList()
+                    .forEach(row -> statuses.put((Long) row[0], (ComplaintStatus) row[1]));
+        }
+        return statuses;
+    }
+
+    /**
+     * Appends a status change of a single complaint to the history.
+     *
+     * @param complaintId    the ID of the complaint
+     * @param previousStatus the status before the change, or {@code null} for a new complaint
+     * @param newStatus      the status after the change
+     * @param changedBy      the ID of the user making the change, or {@code null}
+     */
+    public void appendHistory(long complaintId, ComplaintStatus previousStatus, ComplaintStatus newStatus, Long changedBy) {
+        entityManager.persist(new ComplaintStatusHistory(complaintId, previousStatus, newStatus, changedBy));
+    }
+
+    /**
+     * Appends the initial history entry of many new complaints with one INSERT ... SELECT per chunk of IDs,
+     * taking the status and creation time from the complaints themselves. The complaints must be flushed.
+     *
+     * @param complaintIds the IDs of the new complaints
+     * @param changedBy    the ID of the user who created them, or {@code null}
+     */
+    public void appendInitialHistory(Collection<Long> complaintIds, Long changedBy) {
+        for (List<Long> chunk : chunks(complaintIds)) {
+            entityManager.createQuery(
+                            "INSERT INTO ComplaintStatusHistory (complaintId, newStatus, changedBy, changedAt) " +
+                            "SELECT c.id, c.status, :changedBy, c.createdAt FROM Complaint c WHERE c.id IN :ids")
+                    .setParameter("changedBy", changedBy)
+                    .setParameter("ids", chunk)
+                    .executeUpdate();
+        }
+    }
+
+    /**
+     * Moves complaints from one status to another in bulk. For every chunk of IDs, the complaints still in
+     * {@code expectedStatus} are locked ({@code SELECT ... FOR UPDATE SKIP LOCKED}); then one INSERT ... SELECT
+     * appends their history entries and one UPDATE sets their status and definition and increments their version;
+     * no entity is loaded. A complaint moved concurrently by someone else, or locked by another change in progress,
+     * is skipped instead of being waited for or overwritten. Since the locked rows cannot change before the
+     * transaction ends, exactly the returned complaints were changed.
+     * Bulk statements bypass the persistence context, so callers must not hold managed copies of the complaints.
+     *
+     * @param complaintIds   the IDs of the complaints
+     * @param expectedStatus the status the complaints must currently have
+     * @param newStatus      the new status
+     * @param definitionId   the ID of the {@code complaint_progress} row of the new status
+     * @param changedBy      the ID of the user making the change, or {@code null}
+     * @return the IDs of the complaints whose status changed
+     */
+    public List<Long> updateStatuses(Collection<Long> complaintIds, ComplaintStatus expectedStatus, ComplaintStatus newStatus,
+                                     int definitionId, Long changedBy) {
+        LocalDateTime now = LocalDateTime.now();
+        ComplaintProgress definition = getDefinitionReference(definitionId);
+        List<Long> changed = new ArrayList<>();
+        for (List<Long> chunk : chunks(complaintIds)) {
+            List<Long> locked = lockInStatus(chunk, expectedStatus);
+            if (locked.isEmpty()) {
+                continue;
+            }
+            entityManager.createQuery(
+                            "INSERT INTO ComplaintStatusHistory (complaintId, previousStatus, newStatus, changedBy, changedAt) " +
+                            "SELECT c.id, c.status, :newStatus, :changedBy, :now FROM Complaint c WHERE c.id IN :ids")
+                    .setParameter("newStatus", newStatus)
+                    .setParameter("changedBy", changedBy)
+                    .setParameter("now", now)
+                    .setParameter("ids", locked)
+                    .executeUpdate();
+            entityManager.createQuery(
+                            "UPDATE Complaint c SET c.status = :newStatus, c.progress = :definition, " +
+                            "c.updatedAt = :now, c.version = c.version + 1 WHERE c.id IN :ids")
+                    .setParameter("newStatus", newStatus)
+                    .setParameter("definition", definition)
+                    .setParameter("now", now)
+                    .setParameter("ids", locked)
+                    .executeUpdate();
+            changed.addAll(locked);
+        }
+        return changed;
+    }
+
+    /**
+     * Loads title and creator email of the given complaints, e.g. to notify the citizens after a bulk change.
+     * Complaints without a creator are returned without an email.
+     *
+     * @param complaintIds the IDs of the complaints
+     * @return one entry per existing complaint
+     */
+    public List<ComplaintRecipient> findRecipients(Collection<Long> complaintIds) {
+        List<ComplaintRecipient> recipients = new ArrayList<>();
+        for (List<Long> chunk : chunks(complaintIds)) {
+            recipients.addAll(entityManager.createQuery(
+                            "SELECT new com.example.city_feedback.progressManagement.application.dto.ComplaintRecipient(" +
+                            "c.id, c.title, u.email) FROM Complaint c LEFT JOIN c.user u WHERE c.id IN :ids",
+                            ComplaintRecipient.class)
+                    .setParameter("ids", chunk)
+                    .getResultList());
+        }
+        return recipients;
+    }
+
+    /**
+     * Loads the status history of a complaint, oldest first. Served by the (complaint_id, changed_at) index.
+     *
+     * @param complaintId the ID of the complaint
+     * @return the history entries
+     */
+    public List<ComplaintStatusHistory> findHistory(long complaintId) {
+        return entityManager.createQuery(
+                        "SELECT h FROM ComplaintStatusHistory h WHERE h.complaintId = :complaintId ORDER BY h.changedAt, h.id",
+                        ComplaintStatusHistory.class)
+                .setParameter("complaintId", complaintId)
+                .getResultList();
+    }
+
+    /**
+     * Locks the given complaints that are in the given status. Rows locked by another transaction are skipped
+     * rather than waited for, so overlapping bulk changes fail fast for the shared complaints.
+     */
+    private List<Long> lockInStatus(List<Long> complaintIds, ComplaintStatus status) {
+        List<?> rows = entityManager.createNativeQuery(
+                        "SELECT id FROM complaints WHERE id IN (:ids) AND status = :status ORDER BY id FOR UPDATE SKIP LOCKED")
+                .setParameter("ids", complaintIds)
+                .setParameter("status", status.name())
+                .getResultList();
+        return rows.stream().map(row -> ((Number) row).longValue()).toList();
     }
 
-    public void updateStatus(int complaintId, String status) {
-        // not yet implemented, because: first focus on first two bounded contexts and the Citizen
-        // TODO: implementation eventually later, in case time is left for CityEmployee aspects
+    private static List<List<Long>> chunks(Collection<Long> ids) {
+        List<Long> all = ids instanceof List<Long> list ? list : new ArrayList<>(ids);
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += MAX_IDS_PER_STATEMENT) {
+            chunks.add(all.subList(from, Math.min(all.size(), from + MAX_IDS_PER_STATEMENT)));
+        }
+        return chunks;
     }
 }
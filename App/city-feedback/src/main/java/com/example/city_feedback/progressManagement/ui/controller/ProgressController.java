@@ -0,0 +1,70 @@
+package com.example.city_feedback.progressManagement.ui.controller;
+
+import com.example.city_feedback.progressManagement.application.dto.BulkTransitionResult;
+import com.example.city_feedback.progressManagement.application.services.ComplaintProgressService;
+import com.example.city_feedback.progressManagement.domain.valueObjects.ComplaintStatus;
+import com.example.city_feedback.shared.infrastructure.metrics.Monitored;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Endpoints for staff to move complaints through their processing states.
+ * Only users with the "Mitarbeiter" role may access them (see SecurityConfig).
+ */
+@Controller
+@Monitored
+@RequestMapping("/progress/complaints")
+public class ProgressController {
+
+    private final ComplaintProgressService complaintProgressService;
+
+    public ProgressController(ComplaintProgressService complaintProgressService) {
+        this.complaintProgressService = complaintProgressService;
+    }
+
+    /**
+     * Changes the status of one complaint. The version is the one returned with the complaint,
+     * e.g. the {@code version} field of {@code /api/v1/complaints/{id}}.
+     *
+     * @param id      the ID of the complaint
+     * @param status  the new status
+     * @param version the version of the complaint the client has seen
+     * @return 204 on success
+     */
+    @PostMapping("/{id}/status")
+    public ResponseEntity<Void> changeStatus(@PathVariable Long id,
+                                             @RequestParam ComplaintStatus status,
+                                             @RequestParam long version) {
+        complaintProgressService.changeStatus(id, status, version);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Changes the status of many complaints at once.
+     *
+     * @param ids    the IDs of the complaints
+     * @param status the new status
+     * @return the outcome per complaint
+     */
+    @PostMapping("/status")
+    @ResponseBody
+    public BulkTransitionResult transitionAll(@RequestParam List<Long> ids,
+                                              @RequestParam ComplaintStatus status) {
+        return complaintProgressService.transitionAll(ids, status);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleInvalidRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<String> handleConflict(OptimisticLockingFailureException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body("Die Beschwerde wurde zwischenzeitlich geändert.");
+    }
+}
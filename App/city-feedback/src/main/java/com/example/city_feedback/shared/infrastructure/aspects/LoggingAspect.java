@@ -1,64 +1,109 @@
 package com.example.city_feedback.shared.infrastructure.aspects;
 
-import org.aspectj.lang.JoinPoint;
+import com.example.city_feedback.shared.infrastructure.config.LoggingAspectProperties;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.aspectj.lang.annotation.Before;
-import org.aspectj.lang.annotation.AfterReturning;
-import org.aspectj.lang.annotation.AfterThrowing;
 import org.aspectj.lang.annotation.Pointcut;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
 
 @Aspect
 @Component
 public class LoggingAspect {
 
-    private static final Logger logger = LoggerFactory.getLogger(LoggingAspect.class);
+    private final LoggingAspectProperties properties;
+
+    public LoggingAspect(LoggingAspectProperties properties) {
+        this.properties = properties;
+    }
 
     /**
      * Pointcut to match all methods in the application.
-     * This pointcut matches the execution of any method within the `com.example` package and its sub-packages.
+     * This pointcut matches the execution of any method within the `com.example` package and its sub-packages,
+     * except the shared infrastructure (aspects, metrics and configuration) itself.
      */
-    @Pointcut("execution(* com.example..*(..))")
+    @Pointcut("execution(* com.example..*(..)) && !within(com.example.city_feedback.shared.infrastructure..*)")
     public void applicationMethods() {}
 
     /**
-     * Logs the entry of a method.
-     * This advice is executed before any method matched by the `applicationMethods` pointcut.
-     * It logs the method signature and its arguments.
+     * Logs the entry and exit of a method, or the exception it throws.
+     * This advice is executed around any method matched by the `applicationMethods` pointcut.
+     * Entry and exit are logged at DEBUG through the logger of the advised class, so the usual
+     * {@code logging.level.<package>} settings filter them per package. Arguments and results are only
+     * rendered when the level is enabled and the call is sampled, and they are truncated to
+     * {@code app.logging.aspect.max-value-length} characters; collections are rendered by size only.
      *
      * @param joinPoint provides reflective access to the state available at a join point
+     * @return the result of the method execution
+     * @throws Throwable if the method execution fails
      */
-    @Before("applicationMethods()")
-    public void logBeforeMethod(JoinPoint joinPoint) {
-        logger.info("Entering method: {} with arguments: {}", joinPoint.getSignature(), joinPoint.getArgs());
+    @Around("applicationMethods()")
+    public Object logMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        Logger logger = LoggerFactory.getLogger(joinPoint.getSignature().getDeclaringType());
+        boolean traced = properties.isEnabled() && logger.isDebugEnabled() && isSampled();
+
+        if (traced) {
+            logger.debug("Entering method: {} with arguments: {}", joinPoint.getSignature().getName(), renderArguments(joinPoint.getArgs()));
+        }
+        try {
+            Object result = joinPoint.proceed();
+            if (traced) {
+                logger.debug("Exiting method: {} with result: {}", joinPoint.getSignature().getName(), render(result));
+            }
+            return result;
+        } catch (Throwable exception) {
+            if (logger.isErrorEnabled()) {
+                logger.error("Exception in method: {} with cause: {}", joinPoint.getSignature().getName(), exception.getMessage());
+            }
+            throw exception;
+        }
     }
 
-    /**
-     * Logs the exit of a method on successful execution.
-     * This advice is executed after any method matched by the `applicationMethods` pointcut returns successfully.
-     * It logs the method signature and its result.
-     *
-     * @param joinPoint provides reflective access to the state available at a join point
-     * @param result the result returned by the method
-     */
-    @AfterReturning(pointcut = "applicationMethods()", returning = "result")
-    public void logAfterReturning(JoinPoint joinPoint, Object result) {
-        logger.info("Exiting method: {} with result: {}", joinPoint.getSignature(), result);
+    private boolean isSampled() {
+        double sampleRate = properties.getSampleRate();
+        return sampleRate >= 1.0 || (sampleRate > 0.0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    private String renderArguments(Object[] args) {
+        if (args.length == 0) {
+            return "[]";
+        }
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < args.length; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(render(args[i]));
+        }
+        return builder.append(']').toString();
     }
 
     /**
-     * Logs exceptions thrown by methods.
-     * This advice is executed after any method matched by the `applicationMethods` pointcut throws an exception.
-     * It logs the method signature and the exception message.
-     *
-     * @param joinPoint provides reflective access to the state available at a join point
-     * @param exception the exception thrown by the method
+     * Renders a single value for the log without walking large object graphs.
      */
-    @AfterThrowing(pointcut = "applicationMethods()", throwing = "exception")
-    public void logAfterThrowing(JoinPoint joinPoint, Throwable exception) {
-        logger.error("Exception in method: {} with cause: {}", joinPoint.getSignature(), exception.getMessage());
+    String render(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof Collection<?> collection) {
+            return value.getClass().getSimpleName() + "[size=" + collection.size() + "]";
+        }
+        if (value instanceof Map<?, ?> map) {
+            return value.getClass().getSimpleName() + "[size=" + map.size() + "]";
+        }
+        if (value.getClass().isArray()) {
+            return value.getClass().getComponentType().getSimpleName() + "[" + Array.getLength(value) + "]";
+        }
+        String text = String.valueOf(value);
+        int maxLength = properties.getMaxValueLength();
+        return text.length() <= maxLength ? text : text.substring(0, maxLength) + "...";
     }
 }
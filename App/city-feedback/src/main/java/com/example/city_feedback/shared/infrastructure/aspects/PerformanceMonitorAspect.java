@@ -1,38 +1,60 @@
 package com.example.city_feedback.shared.infrastructure.aspects;
 
+import com.example.city_feedback.shared.infrastructure.metrics.LatencyHistogram;
+import com.example.city_feedback.shared.infrastructure.metrics.MetricsRegistry;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+
 @Aspect
 @Component
 public class PerformanceMonitorAspect {
 
-    private static final Logger logger = LoggerFactory.getLogger(PerformanceMonitorAspect.class);
+    private final MetricsRegistry metricsRegistry;
+
+    /**
+     * Timers resolved per method, so the hot path neither builds names nor looks them up by string.
+     */
+    private final ConcurrentHashMap<Method, LatencyHistogram> timers = new ConcurrentHashMap<>();
+
+    public PerformanceMonitorAspect(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
 
     /**
      * Monitors the performance of methods.
-     * This advice is executed around any method matched by the pointcut expression.
-     * It logs the method signature and the time taken to execute the method.
+     * This advice is executed around any method of a bean or method annotated with {@code @Monitored}.
+     * It measures the execution time with nanosecond resolution and records it in the timer of the method.
+     * Nothing is logged; the timers are exposed through the {@code appmetrics} actuator endpoint.
      *
      * @param joinPoint provides reflective access to the state available at a join point
      * @return the result of the method execution
      * @throws Throwable if the method execution fails
      */
-    @Around("execution(* com.example..*(..))")
+    @Around("@within(com.example.city_feedback.shared.infrastructure.metrics.Monitored) " +
+            "|| @annotation(com.example.city_feedback.shared.infrastructure.metrics.Monitored)")
     public Object monitorPerformance(ProceedingJoinPoint joinPoint) throws Throwable {
-        long startTime = System.currentTimeMillis();
-
-        Object result = joinPoint.proceed();
-
-        long endTime = System.currentTimeMillis();
-        long executionTime = endTime - startTime;
-
-        logger.info("Method [{}] executed in {} ms", joinPoint.getSignature(), executionTime);
+        LatencyHistogram timer = timerFor(joinPoint);
+        long startTime = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timer.record(System.nanoTime() - startTime);
+        }
+    }
 
-        return result;
+    private LatencyHistogram timerFor(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        LatencyHistogram timer = timers.get(method);
+        if (timer == null) {
+            timer = timers.computeIfAbsent(method, m ->
+                    metricsRegistry.timer(m.getDeclaringClass().getSimpleName() + "." + m.getName()));
+        }
+        return timer;
     }
 }
@@ -1,14 +1,26 @@
 package com.example.city_feedback.shared.infrastructure.aspects;
 
+import com.example.city_feedback.shared.infrastructure.metrics.LatencyHistogram;
+import com.example.city_feedback.shared.infrastructure.metrics.MetricsRegistry;
+import com.example.city_feedback.shared.infrastructure.transactions.TransactionPolicy;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 @Aspect
 @Component
@@ -16,17 +28,34 @@ public class TransactionManagementAspect {
 
     private static final Logger logger = LoggerFactory.getLogger(TransactionManagementAspect.class);
 
+    /**
+     * Method name prefixes that mark a query; such methods run in a read-only transaction by default.
+     */
+    static final List<String> READ_ONLY_PREFIXES = List.of("get", "find", "exists", "count", "search", "load", "is", "has");
+
     private final PlatformTransactionManager transactionManager;
+    private final MetricsRegistry metricsRegistry;
+
+    private final ConcurrentHashMap<Method, Policy> policies = new ConcurrentHashMap<>();
+    private final LongAdder joinedCounter;
+    private final LongAdder rollbackCounter;
 
-    public TransactionManagementAspect(PlatformTransactionManager transactionManager) {
+    public TransactionManagementAspect(PlatformTransactionManager transactionManager, MetricsRegistry metricsRegistry) {
         this.transactionManager = transactionManager;
+        this.metricsRegistry = metricsRegistry;
+        this.joinedCounter = metricsRegistry.counter("tx.joined");
+        this.rollbackCounter = metricsRegistry.counter("tx.rolledBack");
     }
 
     /**
      * Manages transactions for methods in the application (for all services and repositories).
      * This advice is executed around any method matched by the pointcut expression.
-     * It starts a new transaction, proceeds with the method execution, and commits the transaction.
-     * If an exception is thrown, it rolls back the transaction.
+     * The transaction settings are resolved once per method: query methods run read-only, which makes
+     * Hibernate skip flushing and dirty checking and hands out a read-only JDBC connection; everything else
+     * runs read-write, and {@link TransactionPolicy} overrides either. If a transaction is already active and
+     * the method would only join it (e.g. a repository call from a service), the method is invoked directly.
+     * Otherwise a transaction is started, committed on success and rolled back if an exception is thrown;
+     * its duration is recorded in the {@code tx <Class>.<method>} timer of the MetricsRegistry.
      *
      * @param joinPoint provides reflective access to the state available at a join point
      * @return the result of the method execution
@@ -34,27 +63,107 @@ public class TransactionManagementAspect {
      */
     @Around("@within(org.springframework.stereotype.Service) || @within(org.springframework.stereotype.Repository)")
     public Object manageTransaction(ProceedingJoinPoint joinPoint) throws Throwable {
+        Policy policy = policyFor(joinPoint);
+        if (policy.joinsExisting() && TransactionSynchronizationManager.isActualTransactionActive()) {
+            joinedCounter.increment();
+            return joinPoint.proceed();
+        }
+
+        long startTime = System.nanoTime();
         TransactionStatus transactionStatus = null;
         try {
-            // Start a new transaction
-            transactionStatus = transactionManager.getTransaction(new DefaultTransactionDefinition());
-            logger.info("Transaction started for method: {}", joinPoint.getSignature());
-
-            // Proceed with the target method
+            transactionStatus = transactionManager.getTransaction(policy.definition());
             Object result = joinPoint.proceed();
-
-            // Commit the transaction
             transactionManager.commit(transactionStatus);
-            logger.info("Transaction committed for method: {}", joinPoint.getSignature());
-
+            if (logger.isDebugEnabled()) {
+                logger.debug("Transaction committed for method: {}", policy.definition().getName());
+            }
             return result;
         } catch (Throwable ex) {
-            // Rollback the transaction in case of an error
             if (transactionStatus != null && !transactionStatus.isCompleted()) {
                 transactionManager.rollback(transactionStatus);
-                logger.error("Transaction rolled back for method: {}", joinPoint.getSignature(), ex);
+                rollbackCounter.increment();
+                logger.warn("Transaction rolled back for method: {} with cause: {}", policy.definition().getName(), ex.getMessage());
             }
             throw ex;
+        } finally {
+            policy.timer().record(System.nanoTime() - startTime);
+        }
+    }
+
+    private Policy policyFor(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Policy policy = policies.get(method);
+        if (policy == null) {
+            Class<?> targetClass = joinPoint.getTarget() != null ? joinPoint.getTarget().getClass() : method.getDeclaringClass();
+            policy = policies.computeIfAbsent(method, m -> resolvePolicy(m, targetClass));
+        }
+        return policy;
+    }
+
+    /**
+     * Resolves the transaction settings of a method from its {@link TransactionPolicy} (method before class)
+     * or, if there is none, from its name.
+     */
+    Policy resolvePolicy(Method method, Class<?> targetClass) {
+        String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition();
+        definition.setName(name);
+
+        TransactionPolicy annotation = AnnotatedElementUtils.findMergedAnnotation(method, TransactionPolicy.class);
+        if (annotation == null) {
+            annotation = AnnotatedElementUtils.findMergedAnnotation(targetClass, TransactionPolicy.class);
+        }
+        if (annotation != null) {
+            definition.setReadOnly(annotation.readOnly());
+            definition.setPropagationBehavior(annotation.propagation());
+            definition.setIsolationLevel(annotation.isolation());
+            definition.setTimeout(annotation.timeout());
+        } else {
+            definition.setReadOnly(isQueryMethod(method.getName()));
+        }
+        return new Policy(definition, metricsRegistry.timer("tx " + name));
+    }
+
+    static boolean isQueryMethod(String methodName) {
+        for (String prefix : READ_ONLY_PREFIXES) {
+            if (methodName.startsWith(prefix)
+                    && (methodName.length() == prefix.length() || !Character.isLowerCase(methodName.charAt(prefix.length())))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Resolved transaction settings of a method together with its duration timer.
+     */
+    static final class Policy {
+
+        private final DefaultTransactionDefinition definition;
+        private final LatencyHistogram timer;
+
+        Policy(DefaultTransactionDefinition definition, LatencyHistogram timer) {
+            this.definition = definition;
+            this.timer = timer;
+        }
+
+        DefaultTransactionDefinition definition() {
+            return definition;
+        }
+
+        LatencyHistogram timer() {
+            return timer;
+        }
+
+        /**
+         * Whether the method simply participates in an already active transaction.
+         */
+        boolean joinsExisting() {
+            int propagation = definition.getPropagationBehavior();
+            return propagation == TransactionDefinition.PROPAGATION_REQUIRED
+                    || propagation == TransactionDefinition.PROPAGATION_SUPPORTS
+                    || propagation == TransactionDefinition.PROPAGATION_MANDATORY;
         }
     }
 }
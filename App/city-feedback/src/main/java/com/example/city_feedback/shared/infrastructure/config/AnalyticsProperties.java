@@ -0,0 +1,66 @@
+package com.example.city_feedback.shared.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Settings of the complaint trend rollups, bound from {@code app.analytics.*}.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.analytics")
+public class AnalyticsProperties {
+
+    /**
+     * Delay between two incremental refreshes of the rollups.
+     */
+    private Duration refreshInterval = Duration.ofMinutes(5);
+
+    /**
+     * How long an hour stays open after it ended, so complaints committed late are still counted.
+     */
+    private Duration lag = Duration.ofMinutes(2);
+
+    /**
+     * Maximum period rolled up in one transaction, e.g. during the first refresh over all complaints.
+     */
+    private Duration maxWindow = Duration.ofDays(31);
+
+    /**
+     * Maximum number of periods in one trend.
+     */
+    private int maxPoints = 1000;
+
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public void setRefreshInterval(Duration refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+
+    public Duration getLag() {
+        return lag;
+    }
+
+    public void setLag(Duration lag) {
+        this.lag = lag;
+    }
+
+    public Duration getMaxWindow() {
+        return maxWindow;
+    }
+
+    public void setMaxWindow(Duration maxWindow) {
+        this.maxWindow = maxWindow.compareTo(Duration.ofHours(1)) < 0 ? Duration.ofHours(1) : maxWindow;
+    }
+
+    public int getMaxPoints() {
+        return maxPoints;
+    }
+
+    public void setMaxPoints(int maxPoints) {
+        this.maxPoints = Math.max(1, maxPoints);
+    }
+}
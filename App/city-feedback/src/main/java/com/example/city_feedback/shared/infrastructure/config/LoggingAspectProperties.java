@@ -0,0 +1,53 @@
+package com.example.city_feedback.shared.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings of the LoggingAspect, bound from {@code app.logging.aspect.*}.
+ * Which packages are traced is controlled by the regular {@code logging.level.*} settings:
+ * the aspect logs entry and exit at DEBUG through the logger of the advised class.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.logging.aspect")
+public class LoggingAspectProperties {
+
+    /**
+     * Whether method entry and exit are traced at all.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Fraction of calls that are traced, between 0.0 and 1.0.
+     */
+    private double sampleRate = 0.01;
+
+    /**
+     * Maximum number of characters rendered per argument or result.
+     */
+    private int maxValueLength = 200;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public void setSampleRate(double sampleRate) {
+        this.sampleRate = Math.max(0.0, Math.min(1.0, sampleRate));
+    }
+
+    public int getMaxValueLength() {
+        return maxValueLength;
+    }
+
+    public void setMaxValueLength(int maxValueLength) {
+        this.maxValueLength = Math.max(0, maxValueLength);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.city_feedback.shared.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Settings of the citizen notifications, bound from {@code app.notifications.*}.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.notifications")
+public class NotificationProperties {
+
+    /**
+     * Time a notification waits for further changes to the same complaint before it is sent.
+     */
+    private Duration coalesceWindow = Duration.ofSeconds(2);
+
+    /**
+     * Delay between two checks for notifications whose window has passed.
+     */
+    private Duration flushInterval = Duration.ofMillis(500);
+
+    /**
+     * Maximum number of notifications handed to the sink at once.
+     */
+    private int batchSize = 200;
+
+    /**
+     * Number of threads delivering batches to the sink.
+     */
+    private int workerThreads = 2;
+
+    /**
+     * Capacity of the queue in front of the worker threads; when it is full, the flusher delivers the batch itself.
+     */
+    private int queueCapacity = 16;
+
+    /**
+     * Maximum number of complaints with a pending notification; changes to further complaints are dropped.
+     */
+    private int maxPending = 100_000;
+
+    /**
+     * Where notifications are delivered: {@code log} or {@code file}.
+     */
+    private String sink = "log";
+
+    /**
+     * File the {@code file} sink appends to.
+     */
+    private String file = "notifications.log";
+
+    public Duration getCoalesceWindow() {
+        return coalesceWindow;
+    }
+
+    public void setCoalesceWindow(Duration coalesceWindow) {
+        this.coalesceWindow = coalesceWindow;
+    }
+
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    public void setWorkerThreads(int workerThreads) {
+        this.workerThreads = Math.max(1, workerThreads);
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = Math.max(1, queueCapacity);
+    }
+
+    public int getMaxPending() {
+        return maxPending;
+    }
+
+    public void setMaxPending(int maxPending) {
+        this.maxPending = Math.max(1, maxPending);
+    }
+
+    public String getSink() {
+        return sink;
+    }
+
+    public void setSink(String sink) {
+        this.sink = sink;
+    }
+
+    public String getFile() {
+        return file;
+    }
+
+    public void setFile(String file) {
+        this.file = file;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.city_feedback.shared.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Settings of the transactional outbox, bound from {@code app.outbox.*}.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.outbox")
+public class OutboxProperties {
+
+    /**
+     * Delay between two polls of the outbox table once it has been drained.
+     */
+    private Duration pollInterval = Duration.ofMillis(500);
+
+    /**
+     * Maximum number of messages claimed and dispatched per transaction.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Number of threads running subscribers.
+     */
+    private int workerThreads = 4;
+
+    /**
+     * Capacity of the queue in front of the worker threads; when it is full, the dispatcher runs the subscriber itself.
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * Maximum time a batch waits for its subscribers before the unfinished messages are retried.
+     * Claimed messages are leased for twice this time.
+     */
+    private Duration subscriberTimeout = Duration.ofSeconds(30);
+
+    /**
+     * Number of failed deliveries after which a message is parked and no longer retried.
+     */
+    private int maxAttempts = 10;
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+
+    public void setPollInterval(Duration pollInterval) {
+        this.pollInterval = pollInterval;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    public void setWorkerThreads(int workerThreads) {
+        this.workerThreads = Math.max(1, workerThreads);
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = Math.max(1, queueCapacity);
+    }
+
+    public Duration getSubscriberTimeout() {
+        return subscriberTimeout;
+    }
+
+    public void setSubscriberTimeout(Duration subscriberTimeout) {
+        this.subscriberTimeout = subscriberTimeout;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+}
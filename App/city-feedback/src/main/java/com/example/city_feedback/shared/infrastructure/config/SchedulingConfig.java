@@ -0,0 +1,12 @@
+package com.example.city_feedback.shared.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background jobs such as the OutboxDispatcher.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,39 @@
+package com.example.city_feedback.shared.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings of the complaint search, bound from {@code app.search.*}.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.search")
+public class SearchProperties {
+
+    /**
+     * Search backend: {@code postgres} for the full-text index of the database,
+     * {@code memory} for the in-process inverted index used with H2.
+     */
+    private String engine = "postgres";
+
+    /**
+     * Number of top results that can be paged through; deeper pages are rejected.
+     */
+    private int maxResultWindow = 1000;
+
+    public String getEngine() {
+        return engine;
+    }
+
+    public void setEngine(String engine) {
+        this.engine = engine;
+    }
+
+    public int getMaxResultWindow() {
+        return maxResultWindow;
+    }
+
+    public void setMaxResultWindow(int maxResultWindow) {
+        this.maxResultWindow = Math.max(1, maxResultWindow);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.city_feedback.shared.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Settings of the complaint statistics, bound from {@code app.statistics.*}.
+ */
+@Component
+@ConfigurationProperties(prefix = "app.statistics")
+public class StatisticsProperties {
+
+    /**
+     * Delay between two writes of the changed counts to the summary table.
+     */
+    private Duration flushInterval = Duration.ofSeconds(5);
+
+    /**
+     * Maximum number of days returned by one query of the daily counts.
+     */
+    private int maxDays = 366;
+
+    public Duration getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(Duration flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public int getMaxDays() {
+        return maxDays;
+    }
+
+    public void setMaxDays(int maxDays) {
+        this.maxDays = Math.max(1, maxDays);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.city_feedback.shared.infrastructure.messaging;
+
+import java.util.List;
+
+/**
+ * Receives domain events from the transactional outbox, asynchronously and in batches.
+ * Implementations are Spring beans; the OutboxDispatcher finds them by their event type.
+ * Delivery is at least once: a failed batch is delivered again event by event, and a failed event is retried
+ * later for the subscribers that have not handled it yet, so implementations must tolerate duplicates.
+ *
+ * @param <E> the type of event handled
+ */
+public interface DomainEventSubscriber<E> {
+
+    /**
+     * The event class this subscriber handles.
+     *
+     * @return the event class
+     */
+    Class<E> eventType();
+
+    /**
+     * Handles a batch of events in the order they were published.
+     *
+     * @param events the events, never empty
+     */
+    void onEvents(List<E> events);
+}
@@ -0,0 +1,319 @@
+package com.example.city_feedback.shared.infrastructure.messaging;
+
+import com.example.city_feedback.shared.infrastructure.config.OutboxProperties;
+import com.example.city_feedback.shared.infrastructure.metrics.MetricsRegistry;
+import com.example.city_feedback.shared.infrastructure.repositories.OutboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the transactional outbox in the background and hands the events to their {@link DomainEventSubscriber}s.
+ *
+ * Each poll claims a batch of due messages in a short transaction that leases them for twice the subscriber timeout.
+ * The subscribers run after that transaction on a bounded worker pool: every subscriber of an event type gets the
+ * group's events as one batch, and if the batch fails, event by event, so one bad message does not hold back the
+ * others. A second transaction deletes the messages all subscribers handled and reschedules the others with
+ * exponential backoff, recording which subscribers already succeeded so only the failed ones see the retry.
+ * Messages are parked after {@code app.outbox.max-attempts}.
+ */
+@Component
+public class OutboxDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxDispatcher.class);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(10);
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<DomainEventSubscriber<?>> subscriberProvider;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+    private final LongAdder deliveredCounter;
+    private final LongAdder failedCounter;
+
+    private volatile Map<String, List<DomainEventSubscriber<?>>> subscribersByType;
+
+    public OutboxDispatcher(OutboxRepository outboxRepository,
+                            ObjectMapper objectMapper,
+                            ObjectProvider<DomainEventSubscriber<?>> subscriberProvider,
+                            OutboxProperties properties,
+                            PlatformTransactionManager transactionManager,
+                            MetricsRegistry metricsRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.subscriberProvider = subscriberProvider;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = newExecutor(properties);
+        this.deliveredCounter = metricsRegistry.counter("outbox.delivered");
+        this.failedCounter = metricsRegistry.counter("outbox.failed");
+    }
+
+    /**
+     * Polls the outbox and dispatches batches until no full batch is left.
+     */
+    @Scheduled(fixedDelayString = "#{@outboxProperties.pollInterval.toMillis()}")
+    public void dispatchPending() {
+        int claimed;
+        do {
+            claimed = dispatchBatch();
+        } while (claimed == properties.getBatchSize());
+    }
+
+    /**
+     * Claims, delivers and completes one batch. Claiming and completing run in their own transactions,
+     * the subscribers outside of both.
+     *
+     * @return the number of claimed messages
+     */
+    int dispatchBatch() {
+        List<OutboxMessage> messages = transactionTemplate.execute(status -> claim());
+        if (messages == null || messages.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Outcome> outcomes = deliver(messages);
+        transactionTemplate.executeWithoutResult(status -> complete(outcomes));
+        return messages.size();
+    }
+
+    private List<OutboxMessage> claim() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxMessage> messages = outboxRepository.findDueForUpdate(now, PageRequest.of(0, properties.getBatchSize()));
+        LocalDateTime leaseUntil = now.plus(properties.getSubscriberTimeout().multipliedBy(2));
+        messages.forEach(message -> message.claim(leaseUntil));
+        return messages;
+    }
+
+    private Map<Long, Outcome> deliver(List<OutboxMessage> messages) {
+        Map<Long, Outcome> outcomes = new LinkedHashMap<>();
+        messages.forEach(message -> outcomes.put(message.getId(), new Outcome()));
+        Map<String, List<OutboxMessage>> messagesByType = messages.stream()
+                .collect(Collectors.groupingBy(OutboxMessage::getEventType, LinkedHashMap::new, Collectors.toList()));
+
+        List<SubscriberRun> runs = new ArrayList<>();
+        for (Map.Entry<String, List<OutboxMessage>> group : messagesByType.entrySet()) {
+            List<DomainEventSubscriber<?>> subscribers = subscribers().getOrDefault(group.getKey(), List.of());
+            if (subscribers.isEmpty()) {
+                continue;
+            }
+            Class<?> eventType = subscribers.get(0).eventType();
+            List<PendingEvent> readable = new ArrayList<>();
+            for (OutboxMessage message : group.getValue()) {
+                try {
+                    readable.add(new PendingEvent(message, objectMapper.readValue(message.getPayload(), eventType)));
+                } catch (Exception e) {
+                    outcomes.get(message.getId()).fail("Nicht lesbar: " + e.getMessage());
+                }
+            }
+            for (DomainEventSubscriber<?> subscriber : subscribers) {
+                String name = subscriberName(subscriber);
+                List<PendingEvent> pending = readable.stream()
+                        .filter(event -> !event.message.isDeliveredTo(name))
+                        .toList();
+                if (!pending.isEmpty()) {
+                    runs.add(new SubscriberRun(name, pending, executor.submit(() -> deliverIsolated(subscriber, pending))));
+                }
+            }
+        }
+
+        long deadline = System.nanoTime() + properties.getSubscriberTimeout().toNanos();
+        for (SubscriberRun run : runs) {
+            Map<Long, String> failures = await(run, deadline);
+            for (PendingEvent event : run.events) {
+                Outcome outcome = outcomes.get(event.message.getId());
+                String error = failures.get(event.message.getId());
+                if (error == null) {
+                    outcome.deliveredTo.add(run.subscriber);
+                } else {
+                    outcome.fail(run.subscriber + ": " + error);
+                }
+            }
+        }
+        return outcomes;
+    }
+
+    /**
+     * Hands the events to a subscriber as one batch and, if that fails, one by one.
+     *
+     * @return the errors by message ID of the events the subscriber did not handle
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> Map<Long, String> deliverIsolated(DomainEventSubscriber<E> subscriber, List<PendingEvent> events) {
+        try {
+            subscriber.onEvents(events.stream().map(event -> (E) event.event).toList());
+            return Map.of();
+        } catch (RuntimeException batchFailure) {
+            if (events.size() == 1) {
+                return Map.of(events.get(0).message.getId(), String.valueOf(batchFailure));
+            }
+            Map<Long, String> failures = new HashMap<>();
+            for (PendingEvent event : events) {
+                if (Thread.currentThread().isInterrupted()) {
+                    failures.put(event.message.getId(), "Unterbrochen");
+                    continue;
+                }
+                try {
+                    subscriber.onEvents(List.of((E) event.event));
+                } catch (RuntimeException e) {
+                    failures.put(event.message.getId(), String.valueOf(e));
+                }
+            }
+            return failures;
+        }
+    }
+
+    private Map<Long, String> await(SubscriberRun run, long deadline) {
+        String error;
+        try {
+            return run.future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            error = String.valueOf(e.getCause());
+        } catch (TimeoutException e) {
+            run.future.cancel(true);
+            error = "Zeitüberschreitung";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            error = "Unterbrochen";
+        }
+        Map<Long, String> failures = new HashMap<>();
+        for (PendingEvent event : run.events) {
+            failures.put(event.message.getId(), error);
+        }
+        return failures;
+    }
+
+    /**
+     * Deletes the messages all subscribers handled and reschedules the others.
+     */
+    private void complete(Map<Long, Outcome> outcomes) {
+        List<OutboxMessage> delivered = new ArrayList<>();
+        for (OutboxMessage message : outboxRepository.findAllById(outcomes.keySet())) {
+            Outcome outcome = outcomes.get(message.getId());
+            if (outcome.error == null) {
+                delivered.add(message);
+            } else {
+                outcome.deliveredTo.forEach(message::markDeliveredTo);
+                fail(message, outcome.error);
+            }
+        }
+        if (!delivered.isEmpty()) {
+            outboxRepository.deleteAllInBatch(delivered);
+            deliveredCounter.add(delivered.size());
+        }
+    }
+
+    private void fail(OutboxMessage message, String error) {
+        failedCounter.increment();
+        int attempts = message.getAttempts() + 1;
+        if (attempts >= properties.getMaxAttempts()) {
+            logger.error("Outbox message {} ({}) parked after {} attempts: {}", message.getId(), message.getEventType(), attempts, error);
+            message.markFailed(error, null);
+            return;
+        }
+        long backoffMillis = Math.min(MAX_BACKOFF.toMillis(), 1000L << Math.min(attempts, 20));
+        logger.warn("Outbox message {} ({}) failed, retry {}: {}", message.getId(), message.getEventType(), attempts, error);
+        message.markFailed(error, LocalDateTime.now().plusNanos(backoffMillis * 1_000_000));
+    }
+
+    private Map<String, List<DomainEventSubscriber<?>>> subscribers() {
+        Map<String, List<DomainEventSubscriber<?>>> current = subscribersByType;
+        if (current == null) {
+            Map<String, List<DomainEventSubscriber<?>>> byType = new HashMap<>();
+            subscriberProvider.orderedStream().forEach(subscriber ->
+                    byType.computeIfAbsent(subscriber.eventType().getName(), key -> new ArrayList<>()).add(subscriber));
+            current = byType;
+            subscribersByType = current;
+        }
+        return current;
+    }
+
+    private static ThreadPoolExecutor newExecutor(OutboxProperties properties) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return new ThreadPoolExecutor(
+                properties.getWorkerThreads(), properties.getWorkerThreads(),
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "outbox-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(properties.getSubscriberTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static String subscriberName(DomainEventSubscriber<?> subscriber) {
+        return ClassUtils.getUserClass(subscriber).getName();
+    }
+
+    /**
+     * A parsed event together with its message.
+     */
+    private static final class PendingEvent {
+        private final OutboxMessage message;
+        private final Object event;
+
+        private PendingEvent(OutboxMessage message, Object event) {
+            this.message = message;
+            this.event = event;
+        }
+    }
+
+    /**
+     * The pending run of one subscriber with the events handed to it.
+     */
+    private static final class SubscriberRun {
+        private final String subscriber;
+        private final List<PendingEvent> events;
+        private final Future<Map<Long, String>> future;
+
+        private SubscriberRun(String subscriber, List<PendingEvent> events, Future<Map<Long, String>> future) {
+            this.subscriber = subscriber;
+            this.events = events;
+            this.future = future;
+        }
+    }
+
+    /**
+     * The result of one message: the subscribers that handled it and the last error, if any subscriber failed.
+     */
+    private static final class Outcome {
+        private final List<String> deliveredTo = new ArrayList<>();
+        private String error;
+
+        private void fail(String error) {
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.city_feedback.shared.infrastructure.messaging;
+
+import com.example.city_feedback.shared.infrastructure.repositories.OutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes domain events through the transactional outbox.
+ * The event is stored as JSON in the caller's transaction, so it is delivered if and only if that transaction commits.
+ */
+@Component
+public class OutboxEventPublisher {
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    public OutboxEventPublisher(OutboxRepository outboxRepository, ObjectMapper objectMapper) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Writes the event to the outbox.
+     *
+     * @param event the event to publish; it must be serializable by Jackson
+     * @throws IllegalArgumentException if the event cannot be serialized
+     */
+    public void publish(Object event) {
+        try {
+            String payload = objectMapper.writeValueAsString(event);
+            outboxRepository.save(new OutboxMessage(event.getClass().getName(), payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Ereignis kann nicht serialisiert werden: " + event.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.city_feedback.shared.infrastructure.messaging;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * A domain event waiting in the transactional outbox.
+ * Messages are written in the transaction that produced the event and deleted once all subscribers handled them.
+ * Until then the message records which subscribers already handled it, so retries only go to the others.
+ */
+@Entity
+@Table(name = "outbox_messages", indexes = {
+        @Index(name = "idx_outbox_messages_available_at_id", columnList = "available_at, id")
+})
+public class OutboxMessage {
+
+    static final int MAX_ERROR_LENGTH = 1000;
+    private static final String SUBSCRIBER_SEPARATOR = ",";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_messages_seq")
+    @SequenceGenerator(name = "outbox_messages_seq", sequenceName = "outbox_messages_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(name = "payload", nullable = false, length = 10000)
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Earliest time of the next delivery attempt; {@code null} once the message is parked.
+     */
+    @Column(name = "available_at")
+    private LocalDateTime availableAt;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    /**
+     * Comma-separated names of the subscribers that handled the message in an earlier attempt.
+     */
+    @Column(name = "delivered_to", length = 2000)
+    private String deliveredTo;
+
+    public OutboxMessage() {
+        // Default constructor for JPA
+    }
+
+    public OutboxMessage(String eventType, String payload) {
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+        this.availableAt = this.createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getAvailableAt() {
+        return availableAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public String getDeliveredTo() {
+        return deliveredTo;
+    }
+
+    /**
+     * Reserves the message for a dispatcher until the given time. Other dispatchers skip it until then,
+     * so it is retried if the dispatcher stops before recording the outcome.
+     *
+     * @param leaseUntil the end of the reservation
+     */
+    public void claim(LocalDateTime leaseUntil) {
+        this.availableAt = leaseUntil;
+    }
+
+    /**
+     * Checks whether a subscriber already handled the message.
+     *
+     * @param subscriber the name of the subscriber
+     * @return {@code true} if the subscriber handled the message
+     */
+    public boolean isDeliveredTo(String subscriber) {
+        return deliveredTo != null && Arrays.asList(deliveredTo.split(SUBSCRIBER_SEPARATOR)).contains(subscriber);
+    }
+
+    /**
+     * Records that a subscriber handled the message.
+     *
+     * @param subscriber the name of the subscriber
+     */
+    public void markDeliveredTo(String subscriber) {
+        if (!isDeliveredTo(subscriber)) {
+            this.deliveredTo = deliveredTo == null ? subscriber : deliveredTo + SUBSCRIBER_SEPARATOR + subscriber;
+        }
+    }
+
+    /**
+     * Records a failed delivery and schedules the next attempt, or parks the message.
+     *
+     * @param error       the reason of the failure
+     * @param nextAttempt the time of the next attempt, or {@code null} to park the message
+     */
+    public void markFailed(String error, LocalDateTime nextAttempt) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        this.availableAt = nextAttempt;
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.city_feedback.shared.infrastructure.metrics;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint exposing the timers and counters of the {@link MetricsRegistry}
+ * under {@code /actuator/appmetrics}. Durations are reported in nanoseconds.
+ */
+@Component
+@Endpoint(id = "appmetrics")
+public class MetricsEndpoint {
+
+    private final MetricsRegistry metricsRegistry;
+
+    public MetricsEndpoint(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    @ReadOperation
+    public Map<String, Object> metrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("timers", metricsRegistry.timerSnapshots());
+        metrics.put("counters", metricsRegistry.counterValues());
+        return metrics;
+    }
+}
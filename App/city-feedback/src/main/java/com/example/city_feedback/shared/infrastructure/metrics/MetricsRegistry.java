@@ -0,0 +1,62 @@
+package com.example.city_feedback.shared.infrastructure.metrics;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Central in-process registry for timers and counters.
+ * Instruments are created on first use and live as long as the application.
+ * Lookups are lock-free, so callers may resolve instruments on hot paths, but should cache them where possible.
+ */
+@Component
+public class MetricsRegistry {
+
+    private final ConcurrentHashMap<String, LatencyHistogram> timers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the timer with the given name, creating it if necessary.
+     *
+     * @param name the name of the timer
+     * @return the timer histogram
+     */
+    public LatencyHistogram timer(String name) {
+        return timers.computeIfAbsent(name, key -> new LatencyHistogram());
+    }
+
+    /**
+     * Returns the counter with the given name, creating it if necessary.
+     *
+     * @param name the name of the counter
+     * @return the counter
+     */
+    public LongAdder counter(String name) {
+        return counters.computeIfAbsent(name, key -> new LongAdder());
+    }
+
+    /**
+     * Takes snapshots of all timers, sorted by name.
+     *
+     * @return the timer snapshots by name
+     */
+    public Map<String, LatencyHistogram.Snapshot> timerSnapshots() {
+        Map<String, LatencyHistogram.Snapshot> snapshots = new TreeMap<>();
+        timers.forEach((name, timer) -> snapshots.put(name, timer.snapshot()));
+        return snapshots;
+    }
+
+    /**
+     * Reads the current values of all counters, sorted by name.
+     *
+     * @return the counter values by name
+     */
+    public Map<String, Long> counterValues() {
+        Map<String, Long> values = new TreeMap<>();
+        counters.forEach((name, counter) -> values.put(name, counter.sum()));
+        return values;
+    }
+}
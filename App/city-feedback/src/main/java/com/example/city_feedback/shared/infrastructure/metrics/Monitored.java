@@ -0,0 +1,18 @@
+package com.example.city_feedback.shared.infrastructure.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a bean class or a single method for execution time monitoring.
+ * Annotated methods are timed by the PerformanceMonitorAspect and recorded in the {@link MetricsRegistry}.
+ * On a class, all public methods of the bean are monitored.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface Monitored {
+}
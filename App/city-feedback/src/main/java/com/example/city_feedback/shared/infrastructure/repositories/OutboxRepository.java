@@ -0,0 +1,36 @@
+package com.example.city_feedback.shared.infrastructure.repositories;
+
+import com.example.city_feedback.shared.infrastructure.messaging.OutboxMessage;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for the messages of the transactional outbox.
+ */
+@Repository
+public interface OutboxRepository extends JpaRepository<OutboxMessage, Long> {
+
+    /**
+     * Claims the oldest messages that are due for delivery.
+     * The rows stay locked until the calling transaction ends; rows locked by another dispatcher are skipped
+     * ({@code FOR UPDATE SKIP LOCKED}), so several instances can drain the outbox concurrently.
+     * Callers lease the claimed messages before committing, see {@link OutboxMessage#claim}.
+     *
+     * @param now   the current time
+     * @param limit the page request limiting the number of messages
+     * @return the claimed messages in insertion order
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT m FROM OutboxMessage m WHERE m.availableAt <= :now ORDER BY m.id")
+    List<OutboxMessage> findDueForUpdate(LocalDateTime now, Pageable limit);
+}
@@ -0,0 +1,41 @@
+package com.example.city_feedback.shared.infrastructure.transactions;
+
+import org.springframework.transaction.TransactionDefinition;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Overrides the transaction settings the TransactionManagementAspect derives for a service or repository method.
+ * Without this annotation, methods whose name starts with a query prefix (get, find, exists, count, ...) run
+ * read-only and all others read-write, both with propagation REQUIRED and the default isolation and timeout.
+ * On a class, the settings apply to all methods that are not annotated themselves.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface TransactionPolicy {
+
+    /**
+     * Whether the transaction is read-only (read-only connection, no flush, no dirty checking).
+     */
+    boolean readOnly() default false;
+
+    /**
+     * Propagation behavior, one of the {@code TransactionDefinition.PROPAGATION_*} constants.
+     */
+    int propagation() default TransactionDefinition.PROPAGATION_REQUIRED;
+
+    /**
+     * Isolation level, one of the {@code TransactionDefinition.ISOLATION_*} constants.
+     */
+    int isolation() default TransactionDefinition.ISOLATION_DEFAULT;
+
+    /**
+     * Timeout in seconds, or {@code TransactionDefinition.TIMEOUT_DEFAULT} for none.
+     */
+    int timeout() default TransactionDefinition.TIMEOUT_DEFAULT;
+}
@@ -0,0 +1,27 @@
+-- Hourly, daily and monthly complaint counts for the trend charts.
+-- No backfill needed: without a watermark the first refresh rolls up all complaints, starting with the oldest,
+-- in windows of app.analytics.max-window.
+
+BEGIN;
+
+CREATE SEQUENCE IF NOT EXISTS complaint_rollups_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS complaint_rollups (
+    id              BIGINT PRIMARY KEY,
+    granularity     VARCHAR(10) NOT NULL,
+    bucket_start    TIMESTAMP   NOT NULL,
+    category_id     INTEGER     NOT NULL,
+    postal_code     VARCHAR(5)  NOT NULL,
+    complaint_count BIGINT      NOT NULL,
+    -- Also serves the range scans of the trend queries, which always filter by granularity and bucket_start
+    CONSTRAINT uk_complaint_rollups_bucket UNIQUE (granularity, bucket_start, category_id, postal_code)
+);
+
+CREATE TABLE IF NOT EXISTS rollup_watermarks (
+    name            VARCHAR(50) PRIMARY KEY,
+    processed_until TIMESTAMP   NOT NULL
+);
+
+-- The refresh reads the complaints of one window through idx_complaints_created_at_id.
+
+COMMIT;
@@ -0,0 +1,14 @@
+-- Full-text search over complaint titles and descriptions (PostgreSQL 12+).
+-- Run once against existing databases before enabling app.search.engine=postgres;
+-- ddl-auto=update does not create generated columns or GIN indexes.
+
+-- Title terms weigh more than description terms (A > B) when results are ranked.
+-- Adding a stored generated column rewrites the table once; afterwards PostgreSQL keeps it up to date.
+ALTER TABLE complaints ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('german', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('german', coalesce(description, '')), 'B')
+    ) STORED;
+
+-- CONCURRENTLY keeps the table writable while the index is built; it cannot run inside a transaction block.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_complaints_search_vector ON complaints USING GIN (search_vector);
@@ -0,0 +1,27 @@
+-- Tables used to find complaints with a similar text (MinHash signatures and LSH buckets).
+-- ddl-auto=update creates them as well; this script is for databases managed without it.
+--
+-- Complaints stored before this change get their signatures once the application is ready
+-- (DuplicateDetectionService.backfillSignatures); text similarity cannot be computed in SQL.
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS complaint_signatures (
+    complaint_id BIGINT PRIMARY KEY,
+    postal_code  VARCHAR(5) NOT NULL,
+    signature    BYTEA      NOT NULL
+);
+
+-- One row per complaint and band; a lookup by bucket key reads only the complaints sharing that band.
+CREATE SEQUENCE IF NOT EXISTS complaint_lsh_buckets_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS complaint_lsh_buckets (
+    id           BIGINT PRIMARY KEY,
+    bucket_key   BIGINT NOT NULL,
+    complaint_id BIGINT NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_complaint_lsh_buckets_bucket_key ON complaint_lsh_buckets (bucket_key);
+CREATE INDEX IF NOT EXISTS idx_complaint_lsh_buckets_complaint_id ON complaint_lsh_buckets (complaint_id);
+
+COMMIT;
@@ -0,0 +1,42 @@
+-- Precomputed complaint counts for the staff dashboards.
+-- Run once against existing databases BEFORE deploying; ddl-auto=update would create an empty table,
+-- and the application only adds changes to the counts, it never recounts them.
+
+BEGIN;
+
+CREATE SEQUENCE IF NOT EXISTS complaint_statistics_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS complaint_statistics (
+    id              BIGINT PRIMARY KEY,
+    dimension       VARCHAR(20) NOT NULL,
+    dimension_value VARCHAR(50) NOT NULL,
+    status          VARCHAR(32) NOT NULL,
+    complaint_count BIGINT      NOT NULL,
+    CONSTRAINT uk_complaint_statistics_key UNIQUE (dimension, dimension_value, status)
+);
+
+-- Backfill from the existing complaints; one row per value of each dimension and status.
+DELETE FROM complaint_statistics;
+
+INSERT INTO complaint_statistics (id, dimension, dimension_value, status, complaint_count)
+SELECT nextval('complaint_statistics_seq'), 'CATEGORY', c.category_id::text, c.status, count(*)
+FROM complaints c
+WHERE c.category_id IS NOT NULL AND c.status IS NOT NULL
+GROUP BY c.category_id, c.status;
+
+INSERT INTO complaint_statistics (id, dimension, dimension_value, status, complaint_count)
+SELECT nextval('complaint_statistics_seq'), 'POSTAL_CODE', l.postal_code, c.status, count(*)
+FROM complaints c
+JOIN locations l ON l.id = c.location_id
+WHERE l.postal_code IS NOT NULL AND c.status IS NOT NULL
+GROUP BY l.postal_code, c.status;
+
+INSERT INTO complaint_statistics (id, dimension, dimension_value, status, complaint_count)
+SELECT nextval('complaint_statistics_seq'), 'DAY', to_char(c.created_at, 'YYYY-MM-DD'), c.status, count(*)
+FROM complaints c
+WHERE c.created_at IS NOT NULL AND c.status IS NOT NULL
+GROUP BY to_char(c.created_at, 'YYYY-MM-DD'), c.status;
+
+-- Each nextval above advanced the sequence by 50, so Hibernate's pooled ids start above the backfilled rows.
+
+COMMIT;
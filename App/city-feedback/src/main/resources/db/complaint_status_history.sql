@@ -0,0 +1,38 @@
+-- Adds the denormalized status column to complaints and the append-only status history.
+-- Run once against existing databases before deploying; ddl-auto=update would add both,
+-- but leaves the status of existing complaints empty.
+
+BEGIN;
+
+ALTER TABLE complaints ADD COLUMN IF NOT EXISTS status varchar(32);
+
+-- Backfill from the status definitions; codes are the enum names of ComplaintStatus
+UPDATE complaints c
+SET status = upper(replace(p.status, ' ', '_'))
+FROM complaint_progress p
+WHERE c.complaint_progress_id = p.id
+  AND c.status IS NULL
+  AND upper(replace(p.status, ' ', '_')) IN ('OFFEN', 'IN_BEARBEITUNG', 'ERLEDIGT');
+
+CREATE INDEX IF NOT EXISTS idx_complaints_status_created_at_id ON complaints (status, created_at, id);
+
+CREATE TABLE IF NOT EXISTS complaint_status_history (
+    id              bigserial PRIMARY KEY,
+    complaint_id    bigint      NOT NULL,
+    previous_status varchar(32),
+    new_status      varchar(32) NOT NULL,
+    changed_by      bigint,
+    changed_at      timestamp   NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_complaint_status_history_complaint_changed_at
+    ON complaint_status_history (complaint_id, changed_at);
+
+-- Start the history of existing complaints with their current status
+INSERT INTO complaint_status_history (complaint_id, previous_status, new_status, changed_by, changed_at)
+SELECT c.id, NULL, c.status, c.creator_id, c.created_at
+FROM complaints c
+WHERE c.status IS NOT NULL
+  AND NOT EXISTS (SELECT 1 FROM complaint_status_history h WHERE h.complaint_id = c.id);
+
+COMMIT;
@@ -0,0 +1,13 @@
+-- Adds the optimistic lock column of the Complaint entity.
+-- Run once against existing databases before deploying; ddl-auto=update would add the column
+-- without a value, and Hibernate cannot compare or increment a missing version.
+
+BEGIN;
+
+ALTER TABLE complaints ADD COLUMN IF NOT EXISTS version bigint;
+
+UPDATE complaints SET version = 0 WHERE version IS NULL;
+
+ALTER TABLE complaints ALTER COLUMN version SET DEFAULT 0;
+
+COMMIT;
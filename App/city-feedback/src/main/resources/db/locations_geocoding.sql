@@ -0,0 +1,54 @@
+-- Coordinates for locations, the spatial grid index and the offline geocoding table.
+-- ddl-auto=update adds the columns and tables, but leaves existing locations without coordinates;
+-- run this once after the geocoding table has been loaded.
+
+BEGIN;
+
+ALTER TABLE locations ADD COLUMN IF NOT EXISTS latitude double precision;
+ALTER TABLE locations ADD COLUMN IF NOT EXISTS longitude double precision;
+ALTER TABLE locations ADD COLUMN IF NOT EXISTS grid_cell bigint;
+
+CREATE INDEX IF NOT EXISTS idx_locations_grid_cell ON locations (grid_cell);
+CREATE INDEX IF NOT EXISTS idx_complaints_location_id ON complaints (location_id);
+
+CREATE TABLE IF NOT EXISTS geocoded_addresses (
+    id           bigserial PRIMARY KEY,
+    postal_code  varchar(5)       NOT NULL,
+    street_key   varchar(255),
+    house_number varchar(255),
+    latitude     double precision NOT NULL,
+    longitude    double precision NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_geocoded_addresses_postal_code_street
+    ON geocoded_addresses (postal_code, street_key);
+
+-- Load the table from an address extract (e.g. the official house coordinates of the state), with street
+-- names normalized like OfflineGeocoder.streetKey: lower case, ß as ss, only letters and digits, "str" as "strasse":
+--
+--   INSERT INTO geocoded_addresses (postal_code, street_key, house_number, latitude, longitude)
+--   SELECT postal_code,
+--          regexp_replace(regexp_replace(replace(lower(street), 'ß', 'ss'), '[^[:alnum:]]', '', 'g'), 'str$', 'strasse'),
+--          lower(house_number), latitude, longitude
+--   FROM address_import;
+
+-- Backfill existing locations with the most precise entry: building, then street, then postal code area.
+-- The grid cell must match GeoGrid: cells of 0.0025 degrees, 144001 columns per row.
+UPDATE locations l
+SET latitude  = g.latitude,
+    longitude = g.longitude,
+    grid_cell = floor((g.latitude + 90) / 0.0025)::bigint * 144001 + floor((g.longitude + 180) / 0.0025)::bigint
+FROM (
+    SELECT DISTINCT ON (loc.id) loc.id AS location_id, ga.latitude, ga.longitude
+    FROM locations loc
+    JOIN geocoded_addresses ga
+      ON ga.postal_code = loc.postal_code
+     AND (ga.street_key IS NULL
+          OR (ga.street_key = regexp_replace(regexp_replace(replace(lower(loc.street), 'ß', 'ss'), '[^[:alnum:]]', '', 'g'), 'str$', 'strasse')
+              AND (ga.house_number IS NULL OR ga.house_number = lower(loc.house_number))))
+    WHERE loc.latitude IS NULL
+    ORDER BY loc.id, (ga.house_number IS NOT NULL) DESC, (ga.street_key IS NOT NULL) DESC
+) g
+WHERE l.id = g.location_id;
+
+COMMIT;
@@ -0,0 +1,37 @@
+-- Deduplicates locations and adds the unique address constraint declared on the Location entity.
+-- Run once against existing databases before deploying; Hibernate's ddl-auto=update cannot add
+-- the constraint while duplicate addresses exist.
+
+BEGIN;
+
+-- Normalize whitespace the same way the Location value object does for new rows
+UPDATE locations
+SET street       = regexp_replace(btrim(street), '\s+', ' ', 'g'),
+    house_number = regexp_replace(btrim(house_number), '\s+', ' ', 'g'),
+    postal_code  = regexp_replace(btrim(postal_code), '\s+', ' ', 'g'),
+    city         = regexp_replace(btrim(city), '\s+', ' ', 'g');
+
+-- Point complaints at the oldest row of each address
+WITH ranked AS (
+    SELECT id,
+           min(id) OVER (PARTITION BY street, house_number, postal_code, city) AS keep_id
+    FROM locations
+)
+UPDATE complaints c
+SET location_id = r.keep_id
+FROM ranked r
+WHERE c.location_id = r.id
+  AND r.id <> r.keep_id;
+
+DELETE FROM locations l
+USING locations keep
+WHERE l.street = keep.street
+  AND l.house_number = keep.house_number
+  AND l.postal_code = keep.postal_code
+  AND l.city = keep.city
+  AND l.id > keep.id;
+
+ALTER TABLE locations
+    ADD CONSTRAINT uk_locations_address UNIQUE (street, house_number, postal_code, city);
+
+COMMIT;
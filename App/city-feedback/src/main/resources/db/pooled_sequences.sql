@@ -0,0 +1,39 @@
+-- Creates the sequences the entities now draw their ids from and moves them past the existing ids.
+-- Run once against existing databases BEFORE deploying; otherwise ddl-auto=update creates the
+-- sequences starting at 1 and the first inserts collide with existing rows.
+--
+-- The sequences increment by 50 to match allocationSize = 50: with Hibernate's pooled optimizer a
+-- sequence value v reserves the ids v-49..v, so each sequence is set to the current maximum id and
+-- the next value handed out lies above it. The id columns keep their old identity/serial defaults,
+-- which are simply no longer used by the application.
+
+BEGIN;
+
+CREATE SEQUENCE IF NOT EXISTS complaints_seq INCREMENT BY 50;
+SELECT setval('complaints_seq', GREATEST((SELECT max(id) FROM complaints), 1));
+
+CREATE SEQUENCE IF NOT EXISTS locations_seq INCREMENT BY 50;
+SELECT setval('locations_seq', GREATEST((SELECT max(id) FROM locations), 1));
+
+CREATE SEQUENCE IF NOT EXISTS categories_seq INCREMENT BY 50;
+SELECT setval('categories_seq', GREATEST((SELECT max(id) FROM categories), 1));
+
+CREATE SEQUENCE IF NOT EXISTS users_seq INCREMENT BY 50;
+SELECT setval('users_seq', GREATEST((SELECT max(id) FROM users), 1));
+
+CREATE SEQUENCE IF NOT EXISTS roles_seq INCREMENT BY 50;
+SELECT setval('roles_seq', GREATEST((SELECT max(id) FROM roles), 1));
+
+CREATE SEQUENCE IF NOT EXISTS complaint_progress_seq INCREMENT BY 50;
+SELECT setval('complaint_progress_seq', GREATEST((SELECT max(id) FROM complaint_progress), 1));
+
+-- The outbox table may not exist yet if the outbox is deployed together with this change
+CREATE SEQUENCE IF NOT EXISTS outbox_messages_seq INCREMENT BY 50;
+DO $$
+BEGIN
+    IF to_regclass('outbox_messages') IS NOT NULL THEN
+        EXECUTE 'SELECT setval(''outbox_messages_seq'', GREATEST((SELECT max(id) FROM outbox_messages), 1))';
+    END IF;
+END $$;
+
+COMMIT;
@@ -0,0 +1,60 @@
+package com.example.city_feedback.authentication.application;
+
+import com.example.city_feedback.authentication.application.services.ApiUserDetailsService;
+import com.example.city_feedback.authentication.domain.models.Role;
+import com.example.city_feedback.authentication.domain.models.User;
+import com.example.city_feedback.authentication.infrastructure.repositories.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link ApiUserDetailsService} class.
+ */
+class ApiUserDetailsServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private ApiUserDetailsService apiUserDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        apiUserDetailsService = new ApiUserDetailsService(userRepository);
+    }
+
+    @Test
+    void whenStaffMemberLoaded_thenAuthoritiesOfAllRolesAreGrantedWithoutRoleFromSession() {
+        // Arrange
+        User user = new User("Max", "Mustermann", "max@example.com", null, "encoded", List.of(new Role("Mitarbeiter")));
+        when(userRepository.findByEmail("max@example.com")).thenReturn(user);
+
+        // Act
+        UserDetails details = apiUserDetailsService.loadUserByUsername("max@example.com");
+
+        // Assert
+        assertEquals("max@example.com", details.getUsername());
+        assertEquals("encoded", details.getPassword());
+        assertEquals(AuthorityUtils.createAuthorityList("Mitarbeiter"), List.copyOf(details.getAuthorities()));
+        verify(userRepository, never()).findByEmailAndRole(any(), any());
+    }
+
+    @Test
+    void whenUserDoesNotExist_thenThrowsUsernameNotFoundException() {
+        // Arrange
+        when(userRepository.findByEmail("unknown@example.com")).thenReturn(null);
+
+        // Act & Assert
+        assertThrows(UsernameNotFoundException.class, () -> apiUserDetailsService.loadUserByUsername("unknown@example.com"));
+    }
+}
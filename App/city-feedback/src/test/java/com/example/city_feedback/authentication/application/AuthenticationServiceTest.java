@@ -22,6 +22,7 @@ import static org.mockito.Mockito.when;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -131,6 +132,33 @@ public class AuthenticationServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("Should reject a long invalid phone number without catastrophic backtracking")
+    void save_ShouldRejectLongInvalidPhoneQuickly() {
+        UserRegistrationDto userRegistrationDto = new UserRegistrationDto();
+        userRegistrationDto.setEmail("john.doe@example.com");
+        userRegistrationDto.setPhone("1".repeat(40) + "x");
+
+        assertTimeoutPreemptively(Duration.ofSeconds(1), () ->
+                assertThrows(InvalidInputException.class, () -> authenticationService.save(userRegistrationDto))
+        );
+    }
+
+    @Test
+    @DisplayName("Should accept phone numbers with country code and separators")
+    void save_ShouldAcceptFormattedPhone() throws InvalidInputException {
+        UserRegistrationDto userRegistrationDto = new UserRegistrationDto();
+        userRegistrationDto.setEmail("john.doe@example.com");
+        userRegistrationDto.setPhone("+49 30/123-4567");
+        userRegistrationDto.setPassword("password234");
+        when(roleRepository.findByName("Bürger")).thenReturn(Optional.of(new Role("Bürger")));
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        User savedUser = authenticationService.save(userRegistrationDto);
+
+        assertEquals("+49 30/123-4567", savedUser.getPhone());
+    }
+
     @Test
     @DisplayName("Should throw InvalidInputException when password is invalid")
     void save_ShouldThrowExceptionWhenPasswordInvalid() {
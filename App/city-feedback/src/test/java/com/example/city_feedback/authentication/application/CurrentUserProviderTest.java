@@ -0,0 +1,95 @@
+package com.example.city_feedback.authentication.application;
+
+import com.example.city_feedback.authentication.application.services.CurrentUserProvider;
+import com.example.city_feedback.authentication.domain.models.User;
+import com.example.city_feedback.authentication.infrastructure.repositories.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link CurrentUserProvider} class.
+ */
+class CurrentUserProviderTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private CurrentUserProvider currentUserProvider;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        currentUserProvider = new CurrentUserProvider(userRepository);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void whenCalledTwiceInOneRequest_thenUserIsLoadedOnce() {
+        // Arrange
+        User user = new User("Erika", "Mustermann", "erika@example.com", null, "secret", List.of());
+        user.setId(7L);
+        when(userRepository.findByEmail("erika@example.com")).thenReturn(user);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("erika@example.com", null, AuthorityUtils.createAuthorityList("Bürger")));
+
+        // Act
+        Optional<User> first = currentUserProvider.getCurrentUser();
+        Optional<Long> userId = currentUserProvider.getCurrentUserId();
+
+        // Assert
+        assertSame(user, first.orElseThrow());
+        assertEquals(7L, userId.orElseThrow());
+        verify(userRepository, times(1)).findByEmail("erika@example.com");
+    }
+
+    @Test
+    void whenAnonymous_thenNoUserIsLoaded() {
+        // Arrange
+        SecurityContextHolder.getContext().setAuthentication(new AnonymousAuthenticationToken(
+                "key", "anonymousUser", AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+
+        // Act
+        Optional<User> user = currentUserProvider.getCurrentUser();
+
+        // Assert
+        assertTrue(user.isEmpty());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void whenUserDoesNotExist_thenMissIsRememberedForTheRequest() {
+        // Arrange
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("unknown@example.com", null, AuthorityUtils.createAuthorityList("Bürger")));
+
+        // Act
+        currentUserProvider.getCurrentUser();
+        Optional<User> user = currentUserProvider.getCurrentUser();
+
+        // Assert
+        assertTrue(user.isEmpty());
+        verify(userRepository, times(1)).findByEmail("unknown@example.com");
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.city_feedback.authentication.ui;
 
 import com.example.city_feedback.authentication.application.dto.UserRegistrationDto;
+import com.example.city_feedback.authentication.application.services.CurrentUserProvider;
 import com.example.city_feedback.authentication.ui.controller.UserRegistrationController;
 import com.example.city_feedback.authentication.infrastructure.repositories.UserRepository;
 import com.example.city_feedback.authentication.application.services.UserService;
@@ -34,6 +35,12 @@ public class UserRegistrationControllerTest {
     @MockBean
     private UserRepository userRepository;
 
+    /**
+     * Required by the GlobalControllerAdvice
+     */
+    @MockBean
+    private CurrentUserProvider currentUserProvider;
+
     @Test
     @DisplayName("Should display the registration form on GET /sign-up")
     public void showRegistrationForm_ShouldReturnSignUpForm() throws Exception {
@@ -0,0 +1,38 @@
+package com.example.city_feedback.complaintManagement.application.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link ComplaintCursor} class.
+ */
+class ComplaintCursorTest {
+
+    @Test
+    void whenCursorEncoded_thenDecodesToSamePosition() {
+        // Arrange
+        ComplaintCursor cursor = new ComplaintCursor(LocalDateTime.of(2024, 12, 24, 18, 30, 5, 123_000_000), 42L);
+
+        // Act
+        ComplaintCursor decoded = ComplaintCursor.decode(cursor.encode());
+
+        // Assert
+        assertEquals(cursor.getCreatedAt(), decoded.getCreatedAt());
+        assertEquals(42L, decoded.getId());
+    }
+
+    @Test
+    void whenTokenMalformed_thenThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> ComplaintCursor.decode("%%%"));
+        assertThrows(IllegalArgumentException.class, () -> ComplaintCursor.decode("bm8tc2VwYXJhdG9y"));
+    }
+
+    @Test
+    void whenFieldsMissing_thenThrowsException() {
+        assertThrows(NullPointerException.class, () -> new ComplaintCursor(null, 1L));
+        assertThrows(NullPointerException.class, () -> new ComplaintCursor(LocalDateTime.now(), null));
+    }
+}
@@ -5,6 +5,8 @@ import com.example.city_feedback.complaintManagement.domain.models.Complaint;
 import com.example.city_feedback.complaintManagement.domain.valueObjects.Location;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -28,6 +30,38 @@ class ComplaintDtoTest {
         assertEquals("Infrastructure", complaintDto.getCategoryName());
     }
 
+    @Test
+    void whenBuiltFromProjectionColumns_thenFormatsLocationAndCreatedAt() {
+        // Arrange & Act
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 5, 9, 7);
+        ComplaintDto complaintDto = new ComplaintDto(1L, "Pothole Issue", "There is a large pothole on Main Street.",
+                "Main Street", "12a", "12345", "City", createdAt, 2, "Infrastructure");
+
+        // Assert
+        assertEquals("Main Street 12a, 12345 City", complaintDto.getLocation());
+        assertEquals("Main Street", complaintDto.getStreet());
+        assertEquals("12a", complaintDto.getHouseNumber());
+        assertEquals("12345", complaintDto.getPostalCode());
+        assertEquals("City", complaintDto.getCity());
+        assertEquals("05.03.2024 09:07", complaintDto.getCreatedAt());
+        assertEquals(createdAt, complaintDto.getCreatedAtTimestamp());
+        assertEquals(2, complaintDto.getCategoryId());
+        assertEquals("Infrastructure", complaintDto.getCategoryName());
+    }
+
+    @Test
+    void whenProjectionColumnsMissing_thenUsesFallbackValues() {
+        // Arrange & Act
+        ComplaintDto complaintDto = new ComplaintDto(1L, "Pothole Issue", "There is a large pothole on Main Street.",
+                null, null, null, null, null, null, null);
+
+        // Assert
+        assertEquals("Unbekannter Standort", complaintDto.getLocation());
+        assertEquals("Unbekanntes Datum", complaintDto.getCreatedAt());
+        assertEquals(0, complaintDto.getCategoryId());
+        assertEquals("Keine Kategorie", complaintDto.getCategoryName());
+    }
+
     @Test
     void whenSetTitleCalled_thenUpdatesTitle() {
         // Arrange
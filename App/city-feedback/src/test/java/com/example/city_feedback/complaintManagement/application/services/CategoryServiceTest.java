@@ -1,7 +1,10 @@
 package com.example.city_feedback.complaintManagement.application.services;
+import com.example.city_feedback.complaintManagement.application.dto.CategoryCatalogue;
 import com.example.city_feedback.complaintManagement.application.dto.CategoryDto;
+import com.example.city_feedback.complaintManagement.domain.events.CategoryChangedEvent;
 import com.example.city_feedback.complaintManagement.domain.models.Category;
 import com.example.city_feedback.complaintManagement.infrastructure.repositories.CategoryRepository;
+import com.example.city_feedback.shared.infrastructure.metrics.MetricsRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -21,12 +24,14 @@ class CategoryServiceTest {
     @Mock
     private CategoryRepository categoryRepository;
 
+    private MetricsRegistry metricsRegistry;
     private CategoryService categoryService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        categoryService = new CategoryService(categoryRepository);
+        metricsRegistry = new MetricsRegistry();
+        categoryService = new CategoryService(categoryRepository, metricsRegistry);
     }
 
     @Test
@@ -60,6 +65,51 @@ class CategoryServiceTest {
         verify(categoryRepository).findAll();
     }
 
+    @Test
+    void whenCategoriesRequestedTwice_thenRepositoryIsQueriedOnce() {
+        // Arrange
+        when(categoryRepository.findAll()).thenReturn(List.of(new Category(1, "Straße", "Schäden an Straßen")));
+
+        // Act
+        categoryService.getAllCategories();
+        List<CategoryDto> categoryDtos = categoryService.getAllCategories();
+
+        // Assert
+        assertEquals(1, categoryDtos.size());
+        verify(categoryRepository, times(1)).findAll();
+        assertEquals(1L, metricsRegistry.counterValues().get("categories.catalogue.miss"));
+        assertEquals(1L, metricsRegistry.counterValues().get("categories.catalogue.hit"));
+    }
+
+    @Test
+    void whenCategoryChanged_thenCatalogueIsReloaded() {
+        // Arrange
+        when(categoryRepository.findAll())
+                .thenReturn(List.of(new Category(1, "Straße", null)))
+                .thenReturn(List.of(new Category(1, "Straße", null), new Category(2, "Müll", null)));
+        CategoryCatalogue before = categoryService.getCatalogue();
+
+        // Act
+        categoryService.onCategoryChanged(new CategoryChangedEvent(2));
+        CategoryCatalogue after = categoryService.getCatalogue();
+
+        // Assert
+        assertEquals(2, after.getCategories().size());
+        assertNotEquals(before.getVersion(), after.getVersion());
+        verify(categoryRepository, times(2)).findAll();
+    }
+
+    @Test
+    void whenFindCategoryById_thenLooksUpCatalogue() {
+        // Arrange
+        when(categoryRepository.findAll()).thenReturn(List.of(new Category(3, "Lärm", null)));
+
+        // Act & Assert
+        assertEquals("Lärm", categoryService.findCategory(3).orElseThrow().getName());
+        assertTrue(categoryService.findCategory(4).isEmpty());
+        assertTrue(categoryService.findCategory(null).isEmpty());
+    }
+
     @Test
     void whenCategoryExistsByName_thenReturnsTrue() {
         // Arrange
@@ -0,0 +1,151 @@
+package com.example.city_feedback.complaintManagement.application.services;
+
+import com.example.city_feedback.complaintManagement.application.dto.CategoryDto;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintTrend;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintTrendSeries;
+import com.example.city_feedback.complaintManagement.infrastructure.analytics.ComplaintRollup;
+import com.example.city_feedback.complaintManagement.infrastructure.analytics.RollupGranularity;
+import com.example.city_feedback.complaintManagement.infrastructure.analytics.TrendGrouping;
+import com.example.city_feedback.complaintManagement.infrastructure.analytics.TrendInterval;
+import com.example.city_feedback.complaintManagement.infrastructure.repositories.ComplaintRollupRepository;
+import com.example.city_feedback.shared.infrastructure.config.AnalyticsProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link ComplaintAnalyticsService} class.
+ */
+class ComplaintAnalyticsServiceTest {
+
+    @Mock
+    private ComplaintRollupRepository rollupRepository;
+
+    @Mock
+    private CategoryService categoryService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ComplaintAnalyticsService analyticsService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        analyticsService = new ComplaintAnalyticsService(rollupRepository, categoryService,
+                new AnalyticsProperties(), transactionManager);
+        when(categoryService.findCategory(3)).thenReturn(Optional.of(new CategoryDto(3, "Straße", "Straßenschäden")));
+    }
+
+    @Test
+    void whenRefreshed_thenCompleteHoursAreAddedToAllGranularities() {
+        // Arrange
+        LocalDateTime watermark = LocalDateTime.of(2024, 5, 1, 10, 0);
+        when(rollupRepository.findWatermark(ComplaintAnalyticsService.WATERMARK)).thenReturn(Optional.of(watermark));
+        when(rollupRepository.countHourly(watermark, watermark.plusHours(2), null, null)).thenReturn(List.of(
+                hour(watermark, 3, "10115", 2),
+                hour(watermark.plusHours(1), 3, "10115", 1)));
+
+        // Act
+        analyticsService.refreshUntil(LocalDateTime.of(2024, 5, 1, 12, 30));
+
+        // Assert
+        verify(rollupRepository).addToCount(RollupGranularity.HOUR, watermark, 3, "10115", 2);
+        verify(rollupRepository).addToCount(RollupGranularity.HOUR, watermark.plusHours(1), 3, "10115", 1);
+        verify(rollupRepository).addToCount(RollupGranularity.DAY, LocalDateTime.of(2024, 5, 1, 0, 0), 3, "10115", 3);
+        verify(rollupRepository).addToCount(RollupGranularity.MONTH, LocalDateTime.of(2024, 5, 1, 0, 0), 3, "10115", 3);
+        verify(rollupRepository).saveWatermark(ComplaintAnalyticsService.WATERMARK, watermark.plusHours(2));
+    }
+
+    @Test
+    void whenRangeIsRolledUp_thenMonthlyTrendReadsOnlyMonthlyRollups() {
+        // Arrange
+        when(rollupRepository.findWatermark(ComplaintAnalyticsService.WATERMARK))
+                .thenReturn(Optional.of(LocalDateTime.of(2024, 6, 1, 10, 0)));
+        when(rollupRepository.findRollups(RollupGranularity.MONTH, LocalDateTime.of(2024, 1, 1, 0, 0),
+                LocalDateTime.of(2024, 4, 1, 0, 0), null, null)).thenReturn(List.of(
+                new ComplaintRollup(RollupGranularity.MONTH, LocalDateTime.of(2024, 2, 1, 0, 0), 3, "10115", 4),
+                new ComplaintRollup(RollupGranularity.MONTH, LocalDateTime.of(2024, 2, 1, 0, 0), 5, "10117", 1)));
+
+        // Act
+        ComplaintTrend trend = analyticsService.getTrend(LocalDate.of(2024, 1, 15), LocalDate.of(2024, 3, 31),
+                TrendInterval.MONTH, TrendGrouping.NONE, null, null);
+
+        // Assert
+        assertEquals(List.of(LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 2, 1, 0, 0),
+                LocalDateTime.of(2024, 3, 1, 0, 0)), trend.getPeriods());
+        assertEquals(1, trend.getSeries().size());
+        assertEquals(ComplaintAnalyticsService.ALL_COMPLAINTS, trend.getSeries().get(0).getLabel());
+        assertEquals(List.of(0L, 5L, 0L), trend.getSeries().get(0).getCounts());
+        verify(rollupRepository, never()).countHourly(any(), any(), any(), any());
+    }
+
+    @Test
+    void whenWatermarkIsInRange_thenComplaintsAfterItAreCountedFromComplaints() {
+        // Arrange
+        LocalDateTime watermark = LocalDateTime.of(2024, 5, 10, 8, 0);
+        when(rollupRepository.findWatermark(ComplaintAnalyticsService.WATERMARK)).thenReturn(Optional.of(watermark));
+        when(rollupRepository.findRollups(RollupGranularity.MONTH, LocalDateTime.of(2024, 1, 1, 0, 0), watermark, null, null))
+                .thenReturn(List.of(
+                        new ComplaintRollup(RollupGranularity.MONTH, LocalDateTime.of(2024, 1, 1, 0, 0), 3, "10115", 7),
+                        new ComplaintRollup(RollupGranularity.MONTH, LocalDateTime.of(2024, 5, 1, 0, 0), 3, "10115", 2)));
+        when(rollupRepository.countHourly(watermark, LocalDateTime.of(2025, 1, 1, 0, 0), null, null))
+                .thenReturn(List.of(hour(LocalDateTime.of(2024, 5, 10, 9, 0), 3, "10115", 1)));
+
+        // Act
+        ComplaintTrend trend = analyticsService.getTrend(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 6, 30),
+                TrendInterval.YEAR, TrendGrouping.CATEGORY, null, null);
+
+        // Assert
+        assertEquals(List.of(LocalDateTime.of(2024, 1, 1, 0, 0)), trend.getPeriods());
+        ComplaintTrendSeries series = trend.getSeries().get(0);
+        assertEquals("3", series.getKey());
+        assertEquals("Straße", series.getLabel());
+        assertEquals(List.of(10L), series.getCounts());
+    }
+
+    @Test
+    void whenWeeklyTrend_thenPeriodsStartOnMondayAndDailyRollupsAreSummed() {
+        // Arrange
+        LocalDateTime monday = LocalDateTime.of(2024, 4, 29, 0, 0);
+        when(rollupRepository.findWatermark(ComplaintAnalyticsService.WATERMARK))
+                .thenReturn(Optional.of(LocalDateTime.of(2024, 12, 1, 0, 0)));
+        when(rollupRepository.findRollups(RollupGranularity.DAY, monday, monday.plusWeeks(2), null, "10115"))
+                .thenReturn(List.of(
+                        new ComplaintRollup(RollupGranularity.DAY, LocalDateTime.of(2024, 4, 30, 0, 0), 3, "10115", 1),
+                        new ComplaintRollup(RollupGranularity.DAY, LocalDateTime.of(2024, 5, 2, 0, 0), 3, "10115", 2),
+                        new ComplaintRollup(RollupGranularity.DAY, LocalDateTime.of(2024, 5, 6, 0, 0), 3, "10115", 4)));
+
+        // Act
+        ComplaintTrend trend = analyticsService.getTrend(LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 8),
+                TrendInterval.WEEK, TrendGrouping.POSTAL_CODE, null, "10115");
+
+        // Assert
+        assertEquals(List.of(monday, monday.plusWeeks(1)), trend.getPeriods());
+        assertEquals("10115", trend.getSeries().get(0).getLabel());
+        assertEquals(List.of(3L, 4L), trend.getSeries().get(0).getCounts());
+    }
+
+    @Test
+    void whenTooManyPeriods_thenThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> analyticsService.getTrend(LocalDate.of(2024, 1, 1),
+                LocalDate.of(2024, 12, 31), TrendInterval.HOUR, TrendGrouping.NONE, null, null));
+        verifyNoInteractions(rollupRepository);
+    }
+
+    private static ComplaintRollup hour(LocalDateTime bucketStart, Integer categoryId, String postalCode, long count) {
+        return new ComplaintRollup(RollupGranularity.HOUR, bucketStart, categoryId, postalCode, count);
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.city_feedback.complaintManagement.application.services;
+
+import com.example.city_feedback.authentication.application.services.CurrentUserProvider;
+import com.example.city_feedback.authentication.domain.models.User;
+import com.example.city_feedback.complaintManagement.application.dto.CategoryCatalogue;
+import com.example.city_feedback.complaintManagement.application.dto.CategoryDto;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintImportReport;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintImportRow;
+import com.example.city_feedback.complaintManagement.domain.models.Complaint;
+import com.example.city_feedback.complaintManagement.infrastructure.importing.ComplaintImportReader;
+import com.example.city_feedback.complaintManagement.infrastructure.importing.ComplaintImportReaderFactory;
+import com.example.city_feedback.complaintManagement.infrastructure.importing.ImportFormat;
+import com.example.city_feedback.complaintManagement.infrastructure.persistence.LocationResolver;
+import com.example.city_feedback.complaintManagement.infrastructure.repositories.CategoryRepository;
+import com.example.city_feedback.complaintManagement.infrastructure.repositories.ComplaintRepository;
+import com.example.city_feedback.progressManagement.application.services.StatusDefinitionService;
+import com.example.city_feedback.progressManagement.infrastructure.repositories.ProgressRepository;
+import com.example.city_feedback.shared.infrastructure.messaging.OutboxEventPublisher;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link ComplaintImportService} class.
+ */
+class ComplaintImportServiceTest {
+
+    @Mock
+    private ComplaintImportReaderFactory readerFactory;
+
+    @Mock
+    private ComplaintImportReader reader;
+
+    @Mock
+    private ComplaintRepository complaintRepository;
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @Mock
+    private CategoryService categoryService;
+
+    @Mock
+    private LocationResolver locationResolver;
+
+    @Mock
+    private CurrentUserProvider currentUserProvider;
+
+    @Mock
+    private StatusDefinitionService statusDefinitionService;
+
+    @Mock
+    private ProgressRepository progressRepository;
+
+    @Mock
+    private OutboxEventPublisher eventPublisher;
+
+    @Mock
+    private DuplicateDetectionService duplicateDetectionService;
+
+    @Mock
+    private ComplaintStatisticsService statisticsService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ComplaintImportService complaintImportService;
+
+    private final InputStream input = new ByteArrayInputStream(new byte[0]);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockitoAnnotations.openMocks(this);
+        complaintImportService = new ComplaintImportService(readerFactory, complaintRepository, categoryRepository,
+                categoryService, locationResolver, currentUserProvider, statusDefinitionService, progressRepository,
+                eventPublisher, duplicateDetectionService, statisticsService, entityManager, transactionManager);
+
+        User user = new User();
+        user.setEmail("staff@example.com");
+        when(currentUserProvider.getCurrentUser()).thenReturn(Optional.of(user));
+        when(categoryService.getCatalogue()).thenReturn(new CategoryCatalogue(
+                List.of(new CategoryDto(1, "Straßenschäden", "Schäden an Straßen und Wegen"))));
+        when(locationResolver.resolve(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(readerFactory.open(ImportFormat.CSV, input)).thenReturn(reader);
+
+        // Every stored complaint gets an ID, as the sequence would assign it
+        AtomicLong ids = new AtomicLong();
+        when(complaintRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Complaint> complaints = invocation.getArgument(0);
+            for (Complaint complaint : complaints) {
+                if (complaint.getTitle().startsWith("Doppelt")) {
+                    throw new DataIntegrityViolationException("duplicate key value violates unique constraint");
+                }
+                complaint.setId(ids.incrementAndGet());
+            }
+            return complaints;
+        });
+    }
+
+    @Test
+    void whenAllRowsAreValid_thenChunkIsStoredInOneTransaction() throws Exception {
+        // Arrange
+        rows(row("Schlagloch in der Hauptstraße"), row("Ampel am Markt defekt"));
+
+        // Act
+        ComplaintImportReport report = complaintImportService.importComplaints(input, ImportFormat.CSV);
+
+        // Assert
+        assertEquals(2, report.getImported());
+        assertEquals(0, report.getFailed());
+        verify(complaintRepository, times(1)).saveAll(anyList());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    void whenOneRowFailsToStore_thenOnlyThatRowIsRejected() throws Exception {
+        // Arrange
+        rows(row("Schlagloch in der Hauptstraße"), row("Doppelt importierte Beschwerde"), row("Ampel am Markt defekt"));
+
+        // Act
+        ComplaintImportReport report = complaintImportService.importComplaints(input, ImportFormat.CSV);
+
+        // Assert
+        assertEquals(2, report.getImported());
+        assertEquals(1, report.getFailed());
+        ComplaintImportReport.RowError error = report.getErrors().get(0);
+        assertEquals(3, error.getLine());
+        assertFalse(error.getMessage().contains("duplicate key"));
+        // The failed chunk and the failed row are rolled back, the two other rows are committed on their own
+        verify(transactionManager, times(2)).rollback(any());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    private void rows(ComplaintImportRow... rows) throws Exception {
+        ComplaintImportRow[] remaining = new ComplaintImportRow[rows.length];
+        System.arraycopy(rows, 1, remaining, 0, rows.length - 1);
+        when(reader.next()).thenReturn(rows[0], remaining);
+        when(reader.getLineNumber()).thenReturn(2L, 3L, 4L);
+    }
+
+    private ComplaintImportRow row(String title) {
+        ComplaintImportRow row = new ComplaintImportRow();
+        row.setTitle(title);
+        row.setDescription("Bitte zeitnah beheben, Gefahr für Radfahrer");
+        row.setStreet("Hauptstraße");
+        row.setHouseNumber("1");
+        row.setPostalCode("10115");
+        row.setCity("Berlin");
+        row.setCategoryId(1);
+        return row;
+    }
+}
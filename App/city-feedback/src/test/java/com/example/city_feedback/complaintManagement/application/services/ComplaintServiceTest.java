@@ -1,23 +1,37 @@
 package com.example.city_feedback.complaintManagement.application.services;
 
+import com.example.city_feedback.authentication.application.services.CurrentUserProvider;
 import com.example.city_feedback.authentication.domain.models.User;
-import com.example.city_feedback.authentication.infrastructure.repositories.UserRepository;
 import com.example.city_feedback.complaintManagement.application.commands.CreateComplaintCommand;
+import com.example.city_feedback.complaintManagement.application.dto.CategoryDto;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintCursor;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintDto;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintPage;
+import com.example.city_feedback.complaintManagement.domain.events.ComplaintCreatedEvent;
 import com.example.city_feedback.complaintManagement.domain.models.Category;
 import com.example.city_feedback.complaintManagement.domain.models.Complaint;
 import com.example.city_feedback.complaintManagement.domain.valueObjects.Location;
 import com.example.city_feedback.complaintManagement.infrastructure.repositories.CategoryRepository;
+import com.example.city_feedback.complaintManagement.infrastructure.persistence.LocationResolver;
 import com.example.city_feedback.complaintManagement.infrastructure.repositories.ComplaintRepository;
-import com.example.city_feedback.complaintManagement.infrastructure.repositories.LocationRepository;
+import com.example.city_feedback.progressManagement.application.services.StatusDefinitionService;
+import com.example.city_feedback.progressManagement.domain.models.ComplaintProgress;
+import com.example.city_feedback.progressManagement.domain.valueObjects.ComplaintStatus;
+import com.example.city_feedback.progressManagement.infrastructure.repositories.ProgressRepository;
+import com.example.city_feedback.shared.infrastructure.messaging.OutboxEventPublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -35,16 +49,35 @@ public class ComplaintServiceTest {
     private CategoryRepository categoryRepository;
 
     @Mock
-    private LocationRepository locationRepository;
+    private LocationResolver locationResolver;
 
     @Mock
-    private UserRepository userRepository;
+    private CurrentUserProvider currentUserProvider;
+
+    @Mock
+    private CategoryService categoryService;
+
+    @Mock
+    private OutboxEventPublisher eventPublisher;
+
+    @Mock
+    private StatusDefinitionService statusDefinitionService;
+
+    @Mock
+    private ProgressRepository progressRepository;
+
+    @Mock
+    private DuplicateDetectionService duplicateDetectionService;
+
+    @Mock
+    private ComplaintStatisticsService statisticsService;
 
     @InjectMocks
     private ComplaintService complaintService;
 
     private User mockUser;
     private Category mockCategory;
+    private CategoryDto mockCategoryDto;
     private Location mockLocation;
 
     @BeforeEach
@@ -67,6 +100,7 @@ public class ComplaintServiceTest {
         mockCategory = new Category();
         mockCategory.setId(1);
         mockCategory.setName("Road Issue");
+        mockCategoryDto = new CategoryDto(1, "Road Issue", null);
 
         // Mock location
         mockLocation = new Location("Mock Street", "1", "12345", "City");
@@ -87,11 +121,16 @@ public class ComplaintServiceTest {
         command.setCity("Test City");
         command.setCategoryId(1);
 
-        when(userRepository.findByEmail("test_user@example.com")).thenReturn(mockUser);
-        when(categoryRepository.findById(1)).thenReturn(Optional.of(mockCategory));
-        when(locationRepository.findByStreetAndHouseNumberAndPostalCodeAndCity(
-                "Test Street", "123", "12345", "Test City"))
-                .thenReturn(Optional.of(mockLocation));
+        ComplaintProgress openProgress = new ComplaintProgress("OFFEN", "#808080");
+        when(currentUserProvider.getCurrentUser()).thenReturn(Optional.of(mockUser));
+        when(categoryService.findCategory(1)).thenReturn(Optional.of(mockCategoryDto));
+        when(categoryRepository.getReferenceById(1)).thenReturn(mockCategory);
+        when(statusDefinitionService.getDefinitionReference(ComplaintStatus.OFFEN)).thenReturn(openProgress);
+        when(locationResolver.resolve(argThat(address -> "Test Street".equals(address.getStreet())
+                && "123".equals(address.getHouseNumber())
+                && "12345".equals(address.getPostalCode())
+                && "Test City".equals(address.getCity()))))
+                .thenReturn(mockLocation);
         when(complaintRepository.save(any(Complaint.class))).thenAnswer(invocation -> {
             Complaint complaint = invocation.getArgument(0);
             complaint.setId(1L);
@@ -108,6 +147,12 @@ public class ComplaintServiceTest {
         assertEquals(mockUser, result.getCreator());
         assertEquals(mockCategory, result.getCategory());
         assertEquals(mockLocation, result.getLocation());
+        assertEquals(ComplaintStatus.OFFEN, result.getStatus());
+        assertEquals(openProgress, result.getProgress());
+        verify(progressRepository).appendHistory(1L, null, ComplaintStatus.OFFEN, 1L);
+        verify(eventPublisher).publish(argThat(event -> event instanceof ComplaintCreatedEvent created
+                && created.getComplaintId().equals(1L)
+                && "test_user@example.com".equals(created.getCreatedBy())));
     }
 
     /**
@@ -119,10 +164,11 @@ public class ComplaintServiceTest {
         CreateComplaintCommand command = new CreateComplaintCommand();
         command.setCategoryId(99);
 
-        when(categoryRepository.findById(99)).thenReturn(Optional.empty());
+        when(categoryService.findCategory(99)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(IllegalArgumentException.class, () -> complaintService.createComplaint(command));
+        verify(categoryRepository, never()).getReferenceById(any());
     }
 
     /**
@@ -136,8 +182,9 @@ public class ComplaintServiceTest {
         command.setStreet(null); // Missing street
         command.setCategoryId(1);
 
-        when(userRepository.findByEmail("test_user@example.com")).thenReturn(mockUser);
-        when(categoryRepository.findById(1)).thenReturn(Optional.of(mockCategory));
+        when(currentUserProvider.getCurrentUser()).thenReturn(Optional.of(mockUser));
+        when(categoryService.findCategory(1)).thenReturn(Optional.of(mockCategoryDto));
+        when(categoryRepository.getReferenceById(1)).thenReturn(mockCategory);
 
         // Act & Assert
         assertThrows(IllegalArgumentException.class, () -> complaintService.createComplaint(command));
@@ -163,10 +210,13 @@ public class ComplaintServiceTest {
         existingComplaint.setTitle("Old Complaint");
 
         when(complaintRepository.findById(1L)).thenReturn(Optional.of(existingComplaint));
-        when(categoryRepository.findById(1)).thenReturn(Optional.of(mockCategory));
-        when(locationRepository.findByStreetAndHouseNumberAndPostalCodeAndCity(
-                "Updated Street", "456", "67890", "Updated City"))
-                .thenReturn(Optional.of(mockLocation));
+        when(categoryService.findCategory(1)).thenReturn(Optional.of(mockCategoryDto));
+        when(categoryRepository.getReferenceById(1)).thenReturn(mockCategory);
+        when(locationResolver.resolve(argThat(address -> "Updated Street".equals(address.getStreet())
+                && "456".equals(address.getHouseNumber())
+                && "67890".equals(address.getPostalCode())
+                && "Updated City".equals(address.getCity()))))
+                .thenReturn(mockLocation);
         when(complaintRepository.save(any(Complaint.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act
@@ -195,6 +245,88 @@ public class ComplaintServiceTest {
         assertThrows(IllegalArgumentException.class, () -> complaintService.updateComplaint(1L, command));
     }
 
+    /**
+     * Tests that a page query fetching more rows than the page size returns a cursor to the next page.
+     */
+    @Test
+    void whenMoreComplaintsThanPageSize_thenPageContainsNextCursor() {
+        // Arrange
+        ComplaintDto newest = buildComplaintRow(3L, LocalDateTime.of(2024, 3, 1, 10, 0));
+        ComplaintDto middle = buildComplaintRow(2L, LocalDateTime.of(2024, 2, 1, 10, 0));
+        ComplaintDto oldest = buildComplaintRow(1L, LocalDateTime.of(2024, 1, 1, 10, 0));
+        when(complaintRepository.findFirstPageByCreatorId(eq(1L), any(Pageable.class)))
+                .thenReturn(List.of(newest, middle, oldest));
+
+        // Act
+        ComplaintPage page = complaintService.getComplaintsByCreatorId(1L, null, 2);
+
+        // Assert
+        assertEquals(2, page.getComplaints().size());
+        assertTrue(page.hasNext());
+        assertEquals(2L, page.getNextCursor().getId());
+        assertEquals(middle.getCreatedAtTimestamp(), page.getNextCursor().getCreatedAt());
+        verify(complaintRepository).findFirstPageByCreatorId(1L, PageRequest.of(0, 3));
+    }
+
+    /**
+     * Tests that a cursor continues the listing after the given keyset position and ends on the last page.
+     */
+    @Test
+    void whenCursorGiven_thenLoadsPageAfterCursor() {
+        // Arrange
+        ComplaintCursor cursor = new ComplaintCursor(LocalDateTime.of(2024, 2, 1, 10, 0), 2L);
+        ComplaintDto oldest = buildComplaintRow(1L, LocalDateTime.of(2024, 1, 1, 10, 0));
+        when(complaintRepository.findPageByCreatorIdAfter(eq(1L), eq(cursor.getCreatedAt()),
+                eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(oldest));
+
+        // Act
+        ComplaintPage page = complaintService.getComplaintsByCreatorId(1L, cursor, 2);
+
+        // Assert
+        assertEquals(1, page.getComplaints().size());
+        assertFalse(page.hasNext());
+        assertNull(page.getNextCursorToken());
+    }
+
+    /**
+     * Tests that oversized page requests are clamped to the maximum page size.
+     */
+    @Test
+    void whenPageSizeTooLarge_thenClampsToMaximum() {
+        // Arrange
+        when(complaintRepository.findFirstPage(any(Pageable.class))).thenReturn(List.of());
+
+        // Act
+        complaintService.findAllComplaints(null, 10_000);
+
+        // Assert
+        verify(complaintRepository).findFirstPage(PageRequest.of(0, ComplaintService.MAX_PAGE_SIZE + 1));
+    }
+
+    /**
+     * Tests that a single complaint is loaded with the projection query instead of the entity.
+     */
+    @Test
+    void whenFindingComplaintById_thenLoadsProjectedRow() {
+        // Arrange
+        ComplaintDto row = buildComplaintRow(1L, LocalDateTime.of(2024, 1, 1, 12, 0));
+        when(complaintRepository.findDtoById(1L)).thenReturn(Optional.of(row));
+
+        // Act
+        ComplaintDto result = complaintService.findComplaintById(1L);
+
+        // Assert
+        assertSame(row, result);
+        assertEquals("Mock Street", result.getStreet());
+        verify(complaintRepository, never()).findById(anyLong());
+    }
+
+    private ComplaintDto buildComplaintRow(Long id, LocalDateTime createdAt) {
+        return new ComplaintDto(id, "Complaint " + id, "Description " + id,
+                "Mock Street", "1", "12345", "City", createdAt, 1, "Road Issue");
+    }
+
     /**
      * Tests that a complaint is successfully deleted when it exists.
      */
@@ -202,13 +334,17 @@ public class ComplaintServiceTest {
     void whenComplaintExists_thenDeletesSuccessfully() {
         // Arrange
         Long complaintId = 1L;
-        when(complaintRepository.existsById(complaintId)).thenReturn(true);
+        Complaint complaint = new Complaint();
+        complaint.setId(complaintId);
+        complaint.setStatus(ComplaintStatus.OFFEN);
+        when(complaintRepository.findById(complaintId)).thenReturn(Optional.of(complaint));
 
         // Act
         complaintService.deleteComplaint(complaintId);
 
         // Assert
-        verify(complaintRepository, times(1)).deleteById(complaintId);
+        verify(complaintRepository, times(1)).delete(complaint);
+        verify(statisticsService).recordDeleted(any(), eq(ComplaintStatus.OFFEN));
     }
 
     /**
@@ -218,7 +354,7 @@ public class ComplaintServiceTest {
     void whenComplaintDoesNotExist_thenThrowsException() {
         // Arrange
         Long complaintId = 1L;
-        when(complaintRepository.existsById(complaintId)).thenReturn(false);
+        when(complaintRepository.findById(complaintId)).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThrows(IllegalArgumentException.class, () -> complaintService.deleteComplaint(complaintId));
@@ -0,0 +1,128 @@
+package com.example.city_feedback.complaintManagement.application.services;
+
+import com.example.city_feedback.complaintManagement.application.dto.CategoryDto;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintDimensions;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintStatisticsRow;
+import com.example.city_feedback.complaintManagement.infrastructure.repositories.ComplaintStatisticsRepository;
+import com.example.city_feedback.complaintManagement.infrastructure.statistics.ComplaintStatistic;
+import com.example.city_feedback.complaintManagement.infrastructure.statistics.StatisticsDimension;
+import com.example.city_feedback.progressManagement.domain.valueObjects.ComplaintStatus;
+import com.example.city_feedback.shared.infrastructure.config.StatisticsProperties;
+import com.example.city_feedback.shared.infrastructure.metrics.MetricsRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link ComplaintStatisticsService} class.
+ */
+class ComplaintStatisticsServiceTest {
+
+    private static final ComplaintDimensions COMPLAINT =
+            new ComplaintDimensions(1L, 3, "10115", LocalDateTime.of(2024, 5, 1, 12, 0));
+
+    @Mock
+    private ComplaintStatisticsRepository statisticsRepository;
+
+    @Mock
+    private CategoryService categoryService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ComplaintStatisticsService statisticsService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        statisticsService = new ComplaintStatisticsService(statisticsRepository, categoryService,
+                new StatisticsProperties(), new MetricsRegistry(), transactionManager);
+        when(categoryService.findCategory(3)).thenReturn(Optional.of(new CategoryDto(3, "Straße", "Straßenschäden")));
+    }
+
+    @Test
+    void whenComplaintCreated_thenCountsIncludeUnflushedChange() {
+        // Arrange
+        when(statisticsRepository.findByDimension(StatisticsDimension.CATEGORY))
+                .thenReturn(List.of(new ComplaintStatistic(StatisticsDimension.CATEGORY, "3", ComplaintStatus.OFFEN, 2)));
+
+        // Act
+        statisticsService.recordCreated(COMPLAINT, ComplaintStatus.OFFEN);
+        List<ComplaintStatisticsRow> rows = statisticsService.getCounts(StatisticsDimension.CATEGORY);
+
+        // Assert
+        assertEquals(1, rows.size());
+        assertEquals("Straße", rows.get(0).getLabel());
+        assertEquals(3L, rows.get(0).getCounts().get(ComplaintStatus.OFFEN.getCode()));
+        assertEquals(3L, rows.get(0).getTotal());
+    }
+
+    @Test
+    void whenFlushed_thenOnlyNetChangesAreWritten() {
+        // Arrange
+        statisticsService.recordCreated(COMPLAINT, ComplaintStatus.OFFEN);
+        statisticsService.recordStatusChanged(COMPLAINT, ComplaintStatus.OFFEN, ComplaintStatus.IN_BEARBEITUNG);
+
+        // Act
+        statisticsService.flush();
+
+        // Assert
+        verify(statisticsRepository).addToCount(StatisticsDimension.CATEGORY, "3", ComplaintStatus.IN_BEARBEITUNG, 1);
+        verify(statisticsRepository).addToCount(StatisticsDimension.POSTAL_CODE, "10115", ComplaintStatus.IN_BEARBEITUNG, 1);
+        verify(statisticsRepository).addToCount(StatisticsDimension.DAY, "2024-05-01", ComplaintStatus.IN_BEARBEITUNG, 1);
+        verify(statisticsRepository, never()).addToCount(any(), any(), eq(ComplaintStatus.OFFEN), anyLong());
+        assertEquals(0, statisticsService.getPendingCount());
+    }
+
+    @Test
+    void whenFlushFails_thenChangesAreKeptForNextFlush() {
+        // Arrange
+        statisticsService.recordCreated(COMPLAINT, ComplaintStatus.OFFEN);
+        doThrow(new IllegalStateException("Datenbank nicht erreichbar"))
+                .when(statisticsRepository).addToCount(any(), any(), any(), anyLong());
+
+        // Act
+        statisticsService.flush();
+
+        // Assert
+        assertEquals(3, statisticsService.getPendingCount());
+        assertEquals(1L, statisticsService.getCounts(StatisticsDimension.POSTAL_CODE).get(0).getTotal());
+    }
+
+    @Test
+    void whenTransactionActive_thenChangeIsCountedAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // Act
+            statisticsService.recordDeleted(COMPLAINT, ComplaintStatus.ERLEDIGT);
+            int pendingBeforeCommit = statisticsService.getPendingCount();
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // Assert
+            assertEquals(0, pendingBeforeCommit);
+            assertEquals(3, statisticsService.getPendingCount());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void whenPeriodExceedsMaximum_thenThrowsException() {
+        LocalDate from = LocalDate.of(2024, 1, 1);
+
+        assertThrows(IllegalArgumentException.class, () -> statisticsService.getDailyCounts(from, from.plusDays(366)));
+        assertThrows(IllegalArgumentException.class, () -> statisticsService.getDailyCounts(from, from.minusDays(1)));
+    }
+}
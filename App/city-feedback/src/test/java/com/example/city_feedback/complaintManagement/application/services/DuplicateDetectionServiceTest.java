@@ -0,0 +1,87 @@
+package com.example.city_feedback.complaintManagement.application.services;
+
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintText;
+import com.example.city_feedback.complaintManagement.infrastructure.persistence.LocationResolver;
+import com.example.city_feedback.complaintManagement.infrastructure.repositories.ComplaintRepository;
+import com.example.city_feedback.complaintManagement.infrastructure.repositories.ComplaintSignatureRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link DuplicateDetectionService} class.
+ */
+class DuplicateDetectionServiceTest {
+
+    @Mock
+    private ComplaintSignatureRepository signatureRepository;
+
+    @Mock
+    private ComplaintRepository complaintRepository;
+
+    @Mock
+    private NearbyComplaintService nearbyComplaintService;
+
+    @Mock
+    private LocationResolver locationResolver;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DuplicateDetectionService duplicateDetectionService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        duplicateDetectionService = new DuplicateDetectionService(signatureRepository, complaintRepository,
+                nearbyComplaintService, locationResolver, transactionManager);
+    }
+
+    @Test
+    void whenComplaintsHaveNoSignature_thenBackfillRegistersThem() {
+        // Arrange
+        when(complaintRepository.findUnsignedAfter(eq(0L), any())).thenReturn(List.of(
+                text(3L, "Schlagloch in der Hauptstraße", "Tiefes Schlagloch vor dem Haus, Autos weichen aus")));
+
+        // Act
+        int processed = duplicateDetectionService.backfillSignatures();
+
+        // Assert
+        assertEquals(1, processed);
+        verify(signatureRepository).saveSignature(eq(3L), eq("10115"), any(), any());
+        verify(complaintRepository, times(1)).findUnsignedAfter(anyLong(), any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void whenChunkIsFull_thenBackfillContinuesAfterItsLastComplaint() {
+        // Arrange
+        List<ComplaintText> fullChunk = LongStream.rangeClosed(1, DuplicateDetectionService.BACKFILL_CHUNK_SIZE)
+                .mapToObj(id -> text(id, "Beschwerde " + id, "Beschreibung der Beschwerde " + id))
+                .toList();
+        when(complaintRepository.findUnsignedAfter(eq(0L), any())).thenReturn(fullChunk);
+        when(complaintRepository.findUnsignedAfter(eq((long) DuplicateDetectionService.BACKFILL_CHUNK_SIZE), any()))
+                .thenReturn(List.of());
+
+        // Act
+        int processed = duplicateDetectionService.backfillSignatures();
+
+        // Assert
+        assertEquals(DuplicateDetectionService.BACKFILL_CHUNK_SIZE, processed);
+        verify(complaintRepository).findUnsignedAfter(eq((long) DuplicateDetectionService.BACKFILL_CHUNK_SIZE), any());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    private static ComplaintText text(long id, String title, String description) {
+        return new ComplaintText(id, "10115", title, description);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.city_feedback.complaintManagement.domain.valueObjects;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link GeoGrid} and {@link Coordinates} classes.
+ */
+class GeoGridTest {
+
+    private static final Coordinates BRANDENBURG_GATE = new Coordinates(52.516275, 13.377704);
+
+    @Test
+    void whenCoordinatesAreClose_thenDistanceIsApproximatedWithinOneMeter() {
+        // Arrange: about 100 m east and 100 m north
+        Coordinates northEast = new Coordinates(52.516275 + 100 / Coordinates.METERS_PER_DEGREE_LATITUDE,
+                13.377704 + 100 / BRANDENBURG_GATE.metersPerDegreeLongitude());
+
+        // Act
+        double distance = BRANDENBURG_GATE.distanceTo(northEast);
+
+        // Assert
+        assertEquals(Math.sqrt(2) * 100, distance, 1.0);
+    }
+
+    @Test
+    void whenRadiusIsSearched_thenCellsOfAllPointsWithinTheRadiusAreCovered() {
+        // Arrange
+        double radius = 100;
+        List<Long> cells = GeoGrid.cellsWithin(BRANDENBURG_GATE, radius);
+
+        // Act & Assert: points on the circle in all directions fall into a covered cell
+        for (int degrees = 0; degrees < 360; degrees += 15) {
+            double angle = Math.toRadians(degrees);
+            Coordinates point = new Coordinates(
+                    BRANDENBURG_GATE.getLatitude() + Math.sin(angle) * radius / Coordinates.METERS_PER_DEGREE_LATITUDE,
+                    BRANDENBURG_GATE.getLongitude() + Math.cos(angle) * radius / BRANDENBURG_GATE.metersPerDegreeLongitude());
+            assertTrue(cells.contains(GeoGrid.cellOf(point)), "Punkt bei " + degrees + " Grad nicht abgedeckt");
+        }
+        assertTrue(cells.size() <= 6);
+    }
+
+    @Test
+    void whenCoordinatesAreOutOfRange_thenExceptionIsThrown() {
+        assertThrows(IllegalArgumentException.class, () -> new Coordinates(91, 0));
+        assertThrows(IllegalArgumentException.class, () -> new Coordinates(0, Double.NaN));
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.city_feedback.complaintManagement.infrastructure.deduplication;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link MinHasher} class.
+ */
+class MinHasherTest {
+
+    private static final String TITLE = "Schlagloch in der Hauptstraße";
+    private static final String DESCRIPTION = "Vor dem Haus Nummer 12 ist ein tiefes Schlagloch auf der Fahrbahn, "
+            + "Radfahrer müssen auf den Gehweg ausweichen.";
+
+    @Test
+    void whenTextsAreSimilar_thenSimilarityIsHighAndBucketIsShared() {
+        // Arrange
+        int[] first = MinHasher.signature(TITLE, DESCRIPTION);
+        int[] second = MinHasher.signature("Schlagloch Hauptstraße", DESCRIPTION + " Bitte schnell reparieren.");
+
+        // Act
+        double similarity = MinHasher.similarity(first, second);
+        long[] firstKeys = MinHasher.bucketKeys(first, "10115");
+        long[] secondKeys = MinHasher.bucketKeys(second, "10115");
+
+        // Assert
+        assertTrue(similarity >= 0.5, "similarity was " + similarity);
+        assertTrue(sharesBucket(firstKeys, secondKeys));
+    }
+
+    @Test
+    void whenTextsAreDifferent_thenSimilarityIsLow() {
+        // Arrange
+        int[] first = MinHasher.signature(TITLE, DESCRIPTION);
+        int[] second = MinHasher.signature("Laterne defekt", "Die Straßenlaterne am Spielplatz leuchtet seit Wochen nicht.");
+
+        // Act
+        double similarity = MinHasher.similarity(first, second);
+
+        // Assert
+        assertTrue(similarity < 0.2, "similarity was " + similarity);
+    }
+
+    @Test
+    void whenPostalCodesDiffer_thenNoBucketIsShared() {
+        // Arrange
+        int[] signature = MinHasher.signature(TITLE, DESCRIPTION);
+
+        // Act & Assert
+        assertFalse(sharesBucket(MinHasher.bucketKeys(signature, "10115"), MinHasher.bucketKeys(signature, "10117")));
+    }
+
+    @Test
+    void whenTextHasNoTerms_thenSignatureIsNull() {
+        assertNull(MinHasher.signature("", "und die der"));
+    }
+
+    @Test
+    void whenSignatureIsEncoded_thenDecodingRestoresIt() {
+        // Arrange
+        int[] signature = MinHasher.signature(TITLE, DESCRIPTION);
+
+        // Act
+        int[] decoded = MinHasher.decode(MinHasher.encode(signature));
+
+        // Assert
+        assertArrayEquals(signature, decoded);
+    }
+
+    private static boolean sharesBucket(long[] first, long[] second) {
+        return Arrays.stream(first).anyMatch(key -> Arrays.stream(second).anyMatch(other -> other == key));
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.city_feedback.complaintManagement.infrastructure.exporting;
+
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintExportRow;
+import com.example.city_feedback.progressManagement.domain.valueObjects.ComplaintStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the CSV and NDJSON {@link ComplaintExportWriter}s.
+ */
+class ComplaintExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void whenCsvValueContainsDelimiters_thenValueIsQuoted() throws IOException {
+        // Arrange
+        ComplaintExportRow row = new ComplaintExportRow(1L, "Schlagloch", "Tiefes Loch, \"gefährlich\"",
+                "Hauptstraße", "1", "10115", "Berlin", 2, "Straße", ComplaintStatus.OFFEN,
+                LocalDateTime.of(2024, 11, 5, 10, 30));
+
+        // Act
+        String csv = export(ExportFormat.CSV, row);
+
+        // Assert
+        String[] lines = csv.split("\r\n");
+        assertEquals(String.join(",", ComplaintExportWriter.COLUMNS), lines[0]);
+        assertEquals("1,Schlagloch,\"Tiefes Loch, \"\"gefährlich\"\"\",Hauptstraße,1,10115,Berlin,2,Straße,OFFEN,2024-11-05T10:30",
+                lines[1]);
+    }
+
+    @Test
+    void whenNdjson_thenOneObjectPerLine() throws IOException {
+        // Arrange
+        ComplaintExportRow first = new ComplaintExportRow(1L, "Schlagloch", "Tiefes Loch\nzweite Zeile",
+                "Hauptstraße", "1", "10115", "Berlin", null, null, ComplaintStatus.IN_BEARBEITUNG, null);
+        ComplaintExportRow second = new ComplaintExportRow(2L, "Laterne", "Defekt",
+                "Nebenstraße", "2", "10117", "Berlin", 3, "Beleuchtung", ComplaintStatus.ERLEDIGT, null);
+
+        // Act
+        String ndjson = export(ExportFormat.NDJSON, first, second);
+
+        // Assert
+        String[] lines = ndjson.split("\n");
+        assertEquals(2, lines.length);
+        JsonNode firstNode = objectMapper.readTree(lines[0]);
+        assertEquals("Tiefes Loch\nzweite Zeile", firstNode.get("description").asText());
+        assertTrue(firstNode.get("categoryId").isNull());
+        assertEquals(ComplaintStatus.IN_BEARBEITUNG.getCode(), firstNode.get("status").asText());
+        assertEquals(3, objectMapper.readTree(lines[1]).get("categoryId").asInt());
+    }
+
+    private String export(ExportFormat format, ComplaintExportRow... rows) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ComplaintExportWriter writer = ComplaintExportWriter.create(format, output, objectMapper)) {
+            for (ComplaintExportRow row : rows) {
+                writer.write(row);
+            }
+        }
+        return output.toString(StandardCharsets.UTF_8);
+    }
+}
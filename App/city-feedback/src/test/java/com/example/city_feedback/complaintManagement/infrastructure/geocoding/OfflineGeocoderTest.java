@@ -0,0 +1,77 @@
+package com.example.city_feedback.complaintManagement.infrastructure.geocoding;
+
+import com.example.city_feedback.complaintManagement.domain.valueObjects.Coordinates;
+import com.example.city_feedback.complaintManagement.domain.valueObjects.Location;
+import com.example.city_feedback.complaintManagement.infrastructure.repositories.GeocodedAddressRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link OfflineGeocoder} class.
+ */
+class OfflineGeocoderTest {
+
+    @Mock
+    private GeocodedAddressRepository geocodedAddressRepository;
+
+    private OfflineGeocoder geocoder;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        geocoder = new OfflineGeocoder(geocodedAddressRepository);
+    }
+
+    @Test
+    void whenStreetIsSpelledDifferently_thenKeysAreEqual() {
+        assertEquals("hauptstrasse", OfflineGeocoder.streetKey("Hauptstraße"));
+        assertEquals("hauptstrasse", OfflineGeocoder.streetKey("Haupt-Straße"));
+        assertEquals("hauptstrasse", OfflineGeocoder.streetKey("Hauptstr."));
+    }
+
+    @Test
+    void whenBuildingIsKnown_thenItWinsOverStreetAndPostalCode() {
+        // Arrange
+        when(geocodedAddressRepository.findCandidates("10115", "hauptstrasse")).thenReturn(List.of(
+                new GeocodedAddress("10115", null, null, 52.53, 13.38),
+                new GeocodedAddress("10115", "hauptstrasse", null, 52.52, 13.40),
+                new GeocodedAddress("10115", "hauptstrasse", "7a", 52.521, 13.401),
+                new GeocodedAddress("10115", "hauptstrasse", "9", 52.522, 13.402)));
+
+        // Act
+        Optional<Coordinates> coordinates = geocoder.geocode(new Location("Hauptstraße", "7A", "10115", "Berlin"));
+
+        // Assert
+        assertEquals(Optional.of(new Coordinates(52.521, 13.401)), coordinates);
+    }
+
+    @Test
+    void whenOnlyPostalCodeIsKnown_thenCentroidIsUsed() {
+        // Arrange
+        when(geocodedAddressRepository.findCandidates("10115", "nebenstrasse")).thenReturn(List.of(
+                new GeocodedAddress("10115", null, null, 52.53, 13.38)));
+
+        // Act
+        Optional<Coordinates> coordinates = geocoder.geocode(new Location("Nebenstraße", "1", "10115", "Berlin"));
+
+        // Assert
+        assertEquals(Optional.of(new Coordinates(52.53, 13.38)), coordinates);
+    }
+
+    @Test
+    void whenNothingIsKnown_thenAddressIsNotGeocoded() {
+        // Arrange
+        when(geocodedAddressRepository.findCandidates(any(), any())).thenReturn(List.of());
+
+        // Act & Assert
+        assertTrue(geocoder.geocode(new Location("Nebenstraße", "1", "99999", "Berlin")).isEmpty());
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.city_feedback.complaintManagement.infrastructure.importing;
+
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintImportRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the CSV and NDJSON {@link ComplaintImportReader}s.
+ */
+class ComplaintImportReaderTest {
+
+    private final ComplaintImportReaderFactory factory = new ComplaintImportReaderFactory(new ObjectMapper());
+
+    @Test
+    void whenCsvHasQuotedFields_thenValuesAreUnquoted() throws IOException {
+        // Arrange
+        String csv = "title,description,street,house_number,postal_code,city,categoryId\n"
+                + "Schlagloch,\"Tiefes Loch, \"\"gefährlich\"\"\nzweite Zeile\",Hauptstraße,1,10115,Berlin,2\n";
+
+        try (ComplaintImportReader reader = open(ImportFormat.CSV, csv)) {
+            // Act
+            ComplaintImportRow row = reader.next();
+
+            // Assert
+            assertEquals("Schlagloch", row.getTitle());
+            assertEquals("Tiefes Loch, \"gefährlich\"\nzweite Zeile", row.getDescription());
+            assertEquals("1", row.getHouseNumber());
+            assertEquals(2, row.getCategoryId());
+            assertEquals(2, reader.getLineNumber());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void whenCsvUsesSemicolonsAndCategoryNames_thenRowIsRead() throws IOException {
+        // Arrange
+        String csv = "Title;Description;Street;HouseNumber;PostalCode;City;Category\r\n"
+                + "Schlagloch;Tiefes Loch;Hauptstraße;1;10115;Berlin;Straße\r\n";
+
+        try (ComplaintImportReader reader = open(ImportFormat.CSV, csv)) {
+            // Act
+            ComplaintImportRow row = reader.next();
+
+            // Assert
+            assertEquals("Berlin", row.getCity());
+            assertEquals("Straße", row.getCategory());
+            assertNull(row.getCategoryId());
+        }
+    }
+
+    @Test
+    void whenCsvRowHasWrongColumnCount_thenOnlyThatRowIsRejected() throws IOException {
+        // Arrange
+        String csv = "title,description,street,houseNumber,postalCode,city,categoryId\n"
+                + "zu,wenig\n"
+                + "Schlagloch,Tiefes Loch,Hauptstraße,1,10115,Berlin,2\n";
+
+        try (ComplaintImportReader reader = open(ImportFormat.CSV, csv)) {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, reader::next);
+            assertEquals(2, reader.getLineNumber());
+            assertEquals("Schlagloch", reader.next().getTitle());
+            assertEquals(3, reader.getLineNumber());
+        }
+    }
+
+    @Test
+    void whenCsvHeaderIsIncomplete_thenOpeningFails() {
+        // Arrange
+        String csv = "title,description\nA,B\n";
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> open(ImportFormat.CSV, csv));
+    }
+
+    @Test
+    void whenNdjsonLineIsMalformed_thenOnlyThatRowIsRejected() throws IOException {
+        // Arrange
+        String ndjson = "{\"title\":\"Schlagloch\",\"categoryId\":2,\"unknown\":true}\n"
+                + "\n"
+                + "{kein json\n"
+                + "{\"title\":\"Laterne\",\"category\":\"Beleuchtung\"}\n";
+
+        try (ComplaintImportReader reader = open(ImportFormat.NDJSON, ndjson)) {
+            // Act & Assert
+            assertEquals("Schlagloch", reader.next().getTitle());
+            assertThrows(IllegalArgumentException.class, reader::next);
+            assertEquals(3, reader.getLineNumber());
+            assertEquals("Beleuchtung", reader.next().getCategory());
+            assertNull(reader.next());
+        }
+    }
+
+    @Test
+    void whenFormatMissing_thenDetectedFromFileName() {
+        // Act & Assert
+        assertEquals(ImportFormat.CSV, ImportFormat.detect(null, "legacy.CSV", null));
+        assertEquals(ImportFormat.NDJSON, ImportFormat.detect("", "export.jsonl", null));
+        assertEquals(ImportFormat.NDJSON, ImportFormat.detect("ndjson", "data.txt", null));
+        assertThrows(IllegalArgumentException.class, () -> ImportFormat.detect(null, "data.txt", "text/plain"));
+    }
+
+    private ComplaintImportReader open(ImportFormat format, String content) throws IOException {
+        return factory.open(format, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}
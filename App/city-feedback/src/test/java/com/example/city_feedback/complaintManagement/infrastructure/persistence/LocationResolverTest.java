@@ -0,0 +1,127 @@
+package com.example.city_feedback.complaintManagement.infrastructure.persistence;
+
+import com.example.city_feedback.complaintManagement.domain.valueObjects.Coordinates;
+import com.example.city_feedback.complaintManagement.domain.valueObjects.Location;
+import com.example.city_feedback.complaintManagement.infrastructure.geocoding.OfflineGeocoder;
+import com.example.city_feedback.complaintManagement.infrastructure.repositories.LocationRepository;
+import com.example.city_feedback.shared.infrastructure.metrics.MetricsRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link LocationResolver} class.
+ */
+class LocationResolverTest {
+
+    @Mock
+    private LocationRepository locationRepository;
+
+    @Mock
+    private OfflineGeocoder geocoder;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MetricsRegistry metricsRegistry;
+    private LocationResolver locationResolver;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        metricsRegistry = new MetricsRegistry();
+        locationResolver = new LocationResolver(locationRepository, geocoder, transactionManager, metricsRegistry, 2);
+    }
+
+    @Test
+    void whenAddressResolvedTwice_thenRepositoryIsQueriedOnce() {
+        // Arrange
+        Location stored = new Location("Hauptstraße", "1", "12345", "Berlin");
+        when(locationRepository.findByStreetAndHouseNumberAndPostalCodeAndCity("Hauptstraße", "1", "12345", "Berlin"))
+                .thenReturn(Optional.of(stored));
+
+        // Act
+        Location first = locationResolver.resolve(new Location("Hauptstraße", "1", "12345", "Berlin"));
+        Location second = locationResolver.resolve(new Location(" Hauptstraße ", "1", "12345", "Berlin"));
+
+        // Assert
+        assertSame(stored, first);
+        assertSame(stored, second);
+        verify(locationRepository, times(1)).findByStreetAndHouseNumberAndPostalCodeAndCity(any(), any(), any(), any());
+        assertEquals(1L, metricsRegistry.counterValues().get("locations.cache.hit"));
+    }
+
+    @Test
+    void whenAddressIsNew_thenLocationIsInserted() {
+        // Arrange
+        Location inserted = new Location("Neue Straße", "7", "54321", "Hamburg");
+        when(locationRepository.findByStreetAndHouseNumberAndPostalCodeAndCity(any(), any(), any(), any()))
+                .thenReturn(Optional.empty());
+        when(locationRepository.saveAndFlush(any(Location.class))).thenReturn(inserted);
+
+        // Act
+        Location result = locationResolver.resolve(new Location("Neue  Straße", "7", "54321", "Hamburg"));
+
+        // Assert
+        assertSame(inserted, result);
+        verify(locationRepository).saveAndFlush(argThat(location -> "Neue Straße".equals(location.getStreet())));
+    }
+
+    @Test
+    void whenNewAddressIsGeocoded_thenCoordinatesAreStored() {
+        // Arrange
+        when(locationRepository.findByStreetAndHouseNumberAndPostalCodeAndCity(any(), any(), any(), any()))
+                .thenReturn(Optional.empty());
+        when(geocoder.geocode(any(Location.class))).thenReturn(Optional.of(new Coordinates(52.52, 13.405)));
+        when(locationRepository.saveAndFlush(any(Location.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        Location result = locationResolver.resolve(new Location("Neue Straße", "7", "10115", "Berlin"));
+
+        // Assert
+        assertEquals(Optional.of(new Coordinates(52.52, 13.405)), result.getCoordinates());
+    }
+
+    @Test
+    void whenInsertedConcurrently_thenExistingLocationIsUsed() {
+        // Arrange
+        Location winner = new Location("Ringstraße", "3", "10115", "Berlin");
+        when(locationRepository.findByStreetAndHouseNumberAndPostalCodeAndCity("Ringstraße", "3", "10115", "Berlin"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(winner));
+        when(locationRepository.saveAndFlush(any(Location.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_locations_address"));
+
+        // Act
+        Location result = locationResolver.resolve(new Location("Ringstraße", "3", "10115", "Berlin"));
+
+        // Assert
+        assertSame(winner, result);
+    }
+
+    @Test
+    void whenCapacityExceeded_thenLeastRecentlyUsedAddressIsEvicted() {
+        // Arrange
+        when(locationRepository.findByStreetAndHouseNumberAndPostalCodeAndCity(any(), any(), any(), any()))
+                .thenAnswer(invocation -> Optional.of(new Location(
+                        invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2), invocation.getArgument(3))));
+
+        // Act
+        locationResolver.resolve(new Location("A Straße", "1", "11111", "Berlin"));
+        locationResolver.resolve(new Location("B Straße", "1", "11111", "Berlin"));
+        locationResolver.resolve(new Location("C Straße", "1", "11111", "Berlin"));
+        locationResolver.resolve(new Location("A Straße", "1", "11111", "Berlin"));
+
+        // Assert
+        verify(locationRepository, times(2)).findByStreetAndHouseNumberAndPostalCodeAndCity("A Straße", "1", "11111", "Berlin");
+        assertEquals(4L, metricsRegistry.counterValues().get("locations.cache.miss"));
+    }
+}
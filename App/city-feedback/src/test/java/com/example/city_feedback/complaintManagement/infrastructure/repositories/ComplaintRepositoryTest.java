@@ -0,0 +1,90 @@
+package com.example.city_feedback.complaintManagement.infrastructure.repositories;
+
+import com.example.city_feedback.authentication.domain.models.User;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintDto;
+import com.example.city_feedback.complaintManagement.domain.models.Category;
+import com.example.city_feedback.complaintManagement.domain.models.Complaint;
+import com.example.city_feedback.complaintManagement.domain.valueObjects.Location;
+import com.example.city_feedback.progressManagement.domain.models.ComplaintProgress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the list queries of {@link ComplaintRepository}.
+ */
+@DataJpaTest
+class ComplaintRepositoryTest {
+
+    @Autowired
+    private ComplaintRepository complaintRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User("Erika", "Mustermann", "erika@example.com", null, "secret", List.of());
+        entityManager.persist(user);
+
+        ComplaintProgress progress = new ComplaintProgress("OFFEN", "#808080");
+        entityManager.persist(progress);
+
+        Category category = Category.builder().withName("Straße").build();
+        entityManager.persist(category);
+
+        Location location = new Location("Hauptstraße", "1", "10115", "Berlin");
+        entityManager.persist(location);
+
+        for (int i = 1; i <= 5; i++) {
+            Complaint complaint = Complaint.builder()
+                    .withTitle("Beschwerde " + i)
+                    .withDescription("Beschreibung Nummer " + i)
+                    .withLocation(location)
+                    .withCategory(category)
+                    .withUser(user)
+                    .withProgress(progress)
+                    .build();
+            entityManager.persist(complaint);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void whenFirstPageRequested_thenReturnsNewestProjectedRows() {
+        // Act
+        List<ComplaintDto> rows = complaintRepository.findFirstPageByCreatorId(user.getId(), PageRequest.of(0, 3));
+
+        // Assert
+        assertEquals(3, rows.size());
+        assertEquals("Hauptstraße 1, 10115 Berlin", rows.get(0).getLocation());
+        assertEquals("Straße", rows.get(0).getCategoryName());
+        assertNotNull(rows.get(0).getCreatedAtTimestamp());
+        assertTrue(rows.get(0).getId() > rows.get(1).getId() || rows.get(0).getCreatedAtTimestamp().isAfter(rows.get(1).getCreatedAtTimestamp()));
+    }
+
+    @Test
+    void whenPageAfterCursorRequested_thenContinuesWithoutOverlap() {
+        // Arrange
+        List<ComplaintDto> firstPage = complaintRepository.findFirstPage(PageRequest.of(0, 2));
+        ComplaintDto last = firstPage.get(firstPage.size() - 1);
+
+        // Act
+        List<ComplaintDto> secondPage = complaintRepository.findPageAfter(
+                last.getCreatedAtTimestamp(), last.getId(), PageRequest.of(0, 10));
+
+        // Assert
+        assertEquals(3, secondPage.size());
+        assertTrue(secondPage.stream().noneMatch(row -> firstPage.stream().anyMatch(seen -> seen.getId().equals(row.getId()))));
+    }
+}
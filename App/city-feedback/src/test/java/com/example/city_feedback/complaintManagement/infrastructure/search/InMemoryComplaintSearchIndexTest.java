@@ -0,0 +1,125 @@
+package com.example.city_feedback.complaintManagement.infrastructure.search;
+
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintSearchHit;
+import com.example.city_feedback.complaintManagement.domain.events.ComplaintChangedEvent;
+import com.example.city_feedback.complaintManagement.infrastructure.repositories.ComplaintRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for the {@link InMemoryComplaintSearchIndex} and its {@link GermanTextAnalyzer}.
+ */
+class InMemoryComplaintSearchIndexTest {
+
+    private InMemoryComplaintSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InMemoryComplaintSearchIndex(mock(ComplaintRepository.class), mock(PlatformTransactionManager.class));
+    }
+
+    @Test
+    void whenTextIsAnalyzed_thenStopWordsAreDroppedAndInflectionsShareATerm() {
+        assertEquals(List.of("strassenlatern", "kaputt"), GermanTextAnalyzer.analyze("Die Straßenlaternen sind kaputt!"));
+        assertEquals(GermanTextAnalyzer.analyze("Schlagloch"), GermanTextAnalyzer.analyze("Schlaglöcher"));
+        assertEquals(List.of("10115"), GermanTextAnalyzer.analyze("in 10115"));
+    }
+
+    @Test
+    void whenQueryUsesAnotherInflection_thenComplaintIsFound() {
+        // Arrange
+        index.index(1L, 10L, "Schlaglöcher in der Hauptstraße", "Mehrere tiefe Löcher");
+
+        // Act
+        List<ComplaintSearchHit> hits = index.search("schlagloch", null, 0, 10);
+
+        // Assert
+        assertEquals(1, hits.size());
+        assertEquals(1L, hits.get(0).getComplaintId());
+    }
+
+    @Test
+    void whenTermIsInTitle_thenComplaintRanksAboveDescriptionMatch() {
+        // Arrange
+        index.index(1L, 10L, "Müll im Park", "Überfüllte Mülleimer");
+        index.index(2L, 10L, "Laterne defekt", "Daneben liegt Müll");
+        index.index(3L, 10L, "Laterne flackert", "Seit Tagen");
+
+        // Act
+        List<ComplaintSearchHit> hits = index.search("Müll", null, 0, 10);
+
+        // Assert
+        assertEquals(List.of(1L, 2L), hits.stream().map(ComplaintSearchHit::getComplaintId).toList());
+        assertTrue(hits.get(0).getRank() > hits.get(1).getRank());
+    }
+
+    @Test
+    void whenQueryHasSeveralTerms_thenAllMustMatch() {
+        // Arrange
+        index.index(1L, 10L, "Laterne defekt", "Hauptstraße");
+        index.index(2L, 10L, "Laterne defekt", "Nebenstraße");
+
+        // Act
+        List<ComplaintSearchHit> hits = index.search("laterne nebenstraße", null, 0, 10);
+
+        // Assert
+        assertEquals(1, hits.size());
+        assertEquals(2L, hits.get(0).getComplaintId());
+    }
+
+    @Test
+    void whenCreatorIsGiven_thenOnlyTheirComplaintsAreFound() {
+        // Arrange
+        index.index(1L, 10L, "Laterne defekt", "");
+        index.index(2L, 20L, "Laterne defekt", "");
+
+        // Act
+        List<ComplaintSearchHit> hits = index.search("Laterne", 20L, 0, 10);
+
+        // Assert
+        assertEquals(1, hits.size());
+        assertEquals(2L, hits.get(0).getComplaintId());
+    }
+
+    @Test
+    void whenResultsArePaged_thenPagesFollowTheRanking() {
+        // Arrange
+        for (long id = 1; id <= 5; id++) {
+            index.index(id, 10L, "Laterne " + id, "");
+        }
+
+        // Act
+        List<ComplaintSearchHit> firstPage = index.search("Laterne", null, 0, 2);
+        List<ComplaintSearchHit> secondPage = index.search("Laterne", null, 2, 2);
+
+        // Assert: equal ranks are ordered by ID, newest first
+        assertEquals(List.of(5L, 4L), firstPage.stream().map(ComplaintSearchHit::getComplaintId).toList());
+        assertEquals(List.of(3L, 2L), secondPage.stream().map(ComplaintSearchHit::getComplaintId).toList());
+    }
+
+    @Test
+    void whenComplaintIsUpdatedOrRemoved_thenIndexFollows() {
+        // Arrange
+        index.index(1L, 10L, "Laterne defekt", "");
+
+        // Act
+        index.onComplaintChanged(new ComplaintChangedEvent(1L, 10L, "Ampel defekt", "", false));
+
+        // Assert
+        assertTrue(index.search("Laterne", null, 0, 10).isEmpty());
+        assertEquals(1, index.search("Ampel", null, 0, 10).size());
+
+        // Act
+        index.onComplaintChanged(new ComplaintChangedEvent(1L, 10L, null, null, true));
+
+        // Assert
+        assertTrue(index.search("Ampel", null, 0, 10).isEmpty());
+        assertEquals(0, index.getIndexedCount());
+    }
+}
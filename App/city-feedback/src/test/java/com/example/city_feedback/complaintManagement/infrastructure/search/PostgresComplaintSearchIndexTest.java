@@ -0,0 +1,52 @@
+package com.example.city_feedback.complaintManagement.infrastructure.search;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the startup check of the {@link PostgresComplaintSearchIndex}.
+ */
+class PostgresComplaintSearchIndexTest {
+
+    private EntityManager entityManager;
+    private PostgresComplaintSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        entityManager = mock(EntityManager.class);
+        index = new PostgresComplaintSearchIndex(entityManager);
+    }
+
+    @Test
+    void whenSearchVectorColumnIsMissing_thenStartupFails() {
+        // Arrange
+        returnCount("information_schema.columns", 0L);
+
+        // Act & Assert
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> index.verifySchema());
+        assertTrue(exception.getMessage().contains("db/complaint_search.sql"));
+    }
+
+    @Test
+    void whenSearchVectorColumnExists_thenStartupContinues() {
+        // Arrange
+        returnCount("information_schema.columns", 1L);
+        returnCount("pg_indexes", 1L);
+
+        // Act & Assert
+        assertDoesNotThrow(() -> index.verifySchema());
+    }
+
+    private void returnCount(String table, long count) {
+        Query query = mock(Query.class);
+        when(query.getSingleResult()).thenReturn(count);
+        when(entityManager.createNativeQuery(contains(table))).thenReturn(query);
+    }
+}
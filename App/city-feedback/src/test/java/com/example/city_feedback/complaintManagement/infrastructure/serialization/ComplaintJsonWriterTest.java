@@ -0,0 +1,86 @@
+package com.example.city_feedback.complaintManagement.infrastructure.serialization;
+
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintCursor;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintDto;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintPage;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link ComplaintJsonWriter} and the field selection of {@link ComplaintField}.
+ */
+class ComplaintJsonWriterTest {
+
+    private static final ComplaintDto COMPLAINT = new ComplaintDto(7L, "Schlagloch", "Tiefes Loch",
+            "Hauptstraße", "1", "10115", "Berlin", LocalDateTime.of(2024, 11, 5, 10, 30), 2, "Straße");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ComplaintJsonWriter writer = new ComplaintJsonWriter(objectMapper);
+
+    @Test
+    void whenFieldsSelected_thenOnlyTheseAndIdAreWritten() throws IOException {
+        // Arrange
+        Set<ComplaintField> fields = ComplaintField.parse("title, createdAt");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        writer.writeComplaint(COMPLAINT, fields, output);
+
+        // Assert
+        JsonNode node = objectMapper.readTree(output.toByteArray());
+        assertEquals(3, node.size());
+        assertEquals(7, node.get("id").asLong());
+        assertEquals("Schlagloch", node.get("title").asText());
+        assertEquals("2024-11-05T10:30", node.get("createdAt").asText());
+        assertFalse(node.has("description"));
+    }
+
+    @Test
+    void whenPageWritten_thenItemsAndNextCursorAreIncluded() throws IOException {
+        // Arrange
+        ComplaintCursor next = new ComplaintCursor(LocalDateTime.of(2024, 11, 5, 10, 30), 7L);
+        ComplaintPage page = new ComplaintPage(List.of(COMPLAINT), next);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        writer.writePage(page, ComplaintField.parse(null), "/api/v1/complaints?cursor=abc", output);
+
+        // Assert
+        JsonNode node = objectMapper.readTree(output.toByteArray());
+        assertEquals(1, node.get("items").size());
+        assertEquals("Tiefes Loch", node.get("items").get(0).get("description").asText());
+        assertEquals("Hauptstraße 1, 10115 Berlin", node.get("items").get(0).get("location").asText());
+        assertEquals(next.encode(), node.get("nextCursor").asText());
+        assertEquals("/api/v1/complaints?cursor=abc", node.get("next").asText());
+    }
+
+    @Test
+    void whenLastPageWritten_thenNextIsNull() throws IOException {
+        // Arrange
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        writer.writePage(new ComplaintPage(List.of(), null), ComplaintField.parse("id"), null, output);
+
+        // Assert
+        JsonNode node = objectMapper.readTree(output.toByteArray());
+        assertEquals(0, node.get("items").size());
+        assertTrue(node.get("nextCursor").isNull());
+        assertTrue(node.get("next").isNull());
+    }
+
+    @Test
+    void whenUnknownFieldRequested_thenThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> ComplaintField.parse("title,password"));
+    }
+}
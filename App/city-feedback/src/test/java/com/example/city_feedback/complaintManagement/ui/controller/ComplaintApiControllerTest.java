@@ -0,0 +1,156 @@
+package com.example.city_feedback.complaintManagement.ui.controller;
+
+import com.example.city_feedback.authentication.application.services.CurrentUserProvider;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintCursor;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintDto;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintPage;
+import com.example.city_feedback.complaintManagement.application.services.ComplaintService;
+import com.example.city_feedback.complaintManagement.infrastructure.serialization.ComplaintJsonWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for the {@link ComplaintApiController}.
+ */
+class ComplaintApiControllerTest {
+
+    private static final ComplaintDto COMPLAINT = new ComplaintDto(7L, "Schlagloch", "Tiefes Loch",
+            "Hauptstraße", "1", "10115", "Berlin", LocalDateTime.of(2024, 11, 5, 10, 30), 2, "Straße");
+
+    @Mock
+    private ComplaintService complaintService;
+
+    @Mock
+    private CurrentUserProvider currentUserProvider;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        ComplaintApiController controller = new ComplaintApiController(complaintService, currentUserProvider,
+                new ComplaintJsonWriter(new ObjectMapper()));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void whenCitizenListsComplaints_thenOwnPageIsStreamedWithNextLink() throws Exception {
+        // Arrange
+        ComplaintCursor next = new ComplaintCursor(LocalDateTime.of(2024, 11, 5, 10, 30), 7L);
+        when(currentUserProvider.getCurrentUserId()).thenReturn(Optional.of(5L));
+        when(complaintService.getComplaintsByCreatorId(5L, null, 1)).thenReturn(new ComplaintPage(List.of(COMPLAINT), next));
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/v1/complaints").param("size", "1").param("fields", "title")
+                        .principal(authentication("Bürger")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(7))
+                .andExpect(jsonPath("$.items[0].title").value("Schlagloch"))
+                .andExpect(jsonPath("$.items[0].description").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor").value(next.encode()))
+                .andExpect(jsonPath("$.next").value("/api/v1/complaints?cursor=" + next.encode() + "&size=1&fields=title"));
+        verify(complaintService, never()).findAllComplaints(any(), anyInt());
+    }
+
+    @Test
+    void whenComplaintUnchanged_thenRespondsNotModifiedWithoutLoadingIt() throws Exception {
+        // Arrange
+        when(currentUserProvider.getCurrentUserId()).thenReturn(Optional.of(5L));
+        when(complaintService.findCreatorId(7L)).thenReturn(Optional.of(5L));
+        when(complaintService.findLastModified(7L)).thenReturn(Optional.of(LocalDateTime.of(2024, 11, 5, 10, 30)));
+        when(complaintService.findComplaintById(7L)).thenReturn(COMPLAINT);
+        String eTag = mockMvc.perform(get("/api/v1/complaints/7").principal(authentication("Bürger")))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/complaints/7").header(HttpHeaders.IF_NONE_MATCH, eTag).principal(authentication("Bürger")))
+                .andExpect(status().isNotModified());
+        verify(complaintService, times(1)).findComplaintById(7L);
+    }
+
+    @Test
+    void whenComplaintDoesNotExist_thenRespondsNotFound() throws Exception {
+        // Arrange
+        when(complaintService.findLastModified(99L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/complaints/99").principal(authentication("Mitarbeiter")))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void whenCitizenReadsForeignComplaint_thenRespondsNotFound() throws Exception {
+        // Arrange
+        when(currentUserProvider.getCurrentUserId()).thenReturn(Optional.of(5L));
+        when(complaintService.findCreatorId(7L)).thenReturn(Optional.of(6L));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/complaints/7").principal(authentication("Bürger")))
+                .andExpect(status().isNotFound());
+        verify(complaintService, never()).findComplaintById(any());
+    }
+
+    @Test
+    void whenCitizenChangesForeignComplaint_thenRespondsNotFoundWithoutChangingIt() throws Exception {
+        // Arrange
+        when(currentUserProvider.getCurrentUserId()).thenReturn(Optional.of(5L));
+        when(complaintService.findCreatorId(7L)).thenReturn(Optional.of(6L));
+
+        // Act & Assert
+        mockMvc.perform(put("/api/v1/complaints/7").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Übernommen\"}").principal(authentication("Bürger")))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/v1/complaints/7").principal(authentication("Bürger")))
+                .andExpect(status().isNotFound());
+        verify(complaintService, never()).updateComplaint(any(), any());
+        verify(complaintService, never()).deleteComplaint(any());
+    }
+
+    @Test
+    void whenStaffDeletesComplaintOfCitizen_thenRespondsNoContent() throws Exception {
+        // Act & Assert
+        mockMvc.perform(delete("/api/v1/complaints/7").principal(authentication("Mitarbeiter")))
+                .andExpect(status().isNoContent());
+        verify(complaintService).deleteComplaint(7L);
+        verify(complaintService, never()).findCreatorId(any());
+    }
+
+    @Test
+    void whenCursorIsMalformed_thenRespondsBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/complaints").param("cursor", "%%%").principal(authentication("Mitarbeiter")))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").exists());
+    }
+
+    private static UsernamePasswordAuthenticationToken authentication(String authority) {
+        return new UsernamePasswordAuthenticationToken("user", null, List.of(new SimpleGrantedAuthority(authority)));
+    }
+}
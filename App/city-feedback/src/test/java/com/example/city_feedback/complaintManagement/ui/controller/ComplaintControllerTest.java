@@ -1,11 +1,17 @@
 package com.example.city_feedback.complaintManagement.ui.controller;
 
+import com.example.city_feedback.authentication.application.services.CurrentUserProvider;
 import com.example.city_feedback.authentication.domain.models.User;
 import com.example.city_feedback.complaintManagement.application.commands.CreateComplaintCommand;
 import com.example.city_feedback.complaintManagement.application.dto.CategoryDto;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintCursor;
 import com.example.city_feedback.complaintManagement.application.dto.ComplaintDto;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintPage;
 import com.example.city_feedback.complaintManagement.application.services.CategoryService;
 import com.example.city_feedback.complaintManagement.application.services.ComplaintService;
+import com.example.city_feedback.complaintManagement.application.services.DuplicateDetectionService;
+import com.example.city_feedback.complaintManagement.application.services.NearbyComplaintService;
+import com.example.city_feedback.complaintManagement.application.dto.PossibleDuplicate;
 import com.example.city_feedback.complaintManagement.domain.models.Category;
 import com.example.city_feedback.complaintManagement.domain.models.Complaint;
 import com.example.city_feedback.complaintManagement.domain.valueObjects.Location;
@@ -15,22 +21,31 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockHttpSession;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.csrf.CsrfFilter;
+import org.springframework.security.web.csrf.CsrfTokenRepository;
+import org.springframework.security.web.csrf.HttpSessionCsrfTokenRepository;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.ui.Model;
+import org.springframework.web.context.request.ServletWebRequest;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -53,17 +68,23 @@ class ComplaintControllerTest {
     private MockMvc mockMvc;
 
     @Mock
-    private Authentication authentication;
+    private CurrentUserProvider currentUserProvider;
 
     @Mock
-    private UserDetails userDetails;
+    private NearbyComplaintService nearbyComplaintService;
+
+    @Mock
+    private DuplicateDetectionService duplicateDetectionService;
+
+    private final CsrfTokenRepository csrfTokenRepository = new HttpSessionCsrfTokenRepository();
 
     private ComplaintController complaintController;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        complaintController = new ComplaintController(complaintService, categoryService);
+        complaintController = new ComplaintController(complaintService, categoryService, currentUserProvider, nearbyComplaintService,
+                duplicateDetectionService, csrfTokenRepository);
         mockMvc = MockMvcBuilders.standaloneSetup(complaintController).build();
     }
 
@@ -104,23 +125,51 @@ class ComplaintControllerTest {
 
     @Test
     void whenListComplaints_thenReturnsCorrectViewAndPopulatesModel() {
-        // Mock user details
-        when(authentication.getPrincipal()).thenReturn(userDetails);
-        when(userDetails.getUsername()).thenReturn("user@example.com");
+        // Mock current user
+        when(currentUserProvider.getCurrentUserId()).thenReturn(Optional.of(5L));
 
         // Mock complaints
         List<ComplaintDto> mockComplaints = List.of(
                 new ComplaintDto(1L, "Title", "Description", "Street 123, 12345 City", "2023-01-01", 1, "Category")
         );
-        when(complaintService.getComplaintsByCreatorEmail("user@example.com")).thenReturn(mockComplaints);
+        when(complaintService.getComplaintsByCreatorId(5L, null, 20))
+                .thenReturn(new ComplaintPage(mockComplaints, null));
 
         // Call controller method
-        String view = complaintController.listComplaints(authentication, model);
+        String view = complaintController.listComplaints(null, 20, model);
 
         // Verify behavior and assertions
         assertEquals("complaintManagement/complaints-list", view);
-        verify(complaintService).getComplaintsByCreatorEmail("user@example.com");
+        verify(complaintService).getComplaintsByCreatorId(5L, null, 20);
         verify(model).addAttribute(eq("complaints"), eq(mockComplaints));
+        verify(model).addAttribute("nextCursor", null);
+    }
+
+    @Test
+    void whenListComplaintsWithCursor_thenDecodesCursorAndExposesNextCursor() {
+        when(currentUserProvider.getCurrentUserId()).thenReturn(Optional.of(5L));
+
+        ComplaintCursor cursor = new ComplaintCursor(LocalDateTime.of(2024, 5, 1, 12, 0), 42L);
+        ComplaintCursor nextCursor = new ComplaintCursor(LocalDateTime.of(2024, 4, 1, 12, 0), 7L);
+        when(complaintService.getComplaintsByCreatorId(eq(5L), any(ComplaintCursor.class), eq(10)))
+                .thenReturn(new ComplaintPage(List.of(), nextCursor));
+
+        complaintController.listComplaints(cursor.encode(), 10, model);
+
+        verify(complaintService).getComplaintsByCreatorId(eq(5L),
+                argThat(c -> c.getId().equals(42L) && c.getCreatedAt().equals(cursor.getCreatedAt())), eq(10));
+        verify(model).addAttribute("nextCursor", nextCursor.encode());
+    }
+
+    @Test
+    void whenListComplaintsWithMalformedCursor_thenStartsFromFirstPage() {
+        when(currentUserProvider.getCurrentUserId()).thenReturn(Optional.of(5L));
+        when(complaintService.getComplaintsByCreatorId(5L, null, 20))
+                .thenReturn(new ComplaintPage(List.of(), null));
+
+        complaintController.listComplaints("not-a-cursor", 20, model);
+
+        verify(complaintService).getComplaintsByCreatorId(5L, null, 20);
     }
 
 
@@ -145,7 +194,7 @@ class ComplaintControllerTest {
     void whenShowEditComplaintFormForNewComplaint_thenReturnsCorrectViewAndPopulatesModel() {
         when(categoryService.getAllCategories()).thenReturn(new ArrayList<>());
 
-        String view = complaintController.showEditComplaintForm(null, model);
+        String view = complaintController.showEditComplaintForm(null, model, webRequest());
 
         assertEquals("complaintManagement/create-complaint", view);
         verify(model).addAttribute(eq("isEditMode"), eq(false));
@@ -154,16 +203,89 @@ class ComplaintControllerTest {
 
     @Test
     void whenShowEditComplaintFormForExistingComplaint_thenReturnsCorrectViewAndPopulatesModel() {
-        ComplaintDto mockComplaint = new ComplaintDto(1L, "Title", "Description", "Street 123, 12345 City", "2023-01-01", 1, "Category");
+        ComplaintDto mockComplaint = new ComplaintDto(1L, "Title", "Description", "Am Alten Markt", "3 b", "12345", "Bad City",
+                LocalDateTime.of(2023, 1, 1, 0, 0), 1, "Category");
         when(complaintService.findComplaintById(1L)).thenReturn(mockComplaint);
+        when(complaintService.findLastModified(1L)).thenReturn(Optional.of(LocalDateTime.of(2024, 5, 1, 12, 0)));
         when(categoryService.getAllCategories()).thenReturn(new ArrayList<>());
 
-        String view = complaintController.showEditComplaintForm(1L, model);
+        String view = complaintController.showEditComplaintForm(1L, model, webRequest());
 
         assertEquals("complaintManagement/create-complaint", view);
         verify(model).addAttribute(eq("isEditMode"), eq(true));
         verify(model).addAttribute(eq("complaintId"), eq(1L));
         verify(model).addAttribute(eq("categories"), anyList());
+        verify(model).addAttribute(eq("complaint"), argThat(command -> command instanceof CreateComplaintCommand form
+                && "Am Alten Markt".equals(form.getStreet())
+                && "3 b".equals(form.getHouseNumber())
+                && "12345".equals(form.getPostalCode())
+                && "Bad City".equals(form.getCity())));
+    }
+
+    @Test
+    void whenEditFormUnchanged_thenRespondsNotModifiedWithoutLoadingComplaint() {
+        // Arrange
+        when(complaintService.findComplaintById(1L))
+                .thenReturn(new ComplaintDto(1L, "Title", "Description", "Street 123, 12345 City", "2023-01-01", 1, "Category"));
+        when(complaintService.findLastModified(1L)).thenReturn(Optional.of(LocalDateTime.of(2024, 5, 1, 12, 0)));
+        when(categoryService.getCatalogueVersion()).thenReturn(42L);
+        MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+        complaintController.showEditComplaintForm(1L, model, new ServletWebRequest(new MockHttpServletRequest("GET", "/complaints/1/edit"), firstResponse));
+        String eTag = firstResponse.getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/complaints/1/edit");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, eTag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // Act
+        String view = complaintController.showEditComplaintForm(1L, model, new ServletWebRequest(request, response));
+
+        // Assert
+        assertNull(view);
+        assertEquals(304, response.getStatus());
+        assertEquals("no-cache, private", response.getHeader(HttpHeaders.CACHE_CONTROL));
+        verify(complaintService, times(1)).findComplaintById(1L);
+    }
+
+    @Test
+    void whenEditFormRequestedAgainInSameSession_thenRespondsNotModifiedDespiteMaskedCsrfToken() throws Exception {
+        // Arrange
+        when(complaintService.findComplaintById(1L))
+                .thenReturn(new ComplaintDto(1L, "Title", "Description", "Street 123, 12345 City", "2023-01-01", 1, "Category"));
+        when(complaintService.findLastModified(1L)).thenReturn(Optional.of(LocalDateTime.of(2024, 5, 1, 12, 0)));
+        when(categoryService.getAllCategories()).thenReturn(new ArrayList<>());
+        MockMvc csrfMockMvc = MockMvcBuilders.standaloneSetup(complaintController)
+                .addFilters(new CsrfFilter(csrfTokenRepository))
+                .build();
+        MockHttpSession session = new MockHttpSession();
+        String eTag = csrfMockMvc.perform(get("/complaints/1/edit").session(session))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        // Act & Assert
+        csrfMockMvc.perform(get("/complaints/1/edit").session(session).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+        csrfMockMvc.perform(get("/complaints/1/edit").session(new MockHttpSession()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk());
+        verify(complaintService, times(2)).findComplaintById(1L);
+    }
+
+    @Test
+    void whenComplaintModifiedSinceCached_thenFormIsRenderedAgain() {
+        // Arrange
+        ComplaintDto mockComplaint = new ComplaintDto(1L, "Title", "Description", "Street 123, 12345 City", "2023-01-01", 1, "Category");
+        when(complaintService.findComplaintById(1L)).thenReturn(mockComplaint);
+        when(complaintService.findLastModified(1L)).thenReturn(Optional.of(LocalDateTime.of(2024, 5, 1, 12, 0)));
+        when(categoryService.getAllCategories()).thenReturn(new ArrayList<>());
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/complaints/1/edit");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"e1-0-0-0\"");
+
+        // Act
+        String view = complaintController.showEditComplaintForm(1L, model, new ServletWebRequest(request, new MockHttpServletResponse()));
+
+        // Assert
+        assertEquals("complaintManagement/create-complaint", view);
+        verify(complaintService).findComplaintById(1L);
     }
 
     @Test
@@ -178,6 +300,40 @@ class ComplaintControllerTest {
         verify(complaintService).createComplaint(command);
     }
 
+    @Test
+    void whenPossibleDuplicatesExist_thenFormIsShownAgain() {
+        // Arrange
+        CreateComplaintCommand command = new CreateComplaintCommand();
+        command.setTitle("Schlagloch");
+        command.setCategoryId(1);
+        List<PossibleDuplicate> duplicates = List.of(
+                new PossibleDuplicate(7L, "Loch in der Straße", "Hauptstraße 1, 10115 Berlin", 42L, 80));
+        when(duplicateDetectionService.findPossibleDuplicates(command)).thenReturn(duplicates);
+
+        // Act
+        String view = complaintController.saveOrUpdateComplaint(null, command, model);
+
+        // Assert
+        assertEquals("complaintManagement/create-complaint", view);
+        verify(model).addAttribute("duplicates", duplicates);
+        verify(complaintService, never()).createComplaint(any());
+    }
+
+    @Test
+    void whenDuplicateConfirmed_thenComplaintIsCreated() {
+        // Arrange
+        CreateComplaintCommand command = new CreateComplaintCommand();
+        command.setDuplicateConfirmed(true);
+
+        // Act
+        String view = complaintController.saveOrUpdateComplaint(null, command, model);
+
+        // Assert
+        assertEquals("redirect:/complaints?success=true", view);
+        verify(duplicateDetectionService, never()).findPossibleDuplicates(any());
+        verify(complaintService).createComplaint(command);
+    }
+
     @Test
     void whenDeleteComplaint_thenRedirectsToSuccess() {
         doNothing().when(complaintService).deleteComplaint(1L);
@@ -209,6 +365,22 @@ class ComplaintControllerTest {
     }
 
 
+    @Test
+    void whenCategoriesUnchanged_thenRespondsNotModified() throws Exception {
+        // Arrange
+        when(categoryService.getCatalogueVersion()).thenReturn(255L);
+        when(categoryService.getAllCategories()).thenReturn(List.of(new CategoryDto(1, "Category 1", "Description 1")));
+
+        // Act & Assert
+        mockMvc.perform(get("/complaints/categories"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"cff\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"));
+        mockMvc.perform(get("/complaints/categories").header(HttpHeaders.IF_NONE_MATCH, "\"cff\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
     @Test
     void whenDeleteComplaintWithInvalidId_thenReturnsNotFound() throws Exception {
         doThrow(new IllegalArgumentException("Complaint not found")).when(complaintService).deleteComplaint(anyLong());
@@ -217,7 +389,7 @@ class ComplaintControllerTest {
                 .andExpect(status().isNotFound());
     }
 
-
-
-
+    private static ServletWebRequest webRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest(), new MockHttpServletResponse());
+    }
 }
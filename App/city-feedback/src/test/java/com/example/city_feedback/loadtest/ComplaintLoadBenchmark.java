@@ -0,0 +1,189 @@
+package com.example.city_feedback.loadtest;
+
+import com.example.city_feedback.shared.infrastructure.metrics.LatencyHistogram;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Closed-loop load benchmark for the complaint list and create endpoints of a running instance.
+ * Not a unit test; it is run manually against the application started once with platform threads
+ * and once with virtual threads, and the printed throughput and latencies are compared:
+ *
+ * <pre>
+ * mvn spring-boot:run                                   # platform threads
+ * mvn -Pvirtual-threads spring-boot:run                 # virtual threads (JDK 21)
+ * java -cp target/test-classes:target/classes \
+ *      -Dbenchmark.label=virtual -Dbenchmark.user=... -Dbenchmark.password=... \
+ *      com.example.city_feedback.loadtest.ComplaintLoadBenchmark
+ * </pre>
+ *
+ * Settings (system properties): {@code benchmark.baseUrl} (default http://localhost:8080),
+ * {@code benchmark.user}, {@code benchmark.password}, {@code benchmark.clients} (default 200),
+ * {@code benchmark.seconds} (default 30), {@code benchmark.createRatio} (share of create requests, default 0.1)
+ * and {@code benchmark.label}.
+ */
+public class ComplaintLoadBenchmark {
+
+    private static final Pattern CSRF_TOKEN = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+
+    private final String baseUrl;
+    private final HttpClient client;
+    private final LatencyHistogram listLatency = new LatencyHistogram();
+    private final LatencyHistogram createLatency = new LatencyHistogram();
+    private final AtomicLong errors = new AtomicLong();
+    private String csrfToken;
+
+    ComplaintLoadBenchmark(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("benchmark.baseUrl", "http://localhost:8080");
+        int clients = Integer.getInteger("benchmark.clients", 200);
+        int seconds = Integer.getInteger("benchmark.seconds", 30);
+        double createRatio = Double.parseDouble(System.getProperty("benchmark.createRatio", "0.1"));
+        String label = System.getProperty("benchmark.label", "unnamed");
+
+        ComplaintLoadBenchmark benchmark = new ComplaintLoadBenchmark(baseUrl);
+        benchmark.signIn(System.getProperty("benchmark.user"), System.getProperty("benchmark.password"));
+        benchmark.run(clients, Duration.ofSeconds(seconds), createRatio);
+        benchmark.report(label, seconds);
+    }
+
+    void signIn(String user, String password) throws IOException, InterruptedException {
+        String token = fetchCsrfToken("/sign-in");
+        HttpResponse<Void> response = client.send(formPost("/sign-in", Map.of(
+                "username", user, "password", password, "_csrf", token)), HttpResponse.BodyHandlers.discarding());
+        String location = response.headers().firstValue("Location").orElse("");
+        if (response.statusCode() != 302 || location.contains("error")) {
+            throw new IllegalStateException("Anmeldung fehlgeschlagen: " + response.statusCode() + " " + location);
+        }
+        csrfToken = fetchCsrfToken("/complaints/create-complaint");
+    }
+
+    void run(int clients, Duration duration, double createRatio) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                int clientId = i;
+                workers.add(executor.submit(() -> {
+                    long iteration = 0;
+                    while (System.nanoTime() < deadline) {
+                        boolean create = (iteration++ % Math.max(1, Math.round(1 / createRatio))) == 0 && createRatio > 0;
+                        if (create) {
+                            timed(createLatency, () -> createComplaint(clientId), 302);
+                        } else {
+                            timed(listLatency, () -> send(HttpRequest.newBuilder(URI.create(baseUrl + "/complaints")).GET().build()), 200);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> worker : workers) {
+                try {
+                    worker.get();
+                } catch (Exception e) {
+                    errors.incrementAndGet();
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private HttpResponse<Void> createComplaint(int clientId) throws IOException, InterruptedException {
+        // All clients post the same text, so every complaint after the first would otherwise get the duplicate form
+        return client.send(formPost("/complaints/create-complaint", Map.of(
+                "title", "Lasttest " + clientId,
+                "description", "Automatisch erzeugte Beschwerde für den Lasttest",
+                "street", "Teststraße",
+                "houseNumber", String.valueOf(1 + clientId % 50),
+                "postalCode", "10115",
+                "city", "Berlin",
+                "categoryId", "1",
+                "duplicateConfirmed", "true",
+                "_csrf", csrfToken)), HttpResponse.BodyHandlers.discarding());
+    }
+
+    private HttpResponse<Void> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    private void timed(LatencyHistogram histogram, Call call, int expectedStatus) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = call.execute();
+            if (response.statusCode() != expectedStatus) {
+                errors.incrementAndGet();
+            }
+        } catch (IOException e) {
+            errors.incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            histogram.record(System.nanoTime() - start);
+        }
+    }
+
+    void report(String label, int seconds) {
+        System.out.printf("mode=%s clients=%s%n", label, System.getProperty("benchmark.clients", "200"));
+        print("list", listLatency.snapshot(), seconds);
+        print("create", createLatency.snapshot(), seconds);
+        System.out.printf("errors=%d%n", errors.get());
+    }
+
+    private static void print(String name, LatencyHistogram.Snapshot snapshot, int seconds) {
+        System.out.printf("%-6s requests=%d throughput=%.1f/s p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms%n",
+                name, snapshot.getCount(), snapshot.getCount() / (double) seconds,
+                snapshot.getP50() / 1e6, snapshot.getP95() / 1e6, snapshot.getP99() / 1e6, snapshot.getMax() / 1e6);
+    }
+
+    private String fetchCsrfToken(String path) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build(), HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = CSRF_TOKEN.matcher(response.body());
+        if (!matcher.find()) {
+            throw new IllegalStateException("Kein CSRF-Token auf " + path + " gefunden (Status " + response.statusCode() + ")");
+        }
+        return matcher.group(1);
+    }
+
+    private HttpRequest formPost(String path, Map<String, String> fields) {
+        String body = fields.entrySet().stream()
+                .map(e -> URLEncoder.encode(e.getKey(), StandardCharsets.UTF_8) + "=" + URLEncoder.encode(e.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    @FunctionalInterface
+    private interface Call {
+        HttpResponse<Void> execute() throws IOException, InterruptedException;
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.city_feedback.progressManagement.application.services;
+
+import com.example.city_feedback.authentication.application.services.CurrentUserProvider;
+import com.example.city_feedback.authentication.domain.models.User;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintDimensions;
+import com.example.city_feedback.complaintManagement.application.services.ComplaintStatisticsService;
+import com.example.city_feedback.complaintManagement.domain.models.Complaint;
+import com.example.city_feedback.complaintManagement.infrastructure.repositories.ComplaintRepository;
+import com.example.city_feedback.progressManagement.application.dto.BulkTransitionResult;
+import com.example.city_feedback.progressManagement.application.dto.ComplaintRecipient;
+import com.example.city_feedback.progressManagement.domain.events.ComplaintStatusChangedEvent;
+import com.example.city_feedback.progressManagement.domain.models.ComplaintProgress;
+import com.example.city_feedback.progressManagement.domain.valueObjects.ComplaintStatus;
+import com.example.city_feedback.progressManagement.infrastructure.repositories.ProgressRepository;
+import com.example.city_feedback.shared.infrastructure.messaging.OutboxEventPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link ComplaintProgressService} class.
+ */
+class ComplaintProgressServiceTest {
+
+    @Mock
+    private ComplaintRepository complaintRepository;
+
+    @Mock
+    private ProgressRepository progressRepository;
+
+    @Mock
+    private StatusDefinitionService statusDefinitionService;
+
+    @Mock
+    private CurrentUserProvider currentUserProvider;
+
+    @Mock
+    private OutboxEventPublisher eventPublisher;
+
+    @Mock
+    private ComplaintStatisticsService statisticsService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ComplaintProgressService complaintProgressService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        complaintProgressService = new ComplaintProgressService(complaintRepository, progressRepository,
+                statusDefinitionService, currentUserProvider, eventPublisher, statisticsService, transactionManager);
+        when(currentUserProvider.getCurrentUserId()).thenReturn(Optional.of(9L));
+        when(statusDefinitionService.getDefinitionId(any())).thenReturn(2);
+    }
+
+    @Test
+    void whenTransitionAllowed_thenStatusIsChangedAndPublished() {
+        // Arrange
+        Complaint complaint = complaint(ComplaintStatus.OFFEN);
+        ComplaintProgress inProgress = new ComplaintProgress("IN BEARBEITUNG", "#FFA500");
+        when(complaintRepository.findById(1L)).thenReturn(Optional.of(complaint));
+        when(statusDefinitionService.getDefinitionReference(ComplaintStatus.IN_BEARBEITUNG)).thenReturn(inProgress);
+
+        // Act
+        complaintProgressService.changeStatus(1L, ComplaintStatus.IN_BEARBEITUNG, 0L);
+
+        // Assert
+        assertEquals(ComplaintStatus.IN_BEARBEITUNG, complaint.getStatus());
+        assertEquals(inProgress, complaint.getProgress());
+        verify(complaintRepository).save(complaint);
+        verify(progressRepository).appendHistory(1L, ComplaintStatus.OFFEN, ComplaintStatus.IN_BEARBEITUNG, 9L);
+        verify(eventPublisher).publish(any(ComplaintStatusChangedEvent.class));
+    }
+
+    @Test
+    void whenComplaintHasNoCreator_thenEventIsPublishedWithoutRecipient() {
+        // Arrange
+        Complaint complaint = complaint(ComplaintStatus.OFFEN);
+        complaint.setUser(null);
+        when(complaintRepository.findById(1L)).thenReturn(Optional.of(complaint));
+
+        // Act
+        complaintProgressService.changeStatus(1L, ComplaintStatus.IN_BEARBEITUNG, 0L);
+
+        // Assert
+        verify(eventPublisher).publish(argThat((ComplaintStatusChangedEvent event) -> event.getCreatorEmail() == null));
+    }
+
+    @Test
+    void whenTransitionNotAllowed_thenThrowsException() {
+        // Arrange
+        when(complaintRepository.findById(1L)).thenReturn(Optional.of(complaint(ComplaintStatus.OFFEN)));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> complaintProgressService.changeStatus(1L, ComplaintStatus.ERLEDIGT, 0L));
+        verify(complaintRepository, never()).save(any());
+    }
+
+    @Test
+    void whenVersionIsStale_thenThrowsOptimisticLockingFailure() {
+        // Arrange
+        when(complaintRepository.findById(1L)).thenReturn(Optional.of(complaint(ComplaintStatus.OFFEN)));
+
+        // Act & Assert
+        assertThrows(ObjectOptimisticLockingFailureException.class,
+                () -> complaintProgressService.changeStatus(1L, ComplaintStatus.IN_BEARBEITUNG, 3L));
+        verify(complaintRepository, never()).save(any());
+    }
+
+    @Test
+    void whenBulkTransition_thenComplaintsAreClassified() {
+        // Arrange
+        Map<Long, ComplaintStatus> statuses = new HashMap<>();
+        statuses.put(1L, ComplaintStatus.OFFEN);
+        statuses.put(2L, ComplaintStatus.OFFEN);
+        statuses.put(3L, ComplaintStatus.IN_BEARBEITUNG);
+        when(progressRepository.findCurrentStatuses(List.of(1L, 2L, 3L, 4L))).thenReturn(statuses);
+        // Complaint 2 is moved by someone else between reading and locking it, or locked by another bulk change
+        when(progressRepository.updateStatuses(List.of(1L, 2L), ComplaintStatus.OFFEN, ComplaintStatus.IN_BEARBEITUNG, 2, 9L))
+                .thenReturn(List.of(1L));
+        when(progressRepository.findRecipients(Set.of(1L)))
+                .thenReturn(List.of(new ComplaintRecipient(1L, "Schlagloch", "citizen@example.com")));
+        ComplaintDimensions dimensions = new ComplaintDimensions(1L, 3, "10115", LocalDateTime.of(2024, 5, 1, 12, 0));
+        when(complaintRepository.findDimensionsByIds(Set.of(1L))).thenReturn(List.of(dimensions));
+
+        // Act
+        BulkTransitionResult result = complaintProgressService.transitionAll(List.of(1L, 2L, 3L, 4L, 1L), ComplaintStatus.IN_BEARBEITUNG);
+
+        // Assert
+        assertEquals(1, result.getTransitioned());
+        assertEquals(List.of(2L), result.getConflictedIds());
+        assertEquals(List.of(3L), result.getRejectedIds());
+        assertEquals(List.of(4L), result.getNotFoundIds());
+        verify(eventPublisher, times(1)).publish(any(ComplaintStatusChangedEvent.class));
+        verify(statisticsService).recordStatusChanged(dimensions, ComplaintStatus.OFFEN, ComplaintStatus.IN_BEARBEITUNG);
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void whenBulkTransitionExceedsChunkSize_thenEachChunkIsCommittedSeparately() {
+        // Arrange
+        List<Long> ids = java.util.stream.LongStream.rangeClosed(1, ComplaintProgressService.BULK_CHUNK_SIZE + 1).boxed().toList();
+        when(progressRepository.findCurrentStatuses(any())).thenReturn(Map.of());
+
+        // Act
+        BulkTransitionResult result = complaintProgressService.transitionAll(ids, ComplaintStatus.IN_BEARBEITUNG);
+
+        // Assert
+        assertEquals(ids.size(), result.getNotFoundIds().size());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    private Complaint complaint(ComplaintStatus status) {
+        User creator = new User();
+        creator.setEmail("citizen@example.com");
+        Complaint complaint = new Complaint();
+        complaint.setId(1L);
+        complaint.setTitle("Schlagloch");
+        complaint.setUser(creator);
+        complaint.setStatus(status);
+        return complaint;
+    }
+}
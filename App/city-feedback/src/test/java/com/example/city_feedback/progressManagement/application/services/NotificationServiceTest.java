@@ -0,0 +1,106 @@
+package com.example.city_feedback.progressManagement.application.services;
+
+import com.example.city_feedback.progressManagement.application.dto.Notification;
+import com.example.city_feedback.shared.infrastructure.config.NotificationProperties;
+import com.example.city_feedback.shared.infrastructure.metrics.MetricsRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link NotificationService} class.
+ */
+class NotificationServiceTest {
+
+    private final List<List<Notification>> batches = new CopyOnWriteArrayList<>();
+    private NotificationProperties properties;
+    private MetricsRegistry metricsRegistry;
+    private NotificationService notificationService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new NotificationProperties();
+        properties.setBatchSize(2);
+        metricsRegistry = new MetricsRegistry();
+        notificationService = new NotificationService(batches::add, properties, metricsRegistry);
+    }
+
+    @Test
+    void whenSeveralChangesToOneComplaint_thenOneNotificationIsSent() throws InterruptedException {
+        // Arrange
+        notificationService.notifyComplaintCreated(1L, "Schlagloch", "citizen@example.com");
+        notificationService.notifyStatusChanged(1L, "Schlagloch", "Offen", "In Bearbeitung", "citizen@example.com");
+        notificationService.notifyStatusChanged(1L, "Schlagloch", "In Bearbeitung", "Erledigt", "citizen@example.com");
+
+        // Act
+        notificationService.shutdown();
+
+        // Assert
+        List<Notification> sent = batches.stream().flatMap(List::stream).toList();
+        assertEquals(1, sent.size());
+        assertEquals("citizen@example.com", sent.get(0).getRecipient());
+        assertTrue(sent.get(0).getBody().contains("eingegangen"));
+        assertTrue(sent.get(0).getBody().endsWith("Status: Erledigt"));
+        assertEquals(2L, metricsRegistry.counterValues().get("notifications.coalesced"));
+    }
+
+    @Test
+    void whenStatusChangesBack_thenNothingIsSent() throws InterruptedException {
+        // Arrange
+        notificationService.notifyStatusChanged(1L, "Schlagloch", "Offen", "In Bearbeitung", "citizen@example.com");
+        notificationService.notifyStatusChanged(1L, "Schlagloch", "In Bearbeitung", "Offen", "citizen@example.com");
+
+        // Act
+        notificationService.shutdown();
+
+        // Assert
+        assertTrue(batches.isEmpty());
+    }
+
+    @Test
+    void whenWindowHasNotPassed_thenNotificationStaysPending() {
+        // Arrange
+        long before = System.nanoTime();
+        notificationService.notifyStatusChanged(1L, "Schlagloch", "Offen", "Erledigt", "citizen@example.com");
+
+        // Act
+        notificationService.flush(before - 1);
+
+        // Assert
+        assertEquals(1, notificationService.getPendingCount());
+    }
+
+    @Test
+    void whenManyComplaints_thenNotificationsAreSentInBatches() throws InterruptedException {
+        // Arrange
+        for (long id = 1; id <= 5; id++) {
+            notificationService.notifyStatusChanged(id, "Beschwerde " + id, "Offen", "Erledigt", "citizen@example.com");
+        }
+
+        // Act
+        notificationService.shutdown();
+
+        // Assert
+        assertEquals(5, batches.stream().mapToInt(List::size).sum());
+        assertTrue(batches.stream().allMatch(batch -> batch.size() <= 2));
+        assertEquals(0, notificationService.getPendingCount());
+    }
+
+    @Test
+    void whenTooManyPending_thenFurtherComplaintsAreDropped() {
+        // Arrange
+        properties.setMaxPending(1);
+        notificationService.notifyStatusChanged(1L, "A", "Offen", "Erledigt", "citizen@example.com");
+
+        // Act
+        notificationService.notifyStatusChanged(2L, "B", "Offen", "Erledigt", "citizen@example.com");
+
+        // Assert
+        assertEquals(1, notificationService.getPendingCount());
+        assertEquals(1L, metricsRegistry.counterValues().get("notifications.dropped"));
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.city_feedback.progressManagement.infrastructure.repositories;
+
+import com.example.city_feedback.authentication.domain.models.User;
+import com.example.city_feedback.complaintManagement.domain.models.Category;
+import com.example.city_feedback.complaintManagement.domain.models.Complaint;
+import com.example.city_feedback.complaintManagement.domain.valueObjects.Location;
+import com.example.city_feedback.progressManagement.application.dto.ComplaintRecipient;
+import com.example.city_feedback.progressManagement.domain.models.ComplaintProgress;
+import com.example.city_feedback.progressManagement.domain.models.ComplaintStatusHistory;
+import com.example.city_feedback.progressManagement.domain.valueObjects.ComplaintStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the {@link ProgressRepository}.
+ */
+@DataJpaTest
+@Import(ProgressRepository.class)
+class ProgressRepositoryTest {
+
+    @Autowired
+    private ProgressRepository progressRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private ComplaintProgress inProgress;
+    private final List<Long> complaintIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        User user = new User("Erika", "Mustermann", "erika@example.com", null, "secret", List.of());
+        entityManager.persist(user);
+
+        ComplaintProgress open = new ComplaintProgress("OFFEN", "#808080");
+        entityManager.persist(open);
+        inProgress = new ComplaintProgress("IN BEARBEITUNG", "#FFA500");
+        entityManager.persist(inProgress);
+
+        Category category = Category.builder().withName("Straße").build();
+        entityManager.persist(category);
+
+        Location location = new Location("Hauptstraße", "1", "10115", "Berlin");
+        entityManager.persist(location);
+
+        for (int i = 1; i <= 3; i++) {
+            Complaint complaint = Complaint.builder()
+                    .withTitle("Beschwerde " + i)
+                    .withDescription("Beschreibung Nummer " + i)
+                    .withLocation(location)
+                    .withCategory(category)
+                    .withUser(user)
+                    .withProgress(open)
+                    .build();
+            entityManager.persist(complaint);
+            complaintIds.add(complaint.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void whenComplaintCreated_thenCurrentStatusIsOpen() {
+        // Act & Assert
+        assertEquals(ComplaintStatus.OFFEN, progressRepository.findCurrentStatus(complaintIds.get(0)).orElseThrow());
+        assertTrue(progressRepository.findCurrentStatus(-1L).isEmpty());
+    }
+
+    @Test
+    void whenStatusesUpdatedInBulk_thenStatusAndHistoryAreWritten() {
+        // Act
+        List<Long> updated = progressRepository.updateStatuses(complaintIds.subList(0, 2), ComplaintStatus.OFFEN, ComplaintStatus.IN_BEARBEITUNG, inProgress.getId(), 7L);
+        entityManager.clear();
+
+        // Assert
+        assertEquals(complaintIds.subList(0, 2), updated);
+        Map<Long, ComplaintStatus> statuses = progressRepository.findCurrentStatuses(complaintIds);
+        assertEquals(ComplaintStatus.IN_BEARBEITUNG, statuses.get(complaintIds.get(0)));
+        assertEquals(ComplaintStatus.IN_BEARBEITUNG, statuses.get(complaintIds.get(1)));
+        assertEquals(ComplaintStatus.OFFEN, statuses.get(complaintIds.get(2)));
+        Complaint changed = entityManager.find(Complaint.class, complaintIds.get(0));
+        assertEquals("IN BEARBEITUNG", changed.getProgress().getStatus());
+        assertEquals(1L, changed.getVersion());
+
+        List<ComplaintStatusHistory> history = progressRepository.findHistory(complaintIds.get(0));
+        assertEquals(1, history.size());
+        assertEquals(ComplaintStatus.OFFEN, history.get(0).getPreviousStatus());
+        assertEquals(ComplaintStatus.IN_BEARBEITUNG, history.get(0).getNewStatus());
+        assertEquals(7L, history.get(0).getChangedBy());
+    }
+
+    @Test
+    void whenStatusNoLongerExpected_thenNothingIsWritten() {
+        // Arrange
+        progressRepository.updateStatuses(complaintIds, ComplaintStatus.OFFEN, ComplaintStatus.IN_BEARBEITUNG, inProgress.getId(), null);
+
+        // Act
+        List<Long> updated = progressRepository.updateStatuses(complaintIds, ComplaintStatus.OFFEN, ComplaintStatus.IN_BEARBEITUNG, inProgress.getId(), null);
+
+        // Assert
+        assertTrue(updated.isEmpty());
+        assertEquals(1, progressRepository.findHistory(complaintIds.get(0)).size());
+    }
+
+    @Test
+    void whenRecipientsRequested_thenTitleAndEmailOfEachComplaintAreReturned() {
+        // Act
+        List<ComplaintRecipient> recipients = progressRepository.findRecipients(complaintIds.subList(0, 2));
+
+        // Assert
+        assertEquals(2, recipients.size());
+        Map<Long, ComplaintRecipient> byId = new HashMap<>();
+        recipients.forEach(recipient -> byId.put(recipient.getComplaintId(), recipient));
+        assertEquals("Beschwerde 1", byId.get(complaintIds.get(0)).getTitle());
+        assertEquals("erika@example.com", byId.get(complaintIds.get(1)).getEmail());
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.city_feedback.progressManagement.ui.controller;
+
+import com.example.city_feedback.authentication.application.services.CurrentUserProvider;
+import com.example.city_feedback.complaintManagement.application.dto.ComplaintDto;
+import com.example.city_feedback.complaintManagement.application.services.ComplaintService;
+import com.example.city_feedback.complaintManagement.infrastructure.serialization.ComplaintJsonWriter;
+import com.example.city_feedback.complaintManagement.ui.controller.ComplaintApiController;
+import com.example.city_feedback.progressManagement.application.services.ComplaintProgressService;
+import com.example.city_feedback.progressManagement.domain.valueObjects.ComplaintStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Unit tests for the {@link ProgressController}.
+ */
+class ProgressControllerTest {
+
+    @Mock
+    private ComplaintProgressService complaintProgressService;
+
+    @Mock
+    private ComplaintService complaintService;
+
+    @Mock
+    private CurrentUserProvider currentUserProvider;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                new ProgressController(complaintProgressService),
+                new ComplaintApiController(complaintService, currentUserProvider, new ComplaintJsonWriter(new ObjectMapper()))
+        ).build();
+    }
+
+    @Test
+    void whenVersionIsTakenFromTheApi_thenStatusChangeSendsItBack() throws Exception {
+        // Arrange
+        when(complaintService.findLastModified(7L)).thenReturn(Optional.of(LocalDateTime.of(2024, 11, 5, 10, 30)));
+        when(complaintService.findComplaintById(7L)).thenReturn(new ComplaintDto(7L, "Schlagloch", "Tiefes Loch",
+                "Hauptstraße", "1", "10115", "Berlin", LocalDateTime.of(2024, 11, 5, 10, 30), 2, "Straße", 3L));
+        MvcResult read = mockMvc.perform(get("/api/v1/complaints/7").param("fields", "version").principal(staff()))
+                .andReturn();
+        String body = mockMvc.perform(asyncDispatch(read))
+                .andExpect(jsonPath("$.version").value(3))
+                .andReturn().getResponse().getContentAsString();
+        String version = String.valueOf(new ObjectMapper().readTree(body).get("version").asLong());
+
+        // Act & Assert
+        mockMvc.perform(post("/progress/complaints/7/status")
+                        .param("status", ComplaintStatus.IN_BEARBEITUNG.name())
+                        .param("version", version))
+                .andExpect(status().isNoContent());
+        verify(complaintProgressService).changeStatus(7L, ComplaintStatus.IN_BEARBEITUNG, 3L);
+    }
+
+    @Test
+    void whenVersionIsStale_thenRespondsConflict() throws Exception {
+        // Arrange
+        doThrow(new ObjectOptimisticLockingFailureException(Object.class, 7L))
+                .when(complaintProgressService).changeStatus(7L, ComplaintStatus.IN_BEARBEITUNG, 2L);
+
+        // Act & Assert
+        mockMvc.perform(post("/progress/complaints/7/status")
+                        .param("status", ComplaintStatus.IN_BEARBEITUNG.name())
+                        .param("version", "2"))
+                .andExpect(status().isConflict());
+    }
+
+    private static UsernamePasswordAuthenticationToken staff() {
+        return new UsernamePasswordAuthenticationToken("staff", null, List.of(new SimpleGrantedAuthority("Mitarbeiter")));
+    }
+}
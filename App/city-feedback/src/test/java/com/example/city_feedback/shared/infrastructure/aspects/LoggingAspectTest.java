@@ -0,0 +1,83 @@
+package com.example.city_feedback.shared.infrastructure.aspects;
+
+import com.example.city_feedback.shared.infrastructure.config.LoggingAspectProperties;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link LoggingAspect} class.
+ */
+class LoggingAspectTest {
+
+    private LoggingAspectProperties properties;
+    private LoggingAspect loggingAspect;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LoggingAspectProperties();
+        properties.setMaxValueLength(10);
+        loggingAspect = new LoggingAspect(properties);
+    }
+
+    @Test
+    void whenValueIsLong_thenRenderIsTruncated() {
+        assertEquals("0123456789...", loggingAspect.render("0123456789abcdef"));
+        assertEquals("short", loggingAspect.render("short"));
+        assertEquals("null", loggingAspect.render(null));
+    }
+
+    @Test
+    void whenValueIsCollectionOrArray_thenOnlySizeIsRendered() {
+        assertEquals("ArrayList[size=3]", loggingAspect.render(new ArrayList<>(List.of(1, 2, 3))));
+        assertEquals("int[4]", loggingAspect.render(new int[4]));
+    }
+
+    @Test
+    void whenAspectDisabled_thenMethodResultIsReturnedUnchanged() throws Throwable {
+        // Arrange
+        properties.setEnabled(false);
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        Signature signature = mock(Signature.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getDeclaringType()).thenReturn(LoggingAspectTest.class);
+        when(joinPoint.proceed()).thenReturn("result");
+
+        // Act
+        Object result = loggingAspect.logMethod(joinPoint);
+
+        // Assert
+        assertEquals("result", result);
+        verify(joinPoint, never()).getArgs();
+    }
+
+    @Test
+    void whenMethodThrows_thenExceptionIsRethrown() throws Throwable {
+        // Arrange
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        Signature signature = mock(Signature.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getDeclaringType()).thenReturn(LoggingAspectTest.class);
+        when(signature.getName()).thenReturn("failingMethod");
+        when(joinPoint.getArgs()).thenReturn(new Object[0]);
+        when(joinPoint.proceed()).thenThrow(new IllegalArgumentException("Fehler"));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> loggingAspect.logMethod(joinPoint));
+    }
+
+    @Test
+    void whenSampleRateOutOfRange_thenItIsClamped() {
+        properties.setSampleRate(5.0);
+        assertEquals(1.0, properties.getSampleRate());
+        properties.setSampleRate(-1.0);
+        assertEquals(0.0, properties.getSampleRate());
+    }
+}
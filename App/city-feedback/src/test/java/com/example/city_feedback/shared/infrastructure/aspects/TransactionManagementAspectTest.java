@@ -0,0 +1,155 @@
+package com.example.city_feedback.shared.infrastructure.aspects;
+
+import com.example.city_feedback.shared.infrastructure.metrics.MetricsRegistry;
+import com.example.city_feedback.shared.infrastructure.transactions.TransactionPolicy;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link TransactionManagementAspect} class.
+ */
+class TransactionManagementAspectTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TransactionStatus transactionStatus;
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private MethodSignature signature;
+
+    private MetricsRegistry metricsRegistry;
+    private TransactionManagementAspect aspect;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        metricsRegistry = new MetricsRegistry();
+        aspect = new TransactionManagementAspect(transactionManager, metricsRegistry);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getTarget()).thenReturn(new SampleService());
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void whenQueryMethod_thenTransactionIsReadOnly() throws Throwable {
+        // Arrange
+        when(signature.getMethod()).thenReturn(SampleService.class.getMethod("findSomething"));
+        when(joinPoint.proceed()).thenReturn("result");
+
+        // Act
+        Object result = aspect.manageTransaction(joinPoint);
+
+        // Assert
+        assertEquals("result", result);
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertTrue(definition.getValue().isReadOnly());
+        verify(transactionManager).commit(transactionStatus);
+        assertEquals(1, metricsRegistry.timerSnapshots().get("tx SampleService.findSomething").getCount());
+    }
+
+    @Test
+    void whenWriteMethod_thenTransactionIsReadWrite() throws Throwable {
+        // Arrange
+        when(signature.getMethod()).thenReturn(SampleService.class.getMethod("saveSomething"));
+
+        // Act
+        aspect.manageTransaction(joinPoint);
+
+        // Assert
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertFalse(definition.getValue().isReadOnly());
+    }
+
+    @Test
+    void whenMethodAnnotated_thenPolicyOverridesName() throws Throwable {
+        // Arrange
+        when(signature.getMethod()).thenReturn(SampleService.class.getMethod("findAndLock"));
+
+        // Act
+        aspect.manageTransaction(joinPoint);
+
+        // Assert
+        ArgumentCaptor<TransactionDefinition> definition = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(definition.capture());
+        assertFalse(definition.getValue().isReadOnly());
+        assertEquals(TransactionDefinition.ISOLATION_SERIALIZABLE, definition.getValue().getIsolationLevel());
+        assertEquals(5, definition.getValue().getTimeout());
+    }
+
+    @Test
+    void whenTransactionAlreadyActive_thenMethodJoinsWithoutNewTransaction() throws Throwable {
+        // Arrange
+        when(signature.getMethod()).thenReturn(SampleService.class.getMethod("findSomething"));
+        when(joinPoint.proceed()).thenReturn("result");
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // Act
+        Object result = aspect.manageTransaction(joinPoint);
+
+        // Assert
+        assertEquals("result", result);
+        verifyNoInteractions(transactionManager);
+        assertEquals(1L, metricsRegistry.counterValues().get("tx.joined"));
+    }
+
+    @Test
+    void whenMethodThrows_thenTransactionIsRolledBack() throws Throwable {
+        // Arrange
+        when(signature.getMethod()).thenReturn(SampleService.class.getMethod("saveSomething"));
+        when(joinPoint.proceed()).thenThrow(new IllegalArgumentException("Fehler"));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> aspect.manageTransaction(joinPoint));
+        verify(transactionManager).rollback(transactionStatus);
+        verify(transactionManager, never()).commit(any());
+        assertEquals(1L, metricsRegistry.counterValues().get("tx.rolledBack"));
+    }
+
+    @Test
+    void whenMethodNameStartsWithQueryPrefix_thenItIsQueryMethod() {
+        assertTrue(TransactionManagementAspect.isQueryMethod("getAllCategories"));
+        assertTrue(TransactionManagementAspect.isQueryMethod("existsByTitle"));
+        assertTrue(TransactionManagementAspect.isQueryMethod("loadUserByUsername"));
+        assertFalse(TransactionManagementAspect.isQueryMethod("issueTicket"));
+        assertFalse(TransactionManagementAspect.isQueryMethod("createComplaint"));
+    }
+
+    static class SampleService {
+
+        public String findSomething() {
+            return "result";
+        }
+
+        public void saveSomething() {
+        }
+
+        @TransactionPolicy(isolation = TransactionDefinition.ISOLATION_SERIALIZABLE, timeout = 5)
+        public void findAndLock() {
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.example.city_feedback.shared.infrastructure.messaging;
+
+import com.example.city_feedback.shared.infrastructure.config.OutboxProperties;
+import com.example.city_feedback.shared.infrastructure.metrics.MetricsRegistry;
+import com.example.city_feedback.shared.infrastructure.repositories.OutboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the {@link OutboxDispatcher} class.
+ */
+class OutboxDispatcherTest {
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ObjectProvider<DomainEventSubscriber<?>> subscriberProvider;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private RecordingSubscriber subscriber;
+    private List<OutboxMessage> claimed = List.of();
+    private OutboxProperties properties;
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        subscriber = new RecordingSubscriber();
+        when(subscriberProvider.orderedStream()).thenAnswer(invocation -> Stream.of(subscriber));
+        when(outboxRepository.findAllById(any())).thenAnswer(invocation -> claimed);
+        properties = new OutboxProperties();
+        properties.setMaxAttempts(2);
+        dispatcher = new OutboxDispatcher(outboxRepository, objectMapper, subscriberProvider,
+                properties, transactionManager, new MetricsRegistry());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    void whenSubscriberSucceeds_thenMessagesAreDeliveredAsOneBatchAndDeleted() throws Exception {
+        // Arrange
+        OutboxMessage first = message(1L, "first");
+        OutboxMessage second = message(2L, "second");
+        claim(List.of(first, second));
+
+        // Act
+        int claimed = dispatcher.dispatchBatch();
+
+        // Assert
+        assertEquals(2, claimed);
+        assertEquals(1, subscriber.batches.size());
+        assertEquals(List.of("first", "second"), subscriber.batches.get(0).stream().map(SampleEvent::getName).toList());
+        verify(outboxRepository).deleteAllInBatch(List.of(first, second));
+    }
+
+    @Test
+    void whenSubscriberFails_thenMessageIsRescheduled() throws Exception {
+        // Arrange
+        subscriber.failing = true;
+        OutboxMessage message = message(1L, "first");
+        claim(List.of(message));
+
+        // Act
+        dispatcher.dispatchBatch();
+
+        // Assert
+        assertEquals(1, message.getAttempts());
+        assertNotNull(message.getAvailableAt());
+        assertTrue(message.getLastError().contains("Zustellung fehlgeschlagen"));
+        verify(outboxRepository, never()).deleteAllInBatch(any());
+    }
+
+    @Test
+    void whenMaxAttemptsReached_thenMessageIsParked() throws Exception {
+        // Arrange
+        subscriber.failing = true;
+        OutboxMessage message = message(1L, "first");
+        message.markFailed("vorher", null);
+        claim(List.of(message));
+
+        // Act
+        dispatcher.dispatchBatch();
+
+        // Assert
+        assertEquals(2, message.getAttempts());
+        assertNull(message.getAvailableAt());
+    }
+
+    @Test
+    void whenPayloadIsUnreadable_thenOnlyThatMessageFails() throws Exception {
+        // Arrange
+        OutboxMessage broken = new OutboxMessage(SampleEvent.class.getName(), "{kein json");
+        broken.setId(1L);
+        OutboxMessage valid = message(2L, "valid");
+        claim(List.of(broken, valid));
+
+        // Act
+        dispatcher.dispatchBatch();
+
+        // Assert
+        assertEquals(1, broken.getAttempts());
+        assertEquals(0, valid.getAttempts());
+        verify(outboxRepository).deleteAllInBatch(List.of(valid));
+    }
+
+    @Test
+    void whenNoSubscriberExists_thenMessageIsDropped() {
+        // Arrange
+        OutboxMessage message = new OutboxMessage("com.example.Unknown", "{}");
+        message.setId(1L);
+        claim(List.of(message));
+
+        // Act
+        dispatcher.dispatchBatch();
+
+        // Assert
+        assertTrue(subscriber.batches.isEmpty());
+        verify(outboxRepository).deleteAllInBatch(List.of(message));
+    }
+
+    @Test
+    void whenOneEventOfABatchFails_thenTheOtherEventsAreStillDelivered() throws Exception {
+        // Arrange
+        subscriber.failingName = "poison";
+        OutboxMessage first = message(1L, "first");
+        OutboxMessage poison = message(2L, "poison");
+        OutboxMessage second = message(3L, "second");
+        claim(List.of(first, poison, second));
+
+        // Act
+        dispatcher.dispatchBatch();
+
+        // Assert
+        assertEquals(List.of(List.of("first"), List.of("second")), subscriber.names());
+        assertEquals(1, poison.getAttempts());
+        assertFalse(poison.isDeliveredTo(RecordingSubscriber.class.getName()));
+        verify(outboxRepository).deleteAllInBatch(List.of(first, second));
+    }
+
+    @Test
+    void whenOneOfTwoSubscribersFails_thenTheRetryOnlyReachesTheFailedOne() throws Exception {
+        // Arrange
+        OtherSubscriber other = new OtherSubscriber();
+        other.failing = true;
+        when(subscriberProvider.orderedStream()).thenAnswer(invocation -> Stream.of(subscriber, other));
+        OutboxMessage message = message(1L, "first");
+        claim(List.of(message));
+        dispatcher.dispatchBatch();
+        other.failing = false;
+        message.claim(LocalDateTime.now());
+
+        // Act
+        dispatcher.dispatchBatch();
+
+        // Assert
+        assertEquals(1, subscriber.batches.size());
+        assertEquals(1, other.batches.size());
+        assertEquals(1, message.getAttempts());
+        verify(outboxRepository).deleteAllInBatch(List.of(message));
+    }
+
+    @Test
+    void whenDelivering_thenTheClaimIsLeasedAndCommittedBeforeSubscribersRun() throws Exception {
+        // Arrange
+        OutboxMessage message = message(1L, "first");
+        claim(List.of(message));
+        List<Long> commitsBeforeDelivery = new ArrayList<>();
+        List<LocalDateTime> availableAtDuringDelivery = new ArrayList<>();
+        subscriber.onDelivery = () -> {
+            commitsBeforeDelivery.add(mockingDetails(transactionManager).getInvocations().stream()
+                    .filter(invocation -> invocation.getMethod().getName().equals("commit"))
+                    .count());
+            availableAtDuringDelivery.add(message.getAvailableAt());
+        };
+
+        // Act
+        dispatcher.dispatchBatch();
+
+        // Assert
+        assertEquals(List.of(1L), commitsBeforeDelivery);
+        assertTrue(availableAtDuringDelivery.get(0).isAfter(LocalDateTime.now().plusSeconds(30)));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    private void claim(List<OutboxMessage> messages) {
+        claimed = messages;
+        when(outboxRepository.findDueForUpdate(any(), any())).thenReturn(messages);
+    }
+
+    private OutboxMessage message(Long id, String name) throws Exception {
+        SampleEvent event = new SampleEvent();
+        event.setName(name);
+        OutboxMessage message = new OutboxMessage(SampleEvent.class.getName(), objectMapper.writeValueAsString(event));
+        message.setId(id);
+        return message;
+    }
+
+    public static class SampleEvent {
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    private static class RecordingSubscriber implements DomainEventSubscriber<SampleEvent> {
+        protected final List<List<SampleEvent>> batches = new ArrayList<>();
+        protected volatile boolean failing;
+        private volatile String failingName;
+        private volatile Runnable onDelivery = () -> { };
+
+        @Override
+        public Class<SampleEvent> eventType() {
+            return SampleEvent.class;
+        }
+
+        @Override
+        public void onEvents(List<SampleEvent> events) {
+            onDelivery.run();
+            if (failing || events.stream().anyMatch(event -> event.getName().equals(failingName))) {
+                throw new IllegalStateException("Zustellung fehlgeschlagen");
+            }
+            batches.add(events);
+        }
+
+        private List<List<String>> names() {
+            return batches.stream().map(batch -> batch.stream().map(SampleEvent::getName).toList()).toList();
+        }
+    }
+
+    private static class OtherSubscriber extends RecordingSubscriber {
+    }
+}
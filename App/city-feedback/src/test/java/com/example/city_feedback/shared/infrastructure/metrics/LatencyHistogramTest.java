@@ -0,0 +1,60 @@
+package com.example.city_feedback.shared.infrastructure.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the {@link LatencyHistogram} class.
+ */
+class LatencyHistogramTest {
+
+    @Test
+    void whenNothingRecorded_thenSnapshotIsEmpty() {
+        LatencyHistogram.Snapshot snapshot = new LatencyHistogram().snapshot();
+
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getP99());
+        assertEquals(0, snapshot.getMax());
+    }
+
+    @Test
+    void whenUniformValuesRecorded_thenPercentilesAreWithinBucketPrecision() {
+        // Arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // Act: 1..10000 microseconds
+        IntStream.rangeClosed(1, 10_000).forEach(i -> histogram.record(i * 1_000L));
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+
+        // Assert
+        assertEquals(10_000, snapshot.getCount());
+        assertEquals(5_000_000, snapshot.getP50(), 5_000_000 * 0.04);
+        assertEquals(9_500_000, snapshot.getP95(), 9_500_000 * 0.04);
+        assertEquals(9_900_000, snapshot.getP99(), 9_900_000 * 0.04);
+        assertEquals(10_000_000, snapshot.getMax());
+    }
+
+    @Test
+    void whenBucketIndexComputed_thenIndexesAreContinuousAndMonotonic() {
+        int previous = LatencyHistogram.bucketIndex(0);
+        for (long value = 1; value < 100_000; value++) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(index == previous || index == previous + 1, "Gap at value " + value);
+            previous = index;
+        }
+    }
+
+    @Test
+    void whenValueExceedsTrackableRange_thenIsClamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(-5);
+
+        assertEquals(1, histogram.getCount());
+        assertEquals(LatencyHistogram.MAX_TRACKABLE_VALUE, histogram.snapshot().getMax());
+    }
+}